@@ -10,6 +10,7 @@ import com.spring.mvc.base.application.common.dto.response.PageResponse;
 import com.spring.mvc.base.application.security.annotation.CurrentUser;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -47,11 +49,13 @@ public class CommentController implements CommentApiDocs {
             @PathVariable Long postId,
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            ServletWebRequest webRequest
     ) {
         PageSortRequest pageSortRequest = new PageSortRequest(page, size, sort);
-        PageResponse<CommentResponse> response = commentService.getCommentPageByPostId(postId, pageSortRequest.toPageable());
-        return ApiResponse.success(response, "comments_retrieved");
+        Optional<PageResponse<CommentResponse>> response = commentService.getCommentPageByPostId(
+                postId, pageSortRequest.toPageable(), version -> version.isNotModified(webRequest));
+        return response.map(body -> ApiResponse.success(body, "comments_retrieved")).orElse(null);
     }
 
     @GetMapping("/comments/{commentId}")
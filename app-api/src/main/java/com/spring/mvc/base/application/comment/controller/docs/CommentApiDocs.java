@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Tag(
         name = "Comment",
@@ -31,14 +32,16 @@ public interface CommentApiDocs {
 
     @Operation(
             summary = "게시글의 댓글 목록 조회",
-            description = "특정 게시글의 댓글 목록을 페이징하여 조회합니다."
+            description = "특정 게시글의 댓글 목록을 페이징하여 조회합니다. "
+                    + "응답의 ETag를 If-None-Match로 보내면 댓글이 바뀌지 않았을 때 본문 없이 304를 반환합니다."
     )
     @CustomErrorResponseDescription(SwaggerErrorResponseDescription.COMMENT_LIST)
     ApiResponse<PageResponse<CommentResponse>> getCommentPage(
             @Parameter(description = "게시글 ID") Long postId,
             @Parameter(description = "페이지 번호", example = "0") Integer page,
             @Parameter(description = "페이지 크기", example = "10") Integer size,
-            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능", example = "createdAt,asc") List<String> sort
+            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능", example = "createdAt,asc") List<String> sort,
+            ServletWebRequest webRequest
     );
 
     @Operation(
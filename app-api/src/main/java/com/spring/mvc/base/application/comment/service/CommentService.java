@@ -3,12 +3,18 @@ package com.spring.mvc.base.application.comment.service;
 import com.spring.mvc.base.application.comment.dto.request.CommentCreateRequest;
 import com.spring.mvc.base.application.comment.dto.request.CommentUpdateRequest;
 import com.spring.mvc.base.application.comment.dto.response.CommentResponse;
+import com.spring.mvc.base.application.common.cache.PageCountCache;
 import com.spring.mvc.base.application.common.dto.response.PageResponse;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.CommentErrorCode;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.common.web.ResourceVersion;
 import com.spring.mvc.base.domain.comment.dto.CommentQueryDto;
+import com.spring.mvc.base.domain.comment.dto.CommentVersionSummary;
 import com.spring.mvc.base.domain.comment.entity.Comment;
 import com.spring.mvc.base.domain.comment.repository.CommentRepository;
 import com.spring.mvc.base.domain.common.policy.OwnershipPolicy;
@@ -16,7 +22,10 @@ import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
 import com.spring.mvc.base.domain.post.entity.Post;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +40,12 @@ public class CommentService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final OwnershipPolicy ownershipPolicy;
+    private final PageCountCache pageCountCache;
+    private final TrendingPosts trendingPosts;
+    private final PostFeedWriter postFeedWriter;
+    private final PostDetailsCache postDetailsCache;
+
+    private static final String COMMENT_COUNT_KEY_PREFIX = "comment:";
 
     /**
      * 댓글 작성
@@ -45,6 +60,10 @@ public class CommentService {
         commentRepository.save(comment);
 
         postRepository.incrementCommentCount(postId);
+        postFeedWriter.countersChanged(postId);
+        postDetailsCache.evict(postId);
+        pageCountCache.evict(COMMENT_COUNT_KEY_PREFIX + postId);
+        trendingPosts.recordComment(postId);
 
         return CommentResponse.of(comment, member);
     }
@@ -79,6 +98,9 @@ public class CommentService {
         commentRepository.deleteById(comment.getId());
 
         postRepository.decrementCommentCount(postId);
+        postFeedWriter.countersChanged(postId);
+        postDetailsCache.evict(postId);
+        pageCountCache.evict(COMMENT_COUNT_KEY_PREFIX + postId);
     }
 
     /**
@@ -96,15 +118,47 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public PageResponse<CommentResponse> getCommentPageByPostId(Long postId, Pageable pageable) {
+        return getCommentPageByPostId(postId, pageable, version -> false).orElseThrow();
+    }
+
+    /**
+     * 게시글의 댓글 페이지 조건부 조회
+     * 요약 쿼리 한 번으로 버전을 계산하고, 클라이언트 사본이 최신이면(notModified) 목록을 만들지 않고 빈 값을 반환한다
+     */
+    @Transactional(readOnly = true)
+    public Optional<PageResponse<CommentResponse>> getCommentPageByPostId(
+            Long postId,
+            Pageable pageable,
+            Predicate<ResourceVersion> notModified
+    ) {
         validatePostExists(postId);
 
-        Page<CommentQueryDto> commentDtoPage = commentRepository.findByPostIdWithMemberAsDto(postId, pageable);
+        CommentVersionSummary summary = commentRepository.findVersionSummaryByPostId(postId);
+        Instant lastUpdatedAt = summary.lastUpdatedAt();
+        ResourceVersion version = ResourceVersion.of(
+                lastUpdatedAt,
+                "c" + postId,
+                summary.count(),
+                lastUpdatedAt != null ? lastUpdatedAt.toEpochMilli() : 0L,
+                summary.commentVersionSum() != null ? summary.commentVersionSum() : 0L,
+                summary.memberVersionSum() != null ? summary.memberVersionSum() : 0L
+        );
+        if (notModified.test(version)) {
+            return Optional.empty();
+        }
+
+        Page<CommentQueryDto> commentDtoPage = pageCountCache.load(
+                COMMENT_COUNT_KEY_PREFIX + postId,
+                pageable,
+                limit -> commentRepository.findContentByPostId(postId, pageable, limit),
+                () -> commentRepository.countByPostId(postId)
+        );
 
         List<CommentResponse> commentResponses = commentDtoPage.getContent().stream()
                 .map(CommentResponse::of)
                 .toList();
 
-        return PageResponse.of(commentResponses, commentDtoPage);
+        return Optional.of(PageResponse.of(commentResponses, commentDtoPage));
     }
 
     private void validatePostExists(Long postId) {
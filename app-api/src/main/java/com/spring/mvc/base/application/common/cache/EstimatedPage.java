@@ -0,0 +1,16 @@
+package com.spring.mvc.base.application.common.cache;
+
+import java.util.List;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 전체 개수가 추정치인 페이지
+ * COUNT 쿼리 없이 조회되어 totalElements는 하한 또는 캐시된 근사값이다.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+        super(content, pageable, estimatedTotal);
+    }
+}
@@ -0,0 +1,121 @@
+package com.spring.mvc.base.application.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import com.spring.mvc.base.infra.cache.config.CacheProperties.CountMode;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 페이징 목록의 전체 개수(COUNT) 캐시
+ * 검색 조건별 COUNT 결과를 짧은 TTL로 로컬 캐싱하고, 쓰기 시점에 무효화한다.
+ * ESTIMATED 모드에서는 COUNT 쿼리 없이 한 건을 더 조회해 다음 페이지 여부만 판단한다.
+ */
+@Component
+public class PageCountCache {
+
+    public static final String CACHE_NAME = "pageCounts";
+
+    private final Cache<String, Long> cache;
+    private final CountMode mode;
+
+    public PageCountCache(CacheProperties cacheProperties) {
+        CacheProperties.Counts counts = cacheProperties.getCounts();
+        this.mode = counts.getMode();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(counts.getMaximumSize())
+                .expireAfterWrite(counts.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 집계 모드에 따라 목록과 전체 개수를 조회한다.
+     *
+     * @param countKey 정규화된 검색 조건 키
+     * @param contentLoader 조회할 최대 건수를 받아 목록을 조회
+     * @param countQuery 전체 개수 조회
+     */
+    public <T> Page<T> load(
+            String countKey,
+            Pageable pageable,
+            IntFunction<List<T>> contentLoader,
+            LongSupplier countQuery
+    ) {
+        if (mode == CountMode.ESTIMATED) {
+            return loadEstimated(countKey, pageable, contentLoader);
+        }
+
+        List<T> content = contentLoader.apply(pageable.getPageSize());
+        if (mode == CountMode.EXACT) {
+            return PageableExecutionUtils.getPage(content, pageable, countQuery);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> cache.get(countKey, key -> countQuery.getAsLong()));
+    }
+
+    public void evict(String countKey) {
+        runNowAndAfterCommit(() -> cache.invalidate(countKey));
+    }
+
+    public void evictByPrefix(String prefix) {
+        runNowAndAfterCommit(() -> cache.asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    public CountMode getMode() {
+        return mode;
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private <T> Page<T> loadEstimated(String countKey, Pageable pageable, IntFunction<List<T>> contentLoader) {
+        int pageSize = pageable.getPageSize();
+        List<T> fetched = contentLoader.apply(pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<T> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+        long lowerBound = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+
+        // 마지막 페이지라면 정확한 개수를 알 수 있으므로 캐시에 채워 둔다
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            cache.put(countKey, lowerBound);
+            return new PageImpl<>(content, pageable, lowerBound);
+        }
+
+        Long cached = cache.getIfPresent(countKey);
+        long estimatedTotal = cached != null ? Math.max(cached, lowerBound) : lowerBound;
+        return new EstimatedPage<>(content, pageable, estimatedTotal);
+    }
+
+    /**
+     * 커밋 전에 다른 요청이 이전 개수를 다시 채우는 경우를 막기 위해 커밋 이후에 한 번 더 무효화한다.
+     */
+    private void runNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.spring.mvc.base.application.common.dto.response;
 
+import com.spring.mvc.base.application.common.cache.EstimatedPage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -9,25 +10,63 @@ public record PageResponse<T>(
         @Schema(description = "데이터 목록")
         List<T> items,
 
-        @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
+        @Schema(description = "현재 페이지 번호 (0부터 시작, 커서 조회 시 -1)", example = "0")
         int page,
 
         @Schema(description = "페이지 크기", example = "20")
         int size,
 
-        @Schema(description = "전체 항목 수", example = "100")
+        @Schema(description = "전체 항목 수 (커서 조회 시 -1)", example = "100")
         long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "5")
-        int totalPages
+        @Schema(description = "전체 페이지 수 (커서 조회 시 -1)", example = "5")
+        int totalPages,
+
+        @Schema(description = "전체 항목 수가 추정치인지 여부 (COUNT 생략 시 true)", example = "false")
+        boolean totalEstimated,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 커서 (커서 기반 조회를 지원하지 않거나 마지막 페이지면 null)")
+        String nextCursor
 ) {
+    public static final int UNKNOWN = -1;
+
+    public PageResponse(List<T> items, int page, int size, long totalElements, int totalPages) {
+        this(items, page, size, totalElements, totalPages, false, page + 1 < totalPages, null);
+    }
+
     public static <T> PageResponse<T> of(List<T> items, Page<?> page) {
+        return of(items, page, null);
+    }
+
+    public static <T> PageResponse<T> of(List<T> items, Page<?> page, String nextCursor) {
         return new PageResponse<>(
                 items,
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                page instanceof EstimatedPage<?>,
+                page.hasNext(),
+                page.hasNext() ? nextCursor : null
+        );
+    }
+
+    /**
+     * 커서 기반 조회 응답 (전체 개수를 집계하지 않는다)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> items, int size, boolean hasNext, String nextCursor) {
+        return new PageResponse<>(
+                items,
+                UNKNOWN,
+                size,
+                UNKNOWN,
+                UNKNOWN,
+                false,
+                hasNext,
+                hasNext ? nextCursor : null
         );
     }
 }
@@ -0,0 +1,28 @@
+package com.spring.mvc.base.application.export.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    /**
+     * JDBC 커서에서 한 번에 가져오는 행 수 (MySQL은 useCursorFetch=true 일 때만 적용된다)
+     */
+    @Positive
+    private int fetchSize = 1000;
+
+    /**
+     * 응답 스트림으로 내보내는 주기 (행 수)
+     */
+    @Positive
+    private int flushInterval = 1000;
+}
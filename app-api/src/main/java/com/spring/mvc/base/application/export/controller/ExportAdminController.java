@@ -0,0 +1,53 @@
+package com.spring.mvc.base.application.export.controller;
+
+import com.spring.mvc.base.application.export.controller.docs.ExportAdminApiDocs;
+import com.spring.mvc.base.application.export.service.ExportService;
+import com.spring.mvc.base.application.export.writer.ExportFormat;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class ExportAdminController implements ExportAdminApiDocs {
+
+    private final ExportService exportService;
+
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        return attachment("posts", format, outputStream -> exportService.exportPosts(format, outputStream));
+    }
+
+    @GetMapping("/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        return attachment("comments", format, outputStream -> exportService.exportComments(format, outputStream));
+    }
+
+    // 본문은 요청 스레드가 반환된 뒤 비동기로 쓰여지므로 크기를 알 수 없다 (chunked 전송)
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "-" + LocalDate.now() + "." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(format.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
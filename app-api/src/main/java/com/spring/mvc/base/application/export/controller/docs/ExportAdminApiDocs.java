@@ -0,0 +1,33 @@
+package com.spring.mvc.base.application.export.controller.docs;
+
+import com.spring.mvc.base.application.export.writer.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(
+        name = "Export Admin",
+        description = "게시글/댓글 내보내기 API (관리자 전용)"
+)
+public interface ExportAdminApiDocs {
+
+    @Operation(
+            summary = "게시글 내보내기",
+            description = "삭제되지 않은 모든 게시글을 ID 순으로 NDJSON 또는 CSV 파일로 내려받습니다. "
+                    + "행 단위로 스트리밍하므로 건수가 많아도 서버 메모리 사용량이 일정합니다."
+    )
+    ResponseEntity<StreamingResponseBody> exportPosts(
+            @Parameter(description = "출력 형식 (NDJSON, CSV)", example = "NDJSON") ExportFormat format
+    );
+
+    @Operation(
+            summary = "댓글 내보내기",
+            description = "모든 댓글을 ID 순으로 NDJSON 또는 CSV 파일로 내려받습니다. "
+                    + "행 단위로 스트리밍하므로 건수가 많아도 서버 메모리 사용량이 일정합니다."
+    )
+    ResponseEntity<StreamingResponseBody> exportComments(
+            @Parameter(description = "출력 형식 (NDJSON, CSV)", example = "NDJSON") ExportFormat format
+    );
+}
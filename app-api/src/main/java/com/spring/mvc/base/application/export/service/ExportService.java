@@ -0,0 +1,119 @@
+package com.spring.mvc.base.application.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.application.export.config.ExportProperties;
+import com.spring.mvc.base.application.export.writer.ExportColumn;
+import com.spring.mvc.base.application.export.writer.ExportFormat;
+import com.spring.mvc.base.application.export.writer.ExportRowWriter;
+import com.spring.mvc.base.domain.comment.dto.CommentExportRow;
+import com.spring.mvc.base.domain.comment.repository.CommentRepository;
+import com.spring.mvc.base.domain.post.dto.PostExportRow;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글/댓글 전체 내보내기
+ * 커서에서 fetchSize 만큼씩 읽은 행을 바로 출력 스트림에 쓰므로, 행 수와 무관하게 메모리 사용량이 일정하다.
+ * 조회는 Projection이라 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final List<ExportColumn<PostExportRow>> POST_COLUMNS = List.of(
+            new ExportColumn<>("postId", PostExportRow::postId),
+            new ExportColumn<>("memberId", PostExportRow::memberId),
+            new ExportColumn<>("memberNickname", PostExportRow::memberNickname),
+            new ExportColumn<>("title", PostExportRow::title),
+            new ExportColumn<>("content", PostExportRow::content),
+            new ExportColumn<>("summary", PostExportRow::summary),
+            new ExportColumn<>("visibility", PostExportRow::visibility),
+            new ExportColumn<>("viewsCount", PostExportRow::viewsCount),
+            new ExportColumn<>("likeCount", PostExportRow::likeCount),
+            new ExportColumn<>("commentCount", PostExportRow::commentCount),
+            new ExportColumn<>("createdAt", PostExportRow::createdAt),
+            new ExportColumn<>("updatedAt", PostExportRow::updatedAt)
+    );
+
+    private static final List<ExportColumn<CommentExportRow>> COMMENT_COLUMNS = List.of(
+            new ExportColumn<>("commentId", CommentExportRow::commentId),
+            new ExportColumn<>("postId", CommentExportRow::postId),
+            new ExportColumn<>("memberId", CommentExportRow::memberId),
+            new ExportColumn<>("memberNickname", CommentExportRow::memberNickname),
+            new ExportColumn<>("content", CommentExportRow::content),
+            new ExportColumn<>("createdAt", CommentExportRow::createdAt),
+            new ExportColumn<>("updatedAt", CommentExportRow::updatedAt)
+    );
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ExportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 삭제되지 않은 게시글 전체를 ID 순으로 내보내고 행 수를 반환한다
+     */
+    public long exportPosts(ExportFormat format, OutputStream outputStream) {
+        try (Stream<PostExportRow> rows = postRepository.streamForExport(properties.getFetchSize())) {
+            return export("posts", format, POST_COLUMNS, rows, outputStream);
+        }
+    }
+
+    /**
+     * 댓글 전체를 ID 순으로 내보내고 행 수를 반환한다
+     */
+    public long exportComments(ExportFormat format, OutputStream outputStream) {
+        try (Stream<CommentExportRow> rows = commentRepository.streamForExport(properties.getFetchSize())) {
+            return export("comments", format, COMMENT_COLUMNS, rows, outputStream);
+        }
+    }
+
+    private <T> long export(
+            String name,
+            ExportFormat format,
+            List<ExportColumn<T>> columns,
+            Stream<T> rows,
+            OutputStream outputStream
+    ) {
+        long startedAt = System.currentTimeMillis();
+        int flushInterval = properties.getFlushInterval();
+        long exported = 0;
+        try {
+            // 출력 스트림은 컨테이너가 닫으므로 여기서는 flush만 한다
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            ExportRowWriter<T> rowWriter = format.open(writer, columns, objectMapper);
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.write(iterator.next());
+                if (++exported % flushInterval == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 등 - 커서는 호출 측 try-with-resources에서 닫힌다
+            log.warn("내보내기 중단: target={}, exported={}, message={}", name, exported, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("내보내기 완료: target={}, format={}, rows={}, elapsed={}ms",
+                name, format, exported, System.currentTimeMillis() - startedAt);
+        return exported;
+    }
+}
@@ -0,0 +1,67 @@
+package com.spring.mvc.base.application.export.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV - 첫 줄은 헤더, 구분자/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다
+ */
+class CsvRowWriter<T> implements ExportRowWriter<T> {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private final List<ExportColumn<T>> columns;
+
+    CsvRowWriter(Writer writer, List<ExportColumn<T>> columns) throws IOException {
+        this.writer = writer;
+        this.columns = columns;
+        writeHeader();
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value != null) {
+                writeField(value.toString());
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(columns.get(i).name());
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
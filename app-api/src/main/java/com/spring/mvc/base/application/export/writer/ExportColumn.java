@@ -0,0 +1,9 @@
+package com.spring.mvc.base.application.export.writer;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 컬럼 - 이름(CSV 헤더, NDJSON 필드명)과 행에서 값을 꺼내는 함수
+ */
+public record ExportColumn<T>(String name, Function<T, ?> value) {
+}
@@ -0,0 +1,27 @@
+package com.spring.mvc.base.application.export.writer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public <T> ExportRowWriter<T> open(Writer writer, List<ExportColumn<T>> columns, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowWriter<>(writer, columns, objectMapper);
+            case CSV -> new CsvRowWriter<>(writer, columns);
+        };
+    }
+}
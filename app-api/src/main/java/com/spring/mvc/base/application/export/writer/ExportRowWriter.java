@@ -0,0 +1,12 @@
+package com.spring.mvc.base.application.export.writer;
+
+import java.io.IOException;
+
+/**
+ * 행 단위 내보내기 writer
+ * 행을 받는 즉시 출력 버퍼에 쓰고, 결과를 모아 두지 않는다
+ */
+public interface ExportRowWriter<T> {
+
+    void write(T row) throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.spring.mvc.base.application.export.writer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+ */
+class NdjsonRowWriter<T> implements ExportRowWriter<T> {
+
+    private final Writer writer;
+    private final List<ExportColumn<T>> columns;
+    private final JsonGenerator generator;
+
+    NdjsonRowWriter(Writer writer, List<ExportColumn<T>> columns, ObjectMapper objectMapper) throws IOException {
+        this.writer = writer;
+        this.columns = columns;
+        // 행마다 flush 해도 응답 스트림까지 밀어내지 않도록 하고, 스트림은 컨테이너가 닫게 둔다
+        this.generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        generator.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            generator.writeObjectField(column.name(), column.value().apply(row));
+        }
+        generator.writeEndObject();
+        generator.flush();
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,30 @@
+package com.spring.mvc.base.application.file.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "file.cleanup")
+public class FileCleanupProperties {
+
+    /**
+     * 저장소 삭제 대기열을 비우는 주기
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(30);
+
+    /**
+     * 실패 시 다시 시도하는 최대 횟수 (넘기면 로그만 남기고 버린다)
+     */
+    @Positive
+    private int maxAttempts = 5;
+}
@@ -12,6 +12,7 @@ import com.spring.mvc.base.domain.file.entity.FileType;
 import com.spring.mvc.base.domain.file.repository.FileRepository;
 import com.spring.mvc.base.domain.file.util.FileStorageKeyGenerator;
 import com.spring.mvc.base.infra.image.ImageStorageService;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class FileService {
 
     private final FileRepository fileRepository;
     private final ImageStorageService imageStorageService;
+    private final FileStorageCleaner fileStorageCleaner;
 
     @Transactional
     public FileResponse createFile(FileCreateRequest request) {
@@ -76,6 +78,14 @@ public class FileService {
         fileRepository.findByUrl(url).ifPresent(File::delete);
     }
 
+    /**
+     * 게시글에 연결된 이미지 파일을 UPDATE 한 번으로 삭제 표시한다
+     */
+    @Transactional
+    public int deleteFilesOfPost(Long postId) {
+        return fileRepository.softDeleteAllByPostId(postId, Instant.now());
+    }
+
     @Transactional
     public void restoreFile(Long id) {
         File file = findFileById(id);
@@ -86,6 +96,7 @@ public class FileService {
     public void permanentlyDeleteFile(Long id) {
         File file = findFileById(id);
         fileRepository.delete(file);
+        fileStorageCleaner.enqueueAfterCommit(List.of(file.getStorageKey()));
     }
 
     @Transactional
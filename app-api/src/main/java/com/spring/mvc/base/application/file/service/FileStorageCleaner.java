@@ -0,0 +1,110 @@
+package com.spring.mvc.base.application.file.service;
+
+import com.spring.mvc.base.application.file.config.FileCleanupProperties;
+import com.spring.mvc.base.infra.image.ImageStorageService;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 원격 저장소(이미지) 삭제 대기열
+ * 파일 행을 영구 삭제한 트랜잭션이 커밋된 뒤 저장소 키를 넣고, 주기마다 요청 스레드 밖에서 지운다.
+ * 실패한 키는 시도 횟수를 늘려 대기열로 되돌리며 maxAttempts를 넘기면 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileStorageCleaner {
+
+    private final ImageStorageService imageStorageService;
+    private final FileCleanupProperties properties;
+
+    private final Queue<PendingDelete> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 삭제 대기열에 넣는다 (롤백되면 넣지 않는다)
+     */
+    public void enqueueAfterCommit(Collection<String> storageKeys) {
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = List.copyOf(storageKeys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(keys);
+                }
+            });
+        } else {
+            enqueue(keys);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${file.cleanup.flush-interval:30s}")
+    public void flush() {
+        int size = pending.size();
+        int deleted = 0;
+        for (int i = 0; i < size; i++) {
+            PendingDelete next = pending.poll();
+            if (next == null) {
+                break;
+            }
+
+            try {
+                imageStorageService.deleteImage(next.storageKey());
+                deleted++;
+            } catch (RuntimeException e) {
+                retry(next, e);
+            }
+        }
+
+        if (size > 0) {
+            log.debug("저장소 파일 삭제 완료: deleted={}, pending={}", deleted, pending.size());
+        }
+    }
+
+    /**
+     * 종료 시 남은 삭제를 한 번 더 시도한다
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("저장소 파일 삭제 미완료로 종료: pending={}", pending.size());
+        }
+    }
+
+    private void enqueue(List<String> storageKeys) {
+        storageKeys.forEach(key -> pending.add(new PendingDelete(key, 0)));
+    }
+
+    private void retry(PendingDelete failed, RuntimeException cause) {
+        int attempts = failed.attempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("저장소 파일 삭제 포기: storageKey={}, attempts={}, message={}",
+                    failed.storageKey(), attempts, cause.getMessage());
+            return;
+        }
+
+        pending.add(new PendingDelete(failed.storageKey(), attempts));
+        log.warn("저장소 파일 삭제 실패, 다음 주기에 재시도: storageKey={}, attempts={}, message={}",
+                failed.storageKey(), attempts, cause.getMessage());
+    }
+
+    private record PendingDelete(String storageKey, int attempts) {
+    }
+}
@@ -7,6 +7,7 @@ import com.spring.mvc.base.application.member.dto.response.MemberDetailsResponse
 import com.spring.mvc.base.application.member.service.MemberService;
 import com.spring.mvc.base.application.security.annotation.CurrentUser;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/v1/members")
@@ -36,10 +38,12 @@ public class MemberController implements MemberApiDocs {
 
     @GetMapping("/{memberId}")
     public ApiResponse<MemberDetailsResponse> getMemberProfile(
-            @PathVariable Long memberId
+            @PathVariable Long memberId,
+            ServletWebRequest webRequest
     ) {
-        MemberDetailsResponse response = memberService.getMemberProfile(memberId);
-        return ApiResponse.success(response);
+        Optional<MemberDetailsResponse> response = memberService.getMemberProfile(
+                memberId, version -> version.isNotModified(webRequest));
+        return response.map(ApiResponse::success).orElse(null);
     }
 
     @PatchMapping("/me")
@@ -8,6 +8,7 @@ import com.spring.mvc.base.common.swagger.CustomErrorResponseDescription;
 import com.spring.mvc.base.common.swagger.SwaggerErrorResponseDescription;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Tag(
         name = "Member",
@@ -26,11 +27,13 @@ public interface MemberApiDocs {
 
     @Operation(
             summary = "회원 정보 조회",
-            description = "특정 회원의 프로필 정보를 조회합니다."
+            description = "특정 회원의 프로필 정보를 조회합니다. "
+                    + "응답의 ETag를 If-None-Match로 보내면 프로필이 바뀌지 않았을 때 본문 없이 304를 반환합니다."
     )
     @CustomErrorResponseDescription(SwaggerErrorResponseDescription.MEMBER_GET)
     ApiResponse<MemberDetailsResponse> getMemberProfile(
-            Long memberId
+            Long memberId,
+            ServletWebRequest webRequest
     );
 
     @Operation(
@@ -5,11 +5,17 @@ import com.spring.mvc.base.application.member.dto.request.PasswordUpdateRequest;
 import com.spring.mvc.base.application.member.dto.response.MemberDetailsResponse;
 import com.spring.mvc.base.application.member.dto.response.MemberUpdateResponse;
 import com.spring.mvc.base.application.member.validator.MemberValidator;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
+import com.spring.mvc.base.common.web.ResourceVersion;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.entity.MemberStatus;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +26,9 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberValidator memberValidator;
+    private final PostFeedWriter postFeedWriter;
+    private final PostRepository postRepository;
+    private final PostDetailsCache postDetailsCache;
 
     /**
      * 회원 프로필 조회
@@ -30,6 +39,22 @@ public class MemberService {
         return MemberDetailsResponse.of(member);
     }
 
+    /**
+     * 회원 프로필 조건부 조회
+     * 버전만 먼저 조회해 클라이언트 사본이 최신이면(notModified) 엔티티를 읽지 않고 빈 값을 반환한다
+     * 회원은 수정 시각 컬럼이 없어 Last-Modified 없이 ETag만 사용한다
+     */
+    @Transactional(readOnly = true)
+    public Optional<MemberDetailsResponse> getMemberProfile(Long id, Predicate<ResourceVersion> notModified) {
+        Long version = memberRepository.findVersionByIdAndStatus(id, MemberStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(MemberErrorCode.USER_NOT_FOUND));
+        if (notModified.test(ResourceVersion.of(null, "m" + id, version))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(getMemberProfile(id));
+    }
+
     /**
      * 회원 정보 수정
      */
@@ -57,6 +82,11 @@ public class MemberService {
         );
 
         memberRepository.save(member);
+        if (request.nickname() != null || request.profileImage() != null) {
+            postFeedWriter.authorChanged(member);
+            // 캐시된 게시글 상세에도 작성자 닉네임/프로필 이미지가 담겨 있다
+            postDetailsCache.evictAll(postRepository.findLiveIdsByMemberId(id));
+        }
 
         return MemberUpdateResponse.of(member);
     }
@@ -0,0 +1,78 @@
+package com.spring.mvc.base.application.post.cache;
+
+import com.spring.mvc.base.application.post.dto.response.PostResponse;
+import com.spring.mvc.base.infra.cache.TwoLevelCache;
+import com.spring.mvc.base.infra.cache.TwoLevelCacheManager;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 상세 캐시
+ * 회원별 값(좋아요 여부)을 제외한 게시글 상세 응답을 postId 단위로 캐싱한다.
+ * 캐시된 값에 담기는 댓글 수와 작성자 정보가 바뀌면 해당 서비스가 무효화한다 (댓글 작성/삭제, 회원 닉네임/프로필 이미지 수정).
+ */
+@Component
+public class PostDetailsCache {
+
+    public static final String CACHE_NAME = "postDetails";
+
+    private final TwoLevelCache<PostResponse> cache;
+
+    public PostDetailsCache(TwoLevelCacheManager cacheManager, CacheProperties cacheProperties) {
+        this.cache = cacheManager.createCache(CACHE_NAME, PostResponse.class, cacheProperties.getPostDetails());
+    }
+
+    public PostResponse get(Long postId, Supplier<PostResponse> loader) {
+        return cache.get(postId, loader);
+    }
+
+    /**
+     * 캐시에 없는 게시글만 loader로 한 번에 채운다 (없는 게시글은 결과에서 빠진다)
+     */
+    public Map<Long, PostResponse> getAll(Collection<Long> postIds, Function<List<Long>, Map<Long, PostResponse>> loader) {
+        return cache.getAll(postIds, loader);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋 이후에 한 번 더 무효화한다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 채워 넣는 경우를 막기 위함이다.
+     */
+    public void evict(Long postId) {
+        cache.evict(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(postId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 여러 게시글을 같은 방식으로 무효화한다 (작성자 정보 변경 등)
+     */
+    public void evictAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        cache.evictAll(postIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictAll(postIds);
+                }
+            });
+        }
+    }
+}
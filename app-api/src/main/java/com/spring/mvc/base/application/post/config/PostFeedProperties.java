@@ -0,0 +1,33 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.feed")
+public class PostFeedProperties {
+
+    /**
+     * 재구축/정합성 검사 시 한 번에 읽는 게시글 수
+     */
+    @Positive
+    private int rebuildBatchSize = 500;
+
+    /**
+     * 검사 결과에 담을 불일치 게시글 ID 최대 개수
+     */
+    @Positive
+    private int sampleSize = 20;
+
+    /**
+     * 시작 시 읽기 모델이 비어 있으면 게시글에서 채운다
+     */
+    private boolean bootstrapOnStartup = true;
+}
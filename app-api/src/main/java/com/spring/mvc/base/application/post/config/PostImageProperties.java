@@ -0,0 +1,27 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.image")
+public class PostImageProperties {
+
+    /**
+     * 시작 시 post_image가 비어 있으면 기존 게시글 본문으로 채운다
+     */
+    private boolean backfillOnStartup = true;
+
+    /**
+     * 채우기 시 한 트랜잭션에서 처리하는 게시글 수
+     */
+    @Positive
+    private int backfillBatchSize = 500;
+}
@@ -0,0 +1,29 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.import")
+public class PostImportProperties {
+
+    /**
+     * 한 트랜잭션에서 저장하는 게시글 수 (회원/태그 조회도 이 단위로 한 번씩 실행한다)
+     */
+    @Positive
+    private int chunkSize = 500;
+
+    /**
+     * 응답에 담을 실패 행 최대 개수 (실패 수는 모두 센다)
+     */
+    @PositiveOrZero
+    private int maxErrors = 100;
+}
@@ -0,0 +1,29 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.like")
+public class PostLikeProperties {
+
+    /**
+     * 모아 둔 좋아요 변경을 DB에 반영하는 주기
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 게시글별 좋아요 회원 집합(Redis)의 유지 기간. 적재하거나 좋아요/취소할 때마다 다시 설정되며, 만료되면 다음 접근 시 DB에서 다시 적재한다
+     */
+    @NotNull
+    private Duration setTtl = Duration.ofDays(7);
+}
@@ -0,0 +1,36 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.tag-dictionary")
+public class TagDictionaryProperties {
+
+    /**
+     * 로컬 태그 사전(태그명 → ID)의 최대 항목 수
+     */
+    @Positive
+    private long maximumSize = 100_000;
+
+    /**
+     * 기동 시 사용 수 상위 태그를 미리 적재할 개수 (0이면 적재하지 않는다)
+     */
+    @PositiveOrZero
+    private int warmUpSize = 10_000;
+
+    /**
+     * 노드 간 새 태그 항목을 전파하는 Redis 채널
+     */
+    @NotBlank
+    private String syncChannel = "post:tag-dictionary";
+}
@@ -0,0 +1,58 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.trending")
+public class TrendingPostProperties {
+
+    /**
+     * 이벤트 점수가 절반으로 줄어드는 시간
+     */
+    @NotNull
+    private Duration halfLife = Duration.ofHours(6);
+
+    /**
+     * 점수 기준 시각을 옮기는 주기 (점수가 2^(주기/반감기) 배 이상 커지지 않게 한다)
+     */
+    @NotNull
+    private Duration rebaseInterval = Duration.ofDays(1);
+
+    /**
+     * 누적된 이벤트 점수를 Redis에 반영하는 주기
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Sorted Set에 남길 최대 게시글 수
+     */
+    @Positive
+    private long maxSize = 10_000;
+
+    @Positive
+    private int maxPageSize = 100;
+
+    @Positive
+    private long viewWeight = 1;
+
+    @Positive
+    private long likeWeight = 5;
+
+    @Positive
+    private long commentWeight = 10;
+
+    @NotBlank
+    private String keyPrefix = "trending:posts:";
+}
@@ -0,0 +1,49 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.trending-tags")
+public class TrendingTagProperties {
+
+    /**
+     * 집계 단위(전체 기간, 시간 버킷)마다 추적할 최대 태그 수 (Space-Saving 카운터 수)
+     */
+    @Positive
+    private int capacity = 1_000;
+
+    /**
+     * 한 번에 조회할 수 있는 최대 태그 수
+     */
+    @Positive
+    private int maxLimit = 100;
+
+    /**
+     * 노드 간 태그 사용 이벤트를 전파하는 Redis 채널
+     */
+    @NotBlank
+    private String syncChannel = "post:trending-tags";
+
+    /**
+     * 시간 버킷 스냅샷을 저장하는 Redis 키
+     */
+    @NotBlank
+    private String snapshotKey = "trending:tags:snapshot";
+
+    /**
+     * 스냅샷 저장 주기
+     */
+    @NotNull
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,66 @@
+package com.spring.mvc.base.application.post.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.view-count")
+public class ViewCountProperties {
+
+    /**
+     * true면 조회수를 메모리에 모아 주기적으로 반영하고, false면 조회마다 UPDATE 한다
+     */
+    private boolean writeBehind = true;
+
+    /**
+     * 누적된 조회수를 DB에 반영하는 주기
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * 같은 사용자의 재조회를 무시하는 방식
+     */
+    @NotNull
+    private DedupMode dedupMode = DedupMode.EXACT;
+
+    /**
+     * 같은 사용자의 재조회를 무시하는 기간
+     */
+    @NotNull
+    private Duration dedupWindow = Duration.ofMinutes(10);
+
+    /**
+     * BLOOM 모드에서 게시글/기간당 비트 수 (65536비트 = 8KB, 5천 명 조회 시 오탐률 약 0.5%)
+     */
+    @Positive
+    private int bloomBits = 65_536;
+
+    /**
+     * BLOOM 모드의 해시 함수 개수
+     */
+    @Positive
+    private int bloomHashFunctions = 4;
+
+    /**
+     * Redis 장애 시 노드 로컬로 기억할 최근 조회 수 (LRU)
+     */
+    @Positive
+    private long localFallbackMaximumSize = 100_000;
+
+    public enum DedupMode {
+        /** 사용자별 키를 SET NX로 기록 (정확, 사용자 수에 비례한 메모리) */
+        EXACT,
+        /** 게시글별 기간 단위 Bloom 필터 (오탐 허용, 게시글당 고정 메모리) */
+        BLOOM
+    }
+}
@@ -5,16 +5,20 @@ import com.spring.mvc.base.application.common.dto.response.PageResponse;
 import com.spring.mvc.base.application.post.controller.docs.PostApiDocs;
 import com.spring.mvc.base.application.post.dto.ViewContext;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
+import com.spring.mvc.base.application.post.dto.request.PostSearchRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.dto.response.PostBatchResponse;
 import com.spring.mvc.base.application.post.dto.response.PostResponse;
 import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
 import com.spring.mvc.base.application.post.service.PostLikeService;
 import com.spring.mvc.base.application.post.service.PostService;
 import com.spring.mvc.base.application.post.service.PostViewService;
+import com.spring.mvc.base.application.post.service.TrendingPostService;
 import com.spring.mvc.base.application.security.annotation.CurrentUser;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/v1/posts")
@@ -37,6 +42,7 @@ public class PostController implements PostApiDocs {
     private final PostService postService;
     private final PostLikeService postLikeService;
     private final PostViewService postViewService;
+    private final TrendingPostService trendingPostService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -67,18 +73,39 @@ public class PostController implements PostApiDocs {
         postService.deletePost(postId, memberId);
     }
 
+    @GetMapping("/batch")
+    public ApiResponse<PostBatchResponse> getPostsBatch(
+            @RequestParam List<Long> ids,
+            @CurrentUser Long memberId
+    ) {
+        return ApiResponse.success(postService.getPostDetailsBatch(ids, memberId));
+    }
+
+    @GetMapping("/trending")
+    public ApiResponse<PageResponse<PostSummaryResponse>> getTrendingPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ApiResponse.success(trendingPostService.getTrendingPosts(cursor, size));
+    }
+
     @GetMapping("/{postId}")
     public ApiResponse<PostResponse> getPost(
             @PathVariable Long postId,
             @CurrentUser Long memberId,
-            HttpServletRequest httpRequest
+            HttpServletRequest httpRequest,
+            ServletWebRequest webRequest
     ) {
-        PostResponse response = postService.getPostDetails(postId, memberId);
+        Optional<PostResponse> response = postService.getPostDetails(
+                postId, memberId, version -> version.isNotModified(webRequest));
 
+        // 304도 클라이언트가 글을 다시 연 것이므로 조회로 센다 (중복 조회는 ViewContext 기준으로 걸러진다)
+        // 조회수는 ETag에 들어가지 않으므로 이 증가가 클라이언트가 방금 받은 ETag를 바꾸지 않는다
         ViewContext context = ViewContext.from(httpRequest, memberId);
         postViewService.incrementViewCount(postId, context);
 
-        return ApiResponse.success(response);
+        // 클라이언트 사본이 최신이면 본문 없이 304로 응답한다
+        return response.map(ApiResponse::success).orElse(null);
     }
 
     @GetMapping
@@ -86,13 +113,20 @@ public class PostController implements PostApiDocs {
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) List<String> sort,
-            @RequestParam(required = false) List<String> tags
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> allTags,
+            @RequestParam(required = false) List<String> excludeTags
     ) {
         PageSortRequest pageSortRequest = new PageSortRequest(page, size, sort);
+        PostSearchRequest searchRequest = new PostSearchRequest(keyword, tags, allTags, excludeTags);
         PageResponse<PostSummaryResponse> response;
 
-        if (tags != null && !tags.isEmpty()) {
-            response = postService.getPostPageByTags(tags, pageSortRequest.toPageable());
+        if (cursor != null) {
+            response = postService.getPostPageByCursor(cursor, searchRequest, pageSortRequest.size());
+        } else if (searchRequest.hasFilter()) {
+            response = postService.searchPostPage(searchRequest, pageSortRequest.toPageable());
         } else {
             response = postService.getPostPage(pageSortRequest.toPageable());
         }
@@ -0,0 +1,32 @@
+package com.spring.mvc.base.application.post.controller;
+
+import com.spring.mvc.base.application.post.controller.docs.PostFeedAdminApiDocs;
+import com.spring.mvc.base.application.post.dto.response.PostFeedConsistencyResponse;
+import com.spring.mvc.base.application.post.dto.response.PostFeedRebuildResponse;
+import com.spring.mvc.base.application.post.feed.PostFeedMaintenance;
+import com.spring.mvc.base.common.dto.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/post-feed")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class PostFeedAdminController implements PostFeedAdminApiDocs {
+
+    private final PostFeedMaintenance postFeedMaintenance;
+
+    @PostMapping("/rebuild")
+    public ApiResponse<PostFeedRebuildResponse> rebuild() {
+        return ApiResponse.success(postFeedMaintenance.rebuild(), "post_feed_rebuilt");
+    }
+
+    @GetMapping("/consistency")
+    public ApiResponse<PostFeedConsistencyResponse> checkConsistency() {
+        return ApiResponse.success(postFeedMaintenance.check());
+    }
+}
@@ -0,0 +1,27 @@
+package com.spring.mvc.base.application.post.controller;
+
+import com.spring.mvc.base.application.post.controller.docs.PostImportAdminApiDocs;
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse;
+import com.spring.mvc.base.application.post.service.PostImportService;
+import com.spring.mvc.base.common.dto.api.ApiResponse;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/posts")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class PostImportAdminController implements PostImportAdminApiDocs {
+
+    private final PostImportService postImportService;
+
+    // 본문을 한 번에 읽지 않고 줄 단위로 흘려 읽는다
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ApiResponse<PostImportResponse> importPosts(InputStream body) {
+        return ApiResponse.success(postImportService.importPosts(body), "posts_imported");
+    }
+}
@@ -1,9 +1,10 @@
 package com.spring.mvc.base.application.post.controller;
 
 import com.spring.mvc.base.application.post.controller.docs.TagApiDocs;
+import com.spring.mvc.base.application.post.dto.response.PopularTagResponse;
 import com.spring.mvc.base.application.post.service.PostTagService;
+import com.spring.mvc.base.application.post.tag.TrendingWindow;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
-import com.spring.mvc.base.domain.post.entity.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,10 +20,11 @@ public class TagController implements TagApiDocs {
     private final PostTagService postTagService;
 
     @GetMapping("/popular")
-    public ApiResponse<List<Tag>> getPopularTags(
-            @RequestParam(defaultValue = "10") int limit
+    public ApiResponse<List<PopularTagResponse>> getPopularTags(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "ALL") TrendingWindow window
     ) {
-        List<Tag> tags = postTagService.getTopTags(limit);
+        List<PopularTagResponse> tags = postTagService.getPopularTags(window, limit);
         return ApiResponse.success(tags, "popular_tags_retrieved");
     }
 }
@@ -3,6 +3,7 @@ package com.spring.mvc.base.application.post.controller.docs;
 import com.spring.mvc.base.application.common.dto.response.PageResponse;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.dto.response.PostBatchResponse;
 import com.spring.mvc.base.application.post.dto.response.PostResponse;
 import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Tag(
         name = "Post",
@@ -53,25 +55,51 @@ public interface PostApiDocs {
 
     @Operation(
             summary = "게시글 단건 조회",
-            description = "특정 게시글의 상세 정보를 조회합니다."
+            description = "특정 게시글의 상세 정보를 조회합니다. "
+                    + "응답의 ETag를 If-None-Match로 보내면 바뀐 내용이 없을 때 본문 없이 304를 반환합니다."
     )
     @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_GET)
     ApiResponse<PostResponse> getPost(
             @Parameter(description = "게시글 ID") Long postId,
             Long memberId,
-            HttpServletRequest httpRequest
+            HttpServletRequest httpRequest,
+            ServletWebRequest webRequest
+    );
+
+    @Operation(
+            summary = "게시글 일괄 조회",
+            description = "여러 게시글의 상세 정보를 요청한 ID 순서대로 한 번에 조회합니다. 없거나 삭제된 게시글은 missingIds로 응답합니다. 조회수는 증가하지 않습니다."
+    )
+    @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_BATCH)
+    ApiResponse<PostBatchResponse> getPostsBatch(
+            @Parameter(description = "게시글 ID 목록 (최대 100개)", example = "1,2,3") List<Long> ids,
+            Long memberId
+    );
+
+    @Operation(
+            summary = "인기 게시글 조회",
+            description = "조회/좋아요/댓글 이벤트를 시간에 따라 감쇠시킨 점수 순으로 게시글을 조회합니다. 다음 페이지는 nextCursor로 조회합니다."
+    )
+    @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_LIST)
+    ApiResponse<PageResponse<PostSummaryResponse>> getTrendingPosts(
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") String cursor,
+            @Parameter(description = "페이지 크기", example = "20") Integer size
     );
 
     @Operation(
             summary = "게시글 목록 조회",
-            description = "게시글 목록을 페이징하여 조회합니다."
+            description = "게시글 목록을 페이징하여 조회합니다. cursor를 전달하면 page/sort 대신 커서 기준으로 다음 페이지를 조회합니다."
     )
     @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_LIST)
     ApiResponse<PageResponse<PostSummaryResponse>> getPostPage(
             @Parameter(description = "페이지 번호", example = "0") Integer page,
             @Parameter(description = "페이지 크기", example = "20") Integer size,
-            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능", example = "createdAt,desc") List<String> sort,
-            @Parameter(description = "태그 목록 (OR 조건 - 하나라도 포함하면 조회)", example = "Java,Spring") List<String> tags
+            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능, 키워드 검색 시 relevance 사용 가능", example = "createdAt,desc") List<String> sort,
+            @Parameter(description = "태그 목록 (OR 조건 - 하나라도 포함하면 조회)", example = "Java,Spring") List<String> tags,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") String cursor,
+            @Parameter(description = "검색 키워드 (제목/본문). sort=relevance 지정 시 관련도 순 정렬", example = "스프링") String keyword,
+            @Parameter(description = "태그 목록 (AND 조건 - 모두 포함해야 조회)", example = "Java,JPA") List<String> allTags,
+            @Parameter(description = "제외할 태그 목록 (NOT 조건 - 하나라도 포함하면 제외)", example = "Kotlin") List<String> excludeTags
     );
 
     @Operation(
@@ -0,0 +1,26 @@
+package com.spring.mvc.base.application.post.controller.docs;
+
+import com.spring.mvc.base.application.post.dto.response.PostFeedConsistencyResponse;
+import com.spring.mvc.base.application.post.dto.response.PostFeedRebuildResponse;
+import com.spring.mvc.base.common.dto.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(
+        name = "Post Feed Admin",
+        description = "게시글 목록 읽기 모델 관리 API (관리자 전용)"
+)
+public interface PostFeedAdminApiDocs {
+
+    @Operation(
+            summary = "게시글 목록 읽기 모델 재구축",
+            description = "삭제되지 않은 모든 게시글로 목록 읽기 모델을 다시 채우고, 원본이 없는 행을 제거합니다."
+    )
+    ApiResponse<PostFeedRebuildResponse> rebuild();
+
+    @Operation(
+            summary = "게시글 목록 읽기 모델 정합성 검사",
+            description = "원본 게시글과 목록 읽기 모델을 비교해 누락/불일치/원본 없는 행의 수와 일부 ID를 반환합니다."
+    )
+    ApiResponse<PostFeedConsistencyResponse> checkConsistency();
+}
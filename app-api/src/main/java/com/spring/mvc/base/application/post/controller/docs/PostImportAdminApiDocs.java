@@ -0,0 +1,31 @@
+package com.spring.mvc.base.application.post.controller.docs;
+
+import com.spring.mvc.base.application.post.dto.request.PostImportRequest;
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse;
+import com.spring.mvc.base.common.dto.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+
+@Tag(
+        name = "Post Import Admin",
+        description = "게시글 대량 등록 API (관리자 전용)"
+)
+public interface PostImportAdminApiDocs {
+
+    @Operation(
+            summary = "게시글 대량 등록",
+            description = "한 줄에 게시글 하나(JSON)씩 담은 NDJSON 본문을 받아 묶음 단위로 저장합니다. "
+                    + "잘못된 행은 건너뛰고 줄 번호와 사유를 함께 반환합니다.",
+            requestBody = @RequestBody(
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = PostImportRequest.class)
+                    )
+            )
+    )
+    ApiResponse<PostImportResponse> importPosts(InputStream body);
+}
@@ -1,7 +1,8 @@
 package com.spring.mvc.base.application.post.controller.docs;
 
+import com.spring.mvc.base.application.post.dto.response.PopularTagResponse;
+import com.spring.mvc.base.application.post.tag.TrendingWindow;
 import com.spring.mvc.base.common.dto.api.ApiResponse;
-import com.spring.mvc.base.domain.post.entity.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import java.util.List;
@@ -14,10 +15,12 @@ public interface TagApiDocs {
 
     @Operation(
             summary = "인기 태그 조회",
-            description = "usageCount 기준 상위 N개의 태그를 조회합니다."
+            description = "구간(DAY: 최근 24시간, WEEK: 최근 7일, ALL: 전체 기간)별 사용 수 상위 N개의 태그를 조회합니다."
     )
-    ApiResponse<List<Tag>> getPopularTags(
-            @Parameter(description = "조회할 태그 개수", example = "10")
-            int limit
+    ApiResponse<List<PopularTagResponse>> getPopularTags(
+            @Parameter(description = "조회할 태그 개수 (post.trending-tags.max-limit까지)", example = "10")
+            int limit,
+            @Parameter(description = "집계 구간", example = "DAY")
+            TrendingWindow window
     );
 }
@@ -0,0 +1,21 @@
+package com.spring.mvc.base.application.post.dto.request;
+
+import static com.spring.mvc.base.common.validation.ValidationMessages.REQUIRED_FIELD;
+import static com.spring.mvc.base.common.validation.ValidationMessages.REQUIRED_MEMBER_ID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "게시글 대량 등록 요청 DTO (NDJSON 한 줄)")
+public record PostImportRequest(
+        @Schema(description = "작성자 회원 ID", example = "1")
+        @NotNull(message = REQUIRED_MEMBER_ID)
+        Long memberId,
+
+        @Schema(description = "게시글 (단건 생성 요청과 같은 형식)")
+        @NotNull(message = REQUIRED_FIELD)
+        @Valid
+        PostCreateRequest post
+) {
+}
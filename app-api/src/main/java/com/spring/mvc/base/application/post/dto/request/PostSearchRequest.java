@@ -0,0 +1,31 @@
+package com.spring.mvc.base.application.post.dto.request;
+
+import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
+import java.util.List;
+
+/**
+ * 게시글 목록 검색 요청
+ * - tags: 하나라도 포함 (OR)
+ * - allTags: 모두 포함 (AND)
+ * - excludeTags: 하나도 포함하지 않음 (NOT)
+ */
+public record PostSearchRequest(
+        String keyword,
+        List<String> tags,
+        List<String> allTags,
+        List<String> excludeTags
+) {
+
+    public static PostSearchRequest empty() {
+        return new PostSearchRequest(null, null, null, null);
+    }
+
+    public PostSearchCondition toCondition() {
+        return new PostSearchCondition(keyword, null, tags, allTags, excludeTags, null);
+    }
+
+    public boolean hasFilter() {
+        PostSearchCondition condition = toCondition();
+        return condition.keyword() != null || condition.hasTagFilter();
+    }
+}
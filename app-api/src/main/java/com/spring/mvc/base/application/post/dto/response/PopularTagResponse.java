@@ -0,0 +1,16 @@
+package com.spring.mvc.base.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "인기 태그 응답 DTO")
+public record PopularTagResponse(
+        @Schema(description = "태그 ID (태그 사전에 없으면 null)", example = "1")
+        Long id,
+
+        @Schema(description = "태그명", example = "java")
+        String name,
+
+        @Schema(description = "구간 내 사용 수 (근사치, 실제 값보다 작지 않다)", example = "42")
+        long usageCount
+) {
+}
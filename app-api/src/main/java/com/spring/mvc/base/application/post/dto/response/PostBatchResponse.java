@@ -0,0 +1,14 @@
+package com.spring.mvc.base.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "게시글 일괄 조회 응답 DTO")
+public record PostBatchResponse(
+        @Schema(description = "게시글 목록 (요청한 ID 순서)")
+        List<PostResponse> items,
+
+        @Schema(description = "존재하지 않거나 삭제된 게시글 ID", example = "[3]")
+        List<Long> missingIds
+) {
+}
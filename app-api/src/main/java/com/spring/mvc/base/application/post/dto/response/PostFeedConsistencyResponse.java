@@ -0,0 +1,43 @@
+package com.spring.mvc.base.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "게시글 목록 읽기 모델 정합성 검사 결과 DTO")
+public record PostFeedConsistencyResponse(
+        @Schema(description = "불일치가 없는지 여부", example = "true")
+        boolean consistent,
+
+        @Schema(description = "검사한 게시글 수", example = "1200")
+        long checked,
+
+        @Schema(description = "읽기 모델에 없는 게시글 수", example = "0")
+        long missing,
+
+        @Schema(description = "읽기 모델 값이 원본과 다른 게시글 수", example = "0")
+        long stale,
+
+        @Schema(description = "원본이 없거나 삭제된 읽기 모델 행 수", example = "0")
+        long orphaned,
+
+        @Schema(description = "누락된 게시글 ID (일부)")
+        List<Long> missingIds,
+
+        @Schema(description = "값이 다른 게시글 ID (일부)")
+        List<Long> staleIds,
+
+        @Schema(description = "원본이 없는 행의 게시글 ID (일부)")
+        List<Long> orphanedIds
+) {
+
+    public static PostFeedConsistencyResponse of(
+            long checked, long missing, long stale, long orphaned,
+            List<Long> missingIds, List<Long> staleIds, List<Long> orphanedIds
+    ) {
+        return new PostFeedConsistencyResponse(
+                missing == 0 && stale == 0 && orphaned == 0,
+                checked, missing, stale, orphaned,
+                List.copyOf(missingIds), List.copyOf(staleIds), List.copyOf(orphanedIds)
+        );
+    }
+}
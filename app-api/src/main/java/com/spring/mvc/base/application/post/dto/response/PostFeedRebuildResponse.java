@@ -0,0 +1,13 @@
+package com.spring.mvc.base.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 목록 읽기 모델 재구축 결과 DTO")
+public record PostFeedRebuildResponse(
+        @Schema(description = "다시 채운 게시글 수", example = "1200")
+        long rebuilt,
+
+        @Schema(description = "원본이 없어 제거한 행 수", example = "3")
+        long removedOrphans
+) {
+}
@@ -0,0 +1,30 @@
+package com.spring.mvc.base.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "게시글 대량 등록 결과 DTO")
+public record PostImportResponse(
+        @Schema(description = "읽은 행 수 (빈 줄 제외)", example = "5000")
+        long total,
+
+        @Schema(description = "등록된 게시글 수", example = "4998")
+        long imported,
+
+        @Schema(description = "실패한 행 수", example = "2")
+        long failed,
+
+        @Schema(description = "실패한 행 (최대 개수까지만 담는다)")
+        List<RowError> errors
+) {
+
+    @Schema(description = "행 단위 실패 사유")
+    public record RowError(
+            @Schema(description = "요청 본문의 줄 번호 (1부터)", example = "17")
+            long line,
+
+            @Schema(description = "실패 사유", example = "작성자 정보가 필요합니다")
+            String reason
+    ) {
+    }
+}
@@ -56,13 +56,27 @@ public record PostResponse(
         String seriesName,
 
         @Schema(description = "공개 범위", example = "public")
-        String visibility
+        String visibility,
+
+        @Schema(description = "버전 (수정될 때마다 증가)", example = "0")
+        Long version
 ) {
     public static PostResponse of(Post post, Member member, File file) {
         return of(post, member, file, false);
     }
 
     public static PostResponse of(Post post, Member member, File file, boolean isLiked) {
+        return of(post, member, file, isLiked, post.getTagNames());
+    }
+
+    /**
+     * 태그명을 따로 조회한 경우 (태그 컬렉션을 지연 로딩하지 않는다)
+     */
+    public static PostResponse of(Post post, Member member, File file, List<String> tags) {
+        return of(post, member, file, false, tags);
+    }
+
+    private static PostResponse of(Post post, Member member, File file, boolean isLiked, List<String> tags) {
         return new PostResponse(
                 post.getId(),
                 MemberResponse.of(member),
@@ -76,10 +90,84 @@ public record PostResponse(
                 post.getCommentCount(),
                 isLiked,
                 post.getSummary(),
-                post.getTagNames(),
+                tags,
                 post.getSeries() != null ? post.getSeries().getId() : null,
                 post.getSeries() != null ? post.getSeries().getName() : null,
-                post.getVisibility() != null ? post.getVisibility() : "public"
+                post.getVisibility() != null ? post.getVisibility() : "public",
+                post.getVersion()
+        );
+    }
+
+    public PostResponse withLiked(boolean isLiked) {
+        return new PostResponse(
+                postId,
+                member,
+                title,
+                content,
+                imageUrl,
+                createdAt,
+                updatedAt,
+                viewCount,
+                likeCount,
+                commentCount,
+                isLiked,
+                summary,
+                tags,
+                seriesId,
+                seriesName,
+                visibility,
+                version
+        );
+    }
+
+    public PostResponse withLikeCount(long likeCount) {
+        return new PostResponse(
+                postId,
+                member,
+                title,
+                content,
+                imageUrl,
+                createdAt,
+                updatedAt,
+                viewCount,
+                likeCount,
+                commentCount,
+                isLiked,
+                summary,
+                tags,
+                seriesId,
+                seriesName,
+                visibility,
+                version
+        );
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 더한다
+     */
+    public PostResponse withPendingViews(long pendingViews) {
+        if (pendingViews == 0) {
+            return this;
+        }
+
+        return new PostResponse(
+                postId,
+                member,
+                title,
+                content,
+                imageUrl,
+                createdAt,
+                updatedAt,
+                viewCount + pendingViews,
+                likeCount,
+                commentCount,
+                isLiked,
+                summary,
+                tags,
+                seriesId,
+                seriesName,
+                visibility,
+                version
         );
     }
-}
\ No newline at end of file
+}
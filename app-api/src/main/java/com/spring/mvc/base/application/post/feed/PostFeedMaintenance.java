@@ -0,0 +1,143 @@
+package com.spring.mvc.base.application.post.feed;
+
+import com.spring.mvc.base.application.post.config.PostFeedProperties;
+import com.spring.mvc.base.application.post.dto.response.PostFeedConsistencyResponse;
+import com.spring.mvc.base.application.post.dto.response.PostFeedRebuildResponse;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 목록 읽기 모델(post_feed) 재구축과 정합성 검사
+ * 게시글 ID 순으로 배치를 나눠 처리하므로 운영 중에도 실행할 수 있다 (배치 사이의 변경은 PostFeedWriter가 반영한다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedMaintenance {
+
+    private final PostRepository postRepository;
+    private final PostFeedRepository postFeedRepository;
+    private final PostFeedProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 읽기 모델이 비어 있는 채로 배포된 경우 목록이 비지 않도록 시작 시 채운다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!properties.isBootstrapOnStartup() || postFeedRepository.count() > 0) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 삭제되지 않은 모든 게시글로 읽기 모델을 다시 채우고 원본이 없는 행을 지운다
+     */
+    public PostFeedRebuildResponse rebuild() {
+        long startedAt = System.currentTimeMillis();
+        int batchSize = properties.getRebuildBatchSize();
+        long rebuilt = 0;
+        long lastId = 0L;
+        List<Long> batch;
+        do {
+            batch = postRepository.findLiveIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                List<Long> postIds = batch;
+                transactionTemplate.executeWithoutResult(status -> rebuildBatch(postIds));
+                rebuilt += batch.size();
+                lastId = batch.getLast();
+            }
+        } while (batch.size() == batchSize);
+
+        Integer removed = transactionTemplate.execute(status -> postFeedRepository.deleteOrphans());
+        long removedOrphans = removed != null ? removed : 0;
+
+        log.info("게시글 목록 읽기 모델 재구축 완료: posts={}, removedOrphans={}, elapsed={}ms",
+                rebuilt, removedOrphans, System.currentTimeMillis() - startedAt);
+        return new PostFeedRebuildResponse(rebuilt, removedOrphans);
+    }
+
+    /**
+     * 원본 게시글과 읽기 모델을 비교해 누락/불일치/고아 행을 센다 (수정하지 않는다)
+     */
+    public PostFeedConsistencyResponse check() {
+        int batchSize = properties.getRebuildBatchSize();
+        int sampleSize = properties.getSampleSize();
+        long checked = 0;
+        long missing = 0;
+        long stale = 0;
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> staleIds = new ArrayList<>();
+
+        long lastId = 0L;
+        List<Long> batch;
+        do {
+            batch = postRepository.findLiveIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<Long, PostFeed> feeds = postFeedRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(PostFeed::getId, Function.identity()));
+            for (Post post : postRepository.findAllWithMemberByIdIn(batch)) {
+                checked++;
+                PostFeed feed = feeds.get(post.getId());
+                if (feed == null) {
+                    missing++;
+                    addSample(missingIds, post.getId(), sampleSize);
+                } else if (!matches(feed, PostFeed.of(post))) {
+                    stale++;
+                    addSample(staleIds, post.getId(), sampleSize);
+                }
+            }
+            lastId = batch.getLast();
+        } while (batch.size() == batchSize);
+
+        long orphaned = postFeedRepository.countOrphans();
+        List<Long> orphanedIds = orphaned > 0
+                ? postFeedRepository.findOrphanIds(PageRequest.of(0, sampleSize))
+                : List.of();
+
+        PostFeedConsistencyResponse report = PostFeedConsistencyResponse.of(
+                checked, missing, stale, orphaned, missingIds, staleIds, orphanedIds);
+        if (!report.consistent()) {
+            log.warn("게시글 목록 읽기 모델 불일치: checked={}, missing={}, stale={}, orphaned={}",
+                    checked, missing, stale, orphaned);
+        }
+        return report;
+    }
+
+    private void rebuildBatch(List<Long> postIds) {
+        postFeedRepository.deleteAllByIdInBatch(postIds);
+        postFeedRepository.saveAll(postRepository.findAllWithMemberByIdIn(postIds).stream()
+                .map(PostFeed::of)
+                .toList());
+    }
+
+    private boolean matches(PostFeed feed, PostFeed expected) {
+        return feed.toSummary().equals(expected.toSummary())
+                && Objects.equals(feed.getUpdatedAt(), expected.getUpdatedAt());
+    }
+
+    private void addSample(List<Long> samples, Long postId, int sampleSize) {
+        if (samples.size() < sampleSize) {
+            samples.add(postId);
+        }
+    }
+}
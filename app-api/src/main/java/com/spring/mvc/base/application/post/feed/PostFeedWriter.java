@@ -0,0 +1,62 @@
+package com.spring.mvc.base.application.post.feed;
+
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 목록 읽기 모델(post_feed) 갱신
+ * 원본 변경과 같은 트랜잭션에서 호출되어 함께 커밋/롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFeedWriter {
+
+    private final PostFeedRepository postFeedRepository;
+    private final PostRepository postRepository;
+
+    public void postCreated(Post post) {
+        postFeedRepository.save(PostFeed.of(post));
+    }
+
+    public void postsCreated(List<Post> posts) {
+        postFeedRepository.saveAll(posts.stream().map(PostFeed::of).toList());
+    }
+
+    /**
+     * 수정 시각(updated_at)은 flush 시점에 채워지므로 먼저 반영한 뒤 복사한다
+     */
+    public void postUpdated(Post post) {
+        postRepository.flush();
+        postFeedRepository.findById(post.getId())
+                .ifPresentOrElse(
+                        feed -> feed.refresh(post),
+                        () -> postFeedRepository.save(PostFeed.of(post))
+                );
+    }
+
+    public void postDeleted(Long postId) {
+        postFeedRepository.deleteAllByIdInBatch(List.of(postId));
+    }
+
+    public void countersChanged(Long postId) {
+        countersChanged(List.of(postId));
+    }
+
+    public void countersChanged(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        postFeedRepository.syncCounters(postIds);
+    }
+
+    public void authorChanged(Member member) {
+        postFeedRepository.updateAuthor(member.getId(), member.getNickname(), member.getProfileImageUrl());
+    }
+}
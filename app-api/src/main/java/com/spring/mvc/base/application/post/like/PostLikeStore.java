@@ -0,0 +1,214 @@
+package com.spring.mvc.base.application.post.like;
+
+import com.spring.mvc.base.application.post.config.PostLikeProperties;
+import com.spring.mvc.base.common.exception.BusinessException;
+import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글별 좋아요 회원 집합 (Redis Set)
+ * 좋아요 여부와 개수의 기준 저장소이며, DB에는 {@link PostLikeWriter}가 비동기로 반영한다.
+ * 집합이 없으면 DB에서 한 번 적재하고, 좋아요가 없는 게시글도 구분하도록 적재 표식을 함께 넣는다.
+ * 집합은 적재하거나 좋아요/취소할 때마다 setTtl로 만료를 다시 걸어, 읽히지 않는 게시글의 집합만 만료되게 한다.
+ * 조회 중 Redis를 사용할 수 없으면 DB 값(post.like_count, post_like)으로 응답한다.
+ * 좋아요/취소는 Redis 없이 처리하지 않고 503으로 실패한다. DB에만 반영하면 Redis가 돌아왔을 때
+ * 남아 있던 집합이 그 변경을 모른 채 setTtl 동안 좋아요 여부와 수의 기준이 되기 때문이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeStore {
+
+    private static final String KEY_PREFIX = "post:likers:";
+    private static final String LOADED_MARKER = "";
+
+    private final RedisService redisService;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeWriter postLikeWriter;
+    private final PostLikeProperties properties;
+
+    /**
+     * @return 새로 좋아요 되었으면 true, 이미 좋아요 상태였으면 false
+     * @throws BusinessException Redis를 사용할 수 없으면 LIKE_UNAVAILABLE (503)
+     */
+    public boolean like(Long postId, Long memberId) {
+        try {
+            long result = redisService.addToSetIfPresent(keyOf(postId), memberId.toString(), properties.getSetTtl());
+            if (result < 0) {
+                load(postId);
+                result = redisService.addToSetIfPresent(keyOf(postId), memberId.toString(), properties.getSetTtl());
+            }
+            return result == 1;
+        } catch (DataAccessException e) {
+            log.warn("좋아요 실패, Redis 사용 불가: postId={}, message={}", postId, e.getMessage());
+            throw new BusinessException(PostErrorCode.LIKE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * @return 좋아요가 취소되었으면 true, 좋아요 상태가 아니었으면 false
+     * @throws BusinessException Redis를 사용할 수 없으면 LIKE_UNAVAILABLE (503)
+     */
+    public boolean unlike(Long postId, Long memberId) {
+        try {
+            long result = redisService.removeFromSetIfPresent(keyOf(postId), memberId.toString(), properties.getSetTtl());
+            if (result < 0) {
+                load(postId);
+                result = redisService.removeFromSetIfPresent(keyOf(postId), memberId.toString(), properties.getSetTtl());
+            }
+            return result == 1;
+        } catch (DataAccessException e) {
+            log.warn("좋아요 취소 실패, Redis 사용 불가: postId={}, message={}", postId, e.getMessage());
+            throw new BusinessException(PostErrorCode.LIKE_UNAVAILABLE);
+        }
+    }
+
+    public boolean isLiked(Long postId, Long memberId) {
+        try {
+            List<String> members = List.of(LOADED_MARKER, memberId.toString());
+            Map<String, Boolean> memberships = redisService.isSetMembers(keyOf(postId), members);
+            if (!memberships.get(LOADED_MARKER)) {
+                load(postId);
+                memberships = redisService.isSetMembers(keyOf(postId), members);
+            }
+            return memberships.get(memberId.toString());
+        } catch (DataAccessException e) {
+            log.warn("좋아요 여부 조회 실패, DB로 대체: postId={}, message={}", postId, e.getMessage());
+            return postLikeRepository.existsByPostIdAndMemberId(postId, memberId);
+        }
+    }
+
+    /**
+     * @param persistedLikeCount Redis를 사용할 수 없을 때 응답할 DB의 좋아요 수 (post.like_count)
+     */
+    public long getLikeCount(Long postId, long persistedLikeCount) {
+        try {
+            long size = redisService.getSetSize(keyOf(postId));
+            if (size == 0) {
+                load(postId);
+                size = redisService.getSetSize(keyOf(postId));
+            }
+            return Math.max(size - 1, 0L);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 조회 실패, DB 값으로 대체: postId={}, message={}", postId, e.getMessage());
+            return persistedLikeCount;
+        }
+    }
+
+    /**
+     * 여러 게시글의 좋아요 수와 회원의 좋아요 여부를 한 번의 파이프라인으로 조회한다
+     * 아직 적재되지 않은 게시글(집합 크기 0)만 개별로 적재해 다시 조회한다.
+     *
+     * @param persistedLikeCounts Redis를 사용할 수 없을 때 응답할 게시글별 DB의 좋아요 수
+     */
+    public Map<Long, LikeStatus> getLikeStatuses(List<Long> postIds, Long memberId, Map<Long, Long> persistedLikeCounts) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return findLikeStatuses(postIds, memberId);
+        } catch (DataAccessException e) {
+            log.warn("좋아요 상태 일괄 조회 실패, DB로 대체: posts={}, message={}", postIds.size(), e.getMessage());
+            Set<Long> likedPostIds = memberId != null
+                    ? new HashSet<>(postLikeRepository.findPostIdsByMemberIdAndPostIdIn(memberId, postIds))
+                    : Set.of();
+            Map<Long, LikeStatus> statuses = new HashMap<>();
+            postIds.forEach(postId -> statuses.put(postId, new LikeStatus(
+                    persistedLikeCounts.getOrDefault(postId, 0L), likedPostIds.contains(postId))));
+            return statuses;
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 집합을 지운다 (실패해도 setTtl이 지나면 만료된다)
+     */
+    public void evict(Long postId) {
+        evictAll(List.of(postId));
+    }
+
+    public void evictAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisService.pipeline(batch -> postIds.forEach(postId -> batch.delete(keyOf(postId))));
+        } catch (DataAccessException e) {
+            log.warn("좋아요 집합 삭제 실패, 만료에 맡김: posts={}, message={}", postIds.size(), e.getMessage());
+        }
+    }
+
+    private Map<Long, LikeStatus> findLikeStatuses(List<Long> postIds, Long memberId) {
+        List<Object> results = redisService.pipeline(batch -> postIds.forEach(postId -> {
+            batch.getSetSize(keyOf(postId));
+            if (memberId != null) {
+                batch.isSetMember(keyOf(postId), memberId.toString());
+            }
+        }));
+
+        int step = memberId != null ? 2 : 1;
+        Map<Long, LikeStatus> statuses = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            Long postId = postIds.get(i);
+            long size = results.get(i * step) instanceof Number number ? number.longValue() : 0L;
+            if (size == 0) {
+                load(postId);
+                size = redisService.getSetSize(keyOf(postId));
+                boolean liked = memberId != null
+                        && redisService.isSetMembers(keyOf(postId), List.of(memberId.toString()))
+                                .get(memberId.toString());
+                statuses.put(postId, new LikeStatus(Math.max(size - 1, 0L), liked));
+                continue;
+            }
+
+            boolean liked = memberId != null && Boolean.TRUE.equals(results.get(i * step + 1));
+            statuses.put(postId, new LikeStatus(size - 1, liked));
+        }
+        return statuses;
+    }
+
+    /**
+     * DB의 좋아요 회원에 아직 반영되지 않은 변경을 더해 적재하고 만료를 건다
+     * 만료 후 다시 적재될 때 flush 전의 좋아요/취소가 사라지지 않게 한다.
+     */
+    private void load(Long postId) {
+        Set<String> members = new LinkedHashSet<>();
+        members.add(LOADED_MARKER);
+        postLikeRepository.findMemberIdsByPostId(postId).forEach(memberId -> members.add(memberId.toString()));
+        postLikeWriter.getPendingChanges(postId).forEach((memberId, liked) -> {
+            if (liked) {
+                members.add(memberId.toString());
+            } else {
+                members.remove(memberId.toString());
+            }
+        });
+
+        redisService.pipeline(batch -> {
+            batch.addToSet(keyOf(postId), members);
+            batch.expire(keyOf(postId), properties.getSetTtl());
+        });
+    }
+
+    private String keyOf(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    public record LikeStatus(
+            long likeCount,
+            boolean liked
+    ) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.spring.mvc.base.application.post.like;
+
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.entity.PostLike;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 변경을 모아 DB(post_like, like_count)에 비동기로 반영한다
+ * 같은 회원의 좋아요/취소가 반복되면 마지막 상태만 반영하며, 게시글 단위로 한 트랜잭션에서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeWriter {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostFeedWriter postFeedWriter;
+
+    // postId -> (memberId -> 좋아요 여부)
+    private final Map<Long, Map<Long, Boolean>> pending = new ConcurrentHashMap<>();
+
+    public void liked(Long postId, Long memberId) {
+        enqueue(postId, memberId, true);
+    }
+
+    public void unliked(Long postId, Long memberId) {
+        enqueue(postId, memberId, false);
+    }
+
+    public int getPendingPostCount() {
+        return pending.size();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글의 좋아요 변경 (memberId -> 좋아요 여부)
+     */
+    public Map<Long, Boolean> getPendingChanges(Long postId) {
+        Map<Long, Boolean> snapshot = new HashMap<>();
+        pending.computeIfPresent(postId, (id, changes) -> {
+            snapshot.putAll(changes);
+            return changes;
+        });
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${post.like.flush-interval:1s}")
+    public void flush() {
+        for (Long postId : new ArrayList<>(pending.keySet())) {
+            Map<Long, Boolean> changes = pending.remove(postId);
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(postId, changes));
+            } catch (DataIntegrityViolationException e) {
+                // 삭제된 게시글/회원 등 다시 시도해도 성공할 수 없는 변경은 버린다
+                log.warn("좋아요 반영 불가, 변경 폐기: postId={}, changes={}, message={}",
+                        postId, changes.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                changes.forEach((memberId, liked) -> restore(postId, memberId, liked));
+                log.warn("좋아요 반영 실패, 다음 주기에 재시도: postId={}, message={}", postId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경을 반영한다
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private void persist(Long postId, Map<Long, Boolean> changes) {
+        Set<Long> likedMemberIds = new HashSet<>();
+        Set<Long> unlikedMemberIds = new HashSet<>();
+        changes.forEach((memberId, liked) -> (liked ? likedMemberIds : unlikedMemberIds).add(memberId));
+
+        if (!unlikedMemberIds.isEmpty()) {
+            postLikeRepository.deleteByPostIdAndMemberIdIn(postId, unlikedMemberIds);
+        }
+
+        if (!likedMemberIds.isEmpty()) {
+            likedMemberIds.removeAll(postLikeRepository.findMemberIdsByPostIdAndMemberIdIn(postId, likedMemberIds));
+        }
+
+        if (!likedMemberIds.isEmpty()) {
+            List<PostLike> postLikes = likedMemberIds.stream()
+                    .map(memberId -> PostLike.create(
+                            postRepository.getReferenceById(postId),
+                            memberRepository.getReferenceById(memberId)))
+                    .toList();
+            postLikeRepository.saveAll(postLikes);
+        }
+
+        postRepository.syncLikeCount(postId);
+        postFeedWriter.countersChanged(postId);
+    }
+
+    private void enqueue(Long postId, Long memberId, boolean liked) {
+        pending.compute(postId, (id, changes) -> {
+            Map<Long, Boolean> merged = changes != null ? changes : new HashMap<>();
+            merged.put(memberId, liked);
+            return merged;
+        });
+    }
+
+    /**
+     * 실패한 변경을 되돌리되, 그 사이 들어온 더 최신 변경은 덮어쓰지 않는다
+     */
+    private void restore(Long postId, Long memberId, boolean liked) {
+        pending.compute(postId, (id, changes) -> {
+            Map<Long, Boolean> merged = changes != null ? changes : new HashMap<>();
+            merged.putIfAbsent(memberId, liked);
+            return merged;
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package com.spring.mvc.base.application.post.search;
+
+import com.spring.mvc.base.domain.post.dto.PostSearchDocument;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import com.spring.mvc.base.infra.search.InvertedIndex;
+import com.spring.mvc.base.infra.search.SearchHit;
+import com.spring.mvc.base.infra.search.TextTokenizer;
+import com.spring.mvc.base.infra.search.config.SearchProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 키워드 검색용 역색인
+ * 기동 시 DB에서 재구축하고, 게시글 작성/수정/삭제 시 증분 갱신한다.
+ * 색인은 후보 게시글을 찾는 용도이며 삭제 여부 등 최종 조건은 DB 조회에서 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    // 제목 토큰은 본문보다 가중치를 높게 준다
+    private static final int TITLE_BOOST = 2;
+
+    private final PostRepository postRepository;
+    private final RedisService redisService;
+    private final SearchProperties searchProperties;
+    private final InvertedIndex index = new InvertedIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        ready = false;
+        index.clear();
+
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        List<PostSearchDocument> batch;
+        do {
+            batch = postRepository.findSearchDocumentsAfter(
+                    lastId, PageRequest.of(0, searchProperties.getRebuildBatchSize()));
+            batch.forEach(this::indexDocument);
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().postId();
+            }
+        } while (batch.size() == searchProperties.getRebuildBatchSize());
+
+        ready = true;
+        log.info("게시글 검색 색인 재구축 완료: documents={}, terms={}, elapsed={}ms",
+                index.getDocumentCount(), index.getTermCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 키워드와 일치하는 게시글 ID를 관련도 순으로 반환한다.
+     * 색인을 사용할 수 없으면 empty를 반환하며, 호출 측은 LIKE 검색으로 대체한다.
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!searchProperties.isEnabled() || !ready) {
+            return Optional.empty();
+        }
+
+        List<String> tokens = TextTokenizer.tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.search(tokens, searchProperties.getMaxCandidates())
+                .stream()
+                .map(SearchHit::documentId)
+                .toList());
+    }
+
+    public void index(Long postId, String title, String content) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        indexDocument(new PostSearchDocument(postId, title, content));
+        publishAfterCommit(postId);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 색인한다 (대량 등록) - 다른 노드로의 전파도 파이프라인 한 번으로 보낸다
+     */
+    public void indexAll(List<PostSearchDocument> documents) {
+        if (!searchProperties.isEnabled() || documents.isEmpty()) {
+            return;
+        }
+
+        documents.forEach(this::indexDocument);
+        List<Long> postIds = documents.stream()
+                .map(PostSearchDocument::postId)
+                .toList();
+        runAfterCommit(() -> {
+            try {
+                redisService.pipeline(batch -> postIds.forEach(postId ->
+                        batch.publish(searchProperties.getSyncChannel(), String.valueOf(postId))));
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 변경 전파 실패: posts={}, message={}", postIds.size(), e.getMessage());
+            }
+        });
+    }
+
+    public void remove(Long postId) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        index.remove(postId);
+        publishAfterCommit(postId);
+    }
+
+    /**
+     * 다른 노드에서 변경된 게시글을 DB에서 다시 읽어 색인에 반영한다.
+     */
+    public void refresh(Long postId) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        postRepository.findSearchDocument(postId)
+                .ifPresentOrElse(this::indexDocument, () -> index.remove(postId));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getDocumentCount() {
+        return index.getDocumentCount();
+    }
+
+    private void indexDocument(PostSearchDocument document) {
+        List<String> titleTokens = TextTokenizer.tokenize(document.title());
+        List<String> tokens = new ArrayList<>(titleTokens.size() * TITLE_BOOST);
+        for (int i = 0; i < TITLE_BOOST; i++) {
+            tokens.addAll(titleTokens);
+        }
+        tokens.addAll(TextTokenizer.tokenize(document.content()));
+
+        index.index(document.postId(), tokens);
+    }
+
+    private void publishAfterCommit(Long postId) {
+        runAfterCommit(() -> {
+            try {
+                redisService.publish(searchProperties.getSyncChannel(), String.valueOf(postId));
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 변경 전파 실패: postId={}, message={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
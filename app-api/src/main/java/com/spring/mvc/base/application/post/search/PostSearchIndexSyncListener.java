@@ -0,0 +1,53 @@
+package com.spring.mvc.base.application.post.search;
+
+import com.spring.mvc.base.infra.search.config.SearchProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 변경된 게시글 ID를 받아 로컬 검색 색인과 태그 비트맵을 갱신한다.
+ * 리스너 컨테이너가 없는 환경(test 프로필)에서는 구독하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexSyncListener implements MessageListener {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostTagBitmapIndex postTagBitmapIndex;
+    private final SearchProperties searchProperties;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        listenerContainerProvider.ifAvailable(container -> container.addMessageListener(
+                this,
+                new ChannelTopic(searchProperties.getSyncChannel())
+        ));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long postId = Long.valueOf(payload);
+            postSearchIndex.refresh(postId);
+            postTagBitmapIndex.refresh(postId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 검색 색인 동기화 메시지: {}", payload);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.spring.mvc.base.application.post.search;
+
+import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
+import com.spring.mvc.base.domain.post.dto.PostTagName;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
+import com.spring.mvc.base.infra.search.BitmapIndex;
+import com.spring.mvc.base.infra.search.config.SearchProperties;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 → 게시글 ID 압축 비트맵 색인
+ * 태그 OR / AND / NOT 조합과 삭제되지 않은 게시글 비트맵의 교집합을 메모리에서 계산한다.
+ * 노드 간 동기화는 검색 색인 동기화 메시지({@link PostSearchIndexSyncListener})를 함께 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTagBitmapIndex {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final SearchProperties searchProperties;
+    private final BitmapIndex index = new BitmapIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        ready = false;
+        index.clear();
+
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        List<Long> batch;
+        do {
+            batch = postRepository.findLiveIdsAfter(
+                    lastId, PageRequest.of(0, searchProperties.getRebuildBatchSize()));
+            if (!batch.isEmpty()) {
+                Map<Long, List<String>> tagNames = findTagNames(batch);
+                batch.forEach(postId -> index.put(postId, tagNames.getOrDefault(postId, List.of())));
+                lastId = batch.getLast();
+            }
+        } while (batch.size() == searchProperties.getRebuildBatchSize());
+
+        ready = true;
+        log.info("게시글 태그 비트맵 재구축 완료: posts={}, tags={}, elapsed={}ms",
+                index.getLiveDocumentCount(), index.getKeyCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 조건의 태그 식을 만족하는 살아 있는 게시글 ID 비트맵
+     * 색인을 사용할 수 없으면 empty를 반환하며, 호출 측은 DB 서브쿼리로 대체한다.
+     */
+    public Optional<Roaring64Bitmap> evaluate(PostSearchCondition condition) {
+        if (!searchProperties.isEnabled() || !ready) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.evaluate(
+                orEmpty(condition.tags()),
+                orEmpty(condition.requiredTags()),
+                orEmpty(condition.excludedTags())
+        ));
+    }
+
+    public void addTags(Long postId, Collection<String> tagNames) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        index.markLive(postId);
+        index.addKeys(postId, tagNames);
+        refreshOnRollback(postId);
+    }
+
+    public void removeTags(Long postId, Collection<String> tagNames) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        index.removeKeys(postId, tagNames);
+        refreshOnRollback(postId);
+    }
+
+    public void remove(Long postId) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        index.remove(postId);
+        refreshOnRollback(postId);
+    }
+
+    /**
+     * DB의 현재 상태로 게시글 하나를 다시 색인한다 (다른 노드 변경 반영, 롤백 복구)
+     */
+    public void refresh(Long postId) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            index.remove(postId);
+            return;
+        }
+
+        index.put(postId, findTagNames(List.of(postId)).getOrDefault(postId, List.of()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getPostCount() {
+        return index.getLiveDocumentCount();
+    }
+
+    private Map<Long, List<String>> findTagNames(List<Long> postIds) {
+        return postTagRepository.findTagNamesByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagName::postId,
+                        Collectors.mapping(PostTagName::tagName, Collectors.toList())
+                ));
+    }
+
+    /**
+     * 비트맵은 트랜잭션 밖 메모리이므로 롤백되면 DB 상태로 되돌린다
+     */
+    private void refreshOnRollback(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    refresh(postId);
+                }
+            }
+        });
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.mvc.base.application.post.service;
+
+import com.spring.mvc.base.application.post.config.PostImageProperties;
+import com.spring.mvc.base.domain.post.repository.PostImageRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * post_image 도입 전에 작성된 게시글의 이미지 연결을 채운다
+ * 연결이 없으면 게시글 삭제 시 이미지 파일이 삭제 표시되지 않으므로, 테이블이 비어 있는 채로 배포되면 시작 시 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageBackfill {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostImageService postImageService;
+    private final PostImageProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!properties.isBackfillOnStartup() || postImageRepository.count() > 0) {
+            return;
+        }
+        backfill();
+    }
+
+    public long backfill() {
+        long startedAt = System.currentTimeMillis();
+        int batchSize = properties.getBackfillBatchSize();
+        long linked = 0;
+        long lastId = 0L;
+        List<Long> batch;
+        do {
+            batch = postRepository.findLiveIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                linked += postImageService.linkMissing(batch);
+                lastId = batch.getLast();
+            }
+        } while (batch.size() == batchSize);
+
+        log.info("게시글 이미지 연결 채우기 완료: linked={}, elapsed={}ms", linked, System.currentTimeMillis() - startedAt);
+        return linked;
+    }
+}
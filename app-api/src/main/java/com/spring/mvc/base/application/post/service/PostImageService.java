@@ -0,0 +1,121 @@
+package com.spring.mvc.base.application.post.service;
+
+import com.spring.mvc.base.common.utils.MarkdownImageExtractor;
+import com.spring.mvc.base.domain.file.entity.File;
+import com.spring.mvc.base.domain.file.repository.FileRepository;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostImage;
+import com.spring.mvc.base.domain.post.entity.id.PostImageId;
+import com.spring.mvc.base.domain.post.repository.PostImageRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 본문의 이미지 URL을 파일과 연결해 둔다 (post_image)
+ * 등록된 파일(file.url)과 일치하는 URL만 연결하며, 외부 이미지 URL은 무시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostImageService {
+
+    private final PostImageRepository postImageRepository;
+    private final FileRepository fileRepository;
+    private final PostRepository postRepository;
+
+    @Transactional
+    public void createPostImages(Post post) {
+        createPostImagesInBatch(List.of(post));
+    }
+
+    /**
+     * 여러 게시글의 이미지를 한 번에 연결한다 (파일 조회는 묶음 전체에 한 번)
+     */
+    @Transactional
+    public void createPostImagesInBatch(Collection<Post> posts) {
+        postImageRepository.saveAll(linksOf(posts));
+    }
+
+    /**
+     * 연결이 없는 기존 게시글의 이미지를 연결한다 (post_image 도입 전 게시글 채우기, 이미 있는 연결은 건너뜀)
+     */
+    @Transactional
+    public int linkMissing(Collection<Long> postIds) {
+        Set<PostImageId> existing = new HashSet<>(postImageRepository.findIdsByPostIdIn(postIds));
+        List<PostImage> missing = linksOf(postRepository.findAllById(postIds)).stream()
+                .filter(postImage -> !existing.contains(postImage.getId()))
+                .toList();
+        postImageRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    /**
+     * 본문이 바뀐 게시글의 이미지 연결을 다시 맞춘다 (추가된 이미지만 저장, 빠진 이미지만 삭제)
+     * 본문에서 빠진 이미지 파일은 다른 게시글이 쓰고 있을 수 있어 삭제 표시하지 않는다.
+     */
+    @Transactional
+    public void updatePostImages(Post post) {
+        Set<String> urls = extractImageUrls(post);
+        Map<Long, File> newFiles = urls.isEmpty() ? Map.of() : findFilesByUrl(urls).values().stream()
+                .collect(Collectors.toMap(File::getId, Function.identity(), (a, b) -> a));
+        Set<Long> oldFileIds = new HashSet<>(postImageRepository.findFileIdsByPostId(post.getId()));
+
+        Set<Long> removedFileIds = new HashSet<>(oldFileIds);
+        removedFileIds.removeAll(newFiles.keySet());
+        if (!removedFileIds.isEmpty()) {
+            postImageRepository.deleteByPostIdAndFileIdIn(post.getId(), removedFileIds);
+        }
+
+        List<PostImage> added = newFiles.values().stream()
+                .filter(file -> !oldFileIds.contains(file.getId()))
+                .map(file -> PostImage.create(post, file))
+                .toList();
+        postImageRepository.saveAll(added);
+    }
+
+    private List<PostImage> linksOf(Collection<Post> posts) {
+        Map<Post, Set<String>> urlsByPost = new HashMap<>();
+        posts.forEach(post -> {
+            Set<String> urls = extractImageUrls(post);
+            if (!urls.isEmpty()) {
+                urlsByPost.put(post, urls);
+            }
+        });
+        if (urlsByPost.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> allUrls = urlsByPost.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        Map<String, File> files = findFilesByUrl(allUrls);
+
+        return urlsByPost.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(files::get)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(file -> PostImage.create(entry.getKey(), file)))
+                .toList();
+    }
+
+    private Set<String> extractImageUrls(Post post) {
+        return new LinkedHashSet<>(MarkdownImageExtractor.extractImageUrls(post.getContent()));
+    }
+
+    private Map<String, File> findFilesByUrl(Set<String> urls) {
+        return fileRepository.findAllByUrlInAndIsDeletedFalse(urls).stream()
+                .collect(Collectors.toMap(File::getUrl, Function.identity(), (a, b) -> a));
+    }
+}
@@ -0,0 +1,230 @@
+package com.spring.mvc.base.application.post.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.application.common.cache.PageCountCache;
+import com.spring.mvc.base.application.post.config.PostImportProperties;
+import com.spring.mvc.base.application.post.dto.request.PostImportRequest;
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse;
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse.RowError;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.search.PostSearchIndex;
+import com.spring.mvc.base.common.exception.code.MemberErrorCode;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.entity.MemberStatus;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.dto.PostSearchDocument;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 대량 등록 (이전 블로그 이관용)
+ * NDJSON 본문을 한 줄씩 읽어 검증하고, chunkSize 단위 트랜잭션으로 저장한다.
+ * 묶음마다 회원 조회와 태그 upsert를 한 번씩만 실행하며, 게시글/게시글 태그/목록 읽기 모델은
+ * Snowflake ID라 INSERT 전에 DB 왕복이 없으므로 Hibernate JDBC 배치(hibernate.jdbc.batch_size)로 묶여 저장된다.
+ * 잘못된 행은 건너뛰고 줄 번호와 사유를 모아 반환한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    private static final String INVALID_JSON = "JSON 형식이 올바르지 않습니다";
+    private static final String CHUNK_FAILED = "저장 중 오류가 발생해 같은 묶음의 행과 함께 취소되었습니다";
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostTagService postTagService;
+    private final PostImageService postImageService;
+    private final PostFeedWriter postFeedWriter;
+    private final PostSearchIndex postSearchIndex;
+    private final PageCountCache pageCountCache;
+    private final PostImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public PostImportResponse importPosts(InputStream body) {
+        long startedAt = System.currentTimeMillis();
+        int chunkSize = properties.getChunkSize();
+        ImportResult result = new ImportResult(properties.getMaxErrors());
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                result.total++;
+                parse(lineNumber, line, result).ifPresent(chunk::add);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, result);
+        }
+        if (result.imported > 0) {
+            pageCountCache.evictByPrefix(PostService.POST_COUNT_KEY_PREFIX);
+        }
+
+        log.info("게시글 대량 등록 완료: total={}, imported={}, failed={}, elapsed={}ms",
+                result.total, result.imported, result.failed, System.currentTimeMillis() - startedAt);
+        return result.toResponse();
+    }
+
+    private Optional<ImportRow> parse(long line, String json, ImportResult result) {
+        PostImportRequest request;
+        try {
+            request = objectMapper.readValue(json, PostImportRequest.class);
+        } catch (JsonProcessingException e) {
+            result.fail(line, INVALID_JSON);
+            return Optional.empty();
+        }
+
+        Set<ConstraintViolation<PostImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<PostImportRequest> violation = violations.iterator().next();
+            result.fail(line, violation.getPropertyPath() + ": " + violation.getMessage());
+            return Optional.empty();
+        }
+
+        try {
+            List<String> tags = request.post().tags() != null ? request.post().tags() : List.of();
+            List<String> tagNames = postTagService.normalizeTagNames(tags.stream().filter(Objects::nonNull).toList());
+            return Optional.of(new ImportRow(line, request, tagNames));
+        } catch (IllegalArgumentException e) {
+            result.fail(line, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 묶음 하나를 한 트랜잭션으로 저장한다
+     * DB 오류로 롤백되면 이미 걸러진 행을 뺀 나머지를 모두 실패로 기록한다.
+     */
+    private void writeChunk(List<ImportRow> rows, ImportResult result) {
+        Set<ImportRow> rejected = new HashSet<>();
+        Map<Post, List<String>> tagNamesByPost = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                buildPosts(rows, tagNamesByPost, rejected, result);
+                List<Post> posts = List.copyOf(tagNamesByPost.keySet());
+
+                postRepository.saveAll(posts);
+                postTagService.createPostTagsInBatch(tagNamesByPost);
+                postImageService.createPostImagesInBatch(posts);
+                postFeedWriter.postsCreated(posts);
+                entityManager.flush();
+            });
+        } catch (RuntimeException e) {
+            log.warn("게시글 대량 등록 묶음 저장 실패: rows={}, message={}", rows.size(), e.getMessage());
+            rows.stream()
+                    .filter(row -> !rejected.contains(row))
+                    .forEach(row -> result.fail(row.line(), CHUNK_FAILED));
+            return;
+        } finally {
+            // 요청 범위 영속성 컨텍스트에 묶음이 계속 쌓이지 않도록 비운다
+            entityManager.clear();
+        }
+
+        result.imported += tagNamesByPost.size();
+        postSearchIndex.indexAll(tagNamesByPost.keySet().stream()
+                .map(post -> new PostSearchDocument(post.getId(), post.getTitle(), post.getContent()))
+                .toList());
+    }
+
+    /**
+     * 묶음의 작성자를 한 번에 조회해 게시글을 만든다 (작성자가 없거나 도메인 검증에 실패한 행은 제외)
+     */
+    private void buildPosts(
+            List<ImportRow> rows,
+            Map<Post, List<String>> tagNamesByPost,
+            Set<ImportRow> rejected,
+            ImportResult result
+    ) {
+        Set<Long> memberIds = rows.stream()
+                .map(row -> row.request().memberId())
+                .collect(Collectors.toSet());
+        Map<Long, Member> members = memberRepository.findAllByIdInAndStatus(memberIds, MemberStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        for (ImportRow row : rows) {
+            Member member = members.get(row.request().memberId());
+            if (member == null) {
+                rejected.add(row);
+                result.fail(row.line(), MemberErrorCode.USER_NOT_FOUND.getMessage());
+                continue;
+            }
+
+            try {
+                tagNamesByPost.put(PostService.newPost(member, row.request().post()), row.tagNames());
+            } catch (IllegalArgumentException e) {
+                rejected.add(row);
+                result.fail(row.line(), e.getMessage());
+            }
+        }
+    }
+
+    private record ImportRow(long line, PostImportRequest request, List<String> tagNames) {
+    }
+
+    private static final class ImportResult {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportResult(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String reason) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, reason));
+            }
+        }
+
+        private PostImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(RowError::line));
+            return new PostImportResponse(total, imported, failed, List.copyOf(errors));
+        }
+    }
+}
@@ -1,59 +1,57 @@
 package com.spring.mvc.base.application.post.service;
 
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.application.post.like.PostLikeWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
 import com.spring.mvc.base.common.exception.BusinessException;
-import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
-import com.spring.mvc.base.domain.member.entity.Member;
-import com.spring.mvc.base.domain.member.repository.MemberRepository;
-import com.spring.mvc.base.domain.post.entity.Post;
-import com.spring.mvc.base.domain.post.entity.PostLike;
-import com.spring.mvc.base.domain.post.policy.PostLikePolicy;
-import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 좋아요 상태는 Redis 집합에서 원자적으로 변경하고, DB 반영은 {@link PostLikeWriter}가 비동기로 처리한다
+ */
 @Service
 @RequiredArgsConstructor
 public class PostLikeService {
 
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final MemberRepository memberRepository;
-    private final PostLikePolicy postLikePolicy;
+    private final PostLikeStore postLikeStore;
+    private final PostLikeWriter postLikeWriter;
+    private final TrendingPosts trendingPosts;
 
     /**
      * 게시글 좋아요
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void likePost(Long postId, Long memberId) {
-        Post post = postRepository.findByIdWithMember(postId)
-                .orElseThrow(() -> new BusinessException(PostErrorCode.POST_NOT_FOUND));
+        validatePostExists(postId);
 
-        if (!memberRepository.existsById(memberId)) {
-            throw new BusinessException(MemberErrorCode.USER_NOT_FOUND);
+        if (!postLikeStore.like(postId, memberId)) {
+            throw new BusinessException(PostErrorCode.ALREADY_LIKED);
         }
-
-        postLikePolicy.validateCanLike(postId, memberId);
-
-        Member member = memberRepository.getReferenceById(memberId);
-        postLikeRepository.save(PostLike.create(post, member));
-        postRepository.incrementLikeCount(postId);
+        postLikeWriter.liked(postId, memberId);
+        trendingPosts.recordLike(postId);
     }
 
     /**
      * 게시글 좋아요 취소
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void unlikePost(Long postId, Long memberId) {
-        if(!postRepository.existsById(postId)){
-            throw new BusinessException(PostErrorCode.POST_NOT_FOUND);
-        }
-        postLikePolicy.validateCanUnlike(postId, memberId);
+        validatePostExists(postId);
 
-        postLikeRepository.deleteByPostIdAndMemberId(postId, memberId);
-        postRepository.decrementLikeCount(postId);
+        if (!postLikeStore.unlike(postId, memberId)) {
+            throw new BusinessException(PostErrorCode.LIKE_NOT_FOUND);
+        }
+        postLikeWriter.unliked(postId, memberId);
     }
 
+    private void validatePostExists(Long postId) {
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new BusinessException(PostErrorCode.POST_NOT_FOUND);
+        }
+    }
 }
@@ -1,27 +1,51 @@
 package com.spring.mvc.base.application.post.service;
 
+import com.spring.mvc.base.application.common.cache.PageCountCache;
 import com.spring.mvc.base.application.common.dto.response.PageResponse;
 import com.spring.mvc.base.application.file.service.FileService;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
+import com.spring.mvc.base.application.post.dto.request.PostSearchRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.dto.response.PostBatchResponse;
 import com.spring.mvc.base.application.post.dto.response.PostResponse;
 import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.application.post.search.PostSearchIndex;
+import com.spring.mvc.base.application.post.search.PostTagBitmapIndex;
+import com.spring.mvc.base.application.post.view.PostViewCounter;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
-import com.spring.mvc.base.common.utils.MarkdownImageExtractor;
+import com.spring.mvc.base.common.web.ResourceVersion;
 import com.spring.mvc.base.domain.common.policy.OwnershipPolicy;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.dto.PostCursor;
 import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
 import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
 import com.spring.mvc.base.domain.post.entity.Post;
-import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.infra.search.config.SearchProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +56,22 @@ public class PostService {
     private final MemberRepository memberRepository;
     private final FileService fileService;
     private final OwnershipPolicy ownershipPolicy;
-    private final PostLikeRepository postLikeRepository;
+    private final PostLikeStore postLikeStore;
     private final PostTagService postTagService;
+    private final PostImageService postImageService;
+    private final PostDetailsCache postDetailsCache;
+    private final PageCountCache pageCountCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTagBitmapIndex postTagBitmapIndex;
+    private final SearchProperties searchProperties;
+    private final PostViewCounter postViewCounter;
+    private final PostFeedWriter postFeedWriter;
+
+    static final String POST_COUNT_KEY_PREFIX = "post:";
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final int MAX_BATCH_SIZE = 100;
+    // ID가 작성 순서대로 증가하므로 작성일 정렬도 비트맵의 ID 순서로 페이징할 수 있다
+    private static final Set<String> ID_ORDERED_SORTS = Set.of("id", "createdAt");
 
     /**
      * 게시글 생성
@@ -42,6 +80,23 @@ public class PostService {
     public PostResponse createPost(PostCreateRequest request, Long memberId) {
         Member member = findMemberById(memberId);
 
+        Post post = newPost(member, request);
+
+        Post savedPost = postRepository.save(post);
+        postTagService.createPostTags(savedPost, request.tags())
+                .forEach(savedPost::addPostTag);
+        postImageService.createPostImages(savedPost);
+        postFeedWriter.postCreated(savedPost);
+        pageCountCache.evictByPrefix(POST_COUNT_KEY_PREFIX);
+        postSearchIndex.index(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+
+        return PostResponse.of(savedPost, member, null);
+    }
+
+    /**
+     * 요청 값으로 저장 전 게시글을 만든다 (단건 생성과 대량 등록이 같은 규칙을 쓰도록)
+     */
+    static Post newPost(Member member, PostCreateRequest request) {
         Post post = Post.create(member, request.title(), request.content());
 
         if (request.summary() != null) {
@@ -67,10 +122,7 @@ public class PostService {
             post.updateImageUrl(request.image());
         }
 
-        Post savedPost = postRepository.save(post);
-        postTagService.createPostTags(savedPost, request.tags());
-
-        return PostResponse.of(savedPost, member, null);
+        return post;
     }
 
     /**
@@ -109,6 +161,13 @@ public class PostService {
         Post savedPost = postRepository.save(post);
 
         postTagService.updatePostTags(savedPost, request.tags());
+        if (request.content() != null) {
+            postImageService.updatePostImages(savedPost);
+        }
+        postFeedWriter.postUpdated(savedPost);
+        postDetailsCache.evict(postId);
+        pageCountCache.evictByPrefix(POST_COUNT_KEY_PREFIX);
+        postSearchIndex.index(postId, savedPost.getTitle(), savedPost.getContent());
 
         return PostResponse.of(savedPost, member, null);
     }
@@ -121,42 +180,107 @@ public class PostService {
         Post post = findByIdWithMember(postId);
         ownershipPolicy.validateOwnership(post.getMember().getId(), memberId);
 
-        List<String> imageUrls = MarkdownImageExtractor.extractImageUrls(post.getContent());
-        imageUrls.forEach(fileService::deleteFileByUrl);
+        // 본문을 다시 파싱하지 않고 작성 시 저장해 둔 post_image 연결로 한 번에 삭제 표시한다
+        fileService.deleteFilesOfPost(postId);
 
         post.delete();
         postRepository.save(post);
+        postFeedWriter.postDeleted(postId);
+        postDetailsCache.evict(postId);
+        postLikeStore.evict(postId);
+        pageCountCache.evictByPrefix(POST_COUNT_KEY_PREFIX);
+        postSearchIndex.remove(postId);
+        postTagBitmapIndex.remove(postId);
     }
 
     /**
      * 게시글 조회
+     * 캐시 미스 시 게시글(+작성자, 시리즈) 한 번, 태그명 한 번으로 응답을 만든다 (지연 로딩 없음)
      */
     @Transactional(readOnly = true)
     public PostResponse getPostDetails(Long postId, Long memberId) {
-        Post post = findByIdWithMember(postId);
+        return getPostDetails(postId, memberId, version -> false).orElseThrow();
+    }
 
-        Member member = post.getMember();
+    /**
+     * 조건부 게시글 조회
+     * 캐시된 상세의 버전/수정 시각, 댓글 수, 작성자 정보, 회원의 좋아요 여부로 약한 ETag를 먼저 만들고,
+     * notModified가 true를 반환하면(클라이언트 사본이 최신) 응답을 만들지 않고 empty를 반환한다.
+     * 조회수와 좋아요 수는 인기 게시글에서 요청마다 바뀌어 304가 거의 나지 않으므로 ETag에서 뺀다 (304면 이전 값이 보인다).
+     * 댓글 수와 작성자 정보는 바뀔 때 상세 캐시가 무효화되므로 ETag에 최신 값이 담긴다.
+     * 이 값들은 updated_at을 바꾸지 않으므로 Last-Modified는 보내지 않는다 (If-Modified-Since만으로 304가 나가지 않도록).
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostResponse> getPostDetails(Long postId, Long memberId, Predicate<ResourceVersion> notModified) {
+        PostResponse response = postDetailsCache.get(postId, () -> {
+            Post post = postRepository.findDetailById(postId)
+                    .orElseThrow(() -> new BusinessException(PostErrorCode.POST_NOT_FOUND));
+            List<String> tagNames = postTagService.getTagNames(List.of(postId)).getOrDefault(postId, List.of());
+            return PostResponse.of(post, post.getMember(), null, tagNames);
+        });
 
         boolean isLiked = false;
-        if(memberId != null && postLikeRepository.existsByPostIdAndMemberId(postId, memberId)){
+        if(memberId != null && postLikeStore.isLiked(postId, memberId)){
             isLiked = true;
         }
 
-        return PostResponse.of(post, member, null, isLiked);
+        ResourceVersion resourceVersion = ResourceVersion.weak(
+                null,
+                "p" + postId,
+                response.version(),
+                response.updatedAt() != null ? response.updatedAt().toEpochMilli() : null,
+                response.commentCount(),
+                isLiked ? 1 : 0,
+                Integer.toHexString(Objects.hash(response.member().nickname(), response.member().profileImage()))
+        );
+        if (notModified.test(resourceVersion)) {
+            return Optional.empty();
+        }
+
+        // 좋아요 수는 DB 반영이 비동기이므로 Redis 집합 기준으로 응답한다 (Redis 장애 시 post.like_count)
+        long likeCount = postLikeStore.getLikeCount(postId, Objects.requireNonNullElse(response.likeCount(), 0L));
+        long pendingViews = postViewCounter.getPendingCount(postId);
+
+        return Optional.of(response.withLiked(isLiked)
+                .withLikeCount(likeCount)
+                .withPendingViews(pendingViews));
     }
 
     /**
-     * 게시글 페이지 조회 (+페이징 및 정렬)
+     * 게시글 일괄 조회 (요청 순서 유지, 조회수 증가 없음)
+     * 캐시에 없는 게시글만 id IN (...) 한 번과 태그 일괄 조회로 채우고, 좋아요 상태는 파이프라인 한 번으로 확인한다.
+     * 없거나 삭제된 게시글은 missingIds로 알려준다.
      */
     @Transactional(readOnly = true)
-    public PageResponse<PostSummaryResponse> getPostPage(Pageable pageable) {
-        Page<PostSummaryQueryDto> postDtoPage = postRepository.searchPosts(PostSearchCondition.empty(), pageable);
+    public PostBatchResponse getPostDetailsBatch(List<Long> postIds, Long memberId) {
+        List<Long> ids = normalizeBatchIds(postIds);
+        Map<Long, PostResponse> responses = postDetailsCache.getAll(ids, this::loadPostDetails);
 
-        List<PostSummaryResponse> postSummaries = postDtoPage.getContent().stream()
-                .map(PostSummaryResponse::fromDto)
+        List<Long> foundIds = ids.stream().filter(responses::containsKey).toList();
+        Map<Long, Long> persistedLikeCounts = foundIds.stream()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        postId -> Objects.requireNonNullElse(responses.get(postId).likeCount(), 0L)));
+        Map<Long, PostLikeStore.LikeStatus> likeStatuses =
+                postLikeStore.getLikeStatuses(foundIds, memberId, persistedLikeCounts);
+
+        List<PostResponse> items = foundIds.stream()
+                .map(postId -> responses.get(postId)
+                        .withLiked(likeStatuses.get(postId).liked())
+                        .withLikeCount(likeStatuses.get(postId).likeCount())
+                        .withPendingViews(postViewCounter.getPendingCount(postId)))
                 .toList();
+        List<Long> missingIds = ids.stream().filter(postId -> !responses.containsKey(postId)).toList();
+
+        return new PostBatchResponse(items, missingIds);
+    }
 
-        return PageResponse.of(postSummaries, postDtoPage);
+    /**
+     * 게시글 페이지 조회 (+페이징 및 정렬)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> getPostPage(Pageable pageable) {
+        return searchPostPage(PostSearchCondition.empty(), pageable);
     }
 
     /**
@@ -164,13 +288,209 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public PageResponse<PostSummaryResponse> getPostPageByTags(List<String> tags, Pageable pageable) {
-        Page<PostSummaryQueryDto> postDtoPage = postRepository.searchPosts(PostSearchCondition.forTags(tags), pageable);
+        return searchPostPage(new PostSearchRequest(null, tags, null, null), pageable);
+    }
+
+    /**
+     * 키워드 / 태그(OR, AND, NOT) 검색 (+페이징 및 정렬)
+     * 키워드는 검색 색인, 태그 식은 태그 비트맵으로 후보 게시글을 계산하고,
+     * 색인을 사용할 수 없으면 LIKE 검색과 태그 서브쿼리로 대체한다.
+     * sort=relevance 이면 BM25 관련도 순으로 정렬한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> searchPostPage(PostSearchRequest request, Pageable pageable) {
+        PostSearchCondition condition = resolveKeywordCondition(request.toCondition());
+        Optional<Roaring64Bitmap> tagMatches = evaluateTags(condition);
+
+        // 키워드가 있으면 색인이 답하지 못했더라도(준비 전, 토큰 없음) 키워드 조건을 잃지 않도록 비트맵만으로 조회하지 않는다
+        if (tagMatches.isPresent() && condition.keyword() == null && isIdOrdered(pageable.getSort())) {
+            return searchPostPageByBitmap(tagMatches.get(), pageable);
+        }
+
+        condition = resolveTagCondition(condition, tagMatches);
+        if (condition.keyword() != null && condition.hasPostIds()
+                && pageable.getSort().getOrderFor(RELEVANCE_SORT) != null) {
+            return searchPostPageByRelevance(condition, pageable);
+        }
+
+        return searchPostPage(condition, pageable);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 (OFFSET/COUNT 없이 다음 페이지 조회)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> getPostPageByCursor(String cursor, PostSearchRequest request, int size) {
+        PostCursor postCursor = PostCursor.decode(cursor)
+                .orElseThrow(() -> new BusinessException(PostErrorCode.INVALID_CURSOR));
+        PostSearchCondition condition = resolveKeywordCondition(request.toCondition());
+        condition = resolveTagCondition(condition, evaluateTags(condition));
+
+        List<PostSummaryQueryDto> rows = postRepository.searchPostsByCursor(condition, postCursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<PostSummaryQueryDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? postCursor.next(content.getLast()).encode() : null;
+
+        return PageResponse.ofCursor(toSummaries(content), size, hasNext, nextCursor);
+    }
+
+    private PageResponse<PostSummaryResponse> searchPostPage(PostSearchCondition condition, Pageable pageable) {
+        Page<PostSummaryQueryDto> postDtoPage = pageCountCache.load(
+                POST_COUNT_KEY_PREFIX + condition.countKey(),
+                pageable,
+                limit -> postRepository.searchPostSummaries(condition, pageable, limit),
+                () -> postRepository.countPosts(condition)
+        );
+        return PageResponse.of(toSummaries(postDtoPage.getContent()), postDtoPage, nextCursorOf(postDtoPage, pageable));
+    }
 
-        List<PostSummaryResponse> postSummaries = postDtoPage.getContent().stream()
+    /**
+     * 태그 비트맵의 ID 순서로 페이지에 해당하는 게시글 ID만 골라 DB에서 조회한다 (COUNT 쿼리 없음)
+     */
+    private PageResponse<PostSummaryResponse> searchPostPageByBitmap(Roaring64Bitmap matched, Pageable pageable) {
+        long total = matched.getLongCardinality();
+        boolean ascending = pageable.getSort().iterator().next().isAscending();
+
+        long from = Math.min(pageable.getOffset(), total);
+        long to = Math.min(from + pageable.getPageSize(), total);
+        List<Long> pageIds = new ArrayList<>((int) (to - from));
+        for (long rank = from; rank < to; rank++) {
+            pageIds.add(matched.select(ascending ? rank : total - 1 - rank));
+        }
+
+        List<PostSummaryQueryDto> content = pageIds.isEmpty()
+                ? List.of()
+                : postRepository.searchPostSummaries(
+                        PostSearchCondition.forPostIds(pageIds),
+                        PageRequest.of(0, pageIds.size(), pageable.getSort()),
+                        pageIds.size());
+        Page<PostSummaryQueryDto> page = new PageImpl<>(content, pageable, total);
+
+        return PageResponse.of(toSummaries(content), page, nextCursorOf(page, pageable));
+    }
+
+    /**
+     * 색인 후보는 최대 후보 수로 제한되므로 DB에서 한 번에 조회한 뒤 관련도 순으로 잘라낸다
+     */
+    private PageResponse<PostSummaryResponse> searchPostPageByRelevance(
+            PostSearchCondition condition, Pageable pageable
+    ) {
+        List<Long> rankedIds = condition.postIds();
+        if (rankedIds.isEmpty()) {
+            return PageResponse.of(List.of(), Page.empty(pageable));
+        }
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            ranks.put(rankedIds.get(i), i);
+        }
+
+        List<PostSummaryQueryDto> matched = postRepository.searchPostSummaries(
+                        condition, PageRequest.of(0, rankedIds.size()), rankedIds.size())
+                .stream()
+                .sorted(Comparator.comparing(dto -> ranks.get(dto.postId())))
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        Page<PostSummaryQueryDto> page = new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+
+        return PageResponse.of(toSummaries(page.getContent()), page);
+    }
+
+    /**
+     * 키워드가 있으면 검색 색인의 후보 게시글 ID로 조건을 바꾼다
+     */
+    private PostSearchCondition resolveKeywordCondition(PostSearchCondition condition) {
+        if (condition.keyword() == null) {
+            return condition;
+        }
+
+        return postSearchIndex.search(condition.keyword())
+                .map(condition::withPostIds)
+                .orElse(condition);
+    }
+
+    private Optional<Roaring64Bitmap> evaluateTags(PostSearchCondition condition) {
+        return condition.hasTagFilter() ? postTagBitmapIndex.evaluate(condition) : Optional.empty();
+    }
+
+    /**
+     * 태그 비트맵 결과로 후보 게시글 ID를 좁힌다
+     * 키워드 후보가 있으면 교집합을, 없으면 최대 후보 수 이하일 때만 ID 목록으로 바꾸고 그 외에는 DB 서브쿼리를 사용한다
+     * 색인이 답하지 못한 키워드는 ID 목록이 생기면 LIKE 조건이 빠지므로 DB 서브쿼리를 그대로 사용한다.
+     */
+    private PostSearchCondition resolveTagCondition(
+            PostSearchCondition condition, Optional<Roaring64Bitmap> tagMatches
+    ) {
+        if (tagMatches.isEmpty()) {
+            return condition;
+        }
+
+        Roaring64Bitmap matched = tagMatches.get();
+        if (condition.hasPostIds()) {
+            return condition.withPostIds(condition.postIds().stream()
+                    .filter(matched::contains)
+                    .toList());
+        }
+
+        if (condition.keyword() != null || matched.getLongCardinality() > searchProperties.getMaxCandidates()) {
+            return condition;
+        }
+
+        List<Long> postIds = new ArrayList<>((int) matched.getLongCardinality());
+        matched.forEach(postIds::add);
+        return condition.withPostIds(postIds);
+    }
+
+    private boolean isIdOrdered(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && ID_ORDERED_SORTS.contains(orders.getFirst().getProperty());
+    }
+
+    /**
+     * OFFSET 조회 결과에서 이어서 커서 조회를 할 수 있도록 다음 커서를 만든다
+     */
+    private String nextCursorOf(Page<PostSummaryQueryDto> page, Pageable pageable) {
+        if (!page.hasNext() || !page.hasContent()) {
+            return null;
+        }
+
+        return PostCursor.firstPageOf(pageable.getSort())
+                .map(cursor -> cursor.next(page.getContent().getLast()).encode())
+                .orElse(null);
+    }
+
+    private List<PostSummaryResponse> toSummaries(List<PostSummaryQueryDto> dtos) {
+        return dtos.stream()
                 .map(PostSummaryResponse::fromDto)
                 .toList();
+    }
+
+    private List<Long> normalizeBatchIds(List<Long> postIds) {
+        List<Long> ids = postIds == null ? List.of() : postIds.stream()
+                .filter(id -> id != null)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            throw new BusinessException(PostErrorCode.BATCH_IDS_REQUIRED);
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(PostErrorCode.BATCH_IDS_TOO_MANY);
+        }
+        return ids;
+    }
+
+    private Map<Long, PostResponse> loadPostDetails(List<Long> postIds) {
+        List<Post> posts = postRepository.findAllWithMemberByIdIn(postIds);
+        Map<Long, List<String>> tagNames = postTagService.getTagNames(posts.stream().map(Post::getId).toList());
 
-        return PageResponse.of(postSummaries, postDtoPage);
+        Map<Long, PostResponse> responses = new HashMap<>();
+        posts.forEach(post -> responses.put(
+                post.getId(),
+                PostResponse.of(post, post.getMember(), null, tagNames.getOrDefault(post.getId(), List.of()))
+        ));
+        return responses;
     }
 
     private Post findByIdWithMember(Long postId) {
@@ -1,8 +1,16 @@
 package com.spring.mvc.base.application.post.service;
 
+import com.spring.mvc.base.application.post.dto.response.PopularTagResponse;
+import com.spring.mvc.base.application.post.search.PostTagBitmapIndex;
+import com.spring.mvc.base.application.post.tag.TagDictionary;
+import com.spring.mvc.base.application.post.tag.TrendingTags;
+import com.spring.mvc.base.application.post.tag.TrendingWindow;
+import com.spring.mvc.base.domain.post.dto.PostTagName;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
 import com.spring.mvc.base.domain.post.entity.Post;
 import com.spring.mvc.base.domain.post.entity.PostTag;
 import com.spring.mvc.base.domain.post.entity.Tag;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
 import com.spring.mvc.base.domain.post.repository.TagRepository;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -19,87 +27,115 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostTagService {
 
     private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagDictionary tagDictionary;
+    private final PostTagBitmapIndex postTagBitmapIndex;
+    private final TrendingTags trendingTags;
 
     /**
-     * 게시글의 Tag들을 저장합니다 (Bulk Update)
+     * 게시글의 Tag들을 저장합니다 (Bulk Upsert)
+     * 태그 생성/사용 수 증가는 upsert 한 번으로 처리하고, 태그 엔티티는 조회하지 않는다.
      */
     @Transactional
     public List<PostTag> createPostTags(Post post, List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return new ArrayList<>();
-        }
+        List<String> normalizedNames = normalizeTagNames(tagNames != null ? tagNames : List.of());
+        // 태그가 없는 게시글도 NOT 조건 대상이 되도록 비트맵에 등록한다
+        postTagBitmapIndex.addTags(post.getId(), normalizedNames);
 
-        List<String> normalizedNames = normalizeTagNames(tagNames);
         if (normalizedNames.isEmpty()) {
             return new ArrayList<>();
         }
 
-        Map<String, Tag> tags = getOrCreateTags(normalizedNames);
-
-        List<Long> tagIds = normalizedNames.stream()
-                .map(tags::get)
-                .map(Tag::getId)
-                .toList();
-
-        if (!tagIds.isEmpty()) {
-            tagRepository.bulkIncrementUsageCount(tagIds);
-        }
+        trendingTags.record(normalizedNames);
+        return createPostTagsOf(post, normalizedNames);
+    }
 
-        return normalizedNames.stream()
-                .map(tags::get)
-                .map(tag -> PostTag.create(post, tag))
-                .collect(Collectors.toList());
+    /**
+     * 여러 게시글의 Tag들을 한 번에 저장합니다 (대량 등록)
+     * 태그명은 normalizeTagNames로 정규화된 값이어야 하며, 태그 upsert/ID 조회는 게시글마다가 아니라 묶음 전체에 한 번씩 실행한다.
+     * 생성한 PostTag는 게시글 컬렉션에 추가되어 flush 시 cascade로 함께 배치 INSERT 된다.
+     */
+    @Transactional
+    public void createPostTagsInBatch(Map<Post, List<String>> normalizedNamesByPost) {
+        Map<String, Long> usageCounts = normalizedNamesByPost.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.groupingBy(name -> name, Collectors.counting()));
+        Map<String, Long> tagIds = usageCounts.isEmpty() ? Map.of() : tagDictionary.acquire(usageCounts);
+
+        normalizedNamesByPost.forEach((post, names) -> {
+            postTagBitmapIndex.addTags(post.getId(), names);
+            names.forEach(name -> post.addPostTag(
+                    PostTag.create(post, tagRepository.getReferenceById(tagIds.get(name)))));
+            trendingTags.record(names);
+        });
     }
 
     /**
-     * 게시글의 Tag들을 저장합니다 (Bulk Update)
+     * 게시글의 Tag들을 저장합니다 (Bulk Upsert)
+     * 게시글의 postTags 컬렉션은 로드하지 않고 DB의 태그 ID/이름만 조회해 비교한다.
      */
     @Transactional
     public void updatePostTags(Post post, List<String> newTagNames) {
-        Set<String> oldTagNames = post.getPostTags().stream()
-                .map(postTag -> postTag.getTag().getName())
-                .collect(Collectors.toSet());
+        Map<String, Long> oldTagIds = postTagRepository.findTagIdNamesByPostId(post.getId()).stream()
+                .collect(Collectors.toMap(TagIdName::name, TagIdName::id));
 
         List<String> normalizedNewNames = normalizeTagNames(newTagNames != null ? newTagNames : List.of());
         Set<String> newTagNameSet = new HashSet<>(normalizedNewNames);
 
-        Set<String> tagsToRemove = new HashSet<>(oldTagNames);
+        Set<String> tagsToRemove = new HashSet<>(oldTagIds.keySet());
         tagsToRemove.removeAll(newTagNameSet);
 
-        Set<String> tagsToAdd = new HashSet<>(newTagNameSet);
-        tagsToAdd.removeAll(oldTagNames);
+        List<String> tagsToAdd = normalizedNewNames.stream()
+                .filter(name -> !oldTagIds.containsKey(name))
+                .toList();
 
         if (!tagsToRemove.isEmpty()) {
-            List<Long> tagIdsToDecrement = post.getPostTags().stream()
-                    .filter(postTag -> tagsToRemove.contains(postTag.getTag().getName()))
-                    .map(postTag -> postTag.getTag().getId())
+            List<Long> tagIdsToRemove = tagsToRemove.stream()
+                    .map(oldTagIds::get)
                     .toList();
 
-            if (!tagIdsToDecrement.isEmpty()) {
-                tagRepository.bulkDecrementUsageCount(tagIdsToDecrement);
-            }
-
-            post.getPostTags().removeIf(postTag -> tagsToRemove.contains(postTag.getTag().getName()));
+            postTagRepository.deleteByPostIdAndTagIdIn(post.getId(), tagIdsToRemove);
+            tagRepository.bulkDecrementUsageCount(tagIdsToRemove);
+            postTagBitmapIndex.removeTags(post.getId(), tagsToRemove);
         }
 
         if (!tagsToAdd.isEmpty()) {
-            List<String> addNames = new ArrayList<>(tagsToAdd);
-            Map<String, Tag> tags = getOrCreateTags(addNames);
-
-            List<Long> tagIdsToIncrement = addNames.stream()
-                    .map(tags::get)
-                    .map(Tag::getId)
-                    .toList();
+            // 초기화되지 않은 컬렉션에 추가하면 로드 없이 큐에 쌓였다가 cascade로 저장된다
+            createPostTagsOf(post, tagsToAdd).forEach(post::addPostTag);
+            // 응답에서 postTags 컬렉션을 처음 읽을 때 새 행이 보이도록 바로 반영한다
+            postTagRepository.flush();
+            postTagBitmapIndex.addTags(post.getId(), tagsToAdd);
+            trendingTags.record(tagsToAdd);
+        }
+    }
 
-            if (!tagIdsToIncrement.isEmpty()) {
-                tagRepository.bulkIncrementUsageCount(tagIdsToIncrement);
-            }
+    /**
+     * 구간별 인기 태그 (DB 조회 없이 메모리 집계에서 응답한다)
+     */
+    public List<PopularTagResponse> getPopularTags(TrendingWindow window, int limit) {
+        return trendingTags.top(window, limit).stream()
+                .map(entry -> new PopularTagResponse(
+                        tagDictionary.find(entry.key()).orElse(null),
+                        entry.key(),
+                        entry.count()
+                ))
+                .toList();
+    }
 
-            addNames.forEach(name -> {
-                Tag tag = tags.get(name);
-                post.addPostTag(PostTag.create(post, tag));
-            });
+    /**
+     * 여러 게시글의 태그명을 한 번에 조회한다 (게시글마다 태그 컬렉션을 초기화하지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getTagNames(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
         }
+
+        return postTagRepository.findTagNamesByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagName::postId,
+                        Collectors.mapping(PostTagName::tagName, Collectors.toList())
+                ));
     }
 
     /**
@@ -110,28 +146,21 @@ public class PostTagService {
         return tagRepository.findTopByUsageCount(limit);
     }
 
-    private List<String> normalizeTagNames(List<String> tagNames) {
-        return tagNames.stream()
+    List<String> normalizeTagNames(List<String> tagNames) {
+        List<String> normalized = tagNames.stream()
                 .map(name -> name.trim().toLowerCase())
                 .filter(name -> !name.isEmpty())
                 .distinct()
                 .toList();
+        normalized.forEach(Tag::validateName);
+        return normalized;
     }
 
-    private Map<String, Tag> getOrCreateTags(List<String> normalizedNames) {
-        Map<String, Tag> existingTags = tagRepository.findByNameIn(normalizedNames).stream()
-                .collect(Collectors.toMap(Tag::getName, tag -> tag));
-
-        List<Tag> newTags = normalizedNames.stream()
-                .filter(name -> !existingTags.containsKey(name))
-                .map(Tag::create)
-                .toList();
-
-        if (!newTags.isEmpty()) {
-            List<Tag> savedNewTags = tagRepository.saveAll(newTags);
-            savedNewTags.forEach(tag -> existingTags.put(tag.getName(), tag));
-        }
+    private List<PostTag> createPostTagsOf(Post post, List<String> normalizedNames) {
+        Map<String, Long> tagIds = tagDictionary.acquire(normalizedNames);
 
-        return existingTags;
+        return normalizedNames.stream()
+                .map(name -> PostTag.create(post, tagRepository.getReferenceById(tagIds.get(name))))
+                .collect(Collectors.toList());
     }
 }
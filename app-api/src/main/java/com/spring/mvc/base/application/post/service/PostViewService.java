@@ -1,6 +1,10 @@
 package com.spring.mvc.base.application.post.service;
 
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
 import com.spring.mvc.base.application.post.dto.ViewContext;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
+import com.spring.mvc.base.application.post.view.PostViewCounter;
 import com.spring.mvc.base.domain.post.policy.ViewCountPolicy;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,15 +18,27 @@ public class PostViewService {
 
     private final PostRepository postRepository;
     private final ViewCountPolicy viewCountPolicy;
+    private final PostViewCounter postViewCounter;
+    private final ViewCountProperties viewCountProperties;
+    private final TrendingPosts trendingPosts;
+    private final PostFeedWriter postFeedWriter;
 
     /**
      * 조회수 증가
+     * write-behind 모드에서는 메모리에 누적하고 주기적으로 DB에 반영한다
      */
     @Transactional
     public void incrementViewCount(Long postId, ViewContext context) {
         if (!viewCountPolicy.shouldCount(postId, context)) {
             return;
         }
+        trendingPosts.recordView(postId);
+
+        if (viewCountProperties.isWriteBehind()) {
+            postViewCounter.increment(postId);
+            return;
+        }
         postRepository.incrementViewCount(postId);
+        postFeedWriter.countersChanged(postId);
     }
 }
@@ -0,0 +1,83 @@
+package com.spring.mvc.base.application.post.service;
+
+import com.spring.mvc.base.application.common.constant.PaginationConstants;
+import com.spring.mvc.base.application.common.dto.response.PageResponse;
+import com.spring.mvc.base.application.post.config.TrendingPostProperties;
+import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
+import com.spring.mvc.base.application.post.trending.TrendingCursor;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
+import com.spring.mvc.base.common.exception.BusinessException;
+import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
+import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingPostService {
+
+    private final TrendingPosts trendingPosts;
+    private final PostRepository postRepository;
+    private final TrendingPostProperties properties;
+
+    /**
+     * 인기 게시글 목록 (커서 기반)
+     * Redis에서 순위 한 페이지를 가져온 뒤 게시글은 id IN (...) 한 번으로 조회해 순위대로 정렬한다.
+     * 삭제된 게시글은 점수가 남아 있어도 응답에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> getTrendingPosts(String cursor, Integer size) {
+        TrendingCursor position = cursor != null
+                ? TrendingCursor.decode(cursor).orElseThrow(() -> new BusinessException(PostErrorCode.INVALID_CURSOR))
+                : null;
+        int pageSize = Math.min(
+                size != null && size > 0 ? size : PaginationConstants.DEFAULT_SIZE,
+                properties.getMaxPageSize());
+
+        TrendingPosts.Page page;
+        try {
+            page = trendingPosts.find(position, pageSize);
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 순위 조회 실패: {}", e.getMessage());
+            return PageResponse.ofCursor(List.of(), pageSize, false, null);
+        }
+
+        return PageResponse.ofCursor(
+                hydrate(page.postIds()),
+                pageSize,
+                page.hasNext(),
+                page.hasNext() ? page.nextCursor().encode() : null
+        );
+    }
+
+    private List<PostSummaryResponse> hydrate(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummaryQueryDto> posts = postRepository.searchPostSummaries(
+                        PostSearchCondition.forPostIds(rankedIds),
+                        PageRequest.of(0, rankedIds.size()),
+                        rankedIds.size())
+                .stream()
+                .collect(Collectors.toMap(PostSummaryQueryDto::postId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostSummaryResponse::fromDto)
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.spring.mvc.base.application.post.tag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.mvc.base.application.post.config.TagDictionaryProperties;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그명 → 태그 ID 로컬 사전
+ * 태그명과 ID의 대응은 한 번 만들어지면 바뀌지 않으므로 커밋된 항목만 채우며 무효화하지 않는다.
+ * 새로 알게 된 항목은 Redis 채널({@link TagDictionarySyncListener})로 다른 노드에 전파해 미리 채운다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    static final String ENTRY_SEPARATOR = ":";
+
+    private final TagRepository tagRepository;
+    private final RedisService redisService;
+    private final TagDictionaryProperties properties;
+    private final Cache<String, Long> tagIds;
+
+    public TagDictionary(TagRepository tagRepository, RedisService redisService, TagDictionaryProperties properties) {
+        this.tagRepository = tagRepository;
+        this.redisService = redisService;
+        this.properties = properties;
+        this.tagIds = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.getWarmUpSize() == 0) {
+            return;
+        }
+
+        tagRepository.findTopByUsageCount(properties.getWarmUpSize())
+                .forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
+        log.info("태그 사전 적재 완료: tags={}", tagIds.estimatedSize());
+    }
+
+    /**
+     * 태그 사용 수를 1씩 올리고 (없는 태그는 생성) 태그명별 ID를 반환한다
+     * 모두 사전에 있으면 upsert 한 번, 없는 태그가 있으면 ID 조회까지 두 번의 쿼리로 끝난다.
+     */
+    public Map<String, Long> acquire(Collection<String> names) {
+        tagRepository.upsertIncrementUsageCount(names);
+        return resolve(names);
+    }
+
+    /**
+     * 태그별 사용 수를 주어진 만큼 올리고 태그명별 ID를 반환한다 (대량 등록 시 묶음마다 한 번 호출)
+     */
+    public Map<String, Long> acquire(Map<String, Long> usageCounts) {
+        tagRepository.upsertAddUsageCount(usageCounts);
+        return resolve(usageCounts.keySet());
+    }
+
+    public Optional<Long> find(String name) {
+        return Optional.ofNullable(tagIds.getIfPresent(name));
+    }
+
+    /**
+     * 다른 노드에서 전파된 항목 반영
+     */
+    public void put(String name, Long id) {
+        tagIds.put(name, id);
+    }
+
+    public long size() {
+        return tagIds.estimatedSize();
+    }
+
+    private Map<String, Long> resolve(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>(tagIds.getAllPresent(names));
+        List<String> misses = names.stream()
+                .filter(name -> !ids.containsKey(name))
+                .toList();
+        if (misses.isEmpty()) {
+            return ids;
+        }
+
+        Map<String, Long> loaded = new HashMap<>();
+        tagRepository.findIdNamesByNameIn(misses)
+                .forEach(tag -> loaded.put(tag.name(), tag.id()));
+        ids.putAll(loaded);
+        registerAfterCommit(loaded);
+
+        return ids;
+    }
+
+    /**
+     * 롤백되면 새 태그 행도 사라지므로 커밋된 뒤에만 사전에 넣고 전파한다
+     */
+    private void registerAfterCommit(Map<String, Long> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(entries);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(entries);
+            }
+        });
+    }
+
+    private void register(Map<String, Long> entries) {
+        tagIds.putAll(entries);
+
+        try {
+            redisService.pipeline(batch -> entries.forEach((name, id) ->
+                    batch.publish(properties.getSyncChannel(), id + ENTRY_SEPARATOR + name)));
+        } catch (DataAccessException e) {
+            // 사전은 캐시일 뿐이므로 전파 실패 시 다른 노드는 첫 조회 때 채운다
+            log.warn("태그 사전 전파 실패: tags={}", entries.keySet(), e);
+        }
+    }
+
+    static Optional<TagIdName> parseEntry(String payload) {
+        int separator = payload.indexOf(ENTRY_SEPARATOR);
+        if (separator <= 0 || separator == payload.length() - 1) {
+            return Optional.empty();
+        }
+
+        try {
+            Long id = Long.valueOf(payload.substring(0, separator));
+            return Optional.of(new TagIdName(id, payload.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.spring.mvc.base.application.post.tag;
+
+import com.spring.mvc.base.application.post.config.TagDictionaryProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 새로 알게 된 태그 항목("태그ID:태그명")을 받아 로컬 태그 사전에 추가한다.
+ * 리스너 컨테이너가 없는 환경(test 프로필)에서는 구독하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionarySyncListener implements MessageListener {
+
+    private final TagDictionary tagDictionary;
+    private final TagDictionaryProperties properties;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainerProvider.ifAvailable(container -> container.addMessageListener(
+                this,
+                new ChannelTopic(properties.getSyncChannel())
+        ));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        TagDictionary.parseEntry(payload).ifPresentOrElse(
+                entry -> tagDictionary.put(entry.name(), entry.id()),
+                () -> log.warn("잘못된 태그 사전 동기화 메시지: {}", payload)
+        );
+    }
+}
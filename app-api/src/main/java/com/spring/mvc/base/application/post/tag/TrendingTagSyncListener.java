@@ -0,0 +1,38 @@
+package com.spring.mvc.base.application.post.tag;
+
+import com.spring.mvc.base.application.post.config.TrendingTagProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 발생한 태그 사용 이벤트를 받아 로컬 인기 태그 집계에 반영한다.
+ * 리스너 컨테이너가 없는 환경(test 프로필)에서는 구독하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingTagSyncListener implements MessageListener {
+
+    private final TrendingTags trendingTags;
+    private final TrendingTagProperties properties;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainerProvider.ifAvailable(container -> container.addMessageListener(
+                this,
+                new ChannelTopic(properties.getSyncChannel())
+        ));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        trendingTags.applyMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
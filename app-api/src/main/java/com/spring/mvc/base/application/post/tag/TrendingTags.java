@@ -0,0 +1,272 @@
+package com.spring.mvc.base.application.post.tag;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.application.post.config.TrendingTagProperties;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.infra.counter.SpaceSavingCounter;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 사용 이벤트로 갱신되는 메모리 인기 태그 집계
+ * 전체 기간은 Space-Saving 카운터 하나로, 최근 24시간/7일은 시간 단위 카운터를 합쳐 계산한다.
+ * 사용 이벤트는 Redis 채널({@link TrendingTagSyncListener})로 다른 노드에 전파하고,
+ * 시간 버킷은 주기적으로 Redis에 스냅샷으로 저장해 재시작한 노드도 바로 응답할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class TrendingTags {
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final TagRepository tagRepository;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final TrendingTagProperties properties;
+    private final LongSupplier clock;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 시간 버킷 시작(epoch 기준 시간 번호) → 그 시간 동안의 태그 사용 수
+    private final NavigableMap<Long, SpaceSavingCounter<String>> hourly = new ConcurrentSkipListMap<>();
+    private final Map<TrendingWindow, Ranking> rankings = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile SpaceSavingCounter<String> allTime;
+
+    public TrendingTags(
+            TagRepository tagRepository,
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            TrendingTagProperties properties
+    ) {
+        this(tagRepository, redisService, objectMapper, properties, System::currentTimeMillis);
+    }
+
+    TrendingTags(
+            TagRepository tagRepository,
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            TrendingTagProperties properties,
+            LongSupplier clock
+    ) {
+        this.tagRepository = tagRepository;
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.clock = clock;
+        this.allTime = new SpaceSavingCounter<>(properties.getCapacity());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        SpaceSavingCounter<String> seeded = new SpaceSavingCounter<>(properties.getCapacity());
+        tagRepository.findTopByUsageCount(properties.getCapacity())
+                .forEach(tag -> seeded.restore(tag.getName(), tag.getUsageCount(), 0L));
+        allTime = seeded;
+
+        restoreSnapshot();
+        version.incrementAndGet();
+        log.info("인기 태그 집계 적재 완료: tags={}, hourlyBuckets={}", seeded.size(), hourly.size());
+    }
+
+    /**
+     * 게시글에 새로 붙은 태그를 집계한다 (커밋된 뒤 반영하고 다른 노드에 전파한다)
+     */
+    public void record(Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return;
+        }
+
+        List<String> names = List.copyOf(tagNames);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordNow(names);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordNow(names);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 전파된 사용 이벤트 반영 (자신이 발행한 메시지는 무시한다)
+     */
+    public void applyMessage(String payload) {
+        try {
+            UsageMessage message = objectMapper.readValue(payload, UsageMessage.class);
+            if (!instanceId.equals(message.origin()) && message.tags() != null) {
+                apply(message.tags());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 인기 태그 동기화 메시지: {}", payload);
+        }
+    }
+
+    /**
+     * 구간별 상위 태그 (count 내림차순)
+     * 마지막 계산 이후 이벤트가 없고 시간 버킷이 바뀌지 않았으면 계산된 결과를 그대로 쓴다.
+     */
+    public List<SpaceSavingCounter.Entry<String>> top(TrendingWindow window, int limit) {
+        int size = Math.max(0, Math.min(limit, properties.getMaxLimit()));
+        long hour = currentHour();
+        long currentVersion = version.get();
+
+        Ranking ranking = rankings.get(window);
+        if (ranking == null || ranking.version() != currentVersion || ranking.hour() != hour) {
+            ranking = new Ranking(currentVersion, hour, compute(window, hour));
+            rankings.put(window, ranking);
+        }
+
+        return ranking.entries().subList(0, Math.min(size, ranking.entries().size()));
+    }
+
+    @Scheduled(
+            initialDelayString = "${post.trending-tags.snapshot-interval:1m}",
+            fixedDelayString = "${post.trending-tags.snapshot-interval:1m}"
+    )
+    public void saveSnapshot() {
+        evictExpired();
+        if (hourly.isEmpty()) {
+            return;
+        }
+
+        List<Bucket> buckets = hourly.entrySet().stream()
+                .map(bucket -> new Bucket(bucket.getKey(), bucket.getValue().entries().stream()
+                        .map(entry -> new Count(entry.key(), entry.count(), entry.error()))
+                        .toList()))
+                .toList();
+
+        try {
+            redisService.save(
+                    properties.getSnapshotKey(),
+                    objectMapper.writeValueAsString(new Snapshot(buckets)),
+                    Duration.ofHours(TrendingWindow.WEEK.hours() + 1L)
+            );
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("인기 태그 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveSnapshot();
+    }
+
+    public int getHourlyBucketCount() {
+        return hourly.size();
+    }
+
+    private void recordNow(List<String> names) {
+        apply(names);
+
+        try {
+            redisService.publish(properties.getSyncChannel(),
+                    objectMapper.writeValueAsString(new UsageMessage(instanceId, names)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 집계는 근사치이므로 전파 실패는 기록만 한다
+            log.warn("인기 태그 사용 이벤트 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(List<String> names) {
+        SpaceSavingCounter<String> bucket = hourly.computeIfAbsent(
+                currentHour(), hour -> new SpaceSavingCounter<>(properties.getCapacity()));
+        SpaceSavingCounter<String> total = allTime;
+
+        names.forEach(name -> {
+            total.add(name, 1L);
+            bucket.add(name, 1L);
+        });
+        version.incrementAndGet();
+    }
+
+    private List<SpaceSavingCounter.Entry<String>> compute(TrendingWindow window, long hour) {
+        if (window == TrendingWindow.ALL) {
+            return List.copyOf(allTime.top(properties.getMaxLimit()));
+        }
+
+        // 버킷마다 추적한 값을 더하므로 합친 count도 실제 빈도의 상한이다
+        Map<String, long[]> merged = new HashMap<>();
+        hourly.subMap(hour - window.hours() + 1, true, hour, true).values()
+                .forEach(bucket -> bucket.entries().forEach(entry -> {
+                    long[] sum = merged.computeIfAbsent(entry.key(), key -> new long[2]);
+                    sum[0] += entry.count();
+                    sum[1] += entry.error();
+                }));
+
+        List<SpaceSavingCounter.Entry<String>> entries = new ArrayList<>(merged.size());
+        merged.forEach((name, sum) -> entries.add(new SpaceSavingCounter.Entry<>(name, sum[0], sum[1])));
+        entries.sort(Comparator.comparingLong(SpaceSavingCounter.Entry<String>::count).reversed());
+
+        return List.copyOf(entries.subList(0, Math.min(properties.getMaxLimit(), entries.size())));
+    }
+
+    private void restoreSnapshot() {
+        try {
+            redisService.find(properties.getSnapshotKey()).ifPresent(json -> {
+                try {
+                    long oldest = currentHour() - TrendingWindow.WEEK.hours() + 1;
+                    objectMapper.readValue(json, Snapshot.class).buckets().stream()
+                            .filter(bucket -> bucket.hour() >= oldest)
+                            .forEach(bucket -> {
+                                SpaceSavingCounter<String> counter = hourly.computeIfAbsent(
+                                        bucket.hour(), hour -> new SpaceSavingCounter<>(properties.getCapacity()));
+                                bucket.tags().forEach(tag -> counter.restore(tag.name(), tag.count(), tag.error()));
+                            });
+                } catch (JsonProcessingException e) {
+                    log.warn("인기 태그 스냅샷을 읽을 수 없음: {}", e.getMessage());
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("인기 태그 스냅샷 조회 실패, 빈 구간 집계로 시작: {}", e.getMessage());
+        }
+    }
+
+    private void evictExpired() {
+        hourly.headMap(currentHour() - TrendingWindow.WEEK.hours() + 1).clear();
+    }
+
+    private long currentHour() {
+        return clock.getAsLong() / HOUR_MILLIS;
+    }
+
+    private record Ranking(long version, long hour, List<SpaceSavingCounter.Entry<String>> entries) {
+    }
+
+    record UsageMessage(String origin, List<String> tags) {
+    }
+
+    record Snapshot(List<Bucket> buckets) {
+    }
+
+    record Bucket(long hour, List<Count> tags) {
+    }
+
+    record Count(String name, long count, long error) {
+    }
+}
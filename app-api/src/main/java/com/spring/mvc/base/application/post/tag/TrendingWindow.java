@@ -0,0 +1,37 @@
+package com.spring.mvc.base.application.post.tag;
+
+import java.time.Duration;
+
+/**
+ * 인기 태그 집계 구간
+ */
+public enum TrendingWindow {
+
+    /**
+     * 최근 24시간
+     */
+    DAY(Duration.ofDays(1)),
+
+    /**
+     * 최근 7일
+     */
+    WEEK(Duration.ofDays(7)),
+
+    /**
+     * 전체 기간 (기동 시 DB의 usage_count로 채운다)
+     */
+    ALL(null);
+
+    private final Duration length;
+
+    TrendingWindow(Duration length) {
+        this.length = length;
+    }
+
+    /**
+     * 구간에 포함되는 시간 버킷 수 (ALL이면 0)
+     */
+    public int hours() {
+        return length != null ? (int) length.toHours() : 0;
+    }
+}
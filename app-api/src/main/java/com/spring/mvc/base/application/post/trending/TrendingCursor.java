@@ -0,0 +1,74 @@
+package com.spring.mvc.base.application.post.trending;
+
+import com.spring.mvc.base.infra.redis.adapter.ScoredMember;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인기 게시글 커서
+ * 점수 기준 시각(landmark)의 Sorted Set에서 maxScore 이하 멤버를 skip개 건너뛰고 이어서 조회한다.
+ * skip은 직전 페이지 마지막 점수와 같은 점수로 이미 반환한 멤버 수이므로 동점이 페이지 경계에 걸쳐도 중복/누락이 없다.
+ */
+public record TrendingCursor(
+        long landmark,
+        double maxScore,
+        long skip
+) {
+
+    private static final String DELIMITER = "|";
+    private static final int PART_COUNT = 3;
+
+    public static TrendingCursor first(long landmark) {
+        return new TrendingCursor(landmark, Double.POSITIVE_INFINITY, 0L);
+    }
+
+    /**
+     * 조회된 페이지의 마지막 점수 기준으로 다음 페이지 커서를 만든다
+     */
+    public TrendingCursor next(List<ScoredMember> page) {
+        double lastScore = page.getLast().score();
+        long ties = page.stream()
+                .filter(member -> member.score() == lastScore)
+                .count();
+
+        // 페이지 전체가 이전 커서와 같은 점수면 앞서 건너뛴 개수도 이어서 센다
+        return new TrendingCursor(landmark, lastScore, lastScore == maxScore ? skip + ties : ties);
+    }
+
+    /**
+     * 클라이언트에 전달할 불투명(opaque) 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                String.valueOf(landmark),
+                String.valueOf(maxScore),
+                String.valueOf(skip));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<TrendingCursor> decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, PART_COUNT);
+            if (parts.length != PART_COUNT) {
+                return Optional.empty();
+            }
+
+            TrendingCursor cursor = new TrendingCursor(
+                    Long.parseLong(parts[0]),
+                    Double.parseDouble(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+            return cursor.skip() >= 0 && !Double.isNaN(cursor.maxScore()) ? Optional.of(cursor) : Optional.empty();
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
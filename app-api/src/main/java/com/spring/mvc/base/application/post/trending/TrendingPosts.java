@@ -0,0 +1,159 @@
+package com.spring.mvc.base.application.post.trending;
+
+import com.spring.mvc.base.application.post.config.TrendingPostProperties;
+import com.spring.mvc.base.infra.counter.StripedCounter;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import com.spring.mvc.base.infra.redis.adapter.ScoredMember;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지수 감쇠 점수 기반 인기 게시글 순위 (Redis Sorted Set)
+ * 이벤트 점수는 기준 시각(landmark) 대비 2^(경과 시간/반감기)를 곱해 더하므로 이미 쌓인 점수를 다시 쓰지 않고도
+ * 오래된 이벤트의 비중이 반감기마다 절반이 된다. 점수가 계속 커지지 않도록 주기마다 기준 시각을 옮기며,
+ * 새 기준 시각의 키로 이전 키를 감쇠 가중치로 합친다 (ZUNIONSTORE, 노드 중 하나만 수행).
+ * 이벤트는 메모리에 모았다가 주기마다 한 번의 파이프라인으로 반영한다.
+ */
+@Slf4j
+@Component
+public class TrendingPosts {
+
+    private static final String REBASED_SUFFIX = ":rebased";
+
+    private final RedisService redisService;
+    private final TrendingPostProperties properties;
+    private final LongSupplier clock;
+    private final StripedCounter points = new StripedCounter();
+
+    // 이 노드가 합치기를 확인한 마지막 기준 시각
+    private volatile long rebasedLandmark = Long.MIN_VALUE;
+
+    public TrendingPosts(RedisService redisService, TrendingPostProperties properties) {
+        this(redisService, properties, System::currentTimeMillis);
+    }
+
+    TrendingPosts(RedisService redisService, TrendingPostProperties properties, LongSupplier clock) {
+        this.redisService = redisService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public void recordView(Long postId) {
+        points.add(postId, properties.getViewWeight());
+    }
+
+    public void recordLike(Long postId) {
+        points.add(postId, properties.getLikeWeight());
+    }
+
+    public void recordComment(Long postId) {
+        points.add(postId, properties.getCommentWeight());
+    }
+
+    @Scheduled(fixedDelayString = "${post.trending.flush-interval:5s}")
+    public void flush() {
+        Map<Long, Long> deltas = points.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        long landmark = landmarkOf(now);
+        double growth = Math.pow(2.0, (double) (now - landmark) / properties.getHalfLife().toMillis());
+        String key = keyOf(landmark);
+
+        try {
+            ensureRebased(landmark);
+            redisService.pipeline(batch -> {
+                deltas.forEach((postId, delta) -> batch.incrementScore(key, String.valueOf(postId), delta * growth));
+                batch.trimSortedSet(key, properties.getMaxSize());
+                batch.expire(key, keyTtl());
+            });
+        } catch (DataAccessException e) {
+            deltas.forEach(points::add);
+            log.warn("인기 게시글 점수 반영 실패, 다음 주기에 재시도: posts={}, message={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 점수를 반영한다
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 점수 내림차순 게시글 ID 한 페이지 (ZREVRANGEBYSCORE 한 번)
+     * 커서가 없으면 현재 기준 시각의 키에서, 있으면 커서를 만든 키에서 이어서 조회한다.
+     */
+    public Page find(TrendingCursor cursor, int size) {
+        TrendingCursor position = cursor;
+        if (position == null) {
+            long landmark = landmarkOf(clock.getAsLong());
+            ensureRebased(landmark);
+            position = TrendingCursor.first(landmark);
+        }
+
+        List<ScoredMember> members = redisService.reverseRangeByScore(
+                keyOf(position.landmark()), position.maxScore(), position.skip(), size + 1L);
+        boolean hasNext = members.size() > size;
+        List<ScoredMember> page = hasNext ? members.subList(0, size) : members;
+
+        return new Page(
+                page.stream().map(member -> Long.valueOf(member.member())).toList(),
+                hasNext ? position.next(page) : null
+        );
+    }
+
+    /**
+     * 새 기준 시각의 키에 이전 키를 감쇠 가중치로 합친다 (먼저 표시를 남긴 노드만 수행)
+     */
+    private void ensureRebased(long landmark) {
+        if (rebasedLandmark == landmark) {
+            return;
+        }
+
+        if (redisService.saveIfAbsent(keyOf(landmark) + REBASED_SUFFIX, "1", keyTtl())) {
+            long rebaseMillis = properties.getRebaseInterval().toMillis();
+            double decay = Math.pow(2.0, -(double) rebaseMillis / properties.getHalfLife().toMillis());
+            String key = keyOf(landmark);
+            long size = redisService.unionAndStore(
+                    key, List.of(key, keyOf(landmark - rebaseMillis)), List.of(1.0, decay));
+            log.info("인기 게시글 점수 기준 시각 이동: landmark={}, posts={}", landmark, size);
+        }
+        rebasedLandmark = landmark;
+    }
+
+    private long landmarkOf(long epochMillis) {
+        long rebaseMillis = properties.getRebaseInterval().toMillis();
+        return epochMillis - Math.floorMod(epochMillis, rebaseMillis);
+    }
+
+    private String keyOf(long landmark) {
+        return properties.getKeyPrefix() + landmark;
+    }
+
+    /**
+     * 다음 기준 시각으로 합쳐질 때까지 이전 키가 남아 있도록 주기의 두 배로 둔다
+     */
+    private Duration keyTtl() {
+        return properties.getRebaseInterval().multipliedBy(2);
+    }
+
+    public record Page(
+            List<Long> postIds,
+            TrendingCursor nextCursor
+    ) {
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+}
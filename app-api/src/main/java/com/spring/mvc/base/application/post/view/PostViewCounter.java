@@ -0,0 +1,70 @@
+package com.spring.mvc.base.application.post.view;
+
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.infra.counter.StripedCounter;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조회수 write-behind 버퍼
+ * 조회마다 UPDATE 하는 대신 메모리에 누적하고, 주기마다 게시글별로 한 번의 UPDATE로 합쳐 반영한다.
+ * 반영에 실패한 누적분은 버퍼로 되돌려 다음 주기에 다시 시도한다.
+ * 반영한 게시글은 상세 캐시에서 지운다 (캐시된 조회수 + 비워진 대기분으로 조회수가 줄어 보이지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostFeedWriter postFeedWriter;
+    private final PostDetailsCache postDetailsCache;
+    private final StripedCounter counter = new StripedCounter();
+
+    public void increment(Long postId) {
+        counter.increment(postId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long postId) {
+        return counter.pending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5s}")
+    public void flush() {
+        Map<Long, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                deltas.forEach(postRepository::addViewCount);
+                postFeedWriter.countersChanged(deltas.keySet());
+                postDetailsCache.evictAll(deltas.keySet());
+            });
+            log.debug("조회수 반영 완료: posts={}", deltas.size());
+        } catch (RuntimeException e) {
+            deltas.forEach(counter::add);
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}, message={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 누적분을 반영한다
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,60 @@
+package com.spring.mvc.base.application.purge.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+
+    /**
+     * 예약 실행 여부 (여러 인스턴스에서 켜도 Redis 잠금을 잡은 한 곳만 실행한다)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 예약 실행 시각 (cron)
+     */
+    @NotBlank
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 삭제 표시 후 영구 삭제까지 보관하는 기간 (updated_at 기준)
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * 한 트랜잭션에서 지우는 최대 행 수
+     */
+    @Positive
+    private int chunkSize = 200;
+
+    /**
+     * 묶음 사이 쉬는 시간 (복제 지연과 잠금 경합을 줄인다)
+     */
+    @NotNull
+    private Duration chunkPause = Duration.ofMillis(200);
+
+    /**
+     * 한 번 실행에 쓰는 최대 시간 (넘기면 남은 행은 다음 실행으로 미룬다)
+     */
+    @NotNull
+    private Duration maxRunTime = Duration.ofMinutes(30);
+
+    /**
+     * 실행 잠금 유지 시간 (maxRunTime보다 길게 둔다. 실행 중 노드가 죽어도 이 시간이 지나면 풀린다)
+     */
+    @NotNull
+    private Duration lockTtl = Duration.ofHours(1);
+}
@@ -0,0 +1,46 @@
+package com.spring.mvc.base.application.purge.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 대상별 영구 삭제 진행 상황 (진단 정보용)
+ *
+ * @param purgedLastRun 최근(또는 진행 중인) 실행에서 지운 행 수
+ * @param rowsPerSecond 최근 실행의 초당 삭제 행 수 (묶음 사이 대기 시간 포함)
+ * @param lag           보관 기간을 넘겼지만 아직 남아 있는 가장 오래된 행이 밀린 시간
+ */
+public record PurgeStatus(
+        PurgeTarget target,
+        boolean running,
+        Instant lastStartedAt,
+        Instant lastFinishedAt,
+        long purgedLastRun,
+        long purgedTotal,
+        double rowsPerSecond,
+        Duration lag
+) {
+
+    static PurgeStatus idle(PurgeTarget target) {
+        return new PurgeStatus(target, false, null, null, 0, 0, 0, Duration.ZERO);
+    }
+
+    PurgeStatus started(Instant now) {
+        return new PurgeStatus(target, true, now, lastFinishedAt, 0, purgedTotal, 0, lag);
+    }
+
+    PurgeStatus progressed(int purged, long elapsedMs) {
+        long purgedSoFar = purgedLastRun + purged;
+        return new PurgeStatus(target, true, lastStartedAt, lastFinishedAt,
+                purgedSoFar, purgedTotal + purged, rate(purgedSoFar, elapsedMs), lag);
+    }
+
+    PurgeStatus finished(Instant now, long elapsedMs, Duration lag) {
+        return new PurgeStatus(target, false, lastStartedAt, now,
+                purgedLastRun, purgedTotal, rate(purgedLastRun, elapsedMs), lag);
+    }
+
+    private static double rate(long rows, long elapsedMs) {
+        return rows * 1000.0 / Math.max(elapsedMs, 1);
+    }
+}
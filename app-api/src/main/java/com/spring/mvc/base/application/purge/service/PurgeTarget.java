@@ -0,0 +1,11 @@
+package com.spring.mvc.base.application.purge.service;
+
+/**
+ * 영구 삭제 대상 (실행 순서대로)
+ */
+public enum PurgeTarget {
+    POST,
+    SERIES,
+    FILE,
+    POST_FEED_ORPHAN
+}
@@ -0,0 +1,282 @@
+package com.spring.mvc.base.application.purge.service;
+
+import com.spring.mvc.base.application.file.service.FileStorageCleaner;
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.application.purge.config.PurgeProperties;
+import com.spring.mvc.base.domain.comment.repository.CommentRepository;
+import com.spring.mvc.base.domain.file.repository.FileRepository;
+import com.spring.mvc.base.domain.post.dto.TagUsageCount;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostImageRepository;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
+import com.spring.mvc.base.domain.post.repository.SeriesRepository;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 표시(isDeleted)된 게시글/시리즈/파일 중 보관 기간이 지난 행을 영구 삭제한다
+ * 삭제 표시 이후에는 수정되지 않으므로 updated_at을 삭제 시각으로 본다.
+ * ID 키셋으로 chunkSize씩 읽어 묶음마다 한 트랜잭션으로 지우고, 묶음 사이에는 chunkPause만큼 쉰다.
+ * 게시글은 게시글 태그(태그 usageCount 차감), 좋아요(+Redis 좋아요 집합), 이미지 연결, 댓글을 먼저 지운 뒤 삭제하고,
+ * 파일은 커밋 후 원격 저장소 삭제 대기열(FileStorageCleaner)에 넣으며,
+ * 마지막으로 원본이 사라진 목록 읽기 모델(post_feed) 행을 정리한다.
+ * 여러 인스턴스가 같은 행을 지우며 태그 usageCount를 중복 차감하지 않도록 Redis 잠금(SET NX)을 잡은 인스턴스만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoftDeletePurger {
+
+    private static final String LOCK_KEY = "purge:lock";
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostImageRepository postImageRepository;
+    private final CommentRepository commentRepository;
+    private final TagRepository tagRepository;
+    private final SeriesRepository seriesRepository;
+    private final FileRepository fileRepository;
+    private final PostFeedRepository postFeedRepository;
+    private final FileStorageCleaner fileStorageCleaner;
+    private final PostLikeStore postLikeStore;
+    private final PurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisService redisService;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<PurgeTarget, PurgeStatus> statuses = new ConcurrentHashMap<>();
+
+    @Scheduled(cron = "${purge.cron:0 30 4 * * *}")
+    public void scheduledPurge() {
+        if (properties.isEnabled()) {
+            purge();
+        }
+    }
+
+    /**
+     * 대상별로 영구 삭제를 실행하고 지운 행 수를 반환한다 (이 노드나 다른 인스턴스에서 이미 실행 중이면 빈 결과)
+     */
+    public Map<PurgeTarget, Long> purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("영구 삭제가 이미 실행 중이라 건너뜀");
+            return Map.of();
+        }
+        if (!acquireLock()) {
+            running.set(false);
+            return Map.of();
+        }
+
+        try {
+            Instant cutoff = Instant.now().minus(properties.getRetention());
+            long deadline = System.currentTimeMillis() + properties.getMaxRunTime().toMillis();
+            Map<PurgeTarget, Long> purged = new EnumMap<>(PurgeTarget.class);
+
+            purged.put(PurgeTarget.POST, run(PurgeTarget.POST, deadline,
+                    lastId -> purgePosts(lastId, cutoff),
+                    () -> lagOf(postRepository.findOldestDeletedUpdatedAt(), cutoff)));
+            purged.put(PurgeTarget.SERIES, run(PurgeTarget.SERIES, deadline,
+                    lastId -> purgeSeries(lastId, cutoff),
+                    () -> lagOf(seriesRepository.findOldestDeletedUpdatedAt(), cutoff)));
+            purged.put(PurgeTarget.FILE, run(PurgeTarget.FILE, deadline,
+                    lastId -> purgeFiles(lastId, cutoff),
+                    () -> lagOf(fileRepository.findOldestDeletedUpdatedAt(), cutoff)));
+            purged.put(PurgeTarget.POST_FEED_ORPHAN, run(PurgeTarget.POST_FEED_ORPHAN, deadline,
+                    lastId -> purgeFeedOrphans(),
+                    () -> Duration.ZERO));
+            return purged;
+        } finally {
+            releaseLock();
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public List<PurgeStatus> getStatuses() {
+        return Arrays.stream(PurgeTarget.values())
+                .map(target -> statuses.getOrDefault(target, PurgeStatus.idle(target)))
+                .toList();
+    }
+
+    /**
+     * Redis를 사용할 수 없으면 다른 인스턴스와 겹칠 수 있으므로 실행하지 않는다
+     */
+    private boolean acquireLock() {
+        try {
+            if (redisService.saveIfAbsent(LOCK_KEY, instanceId, properties.getLockTtl())) {
+                return true;
+            }
+            log.info("다른 인스턴스가 영구 삭제를 실행 중이라 건너뜀");
+        } catch (DataAccessException e) {
+            log.warn("영구 삭제 잠금 획득 실패, 이번 실행은 건너뜀: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private void releaseLock() {
+        try {
+            redisService.deleteIfValue(LOCK_KEY, instanceId);
+        } catch (DataAccessException e) {
+            log.warn("영구 삭제 잠금 반납 실패, lockTtl 후 만료됨: {}", e.getMessage());
+        }
+    }
+
+    private long run(PurgeTarget target, long deadline, ChunkPurger purger, Supplier<Duration> lag) {
+        long startedAt = System.currentTimeMillis();
+        statuses.compute(target, (key, status) -> (status != null ? status : PurgeStatus.idle(key))
+                .started(Instant.now()));
+
+        long purged = 0;
+        long lastId = 0L;
+        try {
+            while (true) {
+                long cursor = lastId;
+                Chunk chunk = transactionTemplate.execute(status -> purger.purgeAfter(cursor));
+                if (chunk == null || chunk.scanned() == 0) {
+                    break;
+                }
+
+                purged += chunk.purged();
+                lastId = chunk.lastId();
+                long elapsed = System.currentTimeMillis() - startedAt;
+                statuses.computeIfPresent(target, (key, status) -> status.progressed(chunk.purged(), elapsed));
+
+                if (chunk.scanned() < properties.getChunkSize()) {
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    log.warn("영구 삭제 실행 시간 초과, 남은 행은 다음 실행으로 미룸: target={}, lastId={}", target, lastId);
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("영구 삭제 실패: target={}, lastId={}, message={}", target, lastId, e.getMessage(), e);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        Duration remainingLag = lag.get();
+        statuses.computeIfPresent(target, (key, status) -> status.finished(Instant.now(), elapsed, remainingLag));
+        log.info("영구 삭제 완료: target={}, purged={}, lag={}s, elapsed={}ms",
+                target, purged, remainingLag.toSeconds(), elapsed);
+        return purged;
+    }
+
+    private Chunk purgePosts(long lastId, Instant cutoff) {
+        List<Long> ids = postRepository.findPurgeableIdsAfter(lastId, cutoff, firstChunk());
+        if (ids.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+
+        subtractTagUsages(ids);
+        postTagRepository.deleteAllByPostIdIn(ids);
+        postLikeRepository.deleteAllByPostIdIn(ids);
+        postLikeStore.evictAll(ids);
+        postImageRepository.deleteAllByPostIdIn(ids);
+        commentRepository.deleteAllByPostIdIn(ids);
+        return new Chunk(ids.size(), ids.getLast(), postRepository.deleteDeletedByIdIn(ids));
+    }
+
+    /**
+     * 지워질 게시글 태그 수만큼 태그 usageCount를 줄인다 (차감량이 같은 태그끼리 한 번에 갱신)
+     */
+    private void subtractTagUsages(List<Long> postIds) {
+        Map<Long, List<Long>> tagIdsByDelta = postTagRepository.countTagUsagesByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        TagUsageCount::count,
+                        Collectors.mapping(TagUsageCount::tagId, Collectors.toList())));
+        tagIdsByDelta.forEach((delta, tagIds) -> tagRepository.subtractUsageCount(tagIds, delta));
+    }
+
+    private Chunk purgeSeries(long lastId, Instant cutoff) {
+        List<Long> ids = seriesRepository.findPurgeableIdsAfter(lastId, cutoff, firstChunk());
+        if (ids.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+
+        postRepository.detachSeries(ids);
+        return new Chunk(ids.size(), ids.getLast(), seriesRepository.deleteDeletedByIdIn(ids));
+    }
+
+    private Chunk purgeFiles(long lastId, Instant cutoff) {
+        List<Long> ids = fileRepository.findPurgeableIdsAfter(lastId, cutoff, firstChunk());
+        if (ids.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+
+        // 행이 지워진 뒤에는 저장소 키를 알 수 없으므로 먼저 읽어 커밋 후 원격 삭제 대기열에 넣는다
+        fileStorageCleaner.enqueueAfterCommit(fileRepository.findStorageKeysByIdIn(ids));
+        return new Chunk(ids.size(), ids.getLast(), fileRepository.deleteDeletedByIdIn(ids));
+    }
+
+    /**
+     * 지운 행은 다시 조회되지 않으므로 매번 첫 묶음을 읽는다
+     */
+    private Chunk purgeFeedOrphans() {
+        List<Long> ids = postFeedRepository.findOrphanIds(firstChunk());
+        if (ids.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+
+        postFeedRepository.deleteAllByIdInBatch(ids);
+        return new Chunk(ids.size(), ids.getLast(), ids.size());
+    }
+
+    private PageRequest firstChunk() {
+        return PageRequest.of(0, properties.getChunkSize());
+    }
+
+    private Duration lagOf(Optional<Instant> oldestDeletedAt, Instant cutoff) {
+        return oldestDeletedAt
+                .filter(oldest -> oldest.isBefore(cutoff))
+                .map(oldest -> Duration.between(oldest, cutoff))
+                .orElse(Duration.ZERO);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getChunkPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkPurger {
+        Chunk purgeAfter(long lastId);
+    }
+
+    private record Chunk(int scanned, long lastId, int purged) {
+
+        private static final Chunk EMPTY = new Chunk(0, 0L, 0);
+    }
+}
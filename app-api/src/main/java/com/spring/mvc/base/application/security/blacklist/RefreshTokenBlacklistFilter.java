@@ -0,0 +1,151 @@
+package com.spring.mvc.base.application.security.blacklist;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.spring.mvc.base.application.security.config.properties.TokenBlacklistProperties;
+import com.spring.mvc.base.infra.filter.BloomFilter;
+import com.spring.mvc.base.infra.redis.adapter.RedisBatch;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트에 등록된 리프레시 토큰 다이제스트의 로컬 Bloom 필터
+ * 필터에 없으면 Redis 조회 없이 "블랙리스트 아님"으로 판단하고, 있을 수 있으면 Redis에서 다시 확인한다.
+ * 기동 시와 주기적으로 Redis 키를 SCAN 해 다시 만들고, 그 사이의 등록은 pub/sub으로 전파받는다.
+ * Redis 장애 시에는 같은 다이제스트를 담은 크기 제한 로컬 미러로 판단한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenBlacklistFilter {
+
+    public static final String KEY_PREFIX = "blacklist:refresh-token:";
+
+    private final RedisService redisService;
+    private final TokenBlacklistProperties properties;
+
+    private final Cache<String, Boolean> mirror;
+    private final AtomicLong mirrorOverflowCount = new AtomicLong();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean mirrorComplete;
+
+    public RefreshTokenBlacklistFilter(RedisService redisService, TokenBlacklistProperties properties) {
+        this.redisService = redisService;
+        this.properties = properties;
+        this.mirror = Caffeine.newBuilder()
+                .maximumSize(properties.getExpectedInsertions())
+                .expireAfterWrite(properties.getMirrorTtl())
+                // 용량 초과 제거를 호출 스레드에서 바로 반영해 미러 완전성 판단이 늦지 않게 한다
+                .executor(Runnable::run)
+                .evictionListener((String digest, Boolean value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        mirrorOverflowCount.incrementAndGet();
+                        mirrorComplete = false;
+                    }
+                })
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${auth.blacklist.rebuild-interval:1h}",
+            fixedDelayString = "${auth.blacklist.rebuild-interval:1h}"
+    )
+    public void rebuild() {
+        if (!properties.isFilterEnabled()) {
+            return;
+        }
+
+        BloomFilter next = BloomFilter.withExpectedInsertions(
+                properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        // 재구축 중 등록된 다이제스트도 새 필터에 함께 담는다
+        rebuilding = next;
+        long overflowBefore = mirrorOverflowCount.get();
+        try {
+            List<String> keys = redisService.scanKeys(KEY_PREFIX + "*");
+            keys.forEach(key -> {
+                String digest = key.substring(KEY_PREFIX.length());
+                next.put(digest);
+                mirror.put(digest, Boolean.TRUE);
+            });
+            filter = next;
+            mirrorComplete = mirrorOverflowCount.get() == overflowBefore;
+            log.info("리프레시 토큰 블랙리스트 필터 재구축 완료 - tokens={}", keys.size());
+        } catch (Exception e) {
+            // 이전 필터가 있으면 유지하고, 없으면 모든 조회를 Redis로 보낸다
+            log.error("리프레시 토큰 블랙리스트 필터 재구축 실패", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 다른 노드로의 전파 명령을 batch에 담는다
+     */
+    public void publish(String digest, RedisBatch batch) {
+        if (properties.isFilterEnabled()) {
+            batch.publish(properties.getSyncChannel(), digest);
+        }
+    }
+
+    /**
+     * 로컬 필터와 미러에 추가한다 (직접 등록 또는 전파 메시지 수신 시)
+     */
+    public void add(String digest) {
+        if (!properties.isFilterEnabled()) {
+            return;
+        }
+        mirror.put(digest, Boolean.TRUE);
+
+        // 재구축 완료 시 filter 교체 후 rebuilding을 비우므로, rebuilding을 먼저 읽어야 새 필터를 놓치지 않는다
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(digest);
+        }
+        BloomFilter current = filter;
+        if (current != null && current != next) {
+            current.put(digest);
+        }
+    }
+
+    /**
+     * false면 확실히 블랙리스트에 없다
+     * 필터가 비활성화되었거나 아직 만들어지지 않았으면 항상 true를 반환해 Redis에서 확인하게 한다.
+     */
+    public boolean mightContain(String digest) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(digest);
+    }
+
+    /**
+     * Redis를 사용할 수 없을 때의 판단
+     * 미러에 있으면 블랙리스트이고, 미러가 Redis의 블랙리스트를 빠짐없이 담고 있으면(구축 완료, 용량 초과 없음) 없는 토큰은 블랙리스트가 아니다.
+     * 그 외에는 확인할 수 없으므로 블랙리스트로 간주해 재로그인을 유도한다.
+     */
+    public boolean isBlacklistedLocally(String digest) {
+        if (mirror.getIfPresent(digest) != null) {
+            return true;
+        }
+        return !(filter != null && mirrorComplete);
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public BloomFilter getFilter() {
+        return filter;
+    }
+}
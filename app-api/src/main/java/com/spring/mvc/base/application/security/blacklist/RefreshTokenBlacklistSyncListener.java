@@ -0,0 +1,42 @@
+package com.spring.mvc.base.application.security.blacklist;
+
+import com.spring.mvc.base.application.security.config.properties.TokenBlacklistProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 블랙리스트에 등록한 토큰 다이제스트를 받아 로컬 Bloom 필터에 추가한다.
+ * 리스너 컨테이너가 없는 환경(test 프로필)에서는 구독하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenBlacklistSyncListener implements MessageListener {
+
+    private final RefreshTokenBlacklistFilter blacklistFilter;
+    private final TokenBlacklistProperties properties;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!properties.isFilterEnabled()) {
+            return;
+        }
+
+        listenerContainerProvider.ifAvailable(container -> container.addMessageListener(
+                this,
+                new ChannelTopic(properties.getSyncChannel())
+        ));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        blacklistFilter.add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -28,6 +29,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -68,11 +70,11 @@ public class SecurityConfig {
                         .requestCache(new NullRequestCache())
                 )
 
-                /// [Request 권한 설정]
+                /// [Request 권한 설정] : 관리자 URL은 PUBLIC_URLS("/**")보다 먼저 검사해야 한다 (먼저 일치한 규칙만 적용)
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(SecurityConstants.ADMIN_URLS).hasRole("ADMIN")
                         .requestMatchers(SecurityConstants.PUBLIC_URLS).permitAll()
                         .requestMatchers(SecurityConstants.SECURE_URLS).hasRole("USER")
-                        .requestMatchers(SecurityConstants.ADMIN_URLS).hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
 
@@ -3,6 +3,7 @@ package com.spring.mvc.base.application.security.config.properties;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -26,4 +27,16 @@ public class JwtProperties {
     @NotNull
     @Positive
     private Long refreshTokenExpiration;
+
+    /**
+     * 검증된 토큰 클레임 캐시 최대 항목 수
+     */
+    @Positive
+    private long verifiedCacheMaximumSize = 10_000;
+
+    /**
+     * 검증된 토큰 클레임 캐시 TTL (토큰 만료 시각을 넘지 않는다)
+     */
+    @NotNull
+    private Duration verifiedCacheTtl = Duration.ofMinutes(5);
 }
@@ -0,0 +1,57 @@
+package com.spring.mvc.base.application.security.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "auth.blacklist")
+public class TokenBlacklistProperties {
+
+    /**
+     * true면 Redis 조회 전에 로컬 Bloom 필터로 "블랙리스트 아님"을 먼저 판별한다
+     */
+    private boolean filterEnabled = true;
+
+    /**
+     * Bloom 필터 크기 산정에 사용할 예상 블랙리스트 토큰 수
+     */
+    @Positive
+    private long expectedInsertions = 100_000;
+
+    /**
+     * Bloom 필터 목표 오탐률
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "1.0", inclusive = false)
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 다른 노드의 블랙리스트 등록을 전파받는 Redis pub/sub 채널
+     */
+    @NotBlank
+    private String syncChannel = "auth:blacklist:sync";
+
+    /**
+     * Redis에서 필터를 다시 만드는 주기 (만료된 토큰 정리, 유실된 전파 보정)
+     */
+    @NotNull
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /**
+     * Redis 장애 시 사용할 로컬 블랙리스트 미러의 항목 보관 기간 (리프레시 토큰 수명 이상)
+     */
+    @NotNull
+    private Duration mirrorTtl = Duration.ofDays(7);
+}
@@ -0,0 +1,42 @@
+package com.spring.mvc.base.application.security.dto.token;
+
+import com.spring.mvc.base.application.security.constants.JwtConstants;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 클레임
+ * 한 번 파싱한 결과를 필터와 서비스가 함께 사용한다
+ */
+public record VerifiedToken(
+        Long memberId,
+        String role,
+        String type,
+        Instant expiresAt
+) {
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get(JwtConstants.CLAIM_ROLE, String.class),
+                claims.get(JwtConstants.CLAIM_TYPE, String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return JwtConstants.TOKEN_TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtConstants.TOKEN_TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired() {
+        return isExpiredAt(Instant.now());
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
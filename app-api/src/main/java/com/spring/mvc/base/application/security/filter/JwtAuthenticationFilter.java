@@ -1,5 +1,6 @@
 package com.spring.mvc.base.application.security.filter;
 
+import com.spring.mvc.base.application.security.dto.token.VerifiedToken;
 import com.spring.mvc.base.application.security.dto.user.CustomUserDetails;
 import com.spring.mvc.base.application.security.service.LoginService;
 import com.spring.mvc.base.application.security.util.JwtTokenProvider;
@@ -36,11 +37,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (jwt != null && jwtTokenProvider.isAccessToken(jwt) && !jwtTokenProvider.isTokenExpired(jwt)) {
-                Long uid = jwtTokenProvider.getUidFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+            VerifiedToken token = jwt != null ? jwtTokenProvider.verify(jwt) : null;
 
-                UserDetails userDetails = new CustomUserDetails(uid, null , role);
+            if (token != null && token.isAccessToken() && !token.isExpired()) {
+                UserDetails userDetails = new CustomUserDetails(token.memberId(), null , token.role());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
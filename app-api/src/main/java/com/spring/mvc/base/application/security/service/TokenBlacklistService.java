@@ -1,11 +1,13 @@
 package com.spring.mvc.base.application.security.service;
 
+import com.spring.mvc.base.application.security.blacklist.RefreshTokenBlacklistFilter;
 import com.spring.mvc.base.application.security.util.JwtTokenProvider;
 import com.spring.mvc.base.infra.redis.adapter.RedisService;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -13,27 +15,43 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
-    private static final String BLACKLIST_PREFIX = "blacklist:refresh-token:";
+    private static final String BLACKLIST_PREFIX = RefreshTokenBlacklistFilter.KEY_PREFIX;
     private final RedisService redisService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenBlacklistFilter blacklistFilter;
 
     public void addToBlacklist(String token) {
         try {
             long ttl = jwtTokenProvider.getExpiresIn(token);
-            String key = generateRedisKey(token);
-            redisService.save(key, "0", Duration.ofMillis(ttl));
+            String digest = DigestUtils.sha256Hex(token);
+            // 로컬 필터와 미러는 Redis 장애와 무관하게 먼저 반영한다
+            blacklistFilter.add(digest);
+            // 블랙리스트 저장과 다른 노드로의 전파를 한 번의 왕복으로 보낸다
+            redisService.pipeline(batch -> {
+                batch.save(BLACKLIST_PREFIX + digest, "0", Duration.ofMillis(ttl));
+                blacklistFilter.publish(digest, batch);
+            });
         } catch (Exception e) {
             // todo : 블랙 리스트 등록 실패시 전략 생각해보기
             log.error("블랙 리스트 등록 실패", e);
         }
     }
 
+    /**
+     * 로컬 Bloom 필터에 없으면 Redis 조회 없이 false를 반환한다
+     * Redis 장애(서킷 오픈 포함) 시에는 로컬 미러로 판단한다
+     */
     public boolean isBlacklisted(String token) {
-        String key = generateRedisKey(token);
-        return redisService.find(key).isPresent();
-    }
+        String digest = DigestUtils.sha256Hex(token);
+        if (!blacklistFilter.mightContain(digest)) {
+            return false;
+        }
 
-    private String generateRedisKey(String token){
-        return BLACKLIST_PREFIX + DigestUtils.sha256Hex(token);
+        try {
+            return redisService.find(BLACKLIST_PREFIX + digest).isPresent();
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 Redis 조회 실패, 로컬 미러로 판단: {}", e.getMessage());
+            return blacklistFilter.isBlacklistedLocally(digest);
+        }
     }
 }
@@ -1,11 +1,21 @@
 package com.spring.mvc.base.application.security.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.spring.mvc.base.application.security.config.properties.JwtProperties;
 import com.spring.mvc.base.application.security.constants.JwtConstants;
+import com.spring.mvc.base.application.security.dto.token.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +27,19 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(JwtProperties properties){
         this.jwtProperties = properties;
         this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheMaximumSize())
+                .expireAfter(new VerifiedTokenExpiry(properties.getVerifiedCacheTtl()))
+                .build();
     }
 
     public String generateAccessToken(Long memberId, String role) {
@@ -51,55 +70,87 @@ public class JwtTokenProvider {
     }
 
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 반환한다
+     * 같은 토큰의 재요청은 다이제스트 키로 캐시된 결과를 사용해 서명 검증을 생략한다
+     *
+     * @throws io.jsonwebtoken.JwtException 서명이 올바르지 않거나 만료된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        return verifiedTokens.get(digest(token), key -> VerifiedToken.from(validateToken(token)));
     }
 
     public Long getUidFromToken(String token) {
-        Claims claims = validateToken(token);
-        return Long.parseLong(claims.getSubject());
+        return verify(token).memberId();
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = validateToken(token);
-        return claims.get(JwtConstants.CLAIM_ROLE, String.class);
+        return verify(token).role();
     }
 
     public String getTokenType(String token) {
-        Claims claims = validateToken(token);
-        return claims.get(JwtConstants.CLAIM_TYPE, String.class);
+        return verify(token).type();
     }
 
     public Date getExpiration(String token){
-        Claims claims = validateToken(token);
-        return claims.getExpiration();
+        return Date.from(verify(token).expiresAt());
     }
 
     public long getExpiresIn(String token) {
-        Date expiration = validateToken(token).getExpiration();
-        return expiration.getTime() - System.currentTimeMillis();
+        return verify(token).expiresAt().toEpochMilli() - System.currentTimeMillis();
     }
 
 
     public boolean isAccessToken(String token) {
-        return JwtConstants.TOKEN_TYPE_ACCESS.equals(getTokenType(token));
+        return verify(token).isAccessToken();
     }
 
     public boolean isRefreshToken(String token) {
-        return JwtConstants.TOKEN_TYPE_REFRESH.equals(getTokenType(token));
+        return verify(token).isRefreshToken();
     }
 
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = validateToken(token);
-            return claims.getExpiration().before(new Date());
+            return verify(token).isExpired();
         } catch (Exception e) {
             return true;
         }
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
 
+    /**
+     * 캐시 항목은 설정된 TTL과 토큰 만료 시각 중 먼저 도래하는 시점에 만료된다
+     */
+    private record VerifiedTokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration untilExpiry = Duration.between(Instant.now(), value.expiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0L;
+            }
+            return Math.min(ttl.toNanos(), untilExpiry.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
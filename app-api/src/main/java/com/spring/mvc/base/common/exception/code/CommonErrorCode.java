@@ -14,6 +14,9 @@ public enum CommonErrorCode implements ErrorCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다"),
 
+    // 동시 수정 충돌 (409 - 낙관적 잠금 버전 불일치)
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요"),
+
     // 도메인 검증 에러 (500 - 서버 내부 로직 오류)
     INVALID_DOMAIN_STATE(HttpStatus.INTERNAL_SERVER_ERROR, "도메인 상태가 유효하지 않습니다"),
 
@@ -18,6 +18,7 @@ public enum PostErrorCode implements ErrorCode {
     // 좋아요 관련 에러
     ALREADY_LIKED(HttpStatus.CONFLICT, "이미 좋아요를 눌렀습니다"),
     LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "좋아요를 찾을 수 없습니다"),
+    LIKE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "지금은 좋아요를 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
 
     // 게시글 생성/수정 에러 (400)
     POST_MEMBER_REQUIRED(HttpStatus.BAD_REQUEST, "작성자는 필수입니다"),
@@ -25,6 +26,11 @@ public enum PostErrorCode implements ErrorCode {
     POST_TITLE_TOO_LONG(HttpStatus.BAD_REQUEST, "제목은 200자를 초과할 수 없습니다"),
     POST_CONTENT_REQUIRED(HttpStatus.BAD_REQUEST, "내용은 필수입니다"),
 
+    // 목록 조회 에러 (400)
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다"),
+    BATCH_IDS_REQUIRED(HttpStatus.BAD_REQUEST, "조회할 게시글 ID는 필수입니다"),
+    BATCH_IDS_TOO_MANY(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시글 수를 초과했습니다"),
+
     // 첨부파일 에러 (400)
     ATTACHMENT_POST_REQUIRED(HttpStatus.BAD_REQUEST, "게시글은 필수입니다"),
     ATTACHMENT_URL_REQUIRED(HttpStatus.BAD_REQUEST, "첨부파일 URL은 필수입니다"),
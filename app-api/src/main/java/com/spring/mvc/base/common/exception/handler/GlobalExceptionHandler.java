@@ -10,8 +10,10 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -82,6 +84,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(AuthErrorCode.TOKEN_INVALID.getHttpStatus()).body(response);
     }
 
+    /**
+     * 낙관적 잠금 충돌 처리 핸들러.
+     * <p>
+     * 같은 엔티티를 동시에 수정해 버전이 맞지 않는 경우 500 대신 409 응답을 반환한다.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        ErrorResponse response = ErrorResponse.from(CommonErrorCode.CONCURRENT_MODIFICATION);
+        return ResponseEntity.status(CommonErrorCode.CONCURRENT_MODIFICATION.getHttpStatus()).body(response);
+    }
+
+    /**
+     * 메서드 보안(@PreAuthorize) 거부 예외는 다시 던진다.
+     * <p>
+     * 아래 Exception 핸들러가 500으로 바꾸지 않도록, 시큐리티 필터의
+     * AuthenticationEntryPoint(401)와 AccessDeniedHandler(403)가 응답하게 넘긴다.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public void handleAccessDeniedException(AccessDeniedException e) {
+        throw e;
+    }
+
     /**
      * 처리되지 않은 모든 예외에 대한 최종 방어선 핸들러.
      * <p>
@@ -1,11 +1,19 @@
 package com.spring.mvc.base.common.monitoring;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.mvc.base.application.common.cache.PageCountCache;
+import com.spring.mvc.base.application.purge.service.SoftDeletePurger;
+import com.spring.mvc.base.application.security.blacklist.RefreshTokenBlacklistFilter;
+import com.spring.mvc.base.infra.filter.BloomFilter;
+import com.spring.mvc.base.infra.redis.circuit.RedisCircuitBreaker;
+import com.spring.mvc.base.infra.cache.TwoLevelCacheManager;
 import com.spring.mvc.base.infra.redis.config.RedisProperties;
 import com.zaxxer.hikari.HikariDataSource;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
 import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +28,11 @@ public class DiagnosticsCollector {
     private final Environment environment;
     private final ObjectProvider<HikariDataSource> dataSourceProvider;
     private final ObjectProvider<RedisProperties> redisPropertiesProvider;
+    private final ObjectProvider<RedisCircuitBreaker> redisCircuitBreakerProvider;
+    private final ObjectProvider<TwoLevelCacheManager> cacheManagerProvider;
+    private final ObjectProvider<PageCountCache> pageCountCacheProvider;
+    private final ObjectProvider<RefreshTokenBlacklistFilter> blacklistFilterProvider;
+    private final ObjectProvider<SoftDeletePurger> softDeletePurgerProvider;
 
     public String[] collectProfiles() {
         return environment.getActiveProfiles();
@@ -81,12 +94,99 @@ public class DiagnosticsCollector {
         if (redisProperties == null) {
             return null;
         }
-        return DiagnosticsContext.RedisInfo.builder()
+        DiagnosticsContext.RedisInfo.RedisInfoBuilder builder = DiagnosticsContext.RedisInfo.builder()
                 .host(redisProperties.getHost())
-                .port(redisProperties.getPort())
+                .port(redisProperties.getPort());
+
+        RedisCircuitBreaker circuitBreaker = redisCircuitBreakerProvider.getIfAvailable();
+        if (circuitBreaker != null) {
+            builder.circuitState(circuitBreaker.getState().name())
+                    .circuitSuccessCount(circuitBreaker.getSuccessCount())
+                    .circuitFailureCount(circuitBreaker.getFailureCount())
+                    .circuitRejectedCount(circuitBreaker.getRejectedCount())
+                    .circuitOpenCount(circuitBreaker.getOpenCount());
+        }
+        return builder.build();
+    }
+
+    public List<DiagnosticsContext.CacheInfo> collectCacheInfos() {
+        List<DiagnosticsContext.CacheInfo> cacheInfos = new ArrayList<>();
+
+        TwoLevelCacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager != null) {
+            cacheManager.getCaches().forEach(cache -> {
+                CacheStats stats = cache.getLocalStats();
+                cacheInfos.add(DiagnosticsContext.CacheInfo.builder()
+                        .name(cache.getName())
+                        .localSize(cache.getLocalSize())
+                        .hitCount(stats.hitCount())
+                        .missCount(stats.missCount())
+                        .hitRate(stats.hitRate())
+                        .evictionCount(stats.evictionCount())
+                        .remoteHitCount(cache.getRemoteHitCount())
+                        .remoteMissCount(cache.getRemoteMissCount())
+                        .invalidationCount(cache.getInvalidationCount())
+                        .build());
+            });
+        }
+
+        pageCountCacheProvider.ifAvailable(pageCountCache -> {
+            CacheStats stats = pageCountCache.getStats();
+            cacheInfos.add(DiagnosticsContext.CacheInfo.builder()
+                    .name(PageCountCache.CACHE_NAME + " (" + pageCountCache.getMode() + ")")
+                    .localSize(pageCountCache.getSize())
+                    .hitCount(stats.hitCount())
+                    .missCount(stats.missCount())
+                    .hitRate(stats.hitRate())
+                    .evictionCount(stats.evictionCount())
+                    .build());
+        });
+
+        return cacheInfos;
+    }
+
+    public DiagnosticsContext.BloomFilterInfo collectBlacklistFilterInfo() {
+        RefreshTokenBlacklistFilter blacklistFilter = blacklistFilterProvider.getIfAvailable();
+        if (blacklistFilter == null) {
+            return null;
+        }
+
+        BloomFilter filter = blacklistFilter.getFilter();
+        if (filter == null) {
+            return DiagnosticsContext.BloomFilterInfo.builder()
+                    .ready(false)
+                    .build();
+        }
+        return DiagnosticsContext.BloomFilterInfo.builder()
+                .ready(true)
+                .bitSize(filter.getBitSize())
+                .hashFunctions(filter.getHashFunctions())
+                .insertionCount(filter.getInsertionCount())
+                .expectedFalsePositiveRate(filter.getExpectedFalsePositiveRate())
                 .build();
     }
 
+    public List<DiagnosticsContext.PurgeInfo> collectPurgeInfos() {
+        SoftDeletePurger purger = softDeletePurgerProvider.getIfAvailable();
+        if (purger == null) {
+            return List.of();
+        }
+
+        return purger.getStatuses()
+                .stream()
+                .map(status -> DiagnosticsContext.PurgeInfo.builder()
+                        .target(status.target().name())
+                        .running(status.running())
+                        .lastStartedAt(status.lastStartedAt())
+                        .lastFinishedAt(status.lastFinishedAt())
+                        .purgedLastRun(status.purgedLastRun())
+                        .purgedTotal(status.purgedTotal())
+                        .rowsPerSecond(status.rowsPerSecond())
+                        .lagSeconds(status.lag().toSeconds())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public DiagnosticsContext collectAll() {
         return DiagnosticsContext.builder()
                 .activeProfiles(collectProfiles())
@@ -95,6 +195,9 @@ public class DiagnosticsCollector {
                 .gcInfos(collectGcInfos())
                 .dataSourceInfo(collectDataSourceInfo())
                 .redisInfo(collectRedisInfo())
+                .cacheInfos(collectCacheInfos())
+                .blacklistFilterInfo(collectBlacklistFilterInfo())
+                .purgeInfos(collectPurgeInfos())
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.spring.mvc.base.common.monitoring;
 
+import java.time.Instant;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,9 @@ public class DiagnosticsContext {
     private final List<GcInfo> gcInfos;
     private final DataSourceInfo dataSourceInfo;
     private final RedisInfo redisInfo;
+    private final List<CacheInfo> cacheInfos;
+    private final BloomFilterInfo blacklistFilterInfo;
+    private final List<PurgeInfo> purgeInfos;
 
     @Getter
     @Builder
@@ -58,6 +62,47 @@ public class DiagnosticsContext {
     public static class RedisInfo {
         private final String host;
         private final Integer port;
+        private final String circuitState;
+        private final long circuitSuccessCount;
+        private final long circuitFailureCount;
+        private final long circuitRejectedCount;
+        private final long circuitOpenCount;
+    }
+
+    @Getter
+    @Builder
+    public static class CacheInfo {
+        private final String name;
+        private final long localSize;
+        private final long hitCount;
+        private final long missCount;
+        private final double hitRate;
+        private final long evictionCount;
+        private final long remoteHitCount;
+        private final long remoteMissCount;
+        private final long invalidationCount;
+    }
+
+    @Getter
+    @Builder
+    public static class BloomFilterInfo {
+        private final boolean ready;
+        private final long bitSize;
+        private final int hashFunctions;
+        private final long insertionCount;
+        private final double expectedFalsePositiveRate;
     }
-}
 
+    @Getter
+    @Builder
+    public static class PurgeInfo {
+        private final String target;
+        private final boolean running;
+        private final Instant lastStartedAt;
+        private final Instant lastFinishedAt;
+        private final long purgedLastRun;
+        private final long purgedTotal;
+        private final double rowsPerSecond;
+        private final long lagSeconds;
+    }
+}
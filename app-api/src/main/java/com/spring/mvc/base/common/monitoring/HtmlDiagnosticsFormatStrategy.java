@@ -128,13 +128,98 @@ public class HtmlDiagnosticsFormatStrategy implements DiagnosticsFormatStrategy
         if (redis != null) {
             sb.append("    <table>").append(nl)
                     .append("      <tr><th>host</th><td class=\"mono\">").append(escape(redis.getHost())).append("</td></tr>").append(nl)
-                    .append("      <tr><th>port</th><td class=\"mono\">").append(redis.getPort()).append("</td></tr>").append(nl)
-                    .append("    </table>").append(nl);
+                    .append("      <tr><th>port</th><td class=\"mono\">").append(redis.getPort()).append("</td></tr>").append(nl);
+            if (redis.getCircuitState() != null) {
+                sb.append("      <tr><th>circuit</th><td class=\"mono\">").append(redis.getCircuitState())
+                        .append(" (success=").append(redis.getCircuitSuccessCount())
+                        .append(", failure=").append(redis.getCircuitFailureCount())
+                        .append(", rejected=").append(redis.getCircuitRejectedCount())
+                        .append(", opened=").append(redis.getCircuitOpenCount())
+                        .append(")</td></tr>").append(nl);
+            }
+            sb.append("    </table>").append(nl);
         } else {
             sb.append("    <p class=\"mono\" style=\"color:#f97316;\">RedisProperties 사용 불가</p>").append(nl);
         }
         sb.append("  </div>").append(nl);
 
+        // 캐시
+        sb.append("  <div class=\"section\">").append(nl)
+                .append("    <div class=\"section-title\">Cache (L1 Caffeine / L2 Redis)</div>").append(nl);
+        if (context.getCacheInfos() == null || context.getCacheInfos().isEmpty()) {
+            sb.append("    <p class=\"mono\" style=\"color:#9ca3af;\">등록된 캐시 없음</p>").append(nl);
+        } else {
+            sb.append("    <table>").append(nl);
+            for (DiagnosticsContext.CacheInfo cache : context.getCacheInfos()) {
+                sb.append("      <tr>").append(nl)
+                        .append("        <th>").append("<span class=\"pill pill--gc mono\">")
+                        .append(escape(cache.getName()))
+                        .append("</span></th>").append(nl)
+                        .append("        <td class=\"mono\">size=")
+                        .append(cache.getLocalSize())
+                        .append(", L1 hit/miss=")
+                        .append(cache.getHitCount()).append("/").append(cache.getMissCount())
+                        .append(String.format(" (%.2f)", cache.getHitRate()))
+                        .append(", eviction=")
+                        .append(cache.getEvictionCount())
+                        .append(", L2 hit/miss=")
+                        .append(cache.getRemoteHitCount()).append("/").append(cache.getRemoteMissCount())
+                        .append(", 무효화 수신=")
+                        .append(cache.getInvalidationCount())
+                        .append("</td>").append(nl)
+                        .append("      </tr>").append(nl);
+            }
+            sb.append("    </table>").append(nl);
+        }
+        sb.append("  </div>").append(nl);
+
+        // 블랙리스트 필터
+        DiagnosticsContext.BloomFilterInfo blacklist = context.getBlacklistFilterInfo();
+        sb.append("  <div class=\"section\">").append(nl)
+                .append("    <div class=\"section-title\">Refresh Token Blacklist (Bloom Filter)</div>").append(nl);
+        if (blacklist == null) {
+            sb.append("    <p class=\"mono\" style=\"color:#f97316;\">사용 불가</p>").append(nl);
+        } else if (!blacklist.isReady()) {
+            sb.append("    <p class=\"mono\" style=\"color:#9ca3af;\">비활성화 또는 구축 전 (Redis 직접 조회)</p>").append(nl);
+        } else {
+            sb.append("    <table>").append(nl)
+                    .append("      <tr><th>bits</th><td class=\"mono\">").append(blacklist.getBitSize()).append("</td></tr>").append(nl)
+                    .append("      <tr><th>hashes</th><td class=\"mono\">").append(blacklist.getHashFunctions()).append("</td></tr>").append(nl)
+                    .append("      <tr><th>insertions</th><td class=\"mono\">").append(blacklist.getInsertionCount()).append("</td></tr>").append(nl)
+                    .append("      <tr><th>expected FPP</th><td class=\"mono\">")
+                    .append(String.format("%.6f", blacklist.getExpectedFalsePositiveRate())).append("</td></tr>").append(nl)
+                    .append("    </table>").append(nl);
+        }
+        sb.append("  </div>").append(nl);
+
+        // 영구 삭제
+        sb.append("  <div class=\"section\">").append(nl)
+                .append("    <div class=\"section-title\">Soft-delete Purge</div>").append(nl);
+        if (context.getPurgeInfos() == null || context.getPurgeInfos().isEmpty()) {
+            sb.append("    <p class=\"mono\" style=\"color:#f97316;\">사용 불가</p>").append(nl);
+        } else {
+            sb.append("    <table>").append(nl);
+            for (DiagnosticsContext.PurgeInfo purge : context.getPurgeInfos()) {
+                sb.append("      <tr>").append(nl)
+                        .append("        <th>").append("<span class=\"pill pill--gc mono\">")
+                        .append(escape(purge.getTarget()))
+                        .append("</span></th>").append(nl)
+                        .append("        <td class=\"mono\">")
+                        .append(purge.isRunning() ? "실행 중, " : "")
+                        .append("최근 실행=")
+                        .append(purge.getLastStartedAt() != null ? purge.getLastStartedAt() : "-")
+                        .append(", 삭제=")
+                        .append(purge.getPurgedLastRun()).append("/").append(purge.getPurgedTotal())
+                        .append(String.format(", %.1f rows/s", purge.getRowsPerSecond()))
+                        .append(", lag=")
+                        .append(purge.getLagSeconds()).append("s")
+                        .append("</td>").append(nl)
+                        .append("      </tr>").append(nl);
+            }
+            sb.append("    </table>").append(nl);
+        }
+        sb.append("  </div>").append(nl);
+
         sb.append("</div>").append(nl)
                 .append("</body>").append(nl)
                 .append("</html>").append(nl);
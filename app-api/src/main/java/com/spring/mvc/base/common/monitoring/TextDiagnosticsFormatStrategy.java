@@ -80,10 +80,69 @@ public class TextDiagnosticsFormatStrategy implements DiagnosticsFormatStrategy
         if (redis != null) {
             sb.append("│   - host        : ").append(redis.getHost()).append(nl);
             sb.append("│   - port        : ").append(redis.getPort()).append(nl);
+            if (redis.getCircuitState() != null) {
+                sb.append("│   - circuit     : ").append(redis.getCircuitState())
+                        .append(" (success=").append(redis.getCircuitSuccessCount())
+                        .append(", failure=").append(redis.getCircuitFailureCount())
+                        .append(", rejected=").append(redis.getCircuitRejectedCount())
+                        .append(", opened=").append(redis.getCircuitOpenCount())
+                        .append(")").append(nl);
+            }
         } else {
             sb.append("│   - RedisProperties 사용 불가").append(nl);
         }
 
+        // 캐시
+        sb.append("│").append(nl);
+        sb.append("│ 캐시 (L1 Caffeine / L2 Redis)").append(nl);
+        if (context.getCacheInfos() == null || context.getCacheInfos().isEmpty()) {
+            sb.append("│   - 등록된 캐시 없음").append(nl);
+        } else {
+            for (DiagnosticsContext.CacheInfo cache : context.getCacheInfos()) {
+                sb.append("│   - 이름=").append(cache.getName())
+                        .append(", size=").append(cache.getLocalSize())
+                        .append(", L1 hit/miss=").append(cache.getHitCount()).append("/").append(cache.getMissCount())
+                        .append(String.format(" (%.2f)", cache.getHitRate()))
+                        .append(", eviction=").append(cache.getEvictionCount())
+                        .append(", L2 hit/miss=").append(cache.getRemoteHitCount()).append("/").append(cache.getRemoteMissCount())
+                        .append(", 무효화 수신=").append(cache.getInvalidationCount())
+                        .append(nl);
+            }
+        }
+
+        // 블랙리스트 필터
+        DiagnosticsContext.BloomFilterInfo blacklist = context.getBlacklistFilterInfo();
+        sb.append("│").append(nl);
+        sb.append("│ 리프레시 토큰 블랙리스트 (Bloom 필터)").append(nl);
+        if (blacklist == null) {
+            sb.append("│   - 사용 불가").append(nl);
+        } else if (!blacklist.isReady()) {
+            sb.append("│   - 비활성화 또는 구축 전 (Redis 직접 조회)").append(nl);
+        } else {
+            sb.append("│   - bits        : ").append(blacklist.getBitSize()).append(nl);
+            sb.append("│   - hashes      : ").append(blacklist.getHashFunctions()).append(nl);
+            sb.append("│   - insertions  : ").append(blacklist.getInsertionCount()).append(nl);
+            sb.append("│   - 예상 오탐률 : ")
+                    .append(String.format("%.6f", blacklist.getExpectedFalsePositiveRate())).append(nl);
+        }
+
+        // 영구 삭제
+        sb.append("│").append(nl);
+        sb.append("│ 삭제 데이터 영구 삭제").append(nl);
+        if (context.getPurgeInfos() == null || context.getPurgeInfos().isEmpty()) {
+            sb.append("│   - 사용 불가").append(nl);
+        } else {
+            for (DiagnosticsContext.PurgeInfo purge : context.getPurgeInfos()) {
+                sb.append("│   - 대상=").append(purge.getTarget())
+                        .append(purge.isRunning() ? " (실행 중)" : "")
+                        .append(", 최근 실행=").append(purge.getLastStartedAt() != null ? purge.getLastStartedAt() : "-")
+                        .append(", 삭제=").append(purge.getPurgedLastRun()).append("/").append(purge.getPurgedTotal())
+                        .append(String.format(", %.1f rows/s", purge.getRowsPerSecond()))
+                        .append(", lag=").append(purge.getLagSeconds()).append("s")
+                        .append(nl);
+            }
+        }
+
         sb.append("└────────────────────────────────────────────────────────────────────").append(nl);
 
         return sb.toString();
@@ -66,16 +66,24 @@ public enum SwaggerErrorResponseDescription {
     POST_GET(new LinkedHashSet<>(Set.of(
             PostErrorCode.POST_NOT_FOUND
     ))),
-    POST_LIST(new LinkedHashSet<>(Set.of())),
+    POST_LIST(new LinkedHashSet<>(Set.of(
+            PostErrorCode.INVALID_CURSOR
+    ))),
+    POST_BATCH(new LinkedHashSet<>(Set.of(
+            PostErrorCode.BATCH_IDS_REQUIRED,
+            PostErrorCode.BATCH_IDS_TOO_MANY
+    ))),
     POST_LIKE(new LinkedHashSet<>(Set.of(
             PostErrorCode.POST_NOT_FOUND,
             MemberErrorCode.USER_NOT_FOUND,
-            PostErrorCode.ALREADY_LIKED
+            PostErrorCode.ALREADY_LIKED,
+            PostErrorCode.LIKE_UNAVAILABLE
     ))),
     POST_UNLIKE(new LinkedHashSet<>(Set.of(
             PostErrorCode.POST_NOT_FOUND,
             MemberErrorCode.USER_NOT_FOUND,
-            PostErrorCode.LIKE_NOT_FOUND
+            PostErrorCode.LIKE_NOT_FOUND,
+            PostErrorCode.LIKE_UNAVAILABLE
     ))),
 
     // Comment API
@@ -0,0 +1,47 @@
+package com.spring.mvc.base.common.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 검증 값
+ * 응답 본문 대신 버전, 수정 시각처럼 싸게 구할 수 있는 값으로 ETag를 만든다 (자주 바뀌는 값을 뺄 때는 weak).
+ * ETag에는 본문에 영향을 주는 값을 모두 담아야 하며, Last-Modified는 없으면 생략한다.
+ */
+public record ResourceVersion(String etag, Instant lastModified) {
+
+    // 회원별 값(좋아요 여부 등)이 섞일 수 있어 공유 캐시에는 두지 않고, 매번 재검증하게 한다
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    public static ResourceVersion of(Instant lastModified, Object... parts) {
+        String etag = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-"));
+        return new ResourceVersion(etag, lastModified);
+    }
+
+    /**
+     * 약한 ETag (W/"...") - 조회수처럼 자주 바뀌는 값이 조금 다른 본문도 같은 표현으로 보고 304를 허용한다
+     * If-None-Match는 약한 비교를 하므로 강한 ETag와 같은 방식으로 재검증된다.
+     */
+    public static ResourceVersion weak(Instant lastModified, Object... parts) {
+        return new ResourceVersion("W/\"" + of(lastModified, parts).etag() + "\"", lastModified);
+    }
+
+    /**
+     * 클라이언트 사본이 최신이면 응답을 304로 표시하고 true를 반환한다
+     * 최신이 아니면 ETag / Last-Modified 헤더만 설정하므로 호출 측은 본문을 만들어 반환하면 된다.
+     */
+    public boolean isNotModified(ServletWebRequest request) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModified != null ? lastModified.toEpochMilli() : -1);
+    }
+}
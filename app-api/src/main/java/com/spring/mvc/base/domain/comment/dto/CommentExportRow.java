@@ -0,0 +1,18 @@
+package com.spring.mvc.base.domain.comment.dto;
+
+import java.time.Instant;
+
+/**
+ * 댓글 내보내기용 Projection
+ * 엔티티 대신 필요한 컬럼만 조회하므로 영속성 컨텍스트에 쌓이지 않는다
+ */
+public record CommentExportRow(
+        Long commentId,
+        Long postId,
+        Long memberId,
+        String memberNickname,
+        String content,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.spring.mvc.base.domain.comment.dto;
+
+import java.time.Instant;
+
+/**
+ * 게시글 댓글 목록의 변경 여부 판단용 요약 (조건부 조회 ETag 계산)
+ * 댓글은 물리 삭제되므로 최종 수정 시각만으로는 삭제를 알 수 없어 개수와 버전 합을 함께 본다.
+ * 작성자 버전 합은 응답에 포함된 닉네임/프로필 이미지 변경을 반영하기 위함이다.
+ */
+public record CommentVersionSummary(
+        Long count,
+        Instant lastUpdatedAt,
+        Long commentVersionSum,
+        Long memberVersionSum
+) {
+}
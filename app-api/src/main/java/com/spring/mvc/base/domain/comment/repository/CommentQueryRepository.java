@@ -1,6 +1,10 @@
 package com.spring.mvc.base.domain.comment.repository;
 
+import com.spring.mvc.base.domain.comment.dto.CommentExportRow;
 import com.spring.mvc.base.domain.comment.dto.CommentQueryDto;
+import com.spring.mvc.base.domain.comment.dto.CommentVersionSummary;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,4 +16,22 @@ public interface CommentQueryRepository {
      */
     Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable);
 
+    /**
+     * 특정 게시글의 댓글 목록만 조회 (COUNT 쿼리 없음, limit은 페이지 크기와 다를 수 있음)
+     */
+    List<CommentQueryDto> findContentByPostId(Long postId, Pageable pageable, int limit);
+
+    long countByPostId(Long postId);
+
+    /**
+     * 특정 게시글 댓글의 개수/최종 수정 시각/버전 합 (목록을 만들지 않고 변경 여부만 판단)
+     */
+    CommentVersionSummary findVersionSummaryByPostId(Long postId);
+
+    /**
+     * 댓글 전체를 ID 순으로 스트리밍 조회 (내보내기용, 트랜잭션 안에서 닫아야 한다)
+     * fetchSize 단위로 커서에서 읽으므로 전체 결과를 메모리에 올리지 않는다
+     */
+    Stream<CommentExportRow> streamForExport(int fetchSize);
+
 }
@@ -1,9 +1,11 @@
 package com.spring.mvc.base.domain.comment.repository;
 
 import com.spring.mvc.base.domain.comment.entity.Comment;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +19,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.post WHERE c.member.id = :memberId ORDER BY c.createdAt DESC")
     List<Comment> findByMemberIdWithPost(@Param("memberId") Long memberId);
+
+    /**
+     * 게시글 영구 삭제 시 댓글을 함께 지운다 (댓글 삭제 여부와 무관)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
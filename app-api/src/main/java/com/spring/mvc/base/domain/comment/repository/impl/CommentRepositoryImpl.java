@@ -5,14 +5,17 @@ import static com.spring.mvc.base.domain.member.entity.QMember.member;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.mvc.base.domain.comment.dto.CommentExportRow;
 import com.spring.mvc.base.domain.comment.dto.CommentQueryDto;
+import com.spring.mvc.base.domain.comment.dto.CommentVersionSummary;
 import com.spring.mvc.base.domain.comment.repository.CommentQueryRepository;
 import com.spring.mvc.base.domain.common.repository.QueryDslOrderUtil;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -34,6 +37,13 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
 
     @Override
     public Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable) {
+        List<CommentQueryDto> content = findContentByPostId(postId, pageable, pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByPostId(postId));
+    }
+
+    @Override
+    public List<CommentQueryDto> findContentByPostId(Long postId, Pageable pageable, int limit) {
         OrderSpecifier<?>[] orders = QueryDslOrderUtil.getOrderSpecifiersWithDefault(
                 pageable,
                 comment,
@@ -41,7 +51,7 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
                 comment.createdAt.asc()
         );
 
-        List<CommentQueryDto> content = queryFactory
+        return queryFactory
                 .select(Projections.constructor(CommentQueryDto.class,
                         comment.id,
                         comment.post.id,
@@ -57,15 +67,54 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
                 .where(comment.post.id.eq(postId))
                 .orderBy(orders)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(limit)
                 .fetch();
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
+    @Override
+    public long countByPostId(Long postId) {
+        Long count = queryFactory
                 .select(comment.count())
                 .from(comment)
-                .where(comment.post.id.eq(postId));
+                .where(comment.post.id.eq(postId))
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public CommentVersionSummary findVersionSummaryByPostId(Long postId) {
+        return queryFactory
+                .select(Projections.constructor(CommentVersionSummary.class,
+                        comment.count(),
+                        comment.updatedAt.max(),
+                        comment.version.sum(),
+                        member.version.sum()
+                ))
+                .from(comment)
+                .join(comment.member, member)
+                .where(comment.post.id.eq(postId))
+                .fetchOne();
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    @Override
+    public Stream<CommentExportRow> streamForExport(int fetchSize) {
+        return queryFactory
+                .select(Projections.constructor(CommentExportRow.class,
+                        comment.id,
+                        comment.post.id,
+                        member.id,
+                        member.nickname,
+                        comment.content,
+                        comment.createdAt,
+                        comment.updatedAt
+                ))
+                .from(comment)
+                .join(comment.member, member)
+                .orderBy(comment.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
     }
 
 }
@@ -1,13 +1,13 @@
 package com.spring.mvc.base.domain.file.entity;
 
 import com.spring.mvc.base.domain.common.entity.BaseTimeEntity;
+import com.spring.mvc.base.infra.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,11 +21,14 @@ import org.springframework.util.Assert;
 @Builder(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "file")
+@Table(
+        name = "file",
+        indexes = @Index(name = "idx_file_url", columnList = "url")
+)
 public class File extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Enumerated(EnumType.STRING)
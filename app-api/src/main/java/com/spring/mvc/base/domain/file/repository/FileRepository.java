@@ -2,9 +2,15 @@ package com.spring.mvc.base.domain.file.repository;
 
 import com.spring.mvc.base.domain.file.entity.File;
 import com.spring.mvc.base.domain.file.entity.FileType;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FileRepository extends JpaRepository<File, Long> {
 
@@ -13,4 +19,34 @@ public interface FileRepository extends JpaRepository<File, Long> {
     Optional<File> findByStorageKey(String storageKey);
 
     Optional<File> findByUrl(String url);
+
+    List<File> findAllByUrlInAndIsDeletedFalse(Collection<String> urls);
+
+    /**
+     * 게시글에 연결된 이미지 파일을 한 번에 삭제 표시한다
+     * 벌크 UPDATE라 수정 시각이 자동으로 바뀌지 않으므로 직접 넣는다 (영구 삭제 보관 기간의 기준)
+     */
+    @Modifying
+    @Query("UPDATE File f SET f.isDeleted = true, f.updatedAt = :now "
+            + "WHERE f.isDeleted = false AND f.id IN "
+            + "(SELECT pi.id.fileId FROM PostImage pi WHERE pi.id.postId = :postId)")
+    int softDeleteAllByPostId(@Param("postId") Long postId, @Param("now") Instant now);
+
+    @Query("SELECT f.storageKey FROM File f WHERE f.id IN :ids")
+    List<String> findStorageKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT f.id FROM File f WHERE f.isDeleted = true AND f.updatedAt < :cutoff AND f.id > :lastId "
+            + "ORDER BY f.id")
+    List<Long> findPurgeableIdsAfter(
+            @Param("lastId") Long lastId,
+            @Param("cutoff") Instant cutoff,
+            Pageable pageable
+    );
+
+    @Query("SELECT MIN(f.updatedAt) FROM File f WHERE f.isDeleted = true")
+    Optional<Instant> findOldestDeletedUpdatedAt();
+
+    @Modifying
+    @Query("DELETE FROM File f WHERE f.id IN :ids AND f.isDeleted = true")
+    int deleteDeletedByIdIn(@Param("ids") Collection<Long> ids);
 }
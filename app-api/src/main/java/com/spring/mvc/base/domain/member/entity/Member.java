@@ -3,15 +3,15 @@ package com.spring.mvc.base.domain.member.entity;
 import com.spring.mvc.base.application.member.dto.SocialLinks;
 import com.spring.mvc.base.domain.common.converter.SocialLinksConverter;
 import com.spring.mvc.base.domain.common.converter.StringListConverter;
+import com.spring.mvc.base.infra.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +20,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.util.Assert;
 
 @Entity
@@ -31,9 +32,14 @@ import org.springframework.util.Assert;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "email", unique = true, nullable = false)
     private String email;
 
@@ -1,11 +1,10 @@
 package com.spring.mvc.base.domain.member.entity.oauth;
 
 import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.infra.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -27,7 +26,7 @@ import org.springframework.util.Assert;
 public class OAuthMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "provider", nullable = false)
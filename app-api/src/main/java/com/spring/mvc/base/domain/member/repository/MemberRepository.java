@@ -2,9 +2,12 @@ package com.spring.mvc.base.domain.member.repository;
 
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.entity.MemberStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -12,6 +15,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByIdAndStatus(Long id, MemberStatus status);
 
+    List<Member> findAllByIdInAndStatus(Collection<Long> ids, MemberStatus status);
+
+    /**
+     * 프로필 조건부 조회용 - 엔티티를 읽지 않고 버전만 조회한다
+     */
+    @Query("SELECT m.version FROM Member m WHERE m.id = :id AND m.status = :status")
+    Optional<Long> findVersionByIdAndStatus(@Param("id") Long id, @Param("status") MemberStatus status);
+
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -0,0 +1,150 @@
+package com.spring.mvc.base.domain.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 키셋(커서) 페이지네이션 조건
+ * 직전 페이지 마지막 게시글의 정렬 키 값과 ID로 OFFSET 없이 다음 페이지를 조회한다
+ */
+public record PostCursor(
+        SortKey sortKey,
+        boolean ascending,
+        Long lastId,
+        String lastValue
+) {
+
+    private static final String DELIMITER = "|";
+    private static final int PART_COUNT = 4;
+
+    /**
+     * 커서 정렬에 사용할 수 있는 정렬 키 (ID로 동점을 구분한다)
+     */
+    public enum SortKey {
+        ID("id"),
+        TITLE("title"),
+        VIEWS_COUNT("viewsCount"),
+        LIKE_COUNT("likeCount"),
+        CREATED_AT("createdAt");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public static Optional<SortKey> fromProperty(String property) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(property))
+                    .findFirst();
+        }
+
+        String extract(PostSummaryQueryDto dto) {
+            return switch (this) {
+                case ID -> String.valueOf(dto.postId());
+                case TITLE -> dto.title();
+                case VIEWS_COUNT -> String.valueOf(dto.viewsCount());
+                case LIKE_COUNT -> String.valueOf(dto.likeCount());
+                case CREATED_AT -> dto.createdAt().toString();
+            };
+        }
+    }
+
+    public static PostCursor first(SortKey sortKey, boolean ascending) {
+        return new PostCursor(sortKey, ascending, null, null);
+    }
+
+    /**
+     * 정렬 조건을 첫 페이지 커서로 변환한다
+     * 단일 정렬 키이면서 커서 정렬을 지원하는 경우에만 변환된다 (미지정 시 createdAt desc)
+     */
+    public static Optional<PostCursor> firstPageOf(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Optional.of(first(SortKey.CREATED_AT, false));
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return Optional.empty();
+        }
+
+        Sort.Order order = orders.getFirst();
+        return SortKey.fromProperty(order.getProperty())
+                .map(key -> first(key, order.isAscending()));
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    /**
+     * 조회된 마지막 게시글 기준으로 다음 페이지 커서를 만든다
+     */
+    public PostCursor next(PostSummaryQueryDto last) {
+        return new PostCursor(sortKey, ascending, last.postId(), sortKey.extract(last));
+    }
+
+    public Instant lastValueAsInstant() {
+        return Instant.parse(lastValue);
+    }
+
+    public Long lastValueAsLong() {
+        return Long.valueOf(lastValue);
+    }
+
+    /**
+     * 클라이언트에 전달할 불투명(opaque) 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sortKey.name(),
+                ascending ? "asc" : "desc",
+                String.valueOf(lastId),
+                lastValue);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<PostCursor> decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, PART_COUNT);
+            if (parts.length != PART_COUNT) {
+                return Optional.empty();
+            }
+
+            PostCursor cursor = new PostCursor(
+                    SortKey.valueOf(parts[0]),
+                    "asc".equals(parts[1]),
+                    Long.valueOf(parts[2]),
+                    parts[3]
+            );
+            cursor.validateValue();
+            return Optional.of(cursor);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void validateValue() {
+        switch (sortKey) {
+            case CREATED_AT -> lastValueAsInstant();
+            case ID, VIEWS_COUNT, LIKE_COUNT -> lastValueAsLong();
+            case TITLE -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.spring.mvc.base.domain.post.dto;
+
+import java.time.Instant;
+
+/**
+ * 게시글 내보내기용 Projection
+ * 엔티티 대신 필요한 컬럼만 조회하므로 영속성 컨텍스트에 쌓이지 않는다
+ */
+public record PostExportRow(
+        Long postId,
+        Long memberId,
+        String memberNickname,
+        String title,
+        String content,
+        String summary,
+        String visibility,
+        Long viewsCount,
+        Long likeCount,
+        Long commentCount,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -1,16 +1,34 @@
 package com.spring.mvc.base.domain.post.dto;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
+/**
+ * 게시글 검색 조건
+ * - tags: 하나라도 포함 (OR)
+ * - requiredTags: 모두 포함 (AND)
+ * - excludedTags: 하나도 포함하지 않음 (NOT)
+ */
 public record PostSearchCondition(
         String keyword,
         Long memberId,
-        List<String> tags
+        List<String> tags,
+        List<String> requiredTags,
+        List<String> excludedTags,
+        List<Long> postIds
 ) {
 
     public PostSearchCondition {
         keyword = normalizeKeyword(keyword);
         tags = normalizeTags(tags);
+        requiredTags = normalizeTags(requiredTags);
+        excludedTags = normalizeTags(excludedTags);
+        postIds = postIds != null ? List.copyOf(postIds) : null;
+    }
+
+    public PostSearchCondition(String keyword, Long memberId, List<String> tags) {
+        this(keyword, memberId, tags, null, null, null);
     }
 
     public static PostSearchCondition empty() {
@@ -21,6 +39,49 @@ public record PostSearchCondition(
         return new PostSearchCondition(null, null, tags);
     }
 
+    /**
+     * 색인에서 이미 조건을 계산한 게시글 ID로만 조회한다
+     */
+    public static PostSearchCondition forPostIds(List<Long> postIds) {
+        return new PostSearchCondition(null, null, null, null, null, postIds);
+    }
+
+    /**
+     * 검색 색인에서 찾은 후보 게시글로 범위를 제한한다 (키워드 LIKE 조건 대신 사용)
+     */
+    public PostSearchCondition withPostIds(List<Long> postIds) {
+        return new PostSearchCondition(keyword, memberId, tags, requiredTags, excludedTags, postIds);
+    }
+
+    public boolean hasPostIds() {
+        return postIds != null;
+    }
+
+    public boolean hasTagFilter() {
+        return tags != null || requiredTags != null || excludedTags != null;
+    }
+
+    /**
+     * COUNT 캐시 키 - 결과 개수에 영향을 주는 조건을 정규화하여 조합한다
+     * 키워드는 대소문자 구분 없이 검색되므로 소문자로, 태그는 순서/중복과 무관하므로 정렬하여 사용한다
+     */
+    public String countKey() {
+        String normalizedKeyword = keyword != null ? keyword.toLowerCase(Locale.ROOT) : "";
+        String normalizedMemberId = memberId != null ? memberId.toString() : "";
+
+        return "member=" + normalizedMemberId
+                + "&tags=" + joinSorted(tags)
+                + "&required=" + joinSorted(requiredTags)
+                + "&excluded=" + joinSorted(excludedTags)
+                + "&keyword=" + normalizedKeyword;
+    }
+
+    private static String joinSorted(List<String> values) {
+        return values != null
+                ? values.stream().sorted().collect(Collectors.joining(","))
+                : "";
+    }
+
     private static String normalizeKeyword(String keyword) {
         if (keyword == null) {
             return null;
@@ -30,11 +91,20 @@ public record PostSearchCondition(
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    /**
+     * 태그는 저장 시 소문자로 정규화되므로 조회 조건도 같은 규칙으로 맞춘다
+     */
     private static List<String> normalizeTags(List<String> tags) {
         if (tags == null || tags.isEmpty()) {
             return null;
         }
 
-        return List.copyOf(tags);
+        List<String> normalized = tags.stream()
+                .filter(name -> name != null)
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+        return normalized.isEmpty() ? null : normalized;
     }
 }
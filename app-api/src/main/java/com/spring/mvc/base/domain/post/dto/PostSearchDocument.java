@@ -0,0 +1,11 @@
+package com.spring.mvc.base.domain.post.dto;
+
+/**
+ * 검색 색인용 게시글 Projection (본문 검색에 필요한 필드만 조회)
+ */
+public record PostSearchDocument(
+        Long postId,
+        String title,
+        String content
+) {
+}
@@ -0,0 +1,10 @@
+package com.spring.mvc.base.domain.post.dto;
+
+/**
+ * 태그 색인 재구축용 Projection (게시글 ID - 태그명)
+ */
+public record PostTagName(
+        Long postId,
+        String tagName
+) {
+}
@@ -0,0 +1,10 @@
+package com.spring.mvc.base.domain.post.dto;
+
+/**
+ * 태그 ID - 태그명 Projection (태그 사전, 게시글 태그 비교용)
+ */
+public record TagIdName(
+        Long id,
+        String name
+) {
+}
@@ -0,0 +1,10 @@
+package com.spring.mvc.base.domain.post.dto;
+
+/**
+ * 태그 ID별 게시글 태그 행 수 Projection (영구 삭제 시 usageCount 차감용)
+ */
+public record TagUsageCount(
+        Long tagId,
+        Long count
+) {
+}
@@ -2,17 +2,18 @@ package com.spring.mvc.base.domain.post.entity;
 
 import com.spring.mvc.base.domain.common.entity.BaseTimeEntity;
 import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.infra.id.SnowflakeId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -20,6 +21,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.util.Assert;
 
 @Entity
@@ -27,13 +29,22 @@ import org.springframework.util.Assert;
 @Builder(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "post")
+@Table(
+        name = "post",
+        indexes = @Index(name = "idx_post_deleted_created_at_id", columnList = "is_deleted, created_at, id")
+)
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
+    // 수정 시마다 증가한다 (낙관적 잠금, 조건부 조회 ETag). 카운터 벌크 UPDATE는 버전을 올리지 않는다
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
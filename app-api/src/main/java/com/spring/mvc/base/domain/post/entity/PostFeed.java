@@ -0,0 +1,147 @@
+package com.spring.mvc.base.domain.post.entity;
+
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.Assert;
+
+/**
+ * 게시글 목록 조회 전용 읽기 모델
+ * 목록 응답(PostSummaryQueryDto)에 필요한 컬럼과 작성자 정보를 비정규화해 두고, 허용된 정렬마다 (정렬 키, ID) 인덱스를 둔다.
+ * 삭제되지 않은 게시글만 행을 가지며, 게시글/회원 프로필/카운터 변경 시 PostFeedWriter가 함께 갱신한다.
+ */
+@Entity
+@Getter
+@Builder(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_feed",
+        indexes = {
+                @Index(name = "idx_post_feed_created_at_id", columnList = "created_at, post_id"),
+                @Index(name = "idx_post_feed_updated_at_id", columnList = "updated_at, post_id"),
+                @Index(name = "idx_post_feed_views_count_id", columnList = "views_count, post_id"),
+                @Index(name = "idx_post_feed_like_count_id", columnList = "like_count, post_id"),
+                @Index(name = "idx_post_feed_title_id", columnList = "title, post_id"),
+                @Index(name = "idx_post_feed_member_id_id", columnList = "member_id, post_id")
+        }
+)
+public class PostFeed implements Persistable<Long> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "title", length = 200, nullable = false)
+    private String title;
+
+    @Column(name = "summary", length = 500)
+    private String summary;
+
+    @Column(name = "thumbnail", length = 500)
+    private String thumbnail;
+
+    @Column(name = "views_count", nullable = false)
+    private Long viewsCount;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount;
+
+    @Column(name = "member_nickname", length = 10, nullable = false)
+    private String memberNickname;
+
+    @Column(name = "member_profile_image_url", length = 500)
+    private String memberProfileImageUrl;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // ID를 게시글에서 받아 오므로 save() 시 존재 여부 SELECT 없이 INSERT 하도록 직접 판단한다
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    public static PostFeed of(Post post) {
+        Assert.notNull(post, "post required");
+        Assert.notNull(post.getId(), "post id required");
+
+        Member member = post.getMember();
+        return PostFeed.builder()
+                .id(post.getId())
+                .memberId(member.getId())
+                .title(post.getTitle())
+                .summary(post.getSummary())
+                .thumbnail(post.getThumbnail())
+                .viewsCount(post.getViewsCount())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .memberNickname(member.getNickname())
+                .memberProfileImageUrl(member.getProfileImageUrl())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 게시글 본문 필드를 다시 복사한다 (카운터는 syncCounters로 따로 맞춘다)
+     */
+    public void refresh(Post post) {
+        Assert.isTrue(id.equals(post.getId()), "post id mismatch");
+        this.title = post.getTitle();
+        this.summary = post.getSummary();
+        this.thumbnail = post.getThumbnail();
+        if (post.getUpdatedAt() != null) {
+            this.updatedAt = post.getUpdatedAt();
+        }
+    }
+
+    public PostSummaryQueryDto toSummary() {
+        return new PostSummaryQueryDto(
+                id,
+                title,
+                createdAt,
+                viewsCount,
+                likeCount,
+                commentCount,
+                memberId,
+                memberNickname,
+                memberProfileImageUrl,
+                summary,
+                thumbnail
+        );
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,72 @@
+package com.spring.mvc.base.domain.post.entity;
+
+import com.spring.mvc.base.domain.common.entity.CreatedOnlyEntity;
+import com.spring.mvc.base.domain.file.entity.File;
+import com.spring.mvc.base.domain.post.entity.id.PostImageId;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.Assert;
+
+/**
+ * 게시글 본문이 참조하는 이미지 파일 (작성/수정 시 본문의 마크다운 이미지 URL로 채운다)
+ * 게시글 삭제 시 본문을 다시 파싱하지 않고 이 연결로 파일을 한 번에 삭제 표시한다.
+ */
+@Entity
+@Getter
+@Builder(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "post_image",
+        indexes = @Index(name = "idx_post_image_file_id", columnList = "file_id")
+)
+public class PostImage extends CreatedOnlyEntity implements Persistable<PostImageId> {
+
+    @EmbeddedId
+    private PostImageId id;
+
+    @MapsId("postId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @MapsId("fileId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private File file;
+
+    public static PostImage create(Post post, File file) {
+        validateCreate(post, file);
+        return PostImage.builder()
+                .id(PostImageId.create(post.getId(), file.getId()))
+                .post(post)
+                .file(file)
+                .build();
+    }
+
+    private static void validateCreate(Post post, File file) {
+        Assert.notNull(post, "post required");
+        Assert.notNull(file, "file required");
+    }
+
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
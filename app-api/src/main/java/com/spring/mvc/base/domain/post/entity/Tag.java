@@ -1,10 +1,9 @@
 package com.spring.mvc.base.domain.post.entity;
 
 import com.spring.mvc.base.domain.common.entity.BaseTimeEntity;
+import com.spring.mvc.base.infra.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -23,7 +22,7 @@ import org.springframework.util.Assert;
 public class Tag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "name", unique = true, nullable = false, length = 50)
@@ -33,14 +32,18 @@ public class Tag extends BaseTimeEntity {
     private Long usageCount;
 
     public static Tag create(String name) {
-        Assert.hasText(name, "tag name required");
-        if (name.length() > 50) {
-            throw new IllegalArgumentException("tag name too long");
-        }
+        validateName(name);
 
         return Tag.builder()
                 .name(name.trim().toLowerCase())
                 .usageCount(0L)
                 .build();
     }
+
+    public static void validateName(String name) {
+        Assert.hasText(name, "tag name required");
+        if (name.length() > 50) {
+            throw new IllegalArgumentException("tag name too long");
+        }
+    }
 }
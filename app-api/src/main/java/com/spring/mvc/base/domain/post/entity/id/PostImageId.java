@@ -0,0 +1,52 @@
+package com.spring.mvc.base.domain.post.entity.id;
+
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@Builder(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostImageId implements Serializable {
+
+    private Long postId;
+    private Long fileId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostImageId that)) return false;
+
+        return Objects.equals(postId, that.postId) &&
+                Objects.equals(fileId, that.fileId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId, fileId);
+    }
+
+    public static PostImageId create(Long postId, Long fileId) {
+        validateCreate(postId, fileId);
+        return PostImageId.builder()
+                .postId(postId)
+                .fileId(fileId)
+                .build();
+    }
+
+    private static void validateCreate(Long postId, Long fileId) {
+        if (postId == null) {
+            throw new IllegalArgumentException("postId required");
+        }
+        if (fileId == null) {
+            throw new IllegalArgumentException("fileId required");
+        }
+    }
+}
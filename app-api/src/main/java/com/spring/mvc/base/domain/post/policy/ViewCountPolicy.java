@@ -1,40 +1,46 @@
 package com.spring.mvc.base.domain.post.policy;
 
 import com.spring.mvc.base.application.post.dto.ViewContext;
-import com.spring.mvc.base.infra.redis.adapter.RedisService;
-import java.time.Duration;
+import com.spring.mvc.base.domain.post.policy.dedup.LocalViewDeduplicator;
+import com.spring.mvc.base.domain.post.policy.dedup.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
+/**
+ * 조회수 증가 여부 판단
+ * 같은 사용자(회원 또는 IP + User-Agent)의 재조회는 중복 제거 기간 동안 세지 않는다.
+ * 중복 제거 방식은 post.view-count.dedup-mode 로 선택한다 (EXACT / BLOOM).
+ * Redis 장애(서킷 오픈 포함) 시에는 노드 로컬 LRU로 중복을 제거한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ViewCountPolicy {
 
-    private static final Duration VIEW_COUNT_TTL = Duration.ofMinutes(10);
-    private static final String VIEW_KEY_PREFIX = "view-count:";
-
-    private final RedisService redisService;
+    private final ViewDeduplicator viewDeduplicator;
+    private final LocalViewDeduplicator localViewDeduplicator;
 
     public boolean shouldCount(Long postId, ViewContext context){
-        String redisKey = buildViewKey(postId, context);
-
-        if (redisService.find(redisKey).isPresent()) {
-            return false;
+        String viewerKey = buildViewerKey(context);
+        try {
+            return viewDeduplicator.isFirstView(postId, viewerKey);
+        } catch (DataAccessException e) {
+            log.debug("조회수 중복 제거 Redis 사용 불가, 로컬 폴백 사용: {}", e.getMessage());
+            return localViewDeduplicator.isFirstView(postId, viewerKey);
         }
-
-        redisService.save(redisKey, "1", VIEW_COUNT_TTL);
-        return true;
     }
 
-    private String buildViewKey(Long postId, ViewContext context) {
+    private String buildViewerKey(ViewContext context) {
         if (context.getMemberId() != null) {
-            return VIEW_KEY_PREFIX + postId + ":member:" + context.getMemberId();
+            return "member:" + context.getMemberId();
         }
         String ip = context.getIpAddress();
         String userAgent = context.getUserAgent();
         if (userAgent == null || userAgent.isBlank()) {
-            return VIEW_KEY_PREFIX + postId + ":ip:" + (ip == null ? "unknown" : ip);
+            return "ip:" + (ip == null ? "unknown" : ip);
         }
-        return VIEW_KEY_PREFIX + postId + ":ip:" + (ip == null ? "unknown" : ip) + ":ua:" + userAgent.hashCode();
+        return "ip:" + (ip == null ? "unknown" : ip) + ":ua:" + userAgent.hashCode();
     }
 }
@@ -0,0 +1,75 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글별로 중복 제거 기간 단위의 Bloom 필터(Redis 비트맵)를 두고 교대로 사용한다
+ * 현재 기간과 직전 기간 필터를 함께 확인하므로 재조회는 최소 한 기간, 최대 두 기간 동안 무시된다.
+ * 사용자 수와 무관하게 게시글당 고정 메모리를 쓰는 대신 오탐(새 조회를 중복으로 판단)이 생길 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "post.view-count.dedup-mode", havingValue = "bloom")
+@RequiredArgsConstructor
+public class BloomViewDeduplicator implements ViewDeduplicator {
+
+    private static final String BLOOM_KEY_PREFIX = "view-bloom:";
+
+    private final RedisService redisService;
+    private final ViewCountProperties viewCountProperties;
+    private final Clock clock = Clock.systemUTC();
+
+    @Override
+    public boolean isFirstView(Long postId, String viewerKey) {
+        Duration window = viewCountProperties.getDedupWindow();
+        long bucket = clock.millis() / window.toMillis();
+
+        return redisService.addToRotatingBloomFilter(
+                keyOf(postId, bucket),
+                keyOf(postId, bucket - 1),
+                offsetsOf(viewerKey),
+                window.multipliedBy(2)
+        );
+    }
+
+    /**
+     * 두 개의 64비트 해시로 k개의 비트 위치를 만든다 (double hashing)
+     */
+    List<Long> offsetsOf(String viewerKey) {
+        ByteBuffer digest = ByteBuffer.wrap(sha256(viewerKey));
+        long hash1 = digest.getLong();
+        long hash2 = digest.getLong();
+
+        int bits = viewCountProperties.getBloomBits();
+        int hashFunctions = viewCountProperties.getBloomHashFunctions();
+        List<Long> offsets = new ArrayList<>(hashFunctions);
+        for (int i = 0; i < hashFunctions; i++) {
+            offsets.add(Math.floorMod(hash1 + i * hash2, (long) bits));
+        }
+        return offsets;
+    }
+
+    // 같은 게시글의 기간별 키가 Redis Cluster의 같은 슬롯에 놓이도록 해시 태그를 사용한다
+    private String keyOf(Long postId, long bucket) {
+        return BLOOM_KEY_PREFIX + "{" + postId + "}:" + bucket;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글/사용자별 키를 SET NX로 기록한다
+ * 정확하지만 중복 제거 기간 동안 조회한 사용자 수만큼 키가 생긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.view-count.dedup-mode", havingValue = "exact", matchIfMissing = true)
+public class ExactViewDeduplicator implements ViewDeduplicator {
+
+    private static final String VIEW_KEY_PREFIX = "view-count:";
+
+    private final RedisService redisService;
+    private final ViewCountProperties viewCountProperties;
+
+    @Override
+    public boolean isFirstView(Long postId, String viewerKey) {
+        return redisService.saveIfAbsent(
+                VIEW_KEY_PREFIX + postId + ":" + viewerKey, "1", viewCountProperties.getDedupWindow());
+    }
+}
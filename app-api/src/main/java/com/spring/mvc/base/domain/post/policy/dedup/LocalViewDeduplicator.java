@@ -0,0 +1,28 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis를 사용할 수 없을 때 쓰는 노드 로컬 중복 제거
+ * 최대 크기를 넘으면 오래된 항목부터 제거하므로 메모리는 제한되지만, 노드 간에는 중복 제거가 공유되지 않는다.
+ * ViewDeduplicator 빈과 충돌하지 않도록 인터페이스를 구현하지 않는다.
+ */
+@Component
+public class LocalViewDeduplicator {
+
+    private final Cache<String, Boolean> recentViews;
+
+    public LocalViewDeduplicator(ViewCountProperties viewCountProperties) {
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(viewCountProperties.getLocalFallbackMaximumSize())
+                .expireAfterWrite(viewCountProperties.getDedupWindow())
+                .build();
+    }
+
+    public boolean isFirstView(Long postId, String viewerKey) {
+        return recentViews.asMap().putIfAbsent(postId + ":" + viewerKey, Boolean.TRUE) == null;
+    }
+}
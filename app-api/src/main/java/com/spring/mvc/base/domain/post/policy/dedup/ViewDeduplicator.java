@@ -0,0 +1,12 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+/**
+ * 같은 사용자의 반복 조회를 걸러내는 전략
+ */
+public interface ViewDeduplicator {
+
+    /**
+     * 중복 제거 기간 안에서 처음 본 조회인지 확인하고 기록한다
+     */
+    boolean isFirstView(Long postId, String viewerKey);
+}
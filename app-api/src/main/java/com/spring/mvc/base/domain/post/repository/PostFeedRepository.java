@@ -0,0 +1,52 @@
+package com.spring.mvc.base.domain.post.repository;
+
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostFeedRepository extends JpaRepository<PostFeed, Long> {
+
+    /**
+     * 조회수/좋아요/댓글 수를 원본 게시글 값으로 맞춘다 (증감 대신 복사하므로 재실행해도 같은 결과)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostFeed f SET "
+            + "f.viewsCount = (SELECT p.viewsCount FROM Post p WHERE p.id = f.id), "
+            + "f.likeCount = (SELECT p.likeCount FROM Post p WHERE p.id = f.id), "
+            + "f.commentCount = (SELECT p.commentCount FROM Post p WHERE p.id = f.id) "
+            + "WHERE f.id IN :postIds")
+    int syncCounters(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostFeed f SET f.memberNickname = :nickname, f.memberProfileImageUrl = :profileImageUrl "
+            + "WHERE f.memberId = :memberId")
+    int updateAuthor(
+            @Param("memberId") Long memberId,
+            @Param("nickname") String nickname,
+            @Param("profileImageUrl") String profileImageUrl
+    );
+
+    @Query("SELECT f FROM PostFeed f WHERE f.id > :lastId ORDER BY f.id")
+    List<PostFeed> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 원본 게시글이 없거나 삭제된 읽기 모델 행
+     */
+    @Query("SELECT f.id FROM PostFeed f WHERE NOT EXISTS "
+            + "(SELECT 1 FROM Post p WHERE p.id = f.id AND p.isDeleted = false) ORDER BY f.id")
+    List<Long> findOrphanIds(Pageable pageable);
+
+    @Query("SELECT COUNT(f) FROM PostFeed f WHERE NOT EXISTS "
+            + "(SELECT 1 FROM Post p WHERE p.id = f.id AND p.isDeleted = false)")
+    long countOrphans();
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM PostFeed f WHERE NOT EXISTS "
+            + "(SELECT 1 FROM Post p WHERE p.id = f.id AND p.isDeleted = false)")
+    int deleteOrphans();
+}
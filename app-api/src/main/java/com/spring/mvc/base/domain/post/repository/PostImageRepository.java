@@ -0,0 +1,27 @@
+package com.spring.mvc.base.domain.post.repository;
+
+import com.spring.mvc.base.domain.post.entity.PostImage;
+import com.spring.mvc.base.domain.post.entity.id.PostImageId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostImageRepository extends JpaRepository<PostImage, PostImageId> {
+
+    @Query("SELECT pi.id.fileId FROM PostImage pi WHERE pi.id.postId = :postId")
+    List<Long> findFileIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT pi.id FROM PostImage pi WHERE pi.id.postId IN :postIds")
+    List<PostImageId> findIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostImage pi WHERE pi.id.postId = :postId AND pi.id.fileId IN :fileIds")
+    int deleteByPostIdAndFileIdIn(@Param("postId") Long postId, @Param("fileIds") Collection<Long> fileIds);
+
+    @Modifying
+    @Query("DELETE FROM PostImage pi WHERE pi.id.postId IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,7 +1,10 @@
 package com.spring.mvc.base.domain.post.repository;
 
 import com.spring.mvc.base.domain.post.entity.PostLike;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +16,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     void deleteByPostIdAndMemberId(Long postId, Long memberId);
 
     long countByPostId(Long postId);
+
+    @Query("SELECT pl.id.memberId FROM PostLike pl WHERE pl.id.postId = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT pl.id.memberId FROM PostLike pl WHERE pl.id.postId = :postId AND pl.id.memberId IN :memberIds")
+    List<Long> findMemberIdsByPostIdAndMemberIdIn(
+            @Param("postId") Long postId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.memberId = :memberId AND pl.id.postId IN :postIds")
+    List<Long> findPostIdsByMemberIdAndPostIdIn(
+            @Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.id.postId = :postId AND pl.id.memberId IN :memberIds")
+    int deleteByPostIdAndMemberIdIn(@Param("postId") Long postId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.id.postId IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
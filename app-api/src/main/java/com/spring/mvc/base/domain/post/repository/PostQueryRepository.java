@@ -1,7 +1,11 @@
 package com.spring.mvc.base.domain.post.repository;
 
+import com.spring.mvc.base.domain.post.dto.PostCursor;
+import com.spring.mvc.base.domain.post.dto.PostExportRow;
 import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
 import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,4 +13,22 @@ public interface PostQueryRepository {
 
     Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable);
 
+    /**
+     * 목록만 조회 (COUNT 쿼리 없음, limit은 페이지 크기와 다를 수 있음)
+     */
+    List<PostSummaryQueryDto> searchPostSummaries(PostSearchCondition condition, Pageable pageable, int limit);
+
+    long countPosts(PostSearchCondition condition);
+
+    /**
+     * 커서 이후의 게시글을 OFFSET 없이 조회 (COUNT 쿼리 없음)
+     */
+    List<PostSummaryQueryDto> searchPostsByCursor(PostSearchCondition condition, PostCursor cursor, int limit);
+
+    /**
+     * 삭제되지 않은 게시글 전체를 ID 순으로 스트리밍 조회 (내보내기용, 트랜잭션 안에서 닫아야 한다)
+     * fetchSize 단위로 커서에서 읽으므로 전체 결과를 메모리에 올리지 않는다
+     */
+    Stream<PostExportRow> streamForExport(int fetchSize);
+
 }
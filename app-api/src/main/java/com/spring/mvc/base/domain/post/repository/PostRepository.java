@@ -1,7 +1,12 @@
 package com.spring.mvc.base.domain.post.repository;
 
+import com.spring.mvc.base.domain.post.dto.PostSearchDocument;
 import com.spring.mvc.base.domain.post.entity.Post;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +17,17 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @Query("SELECT p FROM Post p JOIN FETCH p.member WHERE p.id = :id AND p.isDeleted = false")
     Optional<Post> findByIdWithMember(@Param("id") Long id);
 
+    /**
+     * 상세 응답용 조회 - 작성자와 시리즈를 함께 읽는다 (태그는 PostTagRepository.findTagNamesByPostIdIn으로 따로 조회)
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.member LEFT JOIN FETCH p.series "
+            + "WHERE p.id = :id AND p.isDeleted = false")
+    Optional<Post> findDetailById(@Param("id") Long id);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.member LEFT JOIN FETCH p.series "
+            + "WHERE p.id IN :ids AND p.isDeleted = false")
+    List<Post> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
     int incrementLikeCount(@Param("postId") Long postId);
@@ -20,10 +36,18 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
     int decrementLikeCount(@Param("postId") Long postId);
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = (SELECT COUNT(pl) FROM PostLike pl WHERE pl.post = p) WHERE p.id = :postId")
+    int syncLikeCount(@Param("postId") Long postId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.viewsCount = p.viewsCount + 1 WHERE p.id = :postId")
     int incrementViewCount(@Param("postId") Long postId);
 
+    @Modifying
+    @Query("UPDATE Post p SET p.viewsCount = p.viewsCount + :delta WHERE p.id = :postId")
+    int addViewCount(@Param("postId") Long postId, @Param("delta") long delta);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
     int incrementCommentCount(@Param("postId") Long postId);
@@ -32,4 +56,44 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
     int decrementCommentCount(@Param("postId") Long postId);
 
+    @Query("SELECT p.id FROM Post p WHERE p.member.id = :memberId AND p.isDeleted = false")
+    List<Long> findLiveIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT p.id FROM Post p WHERE p.isDeleted = false AND p.id > :lastId ORDER BY p.id")
+    List<Long> findLiveIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    boolean existsByIdAndIsDeletedFalse(Long id);
+
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.PostSearchDocument(p.id, p.title, p.content) "
+            + "FROM Post p WHERE p.isDeleted = false AND p.id > :lastId ORDER BY p.id")
+    List<PostSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.PostSearchDocument(p.id, p.title, p.content) "
+            + "FROM Post p WHERE p.id = :postId AND p.isDeleted = false")
+    Optional<PostSearchDocument> findSearchDocument(@Param("postId") Long postId);
+
+    /**
+     * 영구 삭제 대상 - 삭제 표시 후 cutoff 이전에 마지막으로 수정된 게시글 ID (ID 순 키셋)
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.isDeleted = true AND p.updatedAt < :cutoff AND p.id > :lastId "
+            + "ORDER BY p.id")
+    List<Long> findPurgeableIdsAfter(
+            @Param("lastId") Long lastId,
+            @Param("cutoff") Instant cutoff,
+            Pageable pageable
+    );
+
+    @Query("SELECT MIN(p.updatedAt) FROM Post p WHERE p.isDeleted = true")
+    Optional<Instant> findOldestDeletedUpdatedAt();
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :ids AND p.isDeleted = true")
+    int deleteDeletedByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 영구 삭제되는 시리즈를 가리키는 게시글의 연결을 끊는다 (삭제 여부와 무관)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.series = null WHERE p.series.id IN :seriesIds")
+    int detachSeries(@Param("seriesIds") Collection<Long> seriesIds);
 }
@@ -1,8 +1,13 @@
 package com.spring.mvc.base.domain.post.repository;
 
+import com.spring.mvc.base.domain.post.dto.PostTagName;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
+import com.spring.mvc.base.domain.post.dto.TagUsageCount;
 import com.spring.mvc.base.domain.post.entity.PostTag;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,4 +17,24 @@ public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     List<PostTag> findByPostIdWithTag(@Param("postId") Long postId);
 
     void deleteByPostId(Long postId);
+
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.PostTagName(pt.post.id, t.name) "
+            + "FROM PostTag pt JOIN pt.tag t WHERE pt.post.id IN :postIds")
+    List<PostTagName> findTagNamesByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.TagIdName(t.id, t.name) "
+            + "FROM PostTag pt JOIN pt.tag t WHERE pt.id.postId = :postId")
+    List<TagIdName> findTagIdNamesByPostId(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostTag pt WHERE pt.id.postId = :postId AND pt.id.tagId IN :tagIds")
+    int deleteByPostIdAndTagIdIn(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.TagUsageCount(pt.id.tagId, COUNT(pt)) "
+            + "FROM PostTag pt WHERE pt.id.postId IN :postIds GROUP BY pt.id.tagId")
+    List<TagUsageCount> countTagUsagesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PostTag pt WHERE pt.id.postId IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
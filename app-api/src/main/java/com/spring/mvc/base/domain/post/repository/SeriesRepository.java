@@ -1,9 +1,13 @@
 package com.spring.mvc.base.domain.post.repository;
 
 import com.spring.mvc.base.domain.post.entity.Series;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,4 +18,19 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
 
     @Query("SELECT s FROM Series s WHERE s.id = :id AND s.isDeleted = false")
     Optional<Series> findByIdAndNotDeleted(@Param("id") Long id);
+
+    @Query("SELECT s.id FROM Series s WHERE s.isDeleted = true AND s.updatedAt < :cutoff AND s.id > :lastId "
+            + "ORDER BY s.id")
+    List<Long> findPurgeableIdsAfter(
+            @Param("lastId") Long lastId,
+            @Param("cutoff") Instant cutoff,
+            Pageable pageable
+    );
+
+    @Query("SELECT MIN(s.updatedAt) FROM Series s WHERE s.isDeleted = true")
+    Optional<Instant> findOldestDeletedUpdatedAt();
+
+    @Modifying
+    @Query("DELETE FROM Series s WHERE s.id IN :ids AND s.isDeleted = true")
+    int deleteDeletedByIdIn(@Param("ids") Collection<Long> ids);
 }
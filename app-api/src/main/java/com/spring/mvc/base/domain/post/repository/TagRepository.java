@@ -1,6 +1,8 @@
 package com.spring.mvc.base.domain.post.repository;
 
+import com.spring.mvc.base.domain.post.dto.TagIdName;
 import com.spring.mvc.base.domain.post.entity.Tag;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,13 +10,16 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagUpsertRepository {
 
     Optional<Tag> findByName(String name);
 
     @Query("SELECT t FROM Tag t WHERE t.name IN :names")
     List<Tag> findByNameIn(@Param("names") List<String> names);
 
+    @Query("SELECT new com.spring.mvc.base.domain.post.dto.TagIdName(t.id, t.name) FROM Tag t WHERE t.name IN :names")
+    List<TagIdName> findIdNamesByNameIn(@Param("names") Collection<String> names);
+
     @Query("SELECT t FROM Tag t ORDER BY t.usageCount DESC LIMIT :limit")
     List<Tag> findTopByUsageCount(@Param("limit") int limit);
 
@@ -30,7 +35,15 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     @Query("UPDATE Tag t SET t.usageCount = t.usageCount + 1 WHERE t.id IN :tagIds")
     int bulkIncrementUsageCount(@Param("tagIds") List<Long> tagIds);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    /**
+     * 게시글 수정 도중 호출되므로 영속성 컨텍스트를 비우지 않는다 (태그 엔티티는 로드하지 않는다)
+     */
+    @Modifying(flushAutomatically = true)
     @Query("UPDATE Tag t SET t.usageCount = t.usageCount - 1 WHERE t.id IN :tagIds AND t.usageCount > 0")
     int bulkDecrementUsageCount(@Param("tagIds") List<Long> tagIds);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = CASE WHEN t.usageCount > :delta THEN t.usageCount - :delta ELSE 0 END "
+            + "WHERE t.id IN :tagIds")
+    int subtractUsageCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
 }
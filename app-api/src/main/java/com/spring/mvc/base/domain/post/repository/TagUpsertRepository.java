@@ -0,0 +1,18 @@
+package com.spring.mvc.base.domain.post.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TagUpsertRepository {
+
+    /**
+     * 태그 사용 수를 1 증가시키고, 없는 태그는 사용 수 1로 생성한다
+     * 단일 INSERT ... ON DUPLICATE KEY UPDATE 이므로 같은 새 태그를 동시에 만들어도 유니크 제약 위반이 나지 않는다
+     */
+    int upsertIncrementUsageCount(Collection<String> names);
+
+    /**
+     * 태그별 사용 수를 주어진 만큼 증가시키고, 없는 태그는 그 값으로 생성한다 (대량 등록용)
+     */
+    int upsertAddUsageCount(Map<String, Long> increments);
+}
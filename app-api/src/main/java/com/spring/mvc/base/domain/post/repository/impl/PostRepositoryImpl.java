@@ -2,21 +2,32 @@ package com.spring.mvc.base.domain.post.repository.impl;
 
 import static com.spring.mvc.base.domain.member.entity.QMember.member;
 import static com.spring.mvc.base.domain.post.entity.QPost.post;
+import static com.spring.mvc.base.domain.post.entity.QPostFeed.postFeed;
 import static com.spring.mvc.base.domain.post.entity.QPostTag.postTag;
 import static com.spring.mvc.base.domain.post.entity.QTag.tag;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.spring.mvc.base.domain.common.repository.QueryDslOrderUtil;
+import com.spring.mvc.base.domain.post.dto.PostCursor;
+import com.spring.mvc.base.domain.post.dto.PostExportRow;
 import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
 import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
 import com.spring.mvc.base.domain.post.repository.PostQueryRepository;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -40,54 +51,175 @@ public class PostRepositoryImpl implements PostQueryRepository {
 
     @Override
     public Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable) {
-        PostSearchCondition effectiveCondition = condition != null ? condition : PostSearchCondition.empty();
-        BooleanBuilder predicate = new BooleanBuilder();
-        predicate.and(isNotDeleted());
-        addCondition(predicate, containsKeyword(effectiveCondition.keyword()));
-        addCondition(predicate, eqMemberId(effectiveCondition.memberId()));
-        addCondition(predicate, inTags(effectiveCondition.tags()));
+        List<PostSummaryQueryDto> content = searchPostSummaries(condition, pageable, pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countPosts(condition));
+    }
+
+    @Override
+    public List<PostSummaryQueryDto> searchPostSummaries(PostSearchCondition condition, Pageable pageable, int limit) {
+        return queryFactory
+                .select(summaryProjection())
+                .from(postFeed)
+                .where(buildPredicate(condition))
+                .orderBy(getOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countPosts(PostSearchCondition condition) {
+        Long count = queryFactory
+                .select(postFeed.count())
+                .from(postFeed)
+                .where(buildPredicate(condition))
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<PostSummaryQueryDto> searchPostsByCursor(PostSearchCondition condition, PostCursor cursor, int limit) {
+        BooleanBuilder predicate = buildPredicate(condition);
+        addCondition(predicate, afterCursor(cursor));
+
+        return queryFactory
+                .select(summaryProjection())
+                .from(postFeed)
+                .where(predicate)
+                .orderBy(getCursorOrderSpecifiers(cursor))
+                .limit(limit)
+                .fetch();
+    }
 
-        List<PostSummaryQueryDto> content = queryFactory
-                .select(Projections.constructor(PostSummaryQueryDto.class,
+    @Override
+    public Stream<PostExportRow> streamForExport(int fetchSize) {
+        return queryFactory
+                .select(Projections.constructor(PostExportRow.class,
                         post.id,
+                        member.id,
+                        member.nickname,
                         post.title,
-                        post.createdAt,
+                        post.content,
+                        post.summary,
+                        post.visibility,
                         post.viewsCount,
                         post.likeCount,
                         post.commentCount,
-                        member.id,
-                        member.nickname,
-                        member.profileImageUrl,
-                        post.summary,
-                        post.thumbnail
+                        post.createdAt,
+                        post.updatedAt
                 ))
                 .from(post)
                 .join(post.member, member)
-                .where(predicate)
-                .orderBy(getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .where(post.isDeleted.isFalse())
+                .orderBy(post.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
 
-        var countQuery = queryFactory
-                .select(post.count())
-                .from(post)
-                .where(predicate);
+    private BooleanBuilder buildPredicate(PostSearchCondition condition) {
+        PostSearchCondition effectiveCondition = condition != null ? condition : PostSearchCondition.empty();
+        BooleanBuilder predicate = new BooleanBuilder();
+        if (effectiveCondition.hasPostIds()) {
+            addCondition(predicate, inPostIds(effectiveCondition.postIds()));
+        } else {
+            addCondition(predicate, containsKeyword(effectiveCondition.keyword()));
+        }
+        addCondition(predicate, eqMemberId(effectiveCondition.memberId()));
+        addCondition(predicate, inTags(effectiveCondition.tags()));
+        addCondition(predicate, hasAllTags(effectiveCondition.requiredTags()));
+        addCondition(predicate, notInTags(effectiveCondition.excludedTags()));
+        return predicate;
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private ConstructorExpression<PostSummaryQueryDto> summaryProjection() {
+        return Projections.constructor(PostSummaryQueryDto.class,
+                postFeed.id,
+                postFeed.title,
+                postFeed.createdAt,
+                postFeed.viewsCount,
+                postFeed.likeCount,
+                postFeed.commentCount,
+                postFeed.memberId,
+                postFeed.memberNickname,
+                postFeed.memberProfileImageUrl,
+                postFeed.summary,
+                postFeed.thumbnail
+        );
     }
 
     private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable) {
-        return QueryDslOrderUtil.getOrderSpecifiersWithDefault(
+        OrderSpecifier<?>[] orders = QueryDslOrderUtil.getOrderSpecifiersWithDefault(
                 pageable,
-                post,
+                postFeed,
                 ALLOWED_SORT_FIELDS,
-                post.createdAt.desc()
+                postFeed.createdAt.desc()
         );
+
+        // 동일 정렬 값 사이의 순서를 고정하여 커서 조회와 결과 순서를 맞춘다
+        OrderSpecifier<?> last = orders[orders.length - 1];
+        if (last.getTarget().equals(postFeed.id)) {
+            return orders;
+        }
+
+        OrderSpecifier<?>[] withTieBreaker = Arrays.copyOf(orders, orders.length + 1);
+        withTieBreaker[orders.length] = orders[0].isAscending() ? postFeed.id.asc() : postFeed.id.desc();
+        return withTieBreaker;
+    }
+
+    private OrderSpecifier<?>[] getCursorOrderSpecifiers(PostCursor cursor) {
+        Order direction = cursor.ascending() ? Order.ASC : Order.DESC;
+        if (cursor.sortKey() == PostCursor.SortKey.ID) {
+            return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, postFeed.id)};
+        }
+
+        return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(direction, cursorSortPath(cursor.sortKey())),
+                new OrderSpecifier<>(direction, postFeed.id)
+        };
+    }
+
+    private ComparableExpressionBase<?> cursorSortPath(PostCursor.SortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> postFeed.id;
+            case TITLE -> postFeed.title;
+            case VIEWS_COUNT -> postFeed.viewsCount;
+            case LIKE_COUNT -> postFeed.likeCount;
+            case CREATED_AT -> postFeed.createdAt;
+        };
+    }
+
+    /**
+     * 시크(seek) 조건: (정렬 키, ID)가 커서보다 뒤에 있는 행만 조회
+     */
+    private BooleanExpression afterCursor(PostCursor cursor) {
+        if (cursor.isFirstPage()) {
+            return null;
+        }
+
+        Long lastId = cursor.lastId();
+        boolean ascending = cursor.ascending();
+        return switch (cursor.sortKey()) {
+            case ID -> ascending ? postFeed.id.gt(lastId) : postFeed.id.lt(lastId);
+            case TITLE -> seek(postFeed.title, cursor.lastValue(), lastId, ascending);
+            case VIEWS_COUNT -> seek(postFeed.viewsCount, cursor.lastValueAsLong(), lastId, ascending);
+            case LIKE_COUNT -> seek(postFeed.likeCount, cursor.lastValueAsLong(), lastId, ascending);
+            case CREATED_AT -> seek(postFeed.createdAt, cursor.lastValueAsInstant(), lastId, ascending);
+        };
     }
 
-    private BooleanExpression isNotDeleted() {
-        return post.isDeleted.eq(false);
+    private <T extends Comparable<?>> BooleanExpression seek(
+            ComparableExpression<T> path, T lastValue, Long lastId, boolean ascending
+    ) {
+        BooleanExpression beyond = ascending ? path.gt(lastValue) : path.lt(lastValue);
+        return beyond.or(path.eq(lastValue).and(ascending ? postFeed.id.gt(lastId) : postFeed.id.lt(lastId)));
+    }
+
+    private BooleanExpression seek(NumberPath<Long> path, Long lastValue, Long lastId, boolean ascending) {
+        BooleanExpression beyond = ascending ? path.gt(lastValue) : path.lt(lastValue);
+        return beyond.or(path.eq(lastValue).and(ascending ? postFeed.id.gt(lastId) : postFeed.id.lt(lastId)));
     }
 
     private BooleanExpression containsKeyword(String keyword) {
@@ -95,12 +227,26 @@ public class PostRepositoryImpl implements PostQueryRepository {
             return null;
         }
 
-        return post.title.containsIgnoreCase(keyword)
-                .or(post.content.containsIgnoreCase(keyword));
+        // 본문은 읽기 모델에 두지 않으므로 검색 색인을 쓰지 않을 때만 게시글 테이블을 함께 본다
+        return postFeed.title.containsIgnoreCase(keyword)
+                .or(postFeed.id.in(
+                    queryFactory
+                        .select(post.id)
+                        .from(post)
+                        .where(post.isDeleted.eq(false), post.content.containsIgnoreCase(keyword))
+                ));
+    }
+
+    private BooleanExpression inPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return postFeed.id.isNull(); // 빈 IN 절 대신 항상 거짓인 조건
+        }
+
+        return postFeed.id.in(postIds);
     }
 
     private BooleanExpression eqMemberId(Long memberId) {
-        return memberId != null ? post.member.id.eq(memberId) : null;
+        return memberId != null ? postFeed.memberId.eq(memberId) : null;
     }
 
     private BooleanExpression inTags(List<String> tags) {
@@ -108,7 +254,37 @@ public class PostRepositoryImpl implements PostQueryRepository {
             return null;
         }
 
-        return post.id.in(
+        return postFeed.id.in(
+            queryFactory
+                .select(postTag.post.id)
+                .from(postTag)
+                .join(postTag.tag, tag)
+                .where(tag.name.in(tags))
+        );
+    }
+
+    private BooleanExpression hasAllTags(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+
+        return postFeed.id.in(
+            queryFactory
+                .select(postTag.post.id)
+                .from(postTag)
+                .join(postTag.tag, tag)
+                .where(tag.name.in(tags))
+                .groupBy(postTag.post.id)
+                .having(tag.name.countDistinct().eq((long) tags.size()))
+        );
+    }
+
+    private BooleanExpression notInTags(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+
+        return postFeed.id.notIn(
             queryFactory
                 .select(postTag.post.id)
                 .from(postTag)
@@ -0,0 +1,87 @@
+package com.spring.mvc.base.domain.post.repository.impl;
+
+import com.spring.mvc.base.domain.post.repository.TagUpsertRepository;
+import com.spring.mvc.base.infra.id.SnowflakeIdGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagUpsertRepository {
+
+    private final EntityManager entityManager;
+
+    private volatile Boolean rowAliasSupported;
+
+    @Override
+    public int upsertIncrementUsageCount(Collection<String> names) {
+        return upsertAddUsageCount(names.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), name -> 1L)));
+    }
+
+    @Override
+    public int upsertAddUsageCount(Map<String, Long> increments) {
+        if (increments.isEmpty()) {
+            return 0;
+        }
+
+        // 동시 upsert 간 행 잠금 순서를 맞춰 교착을 피한다
+        List<String> sortedNames = increments.keySet().stream().sorted().toList();
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO tag (id, name, usage_count, created_at, updated_at) VALUES ");
+        for (int i = 0; i < sortedNames.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i).append(", :name").append(i).append(", :count").append(i).append(", :now, :now)");
+        }
+        // MySQL 8.0.20부터 VALUES()는 경고를 남기므로 행 별칭을 쓰고, 별칭을 모르는 DB(H2 MySQL 모드, MariaDB)만 VALUES()를 쓴다
+        if (supportsRowAlias()) {
+            sql.append(" AS new ON DUPLICATE KEY UPDATE usage_count = tag.usage_count + new.usage_count, updated_at = :now");
+        } else {
+            sql.append(" ON DUPLICATE KEY UPDATE usage_count = usage_count + VALUES(usage_count), updated_at = :now");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter("now", Instant.now());
+        SnowflakeIdGenerator idGenerator = SnowflakeIdGenerator.shared();
+        for (int i = 0; i < sortedNames.size(); i++) {
+            String name = sortedNames.get(i);
+            // 이미 있는 태그면 새로 발급한 ID는 버려진다
+            query.setParameter("id" + i, idGenerator.nextId());
+            query.setParameter("name" + i, name);
+            query.setParameter("count" + i, increments.get(name));
+        }
+
+        return query.executeUpdate();
+    }
+
+    private boolean supportsRowAlias() {
+        Boolean supported = rowAliasSupported;
+        if (supported == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            supported = dialect instanceof MySQLDialect
+                    && !(dialect instanceof MariaDBDialect)
+                    && dialect.getVersion().isSameOrAfter(8, 0, 19);
+            rowAliasSupported = supported;
+        }
+        return supported;
+    }
+}
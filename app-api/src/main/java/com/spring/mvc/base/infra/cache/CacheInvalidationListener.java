@@ -0,0 +1,45 @@
+package com.spring.mvc.base.infra.cache;
+
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드가 발행한 캐시 무효화 메시지를 받아 로컬(L1) 캐시를 비운다.
+ * 리스너 컨테이너가 없는 환경(test 프로필)에서는 구독하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainerProvider.ifAvailable(container -> container.addMessageListener(
+                this,
+                new ChannelTopic(cacheProperties.getInvalidationChannel())
+        ));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        CacheInvalidationMessage.decode(payload).ifPresentOrElse(
+                invalidation -> cacheManager.evictLocal(invalidation.cacheName(), invalidation.key()),
+                () -> log.warn("잘못된 캐시 무효화 메시지: {}", payload)
+        );
+    }
+}
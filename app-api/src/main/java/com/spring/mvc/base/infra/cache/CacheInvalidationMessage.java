@@ -0,0 +1,35 @@
+package com.spring.mvc.base.infra.cache;
+
+import java.util.Optional;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지
+ * "캐시이름:키" 형태의 문자열로 Redis 채널에 발행된다.
+ */
+public record CacheInvalidationMessage(
+        String cacheName,
+        String key
+) {
+
+    private static final String DELIMITER = ":";
+
+    public String encode() {
+        return cacheName + DELIMITER + key;
+    }
+
+    public static Optional<CacheInvalidationMessage> decode(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+
+        int index = payload.indexOf(DELIMITER);
+        if (index <= 0 || index == payload.length() - 1) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CacheInvalidationMessage(
+                payload.substring(0, index),
+                payload.substring(index + 1)
+        ));
+    }
+}
@@ -0,0 +1,258 @@
+package com.spring.mvc.base.infra.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.mvc.base.infra.datasource.PrimaryReads;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ * - 조회: L1 → L2 → loader 순으로 접근하며, 같은 키에 대한 동시 로딩은 L1에서 한 번으로 합쳐진다.
+ * - 무효화: L1/L2를 모두 지우고 Redis 채널로 무효화 메시지를 발행해 다른 노드의 L1도 비운다.
+ * - Redis 장애 시에는 L2를 건너뛰고 loader 결과를 그대로 사용한다.
+ * - loader는 primary에서 읽는다. 무효화 직후 지연된 복제본의 이전 값을 TTL 동안 다시 담지 않게 한다.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private static final String REMOTE_KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final Class<V> valueType;
+    private final Cache<String, V> localCache;
+    private final Duration remoteTtl;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final String invalidationChannel;
+
+    private final LongAdder remoteHitCount = new LongAdder();
+    private final LongAdder remoteMissCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    TwoLevelCache(
+            String name,
+            Class<V> valueType,
+            Cache<String, V> localCache,
+            Duration remoteTtl,
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            String invalidationChannel
+    ) {
+        this.name = name;
+        this.valueType = valueType;
+        this.localCache = localCache;
+        this.remoteTtl = remoteTtl;
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(Object key, Supplier<V> loader) {
+        return localCache.get(String.valueOf(key), cacheKey -> loadThroughRemote(cacheKey, loader));
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다: L1 → L2(MGET 한 번) → loader(남은 키 한 번) 순으로 채운다.
+     * 단건 조회와 달리 동시 로딩을 합치지 않으며, loader 결과에 없는 키는 반환값에서도 빠진다.
+     */
+    public <K> Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<String, K> keysByCacheKey = new LinkedHashMap<>();
+        keys.forEach(key -> keysByCacheKey.put(String.valueOf(key), key));
+
+        Map<K, V> values = new HashMap<>();
+        localCache.getAllPresent(keysByCacheKey.keySet())
+                .forEach((cacheKey, value) -> values.put(keysByCacheKey.get(cacheKey), value));
+
+        List<String> localMisses = keysByCacheKey.keySet().stream()
+                .filter(cacheKey -> !values.containsKey(keysByCacheKey.get(cacheKey)))
+                .toList();
+        if (localMisses.isEmpty()) {
+            return values;
+        }
+
+        Map<String, V> remoteValues = readRemoteAll(localMisses);
+        remoteHitCount.add(remoteValues.size());
+        remoteMissCount.add(localMisses.size() - remoteValues.size());
+        localCache.putAll(remoteValues);
+        remoteValues.forEach((cacheKey, value) -> values.put(keysByCacheKey.get(cacheKey), value));
+
+        List<K> remoteMisses = localMisses.stream()
+                .filter(cacheKey -> !remoteValues.containsKey(cacheKey))
+                .map(keysByCacheKey::get)
+                .toList();
+        if (remoteMisses.isEmpty()) {
+            return values;
+        }
+
+        Map<String, V> loaded = new HashMap<>();
+        PrimaryReads.call(() -> loader.apply(remoteMisses)).forEach((key, value) -> {
+            if (value != null) {
+                loaded.put(String.valueOf(key), value);
+                values.put(key, value);
+            }
+        });
+        localCache.putAll(loaded);
+        writeRemoteAll(loaded);
+        return values;
+    }
+
+    /**
+     * 모든 계층에서 키를 제거하고 다른 노드에 무효화를 전파한다.
+     */
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        localCache.invalidate(cacheKey);
+
+        try {
+            // 원격 삭제와 무효화 전파를 한 번의 왕복으로 보낸다
+            redisService.pipeline(batch -> {
+                batch.delete(remoteKey(cacheKey));
+                batch.publish(invalidationChannel, new CacheInvalidationMessage(name, cacheKey).encode());
+            });
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 무효화 실패: cache={}, key={}, message={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 키를 한 번에 제거한다 (원격 삭제와 무효화 전파를 한 번의 왕복으로 보낸다)
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<String> cacheKeys = keys.stream().map(String::valueOf).toList();
+        localCache.invalidateAll(cacheKeys);
+
+        try {
+            redisService.pipeline(batch -> cacheKeys.forEach(cacheKey -> {
+                batch.delete(remoteKey(cacheKey));
+                batch.publish(invalidationChannel, new CacheInvalidationMessage(name, cacheKey).encode());
+            }));
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 무효화 실패: cache={}, keys={}, message={}", name, cacheKeys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 전달된 무효화 메시지로 로컬 캐시만 비운다.
+     */
+    public void evictLocal(String key) {
+        localCache.invalidate(key);
+        invalidationCount.increment();
+    }
+
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    public CacheStats getLocalStats() {
+        return localCache.stats();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHitCount.sum();
+    }
+
+    public long getRemoteMissCount() {
+        return remoteMissCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    private V loadThroughRemote(String cacheKey, Supplier<V> loader) {
+        Optional<V> remoteValue = readRemote(cacheKey);
+        if (remoteValue.isPresent()) {
+            remoteHitCount.increment();
+            return remoteValue.get();
+        }
+
+        remoteMissCount.increment();
+        V value = PrimaryReads.call(loader);
+        if (value != null) {
+            writeRemote(cacheKey, value);
+        }
+        return value;
+    }
+
+    private Optional<V> readRemote(String cacheKey) {
+        try {
+            return redisService.find(remoteKey(cacheKey))
+                    .map(this::deserialize);
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 조회 실패: cache={}, key={}, message={}", name, cacheKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRemote(String cacheKey, V value) {
+        try {
+            redisService.save(remoteKey(cacheKey), objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (Exception e) {
+            log.warn("원격 캐시 저장 실패: cache={}, key={}, message={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private Map<String, V> readRemoteAll(List<String> cacheKeys) {
+        try {
+            Map<String, V> values = new HashMap<>();
+            redisService.findAll(cacheKeys.stream().map(this::remoteKey).toList())
+                    .forEach((remoteKey, json) -> values.put(cacheKeyOf(remoteKey), deserialize(json)));
+            return values;
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 일괄 조회 실패: cache={}, keys={}, message={}", name, cacheKeys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeRemoteAll(Map<String, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, String> serialized = new HashMap<>();
+            for (Map.Entry<String, V> entry : values.entrySet()) {
+                serialized.put(remoteKey(entry.getKey()), objectMapper.writeValueAsString(entry.getValue()));
+            }
+            redisService.saveAll(serialized, remoteTtl);
+        } catch (Exception e) {
+            log.warn("원격 캐시 일괄 저장 실패: cache={}, keys={}, message={}", name, values.size(), e.getMessage());
+        }
+    }
+
+    private V deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            throw new IllegalStateException("캐시 값 역직렬화 실패: " + name, e);
+        }
+    }
+
+    private String remoteKey(String cacheKey) {
+        return REMOTE_KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private String cacheKeyOf(String remoteKey) {
+        return remoteKey.substring(REMOTE_KEY_PREFIX.length() + name.length() + 1);
+    }
+}
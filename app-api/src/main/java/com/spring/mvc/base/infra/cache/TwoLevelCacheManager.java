@@ -0,0 +1,59 @@
+package com.spring.mvc.base.infra.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시 생성 및 레지스트리
+ * 무효화 메시지 수신과 진단 정보 수집 시 캐시 이름으로 조회하는 용도로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheManager {
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final CacheProperties cacheProperties;
+
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    public <V> TwoLevelCache<V> createCache(String name, Class<V> valueType, CacheProperties.Spec spec) {
+        TwoLevelCache<V> cache = new TwoLevelCache<>(
+                name,
+                valueType,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getLocalMaximumSize())
+                        .expireAfterWrite(spec.getLocalTtl())
+                        .recordStats()
+                        .build(),
+                spec.getRemoteTtl(),
+                redisService,
+                objectMapper,
+                cacheProperties.getInvalidationChannel()
+        );
+
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름입니다: " + name);
+        }
+        return cache;
+    }
+
+    public Collection<TwoLevelCache<?>> getCaches() {
+        return List.copyOf(caches.values());
+    }
+
+    public void evictLocal(String name, String key) {
+        TwoLevelCache<?> cache = caches.get(name);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.spring.mvc.base.infra.cache.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    /**
+     * 노드 간 로컬 캐시 무효화 메시지를 주고받는 Redis 채널
+     */
+    @NotBlank
+    private String invalidationChannel = "cache:invalidation";
+
+    @Valid
+    @NotNull
+    private Spec postDetails = new Spec();
+
+    @Valid
+    @NotNull
+    private Counts counts = new Counts();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        @Positive
+        private long localMaximumSize = 10_000;
+
+        @NotNull
+        private Duration localTtl = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration remoteTtl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Counts {
+
+        @NotNull
+        private CountMode mode = CountMode.CACHED;
+
+        @Positive
+        private long maximumSize = 10_000;
+
+        @NotNull
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 페이징 목록의 전체 개수 집계 방식
+     */
+    public enum CountMode {
+        /** 매 요청마다 COUNT 쿼리 실행 */
+        EXACT,
+        /** COUNT 결과를 TTL 동안 캐싱하고 쓰기 시 무효화 */
+        CACHED,
+        /** COUNT 쿼리 없이 추정치와 다음 페이지 여부만 제공 */
+        ESTIMATED
+    }
+}
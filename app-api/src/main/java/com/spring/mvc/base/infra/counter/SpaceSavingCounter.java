@@ -0,0 +1,140 @@
+package com.spring.mvc.base.infra.counter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Space-Saving 스트리밍 Top-K 카운터
+ * 최대 capacity개의 키만 추적하고, 가득 차면 가장 작은 카운터를 새 키에 넘겨준다 (넘겨받은 값은 error로 기록).
+ * 실제 빈도가 전체 합/capacity보다 큰 키는 반드시 남으며, 각 키의 count는 실제 빈도보다 작지 않다.
+ */
+public class SpaceSavingCounter<K> {
+
+    private final int capacity;
+    private final Map<K, Counter> counters = new HashMap<>();
+    private final NavigableMap<Long, Set<K>> buckets = new TreeMap<>();
+    private long total;
+
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(K key, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+
+        total += delta;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            move(key, counter, counter.count + delta);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            put(key, delta, 0L);
+            return;
+        }
+
+        Map.Entry<Long, Set<K>> min = buckets.firstEntry();
+        Iterator<K> victims = min.getValue().iterator();
+        K victim = victims.next();
+        victims.remove();
+        if (min.getValue().isEmpty()) {
+            buckets.remove(min.getKey());
+        }
+        counters.remove(victim);
+
+        put(key, min.getKey() + delta, min.getKey());
+    }
+
+    /**
+     * 스냅샷 복원용 - 추적 중이 아닌 키만 그대로 넣는다 (가득 차 있으면 무시)
+     */
+    public synchronized void restore(K key, long count, long error) {
+        if (count <= 0 || counters.containsKey(key) || counters.size() >= capacity) {
+            return;
+        }
+
+        total += count;
+        put(key, count, error);
+    }
+
+    /**
+     * count 내림차순 상위 k개
+     */
+    public synchronized List<Entry<K>> top(int k) {
+        List<Entry<K>> result = new ArrayList<>(Math.min(k, counters.size()));
+        for (Map.Entry<Long, Set<K>> bucket : buckets.descendingMap().entrySet()) {
+            for (K key : bucket.getValue()) {
+                if (result.size() >= k) {
+                    return result;
+                }
+                result.add(new Entry<>(key, bucket.getKey(), counters.get(key).error));
+            }
+        }
+        return result;
+    }
+
+    public List<Entry<K>> entries() {
+        return top(Integer.MAX_VALUE);
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void put(K key, long count, long error) {
+        counters.put(key, new Counter(count, error));
+        buckets.computeIfAbsent(count, c -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void move(K key, Counter counter, long newCount) {
+        Set<K> keys = buckets.get(counter.count);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            buckets.remove(counter.count);
+        }
+
+        counter.count = newCount;
+        buckets.computeIfAbsent(newCount, c -> new LinkedHashSet<>()).add(key);
+    }
+
+    private static final class Counter {
+        private long count;
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * count는 실제 빈도의 상한, count - error는 하한이다
+     */
+    public record Entry<K>(
+            K key,
+            long count,
+            long error
+    ) {
+    }
+}
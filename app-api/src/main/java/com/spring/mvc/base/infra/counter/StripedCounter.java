@@ -0,0 +1,73 @@
+package com.spring.mvc.base.infra.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증가분을 누적하는 카운터
+ * 키마다 LongAdder로 누적하므로 같은 키(인기 게시글)에 동시에 몰리는 증가도 하나의 락/CAS에 줄 세우지 않는다.
+ * drain은 sumThenReset으로 꺼내고, 꺼낼 것이 없는 키만 은퇴 표시 후 제거한다.
+ * 제거된 누산기에 뒤늦게 더한 증가는 drain 또는 증가한 스레드 중 한쪽이 꺼내 다시 담으므로 유실되지 않는다.
+ */
+public class StripedCounter {
+
+    private final Map<Long, Stripe> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long key) {
+        add(key, 1L);
+    }
+
+    public void add(Long key, long delta) {
+        Stripe stripe = counters.computeIfAbsent(key, k -> new Stripe());
+        stripe.add(delta);
+
+        // drain이 이 누산기를 제거했다면 남은 값을 꺼내 새 누산기로 옮긴다
+        if (stripe.retired) {
+            long late = stripe.sumThenReset();
+            if (late != 0) {
+                add(key, late);
+            }
+        }
+    }
+
+    /**
+     * 아직 drain 되지 않은 누적분
+     */
+    public long pending(Long key) {
+        Stripe stripe = counters.get(key);
+        return stripe != null ? stripe.sum() : 0L;
+    }
+
+    /**
+     * 키별 누적분을 꺼내고 비운다 (꺼낼 것이 없는 키는 제거한다)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        counters.forEach((key, stripe) -> {
+            long delta = stripe.sumThenReset();
+            if (delta == 0) {
+                stripe.retired = true;
+                counters.remove(key, stripe);
+                // 은퇴 표시 전에 더해진 증가는 여기서, 이후의 증가는 증가한 스레드가 꺼낸다
+                delta = stripe.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+
+        return deltas;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private static final class Stripe extends LongAdder {
+
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,34 @@
+package com.spring.mvc.base.infra.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 블록 안의 조회를 primary로 보내도록 표시한다
+ * 캐시 채우기처럼 복제 지연 중의 이전 값을 읽으면 오래 남는 조회에 사용한다.
+ * 라우팅은 커넥션을 실제로 얻을 때 정해지므로, 트랜잭션의 첫 조회가 블록 안에서 일어나야 효과가 있다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> supplier) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isForced() {
+        return Boolean.TRUE.equals(FORCED.get());
+    }
+}
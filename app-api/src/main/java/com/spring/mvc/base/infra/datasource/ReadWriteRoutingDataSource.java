@@ -0,0 +1,164 @@
+package com.spring.mvc.base.infra.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로, 나머지를 primary로 보내는 DataSource
+ * - 복제본은 라운드 로빈으로 고르고, 상태 확인에 실패한 복제본은 건너뛴다 (모두 실패하면 primary)
+ * - 쓰기 트랜잭션을 수행한 회원은 stickyWindow 동안 읽기도 primary로 보내 복제 지연 중에도 자기 쓰기를 읽게 한다
+ *   (노드 로컬 기록이므로 같은 노드에서 같은 회원에게만 적용된다. 다른 회원/노드는 복제본을 읽는다)
+ * - {@link PrimaryReads} 블록 안의 조회(캐시 채우기)는 항상 primary로 보낸다
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+    private final int healthCheckTimeoutSeconds;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            Duration stickyWindow,
+            Duration healthCheckTimeout
+    ) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = new ArrayList<>(replicas.keySet());
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+
+        String member = currentMember();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriter(member);
+            return PRIMARY;
+        }
+        if (PrimaryReads.isForced()) {
+            return PRIMARY;
+        }
+        if (member != null && recentWriters.getIfPresent(member) != null) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    /**
+     * 복제본마다 커넥션 유효성을 확인해 라우팅 대상을 갱신한다
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5s}")
+    public void checkHealth() {
+        replicas.forEach((key, replica) -> {
+            boolean healthy = isValid(replica);
+            if (healthy && unhealthyReplicas.remove(key)) {
+                log.info("복제본 복구 - {}", key);
+            } else if (!healthy && unhealthyReplicas.add(key)) {
+                log.warn("복제본 상태 확인 실패, 라우팅에서 제외 - {}", key);
+            }
+        });
+    }
+
+    public int getHealthyReplicaCount() {
+        return replicaKeys.size() - unhealthyReplicas.size();
+    }
+
+    /**
+     * 복제본 커넥션 풀을 닫는다 (primary 풀은 별도 빈으로 관리된다)
+     */
+    public void close() {
+        replicas.values().forEach(replica -> {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 풀 종료 실패", e);
+                }
+            }
+        });
+    }
+
+    private Object nextHealthyReplica() {
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(cursor.getAndIncrement(), size));
+            if (!unhealthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markWriter(String member) {
+        if (member == null) {
+            return;
+        }
+
+        recentWriters.put(member, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 복제 지연은 커밋 시점부터 생기므로 커밋 후 기간을 다시 시작한다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(member, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private boolean isValid(DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(healthCheckTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private String currentMember() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
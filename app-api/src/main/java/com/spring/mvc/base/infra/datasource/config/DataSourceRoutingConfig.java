@@ -0,0 +1,79 @@
+package com.spring.mvc.base.infra.datasource.config;
+
+import com.spring.mvc.base.infra.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary 풀과 복제본 풀을 묶은 라우팅 DataSource를 등록한다
+ * 비활성화 시에는 Spring Boot 기본 DataSource 구성을 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> replicaSettings = routingProperties.getReplicas();
+        for (int i = 0; i < replicaSettings.size(); i++) {
+            String key = "replica-" + i;
+            replicas.put(key, createReplica(key, replicaSettings.get(i), primaryDataSource, dataSourceProperties));
+        }
+
+        return new ReadWriteRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                routingProperties.getStickyWindow(),
+                routingProperties.getHealthCheckTimeout()
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private HikariDataSource createReplica(
+            String key,
+            DataSourceRoutingProperties.Replica replica,
+            HikariDataSource primary,
+            DataSourceProperties dataSourceProperties
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(key);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(primary.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 기동은 계속하고, 상태 확인에서 제외한다
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,62 @@
+package com.spring.mvc.base.infra.datasource.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 설정
+ * 라우팅을 켜면 트랜잭션마다 커넥션을 다시 고를 수 있도록 spring.jpa.open-in-view=false 로 두는 것을 권장한다.
+ * (open-in-view가 켜져 있으면 요청의 첫 트랜잭션에서 얻은 커넥션을 요청 끝까지 재사용한다)
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    @Valid
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제본 상태 확인 주기
+     */
+    @NotNull
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 복제본 상태 확인 응답 대기 시간
+     */
+    @NotNull
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 회원이 쓰기 트랜잭션을 수행한 뒤 읽기도 primary로 보내는 기간 (복제 지연 중 자기 쓰기 읽기 보장)
+     * 노드마다 따로 기록하므로 다른 노드로 간 요청이나 다른 회원의 읽기에는 적용되지 않는다.
+     */
+    @NotNull
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        @NotBlank
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,129 @@
+package com.spring.mvc.base.infra.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 프로세스 내 Bloom 필터
+ * 원소를 제거할 수 없고 "없음" 응답만 확정적이므로, "있을 수 있음"이면 원본 저장소에서 다시 확인해야 한다.
+ * 비트 설정은 CAS로 처리하므로 여러 스레드에서 동시에 추가/조회할 수 있다.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong setBitCount = new AtomicLong();
+    private final AtomicLong insertionCount = new AtomicLong();
+
+    public BloomFilter(long bitSize, int hashFunctions) {
+        if (bitSize <= 0 || hashFunctions <= 0) {
+            throw new IllegalArgumentException("bitSize와 hashFunctions는 0보다 커야 합니다.");
+        }
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 비트 수와 해시 함수 수를 계산한다
+     */
+    public static BloomFilter withExpectedInsertions(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("예상 원소 수는 양수, 오탐률은 0과 1 사이여야 합니다.");
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        boolean changed = false;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+        if (changed) {
+            insertionCount.incrementAndGet();
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitSize))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 비트 채움 비율로 계산한 오탐률 추정치
+     */
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashFunctions);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * 새 비트를 하나 이상 세운 추가 횟수 (중복/충돌 원소는 세지 않는 근사치)
+     */
+    public long getInsertionCount() {
+        return insertionCount.get();
+    }
+
+    private boolean setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long previous;
+        do {
+            previous = words.get(wordIndex);
+            if ((previous & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(wordIndex, previous, previous | mask));
+
+        setBitCount.incrementAndGet();
+        return true;
+    }
+
+    private boolean getBit(long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer - 두 번째 해시를 첫 번째 해시에서 파생한다
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,154 @@
+package com.spring.mvc.base.infra.id;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 순으로 정렬되는 53비트 ID 생성기 (Snowflake 방식)
+ * [기준 시각 이후 밀리초 41비트 | 노드 5비트 | 시퀀스 7비트]
+ * DB 왕복 없이 ID를 만들므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있다.
+ * ID는 JSON 숫자로 내려가므로 JavaScript가 정확히 표현하는 2^53 - 1 이하로 유지한다 (2094년까지).
+ *
+ * 시계가 뒤로 가면 마지막으로 사용한 시각을 계속 사용하고, 같은 밀리초의 시퀀스를 다 쓰면 다음 밀리초를 미리 사용한다.
+ * 따라서 대기하지 않고 항상 단조 증가하는 ID를 반환한다.
+ * 노드 ID를 임대한 경우 마지막 갱신으로 보장된 기한이 지나면 다른 노드가 같은 노드 ID를 가져갔을 수 있으므로 발급을 거부한다.
+ */
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int TIMESTAMP_BITS = 41;
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    public static final long MAX_ID = (1L << (TIMESTAMP_BITS + NODE_BITS + SEQUENCE_BITS)) - 1;
+
+    // 이 이상 시계가 뒤로 가면 경고한다
+    private static final long CLOCK_SKEW_WARN_MILLIS = 1_000L;
+
+    private static volatile SnowflakeIdGenerator shared = new SnowflakeIdGenerator(defaultNodeId(), System::currentTimeMillis);
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+    // 노드 ID 임대가 보장되는 시각 (epoch ms, 설정값으로 정한 노드 ID는 제한 없음)
+    private volatile long leaseValidUntil = Long.MAX_VALUE;
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Hibernate가 만든 생성기 인스턴스들이 함께 사용하는 생성기
+     */
+    public static SnowflakeIdGenerator shared() {
+        return shared;
+    }
+
+    /**
+     * 설정으로 정한 노드 ID를 기한 없이 사용한다
+     */
+    public static void configureNodeId(long nodeId) {
+        configureNodeId(nodeId, Long.MAX_VALUE);
+    }
+
+    /**
+     * 노드 ID가 정해지면 공유 생성기를 교체한다
+     * 이전 생성기의 마지막 시각을 이어받아 교체 전후에도 ID가 단조 증가하게 한다.
+     *
+     * @param leaseValidUntil 노드 ID 임대가 보장되는 시각 (epoch ms)
+     */
+    public static synchronized void configureNodeId(long nodeId, long leaseValidUntil) {
+        SnowflakeIdGenerator previous = shared;
+        if (previous.nodeId == nodeId) {
+            previous.leaseValidUntil = leaseValidUntil;
+            return;
+        }
+
+        SnowflakeIdGenerator next = new SnowflakeIdGenerator(nodeId, System::currentTimeMillis);
+        synchronized (previous) {
+            next.lastTimestamp = previous.lastTimestamp;
+            next.sequence = MAX_SEQUENCE;
+        }
+        next.leaseValidUntil = leaseValidUntil;
+        shared = next;
+        log.info("Snowflake 노드 ID 설정 - {}", nodeId);
+    }
+
+    /**
+     * 임대를 갱신했으면 기한을 늘린다 (그 사이 다른 노드 ID로 바뀌었으면 무시한다)
+     */
+    public static synchronized void renewLease(long nodeId, long leaseValidUntil) {
+        if (shared.nodeId == nodeId) {
+            shared.leaseValidUntil = leaseValidUntil;
+        }
+    }
+
+    public synchronized long nextId() {
+        long currentMillis = clock.getAsLong();
+        if (currentMillis >= leaseValidUntil) {
+            throw new IllegalStateException("Snowflake 노드 ID " + nodeId + " 임대를 갱신하지 못해 ID를 발급하지 않습니다.");
+        }
+        long now = currentMillis - EPOCH_MILLIS;
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else {
+            if (lastTimestamp - now > CLOCK_SKEW_WARN_MILLIS) {
+                log.warn("시계가 {}ms 뒤로 이동함 - 마지막 시각으로 ID를 계속 생성합니다.", lastTimestamp - now);
+            }
+            if (++sequence > MAX_SEQUENCE) {
+                lastTimestamp++;
+                sequence = 0;
+            }
+        }
+        if (lastTimestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Snowflake 시각 비트를 모두 사용했습니다: " + lastTimestamp);
+        }
+
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    void setLeaseValidUntil(long leaseValidUntil) {
+        this.leaseValidUntil = leaseValidUntil;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    /**
+     * 노드 ID가 할당되기 전(또는 Spring 컨텍스트가 없는 환경)에 사용하는 호스트 이름 기반 노드 ID
+     * 다른 호스트와 겹칠 수 있으므로 애플리케이션은 SnowflakeNodeIdAssigner가 정한 노드 ID로만 동작한다.
+     */
+    static long defaultNodeId() {
+        try {
+            return Math.floorMod(InetAddress.getLocalHost().getHostName().hashCode(), MAX_NODE_ID + 1);
+        } catch (UnknownHostException e) {
+            return 0L;
+        }
+    }
+}
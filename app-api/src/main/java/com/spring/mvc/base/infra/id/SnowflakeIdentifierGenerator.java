@@ -0,0 +1,15 @@
+package com.spring.mvc.base.infra.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate가 엔티티마다 만드는 생성기 - 모두 공유 SnowflakeIdGenerator에 위임한다
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return SnowflakeIdGenerator.shared().nextId();
+    }
+}
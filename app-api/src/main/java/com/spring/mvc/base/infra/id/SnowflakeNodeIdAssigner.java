@@ -0,0 +1,111 @@
+package com.spring.mvc.base.infra.id;
+
+import com.spring.mvc.base.infra.id.config.SnowflakeProperties;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snowflake 노드 ID를 정한다
+ * 설정값이 있으면 그대로 쓰고, 없으면 Redis 키(snowflake:node:{id})를 SET NX로 임대해 노드 간 중복을 막는다.
+ * 임대에 실패하면 시작을 중단한다 (호스트 이름 기반 기본값은 다른 노드와 겹쳐 중복 ID를 만들 수 있다).
+ * 임대는 값이 자기 것일 때만 TTL을 연장(비교 후 연장 스크립트)하고, 갱신에 계속 실패해 leaseTtl이 지나면
+ * 생성기가 ID 발급을 거부한다 (만료 후 다른 노드가 같은 노드 ID를 임대할 수 있으므로).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnowflakeNodeIdAssigner {
+
+    private static final String LEASE_KEY_PREFIX = "snowflake:node:";
+
+    private final RedisService redisService;
+    private final SnowflakeProperties properties;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Long leasedNodeId;
+
+    @PostConstruct
+    public void assign() {
+        if (properties.getNodeId() != null) {
+            SnowflakeIdGenerator.configureNodeId(properties.getNodeId());
+            return;
+        }
+
+        try {
+            acquireLease();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(
+                    "Snowflake 노드 ID를 임대하지 못했습니다. Redis 연결을 확인하거나 id.snowflake.node-id를 지정하세요.", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${id.snowflake.renew-interval:20s}",
+            fixedDelayString = "${id.snowflake.renew-interval:20s}"
+    )
+    public void renewLease() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+
+        // Redis 명령 전 시각을 기준으로 해야 Redis의 만료 시각보다 늦게 잡히지 않는다
+        long renewedAt = System.currentTimeMillis();
+        try {
+            String key = LEASE_KEY_PREFIX + nodeId;
+            // 만료된 뒤 아무도 가져가지 않았으면 다시 임대한다
+            if (redisService.expireIfValue(key, instanceId, properties.getLeaseTtl())
+                    || redisService.saveIfAbsent(key, instanceId, properties.getLeaseTtl())) {
+                SnowflakeIdGenerator.renewLease(nodeId, renewedAt + properties.getLeaseTtl().toMillis());
+                return;
+            }
+
+            log.warn("Snowflake 노드 ID {} 임대를 잃어 새로 임대합니다.", nodeId);
+            acquireLease();
+        } catch (RuntimeException e) {
+            log.error("Snowflake 노드 ID {} 임대 갱신 실패 - 마지막 갱신 후 {}가 지나면 ID 발급을 중단합니다: {}",
+                    nodeId, properties.getLeaseTtl(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+
+        try {
+            redisService.deleteIfValue(LEASE_KEY_PREFIX + nodeId, instanceId);
+        } catch (RuntimeException e) {
+            log.debug("Snowflake 노드 ID 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    public Long getLeasedNodeId() {
+        return leasedNodeId;
+    }
+
+    private void acquireLease() {
+        int nodeCount = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        int start = ThreadLocalRandom.current().nextInt(nodeCount);
+
+        for (int i = 0; i < nodeCount; i++) {
+            long candidate = (start + i) % nodeCount;
+            long leasedAt = System.currentTimeMillis();
+            if (redisService.saveIfAbsent(LEASE_KEY_PREFIX + candidate, instanceId, properties.getLeaseTtl())) {
+                leasedNodeId = candidate;
+                SnowflakeIdGenerator.configureNodeId(candidate, leasedAt + properties.getLeaseTtl().toMillis());
+                return;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 Snowflake 노드 ID가 없습니다.");
+    }
+}
@@ -0,0 +1,38 @@
+package com.spring.mvc.base.infra.id.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "id.snowflake")
+public class SnowflakeProperties {
+
+    /**
+     * 고정 노드 ID (0 ~ 31). 비워 두면 Redis에서 사용 중이 아닌 ID를 임대한다
+     */
+    @Min(0)
+    @Max(31)
+    private Integer nodeId;
+
+    /**
+     * 노드 ID 임대 기간
+     */
+    @NotNull
+    private Duration leaseTtl = Duration.ofSeconds(60);
+
+    /**
+     * 임대 갱신 주기 (임대 기간보다 충분히 짧게)
+     */
+    @NotNull
+    private Duration renewInterval = Duration.ofSeconds(20);
+}
@@ -2,4 +2,9 @@ package com.spring.mvc.base.infra.image;
 
 public interface ImageStorageService {
     ImageSignature generateUploadSignature(String type);
+
+    /**
+     * 저장소에서 이미지를 지운다 (이미 없으면 성공으로 본다)
+     */
+    void deleteImage(String storageKey);
 }
\ No newline at end of file
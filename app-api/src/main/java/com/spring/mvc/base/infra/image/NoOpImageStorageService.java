@@ -18,5 +18,11 @@ public class NoOpImageStorageService implements ImageStorageService {
         log.warn("CloudinaryConfig 또는 ImageStorageService 구현이 없어 파일 업로드 기능이 비활성화되었습니다.");
         throw new BusinessException(FileErrorCode.FILE_STORAGE_NOT_CONFIGURED);
     }
+
+    @Override
+    public void deleteImage(String storageKey) {
+        // 저장소가 없으면 지울 원본도 없다
+        log.debug("ImageStorageService 구현이 없어 이미지 삭제를 건너뜁니다: storageKey={}", storageKey);
+    }
 }
 
@@ -1,9 +1,14 @@
 package com.spring.mvc.base.infra.image.cloudinary.service;
 
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
 import com.spring.mvc.base.infra.image.ImageSignature;
 import com.spring.mvc.base.infra.image.ImageStorageService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,8 +16,11 @@ import org.springframework.stereotype.Service;
 
 @Service
 @ConditionalOnProperty(prefix = "storage.cloudinary", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
 public class CloudinaryImageStorageService implements ImageStorageService {
 
+    private final Cloudinary cloudinary;
+
     @Value("${storage.cloudinary.api.key}")
     private String apiKey;
 
@@ -56,4 +64,21 @@ public class CloudinaryImageStorageService implements ImageStorageService {
                 folder
         );
     }
+
+    /**
+     * 업로드 시 storageKey(확장자 제외)를 public_id로 쓰므로 같은 값으로 삭제한다
+     */
+    @Override
+    public void deleteImage(String storageKey) {
+        String publicId = storageKey.replaceFirst("\\.[^./]+$", "");
+        try {
+            Map<?, ?> result = cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
+            Object status = result.get("result");
+            if (!"ok".equals(status) && !"not found".equals(status)) {
+                throw new IllegalStateException("cloudinary destroy failed: " + status);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package com.spring.mvc.base.infra.redis.adapter;
+
+import com.spring.mvc.base.infra.redis.circuit.RedisCircuitBreaker;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모든 Redis 호출을 서킷 브레이커로 감싸는 RedisService
+ * Redis가 느려지거나 끊기면 Lettuce 타임아웃까지 기다리지 않고 RedisUnavailableException으로 즉시 실패한다.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakingRedisService implements RedisService {
+
+    private final RedisService delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    @Override
+    public void save(String key, String value, Duration ttl) {
+        circuitBreaker.run(() -> delegate.save(key, value, ttl));
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        return circuitBreaker.execute(() -> delegate.find(key));
+    }
+
+    @Override
+    public Map<String, String> findAll(Collection<String> keys) {
+        return circuitBreaker.execute(() -> delegate.findAll(keys));
+    }
+
+    @Override
+    public void saveAll(Map<String, String> values, Duration ttl) {
+        circuitBreaker.run(() -> delegate.saveAll(values, ttl));
+    }
+
+    @Override
+    public void delete(String key) {
+        circuitBreaker.run(() -> delegate.delete(key));
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        circuitBreaker.run(() -> delegate.publish(channel, message));
+    }
+
+    @Override
+    public boolean saveIfAbsent(String key, String value, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.saveIfAbsent(key, value, ttl));
+    }
+
+    @Override
+    public boolean deleteIfValue(String key, String value) {
+        return circuitBreaker.execute(() -> delegate.deleteIfValue(key, value));
+    }
+
+    @Override
+    public boolean expireIfValue(String key, String value, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.expireIfValue(key, value, ttl));
+    }
+
+    @Override
+    public long increment(String key, long delta, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.increment(key, delta, ttl));
+    }
+
+    @Override
+    public List<Object> pipeline(Consumer<RedisBatch> commands) {
+        return circuitBreaker.execute(() -> delegate.pipeline(commands));
+    }
+
+    @Override
+    public boolean addToRotatingBloomFilter(String key, String previousKey, Collection<Long> offsets, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.addToRotatingBloomFilter(key, previousKey, offsets, ttl));
+    }
+
+    @Override
+    public void addToSet(String key, Collection<String> members) {
+        circuitBreaker.run(() -> delegate.addToSet(key, members));
+    }
+
+    @Override
+    public long addToSetIfPresent(String key, String member, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.addToSetIfPresent(key, member, ttl));
+    }
+
+    @Override
+    public long removeFromSetIfPresent(String key, String member, Duration ttl) {
+        return circuitBreaker.execute(() -> delegate.removeFromSetIfPresent(key, member, ttl));
+    }
+
+    @Override
+    public Map<String, Boolean> isSetMembers(String key, Collection<String> members) {
+        return circuitBreaker.execute(() -> delegate.isSetMembers(key, members));
+    }
+
+    @Override
+    public long getSetSize(String key) {
+        return circuitBreaker.execute(() -> delegate.getSetSize(key));
+    }
+
+    @Override
+    public List<String> scanKeys(String pattern) {
+        return circuitBreaker.execute(() -> delegate.scanKeys(pattern));
+    }
+
+    @Override
+    public List<ScoredMember> reverseRangeByScore(String key, double maxScore, long offset, long count) {
+        return circuitBreaker.execute(() -> delegate.reverseRangeByScore(key, maxScore, offset, count));
+    }
+
+    @Override
+    public long unionAndStore(String destKey, List<String> keys, List<Double> weights) {
+        return circuitBreaker.execute(() -> delegate.unionAndStore(destKey, keys, weights));
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.mvc.base.infra.redis.adapter;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 파이프라인으로 한 번에 전송할 명령 묶음
+ * 명령은 즉시 실행되지 않고 모아서 한 번의 왕복으로 전송되며, 결과는 RedisService.pipeline의 반환값으로 받는다.
+ */
+public interface RedisBatch {
+
+    void save(String key, String value, Duration ttl);
+
+    /**
+     * 결과: 값 또는 null
+     */
+    void find(String key);
+
+    void delete(String key);
+
+    /**
+     * 결과: 저장되었으면 true
+     */
+    void saveIfAbsent(String key, String value, Duration ttl);
+
+    /**
+     * 결과: 증가 후 값
+     */
+    void increment(String key, long delta);
+
+    void expire(String key, Duration ttl);
+
+    void publish(String channel, String message);
+
+    /**
+     * ZINCRBY - 결과: 증가 후 점수
+     */
+    void incrementScore(String key, String member, double delta);
+
+    /**
+     * 점수 상위 maxSize개만 남기고 나머지를 제거한다 (ZREMRANGEBYRANK) - 결과: 제거된 수
+     */
+    void trimSortedSet(String key, long maxSize);
+
+    /**
+     * SADD - 결과: 새로 추가된 수
+     */
+    void addToSet(String key, Collection<String> members);
+
+    /**
+     * SISMEMBER - 결과: 포함 여부
+     */
+    void isSetMember(String key, String member);
+
+    /**
+     * SCARD - 결과: 집합 크기 (키가 없으면 0)
+     */
+    void getSetSize(String key);
+}
@@ -1,7 +1,11 @@
 package com.spring.mvc.base.infra.redis.adapter;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RedisService {
 
@@ -9,6 +13,89 @@ public interface RedisService {
 
     Optional<String> find(java.lang.String key);
 
+    /**
+     * MGET - 여러 키를 한 번에 조회한다
+     * @return 값이 있는 키만 담은 맵
+     */
+    Map<String, String> findAll(Collection<String> keys);
+
+    /**
+     * 여러 키를 같은 TTL로 한 번의 왕복에 저장한다
+     */
+    void saveAll(Map<String, String> values, Duration ttl);
+
     void delete(String key);
 
+    void publish(String channel, String message);
+
+    /**
+     * SET NX - 키가 없을 때만 저장한다
+     * @return 저장되었으면 true
+     */
+    boolean saveIfAbsent(String key, String value, Duration ttl);
+
+    /**
+     * 값이 일치할 때만 키를 삭제한다 (자기가 잡은 잠금/임대만 반납)
+     * @return 삭제되었으면 true
+     */
+    boolean deleteIfValue(String key, String value);
+
+    /**
+     * 값이 일치할 때만 TTL을 다시 설정한다 (자기가 잡은 임대만 연장)
+     * @return 연장되었으면 true
+     */
+    boolean expireIfValue(String key, String value, Duration ttl);
+
+    /**
+     * INCRBY - 키가 새로 만들어진 경우에만 TTL을 설정한다
+     * @return 증가 후 값
+     */
+    long increment(String key, long delta, Duration ttl);
+
+    /**
+     * 여러 명령을 파이프라인으로 한 번에 전송한다
+     * @return 명령 순서대로의 결과 (RedisBatch 각 메서드 설명 참고)
+     */
+    List<Object> pipeline(Consumer<RedisBatch> commands);
+
+    /**
+     * 현재 기간 Bloom 필터(key)에 비트를 세우고, 현재 또는 이전 기간(previousKey)에 이미 있던 원소인지 확인한다
+     * @return 두 필터 모두에 없던 새 원소면 true
+     */
+    boolean addToRotatingBloomFilter(String key, String previousKey, Collection<Long> offsets, Duration ttl);
+
+    void addToSet(String key, Collection<String> members);
+
+    /**
+     * 키가 있을 때만 SADD 하고 TTL을 다시 설정한다
+     * @return 키가 없으면 -1, 추가되면 1, 이미 있으면 0
+     */
+    long addToSetIfPresent(String key, String member, Duration ttl);
+
+    /**
+     * 키가 있을 때만 SREM 하고 TTL을 다시 설정한다
+     * @return 키가 없으면 -1, 제거되면 1, 없던 멤버면 0
+     */
+    long removeFromSetIfPresent(String key, String member, Duration ttl);
+
+    Map<String, Boolean> isSetMembers(String key, Collection<String> members);
+
+    long getSetSize(String key);
+
+    /**
+     * SCAN으로 패턴에 맞는 키를 모두 조회한다 (KEYS와 달리 서버를 블로킹하지 않는다)
+     */
+    List<String> scanKeys(String pattern);
+
+    /**
+     * 점수가 maxScore 이하인 멤버를 점수 내림차순으로 offset부터 count개 조회한다 (ZREVRANGEBYSCORE ... LIMIT)
+     */
+    List<ScoredMember> reverseRangeByScore(String key, double maxScore, long offset, long count);
+
+    /**
+     * 여러 Sorted Set에 가중치를 곱해 합산한 결과를 destKey에 저장한다 (ZUNIONSTORE ... WEIGHTS)
+     * @return 결과 Sorted Set의 크기
+     */
+    long unionAndStore(String destKey, List<String> keys, List<Double> weights);
+
 }
@@ -1,14 +1,79 @@
 package com.spring.mvc.base.infra.redis.adapter;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class RedisServiceImpl implements RedisService {
+
+    // 키 존재 확인, 추가/제거, 만료 연장을 한 번의 왕복으로 원자적으로 수행한다
+    private static final RedisScript<Long> ADD_TO_SET_IF_PRESENT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local result = redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "return result",
+            Long.class
+    );
+    private static final RedisScript<Long> REMOVE_FROM_SET_IF_PRESENT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local result = redis.call('SREM', KEYS[1], ARGV[1]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return result",
+            Long.class
+    );
+    private static final RedisScript<Long> DELETE_IF_VALUE = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+    private static final RedisScript<Long> EXPIRE_IF_VALUE = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+            Long.class
+    );
+    // 이전 기간 필터에 모든 비트가 있거나, 현재 필터에 새로 세운 비트가 없으면 이미 본 원소다
+    private static final RedisScript<Long> ADD_TO_ROTATING_BLOOM_FILTER = RedisScript.of(
+            "local seen = redis.call('EXISTS', KEYS[2]) == 1 "
+                    + "if seen then for i = 2, #ARGV do "
+                    + "  if redis.call('GETBIT', KEYS[2], ARGV[i]) == 0 then seen = false break end end end "
+                    + "local added = 0 "
+                    + "for i = 2, #ARGV do "
+                    + "  if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then added = 1 end end "
+                    + "if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+                    + "if seen then return 0 end "
+                    + "return added",
+            Long.class
+    );
+
+    // 새로 만들어진 카운터(TTL 없음)에만 만료 시간을 건다
+    private static final RedisScript<Long> INCREMENT_WITH_TTL = RedisScript.of(
+            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if redis.call('PTTL', KEYS[1]) == -1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return value",
+            Long.class
+    );
+
+    private static final long SCAN_COUNT = 1_000L;
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
@@ -21,9 +86,223 @@ public class RedisServiceImpl implements RedisService {
         return Optional.ofNullable(redisTemplate.opsForValue().get(key));
     }
 
+    @Override
+    public Map<String, String> findAll(Collection<String> keys){
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> orderedKeys = List.copyOf(keys);
+        List<String> values = redisTemplate.opsForValue().multiGet(orderedKeys);
+        Map<String, String> found = new HashMap<>();
+        for (int i = 0; values != null && i < orderedKeys.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(orderedKeys.get(i), values.get(i));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void saveAll(Map<String, String> values, Duration ttl){
+        if (values.isEmpty()) {
+            return;
+        }
+        pipeline(batch -> values.forEach((key, value) -> batch.save(key, value, ttl)));
+    }
+
     @Override
     public void delete(String key){
         redisTemplate.delete(key);
     }
 
+    @Override
+    public void publish(String channel, String message){
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public boolean saveIfAbsent(String key, String value, Duration ttl){
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    @Override
+    public boolean deleteIfValue(String key, String value){
+        Long result = redisTemplate.execute(DELETE_IF_VALUE, List.of(key), value);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public boolean expireIfValue(String key, String value, Duration ttl){
+        Long result = redisTemplate.execute(EXPIRE_IF_VALUE, List.of(key), value, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public long increment(String key, long delta, Duration ttl){
+        Long result = redisTemplate.execute(
+                INCREMENT_WITH_TTL, List.of(key), String.valueOf(delta), String.valueOf(ttl.toMillis()));
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * Lettuce 연결은 파이프라인에서 비동기 명령으로 전송하고 마지막에 한 번에 결과를 모은다
+     */
+    @Override
+    public List<Object> pipeline(Consumer<RedisBatch> commands){
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept(new TemplateRedisBatch((RedisOperations<String, String>) operations));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public boolean addToRotatingBloomFilter(String key, String previousKey, Collection<Long> offsets, Duration ttl){
+        Object[] args = new Object[offsets.size() + 1];
+        args[0] = String.valueOf(ttl.toMillis());
+        int i = 1;
+        for (Long offset : offsets) {
+            args[i++] = String.valueOf(offset);
+        }
+
+        Long result = redisTemplate.execute(ADD_TO_ROTATING_BLOOM_FILTER, List.of(key, previousKey), args);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void addToSet(String key, Collection<String> members){
+        if (members.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+    }
+
+    @Override
+    public long addToSetIfPresent(String key, String member, Duration ttl){
+        Long result = redisTemplate.execute(ADD_TO_SET_IF_PRESENT, List.of(key), member, String.valueOf(ttl.toMillis()));
+        return result != null ? result : -1L;
+    }
+
+    @Override
+    public long removeFromSetIfPresent(String key, String member, Duration ttl){
+        Long result = redisTemplate.execute(REMOVE_FROM_SET_IF_PRESENT, List.of(key), member, String.valueOf(ttl.toMillis()));
+        return result != null ? result : -1L;
+    }
+
+    @Override
+    public Map<String, Boolean> isSetMembers(String key, Collection<String> members){
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members.toArray());
+        Map<String, Boolean> memberships = new HashMap<>();
+        members.forEach(member -> memberships.put(
+                member, result != null && Boolean.TRUE.equals(result.get(member))));
+        return memberships;
+    }
+
+    @Override
+    public long getSetSize(String key){
+        Long size = redisTemplate.opsForSet().size(key);
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public List<String> scanKeys(String pattern){
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    @Override
+    public List<ScoredMember> reverseRangeByScore(String key, double maxScore, long offset, long count){
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, maxScore, offset, count);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        return tuples.stream()
+                .map(tuple -> new ScoredMember(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0.0))
+                .toList();
+    }
+
+    @Override
+    public long unionAndStore(String destKey, List<String> keys, List<Double> weights){
+        Long size = redisTemplate.opsForZSet().unionAndStore(
+                keys.getFirst(),
+                keys.subList(1, keys.size()),
+                destKey,
+                Aggregate.SUM,
+                Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray())
+        );
+        return size != null ? size : 0L;
+    }
+
+    private record TemplateRedisBatch(RedisOperations<String, String> operations) implements RedisBatch {
+
+        @Override
+        public void save(String key, String value, Duration ttl) {
+            operations.opsForValue().set(key, value, ttl);
+        }
+
+        @Override
+        public void find(String key) {
+            operations.opsForValue().get(key);
+        }
+
+        @Override
+        public void delete(String key) {
+            operations.delete(key);
+        }
+
+        @Override
+        public void saveIfAbsent(String key, String value, Duration ttl) {
+            operations.opsForValue().setIfAbsent(key, value, ttl);
+        }
+
+        @Override
+        public void increment(String key, long delta) {
+            operations.opsForValue().increment(key, delta);
+        }
+
+        @Override
+        public void expire(String key, Duration ttl) {
+            operations.expire(key, ttl);
+        }
+
+        @Override
+        public void publish(String channel, String message) {
+            operations.convertAndSend(channel, message);
+        }
+
+        @Override
+        public void incrementScore(String key, String member, double delta) {
+            operations.opsForZSet().incrementScore(key, member, delta);
+        }
+
+        @Override
+        public void trimSortedSet(String key, long maxSize) {
+            operations.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+        }
+
+        @Override
+        public void addToSet(String key, Collection<String> members) {
+            operations.opsForSet().add(key, members.toArray(String[]::new));
+        }
+
+        @Override
+        public void isSetMember(String key, String member) {
+            operations.opsForSet().isMember(key, member);
+        }
+
+        @Override
+        public void getSetSize(String key) {
+            operations.opsForSet().size(key);
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package com.spring.mvc.base.infra.redis.adapter;
+
+/**
+ * Sorted Set 멤버와 점수
+ */
+public record ScoredMember(
+        String member,
+        double score
+) {
+}
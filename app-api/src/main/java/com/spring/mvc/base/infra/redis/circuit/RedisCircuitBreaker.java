@@ -0,0 +1,152 @@
+package com.spring.mvc.base.infra.redis.circuit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 호출 서킷 브레이커
+ * - CLOSED: 정상 호출. 연속 실패(느린 호출 포함)가 임계치에 도달하면 OPEN
+ * - OPEN: 호출하지 않고 RedisUnavailableException으로 즉시 실패. openDuration이 지나면 HALF_OPEN
+ * - HALF_OPEN: 한 번의 시험 호출만 허용해 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openCount = new LongAdder();
+
+    public RedisCircuitBreaker(boolean enabled, int failureThreshold, Duration slowCallThreshold, Duration openDuration) {
+        this(enabled, failureThreshold, slowCallThreshold, openDuration, System::nanoTime);
+    }
+
+    RedisCircuitBreaker(
+            boolean enabled,
+            int failureThreshold,
+            Duration slowCallThreshold,
+            Duration openDuration,
+            LongSupplier nanoClock
+    ) {
+        this.enabled = enabled;
+        this.failureThreshold = failureThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        State permittedIn = acquirePermission();
+        long startedAt = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            onSuccess(permittedIn, nanoClock.getAsLong() - startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(permittedIn);
+            throw e;
+        }
+    }
+
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getOpenCount() {
+        return openCount.sum();
+    }
+
+    private State acquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return State.CLOSED;
+        }
+
+        // OPEN 유지 시간이 지나면 먼저 전환한 스레드 하나만 시험 호출한다
+        if (current == State.OPEN
+                && nanoClock.getAsLong() - openedAt >= openDurationNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("Redis 서킷 HALF_OPEN - 시험 호출");
+            return State.HALF_OPEN;
+        }
+
+        rejectedCount.increment();
+        throw new RedisUnavailableException("Redis 서킷이 열려 있어 호출하지 않습니다.");
+    }
+
+    private void onSuccess(State permittedIn, long elapsedNanos) {
+        if (elapsedNanos > slowCallThresholdNanos) {
+            onFailure(permittedIn);
+            return;
+        }
+
+        successCount.increment();
+        consecutiveFailures.set(0);
+        if (permittedIn == State.HALF_OPEN && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Redis 서킷 CLOSED - 복구됨");
+        }
+    }
+
+    private void onFailure(State permittedIn) {
+        failureCount.increment();
+
+        if (permittedIn == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    private void open(State from) {
+        openedAt = nanoClock.getAsLong();
+        if (state.compareAndSet(from, State.OPEN)) {
+            openCount.increment();
+            consecutiveFailures.set(0);
+            log.warn("Redis 서킷 OPEN - {}ms 동안 호출을 차단합니다.", Duration.ofNanos(openDurationNanos).toMillis());
+        }
+    }
+}
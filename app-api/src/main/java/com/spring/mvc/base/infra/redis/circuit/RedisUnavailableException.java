@@ -0,0 +1,14 @@
+package com.spring.mvc.base.infra.redis.circuit;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * 서킷이 열려 Redis 호출을 시도하지 않고 바로 실패시킬 때 발생한다
+ * Lettuce 연결/타임아웃 예외와 같은 DataAccessException 계층이므로 호출부는 한 번에 폴백 처리할 수 있다.
+ */
+public class RedisUnavailableException extends DataAccessResourceFailureException {
+
+    public RedisUnavailableException(String message) {
+        super(message);
+    }
+}
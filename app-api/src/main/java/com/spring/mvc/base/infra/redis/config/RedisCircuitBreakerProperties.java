@@ -0,0 +1,38 @@
+package com.spring.mvc.base.infra.redis.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "redis.circuit-breaker")
+public class RedisCircuitBreakerProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 서킷을 여는 연속 실패 횟수
+     */
+    @Positive
+    private int failureThreshold = 5;
+
+    /**
+     * 이 시간보다 오래 걸린 호출은 실패로 센다
+     */
+    @NotNull
+    private Duration slowCallThreshold = Duration.ofMillis(500);
+
+    /**
+     * 서킷을 연 뒤 시험 호출까지 기다리는 시간
+     */
+    @NotNull
+    private Duration openDuration = Duration.ofSeconds(10);
+}
@@ -1,12 +1,18 @@
 package com.spring.mvc.base.infra.redis.config;
 
+import com.spring.mvc.base.infra.redis.adapter.CircuitBreakingRedisService;
+import com.spring.mvc.base.infra.redis.adapter.RedisServiceImpl;
+import com.spring.mvc.base.infra.redis.circuit.RedisCircuitBreaker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -26,7 +32,11 @@ public class RedisConfig {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(redisProperties.getHost());
         config.setPort(redisProperties.getPort());
-        return new LettuceConnectionFactory(config);
+
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(redisProperties.getTimeout())
+                .build();
+        return new LettuceConnectionFactory(config, clientConfig);
     }
 
     @Bean
@@ -37,4 +47,33 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(RedisCircuitBreakerProperties properties) {
+        return new RedisCircuitBreaker(
+                properties.isEnabled(),
+                properties.getFailureThreshold(),
+                properties.getSlowCallThreshold(),
+                properties.getOpenDuration()
+        );
+    }
+
+    /**
+     * 애플리케이션 코드는 서킷 브레이커를 거치는 RedisService를 주입받는다
+     */
+    @Bean
+    @Primary
+    public CircuitBreakingRedisService circuitBreakingRedisService(
+            RedisServiceImpl redisServiceImpl,
+            RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        return new CircuitBreakingRedisService(redisServiceImpl, redisCircuitBreaker);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
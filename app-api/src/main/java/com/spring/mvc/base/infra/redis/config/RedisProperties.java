@@ -3,6 +3,7 @@ package com.spring.mvc.base.infra.redis.config;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -22,5 +23,11 @@ public class RedisProperties {
     @NotNull
     @Positive
     private Integer port;
+
+    /**
+     * 명령 응답 대기 시간 - 길면 Redis 장애 시 요청 스레드가 오래 묶인다
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(1);
 }
 
@@ -0,0 +1,179 @@
+package com.spring.mvc.base.infra.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * 키(태그 등)별 문서 ID 압축 비트맵 색인
+ * 살아 있는 문서 전체 비트맵을 함께 유지하여 OR / AND / NOT 조합 결과를 메모리에서 계산한다.
+ */
+public class BitmapIndex {
+
+    private final Map<String, Roaring64Bitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Set<String>> documentKeys = new HashMap<>();
+    private final Roaring64Bitmap liveDocuments = new Roaring64Bitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서의 키 목록을 교체하고 살아 있는 문서로 표시한다.
+     */
+    public void put(long documentId, Collection<String> keys) {
+        lock.writeLock().lock();
+        try {
+            removeKeysInternal(documentId);
+            liveDocuments.addLong(documentId);
+            keys.forEach(key -> addInternal(documentId, key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addKeys(long documentId, Collection<String> keys) {
+        lock.writeLock().lock();
+        try {
+            keys.forEach(key -> addInternal(documentId, key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeKeys(long documentId, Collection<String> keys) {
+        lock.writeLock().lock();
+        try {
+            Set<String> currentKeys = documentKeys.get(documentId);
+            for (String key : keys) {
+                Roaring64Bitmap bitmap = bitmaps.get(key);
+                if (bitmap != null) {
+                    bitmap.removeLong(documentId);
+                    if (bitmap.isEmpty()) {
+                        bitmaps.remove(key);
+                    }
+                }
+                if (currentKeys != null) {
+                    currentKeys.remove(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markLive(long documentId) {
+        lock.writeLock().lock();
+        try {
+            liveDocuments.addLong(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 모든 키와 살아 있는 문서 비트맵에서 제거한다.
+     */
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeKeysInternal(documentId);
+            liveDocuments.removeLong(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            bitmaps.clear();
+            documentKeys.clear();
+            liveDocuments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * (anyOf 중 하나 이상) AND (allOf 모두) AND NOT (noneOf 중 하나라도) 를 만족하는 살아 있는 문서
+     * anyOf가 비어 있으면 살아 있는 전체 문서에서 시작한다.
+     */
+    public Roaring64Bitmap evaluate(Collection<String> anyOf, Collection<String> allOf, Collection<String> noneOf) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap result;
+            if (anyOf.isEmpty()) {
+                result = liveDocuments.clone();
+            } else {
+                result = new Roaring64Bitmap();
+                anyOf.stream()
+                        .map(bitmaps::get)
+                        .filter(bitmap -> bitmap != null)
+                        .forEach(result::or);
+                result.and(liveDocuments);
+            }
+
+            for (String key : allOf) {
+                Roaring64Bitmap bitmap = bitmaps.get(key);
+                if (bitmap == null) {
+                    return new Roaring64Bitmap();
+                }
+                result.and(bitmap);
+            }
+
+            for (String key : noneOf) {
+                Roaring64Bitmap bitmap = bitmaps.get(key);
+                if (bitmap != null) {
+                    result.andNot(bitmap);
+                }
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getKeyCount() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(long documentId, String key) {
+        bitmaps.computeIfAbsent(key, k -> new Roaring64Bitmap()).addLong(documentId);
+        documentKeys.computeIfAbsent(documentId, id -> new HashSet<>()).add(key);
+    }
+
+    private void removeKeysInternal(long documentId) {
+        Set<String> keys = documentKeys.remove(documentId);
+        if (keys == null) {
+            return;
+        }
+
+        for (String key : keys) {
+            Roaring64Bitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.removeLong(documentId);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
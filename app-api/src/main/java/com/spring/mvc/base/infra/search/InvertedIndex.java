@@ -0,0 +1,175 @@
+package com.spring.mvc.base.infra.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 역색인
+ * 토큰별 posting(문서 ID -> 등장 횟수)을 유지하고, 모든 질의 토큰을 포함한 문서를 BM25 점수 순으로 반환한다.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * 문서를 색인한다. 이미 색인된 문서라면 교체한다.
+     */
+    public void index(long documentId, List<String> tokens) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokens.forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(documentId, frequency));
+            documents.put(documentId, new Document(termFrequencies.keySet().toArray(String[]::new), tokens.size()));
+            totalLength += tokens.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 질의 토큰을 포함하는 문서를 점수 내림차순으로 최대 limit개 반환한다.
+     */
+    public List<SearchHit> search(List<String> queryTokens, int limit) {
+        List<String> terms = queryTokens.stream().distinct().toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+
+            Map<Long, Integer> rarest = termPostings.stream()
+                    .min(Comparator.comparingInt(Map::size))
+                    .orElseThrow();
+            double averageLength = (double) totalLength / documents.size();
+
+            PriorityQueue<SearchHit> topHits = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score));
+            for (Long documentId : rarest.keySet()) {
+                double score = score(documentId, termPostings, averageLength);
+                if (Double.isNaN(score)) {
+                    continue;
+                }
+
+                topHits.offer(new SearchHit(documentId, score));
+                if (topHits.size() > limit) {
+                    topHits.poll();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(topHits);
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(Comparator.comparingLong(SearchHit::documentId).reversed()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 토큰 중 하나라도 없는 문서는 NaN을 반환한다.
+     */
+    private double score(long documentId, List<Map<Long, Integer>> termPostings, double averageLength) {
+        int documentLength = documents.get(documentId).length();
+        double score = 0;
+
+        for (Map<Long, Integer> posting : termPostings) {
+            Integer frequency = posting.get(documentId);
+            if (frequency == null) {
+                return Double.NaN;
+            }
+
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+            double norm = K1 * (1 - B + B * documentLength / averageLength);
+            score += idf * frequency * (K1 + 1) / (frequency + norm);
+        }
+
+        return score;
+    }
+
+    private void removeInternal(long documentId) {
+        Document document = documents.remove(documentId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(documentId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private record Document(String[] terms, int length) {
+    }
+}
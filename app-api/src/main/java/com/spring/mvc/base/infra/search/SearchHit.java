@@ -0,0 +1,7 @@
+package com.spring.mvc.base.infra.search;
+
+public record SearchHit(
+        long documentId,
+        double score
+) {
+}
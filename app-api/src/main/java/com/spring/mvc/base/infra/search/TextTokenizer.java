@@ -0,0 +1,65 @@
+package com.spring.mvc.base.infra.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - 영문/숫자: 소문자 단어 단위
+ * - 한글: 형태소 분석 없이 2-gram 단위 (한 글자 어절은 1-gram)
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            boolean hangul = isHangul(codePoint);
+            if (!hangul && !Character.isLetterOrDigit(codePoint)) {
+                flush(run, hangulRun, tokens);
+                continue;
+            }
+
+            if (!run.isEmpty() && hangul != hangulRun) {
+                flush(run, hangulRun, tokens);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, hangulRun, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangulRun, List<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+
+        if (hangulRun && run.length() > 1) {
+            for (int i = 0; i < run.length() - 1; i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        } else {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
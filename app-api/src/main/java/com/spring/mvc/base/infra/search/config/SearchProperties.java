@@ -0,0 +1,40 @@
+package com.spring.mvc.base.infra.search.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    /**
+     * false면 역색인을 만들지 않고 LIKE 검색을 사용한다
+     */
+    private boolean enabled = true;
+
+    /**
+     * 키워드 검색 시 역색인에서 가져올 최대 후보 게시글 수 (BM25 상위)
+     */
+    @Positive
+    private int maxCandidates = 1_000;
+
+    /**
+     * 기동 시 DB에서 역색인을 재구축할 때의 배치 크기
+     */
+    @Positive
+    private int rebuildBatchSize = 500;
+
+    /**
+     * 노드 간 색인 변경을 전파하는 Redis 채널
+     */
+    @NotBlank
+    private String syncChannel = "search:post-index";
+}
@@ -24,6 +24,7 @@ import com.spring.mvc.base.common.exception.code.CommentErrorCode;
 import com.spring.mvc.base.config.annotation.ControllerWebMvcTest;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -67,7 +68,7 @@ class CommentControllerTest {
         CommentResponse comment = new CommentResponse(1L, 1L, "댓글내용", memberResponse, Instant.now(), Instant.now());
         PageResponse<CommentResponse> response = new PageResponse<>(List.of(comment), 0, 10, 1, 1);
 
-        given(commentService.getCommentPageByPostId(any(), any())).willReturn(response);
+        given(commentService.getCommentPageByPostId(any(), any(), any())).willReturn(Optional.of(response));
 
         mockMvc.perform(get("/api/v1/posts/{postId}/comments", 1L)
                         .param("page", "0")
@@ -3,20 +3,28 @@ package com.spring.mvc.base.application.comment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.spring.mvc.base.application.comment.CommentRequestFixture;
 import com.spring.mvc.base.application.comment.dto.request.CommentCreateRequest;
 import com.spring.mvc.base.application.comment.dto.request.CommentUpdateRequest;
 import com.spring.mvc.base.application.comment.dto.response.CommentResponse;
+import com.spring.mvc.base.application.common.cache.PageCountCache;
 import com.spring.mvc.base.application.common.dto.response.PageResponse;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.CommentErrorCode;
 import com.spring.mvc.base.common.exception.code.CommonErrorCode;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.config.annotation.UnitTest;
 import com.spring.mvc.base.domain.comment.dto.CommentQueryDto;
+import com.spring.mvc.base.domain.comment.dto.CommentVersionSummary;
 import com.spring.mvc.base.domain.comment.entity.Comment;
 import com.spring.mvc.base.domain.comment.repository.CommentRepository;
 import com.spring.mvc.base.domain.common.policy.OwnershipPolicy;
@@ -27,15 +35,15 @@ import com.spring.mvc.base.domain.post.CommentFixture;
 import com.spring.mvc.base.domain.post.PostFixture;
 import com.spring.mvc.base.domain.post.entity.Post;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -51,6 +59,15 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private TrendingPosts trendingPosts;
+
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
+    @Mock
+    private PostDetailsCache postDetailsCache;
+
     private CommentService commentService;
 
     private Member member;
@@ -61,7 +78,8 @@ class CommentServiceTest {
     void setUp() {
         // spy로 실제 객체 사용하기
         OwnershipPolicy ownershipPolicy = new OwnershipPolicy();
-        commentService = new CommentService(commentRepository, memberRepository, postRepository, ownershipPolicy);
+        PageCountCache pageCountCache = new PageCountCache(new CacheProperties());
+        commentService = new CommentService(commentRepository, memberRepository, postRepository, ownershipPolicy, pageCountCache, trendingPosts, postFeedWriter, postDetailsCache);
 
         member = MemberFixture.createWithId(1L);
         post = PostFixture.createWithId(1L, member);
@@ -80,6 +98,9 @@ class CommentServiceTest {
         CommentResponse response = commentService.createComment(1L, request, 1L);
 
         assertThat(response.content()).isEqualTo(CommentFixture.DEFAULT_CONTENT);
+        verify(trendingPosts).recordComment(1L);
+        verify(postFeedWriter).countersChanged(1L);
+        verify(postDetailsCache).evict(1L);
     }
 
     @Test
@@ -112,6 +133,10 @@ class CommentServiceTest {
         given(commentRepository.findPostIdByCommentId(1L)).willReturn(Optional.of(1L));
 
         commentService.deleteComment(1L, 1L);
+
+        verify(postRepository).decrementCommentCount(1L);
+        verify(postFeedWriter).countersChanged(1L);
+        verify(postDetailsCache).evict(1L);
     }
 
     @Test
@@ -139,10 +164,10 @@ class CommentServiceTest {
     void getCommentPageByPostId_success() {
         Pageable pageable = PageRequest.of(0, 10);
         CommentQueryDto dto = new CommentQueryDto(1L, 1L, CommentFixture.DEFAULT_CONTENT, Instant.now(), Instant.now(), 1L, "tester", null);
-        Page<CommentQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
         given(postRepository.existsById(1L)).willReturn(true);
-        given(commentRepository.findByPostIdWithMemberAsDto(1L, pageable)).willReturn(page);
+        given(commentRepository.findVersionSummaryByPostId(1L)).willReturn(versionSummary());
+        given(commentRepository.findContentByPostId(1L, pageable, 10)).willReturn(List.of(dto));
 
         PageResponse<CommentResponse> response = commentService.getCommentPageByPostId(1L, pageable);
 
@@ -150,6 +175,58 @@ class CommentServiceTest {
         assertThat(response.items().getFirst().commentId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("댓글 수는 캐싱되어 반복 조회 시 COUNT 쿼리를 다시 실행하지 않는다")
+    void getCommentPageByPostId_countCached() {
+        Pageable pageable = PageRequest.of(0, 1);
+        CommentQueryDto dto = new CommentQueryDto(1L, 1L, CommentFixture.DEFAULT_CONTENT, Instant.now(), Instant.now(), 1L, "tester", null);
+
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(commentRepository.findVersionSummaryByPostId(1L)).willReturn(versionSummary());
+        given(commentRepository.findContentByPostId(1L, pageable, 1)).willReturn(List.of(dto));
+        given(commentRepository.countByPostId(1L)).willReturn(3L);
+
+        commentService.getCommentPageByPostId(1L, pageable);
+        PageResponse<CommentResponse> response = commentService.getCommentPageByPostId(1L, pageable);
+
+        assertThat(response.totalElements()).isEqualTo(3L);
+        assertThat(response.hasNext()).isTrue();
+        verify(commentRepository, times(1)).countByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("클라이언트 사본이 최신이면 댓글 목록을 조회하지 않는다")
+    void getCommentPageByPostId_notModified_skipsListQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(commentRepository.findVersionSummaryByPostId(1L)).willReturn(versionSummary());
+
+        Optional<PageResponse<CommentResponse>> response =
+                commentService.getCommentPageByPostId(1L, pageable, version -> true);
+
+        assertThat(response).isEmpty();
+        verify(commentRepository, never()).findContentByPostId(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("댓글이 지워지면 최종 수정 시각이 같아도 ETag가 달라진다")
+    void getCommentPageByPostId_deletionChangesEtag() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Instant lastUpdatedAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<String> etags = new ArrayList<>();
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(commentRepository.findVersionSummaryByPostId(1L)).willReturn(
+                new CommentVersionSummary(2L, lastUpdatedAt, 0L, 0L),
+                new CommentVersionSummary(1L, lastUpdatedAt, 0L, 0L)
+        );
+
+        commentService.getCommentPageByPostId(1L, pageable, version -> etags.add(version.etag()));
+        commentService.getCommentPageByPostId(1L, pageable, version -> etags.add(version.etag()));
+
+        assertThat(etags).hasSize(2);
+        assertThat(etags.get(0)).isNotEqualTo(etags.get(1));
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시글의 댓글 목록 조회 시 예외가 발생한다")
     void getCommentPageByPostId_postNotFound() {
@@ -250,4 +327,8 @@ class CommentServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(CommentErrorCode.NO_PERMISSION.getMessage());
     }
+
+    private CommentVersionSummary versionSummary() {
+        return new CommentVersionSummary(1L, Instant.now(), 0L, 0L);
+    }
 }
@@ -0,0 +1,95 @@
+package com.spring.mvc.base.application.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import com.spring.mvc.base.infra.cache.config.CacheProperties.CountMode;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@UnitTest
+class PageCountCacheTest {
+
+    private static final long TOTAL = 25;
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @Test
+    @DisplayName("CACHED 모드는 같은 키의 COUNT를 한 번만 실행한다")
+    void cached_countsOnce() {
+        PageCountCache cache = createCache(CountMode.CACHED);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+        Page<Integer> page = cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+
+        assertThat(page.getTotalElements()).isEqualTo(TOTAL);
+        assertThat(countQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 접두사의 COUNT는 다시 실행된다")
+    void evictByPrefix_recounts() {
+        PageCountCache cache = createCache(CountMode.CACHED);
+        Pageable pageable = PageRequest.of(0, 10);
+        cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+
+        cache.evictByPrefix("post:");
+        cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+
+        assertThat(countQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 모드는 COUNT 없이 다음 페이지 여부와 추정치를 제공한다")
+    void estimated_skipsCount() {
+        PageCountCache cache = createCache(CountMode.ESTIMATED);
+        Pageable pageable = PageRequest.of(1, 10);
+
+        Page<Integer> page = cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+
+        assertThat(page).isInstanceOf(EstimatedPage.class);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(21);
+        assertThat(countQueries.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 모드에서 마지막 페이지는 정확한 개수를 반환한다")
+    void estimated_lastPageIsExact() {
+        PageCountCache cache = createCache(CountMode.ESTIMATED);
+        Pageable pageable = PageRequest.of(2, 10);
+
+        Page<Integer> page = cache.load("post:a", pageable, limit -> rows(pageable, limit), this::count);
+
+        assertThat(page).isNotInstanceOf(EstimatedPage.class);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(TOTAL);
+    }
+
+    private PageCountCache createCache(CountMode mode) {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getCounts().setMode(mode);
+        return new PageCountCache(cacheProperties);
+    }
+
+    private List<Integer> rows(Pageable pageable, int limit) {
+        return IntStream.range((int) pageable.getOffset(), (int) TOTAL)
+                .limit(limit)
+                .boxed()
+                .toList();
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return TOTAL;
+    }
+}
@@ -3,6 +3,7 @@ package com.spring.mvc.base.application.file.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -22,6 +23,7 @@ import com.spring.mvc.base.domain.file.entity.FileType;
 import com.spring.mvc.base.domain.file.repository.FileRepository;
 import com.spring.mvc.base.infra.image.ImageSignature;
 import com.spring.mvc.base.infra.image.ImageStorageService;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +40,9 @@ class FileServiceTest {
     @Mock
     private ImageStorageService imageStorageService;
 
+    @Mock
+    private FileStorageCleaner fileStorageCleaner;
+
     @InjectMocks
     private FileService fileService;
 
@@ -167,6 +172,17 @@ class FileServiceTest {
 
         verify(fileRepository, times(1)).findById(1L);
         verify(fileRepository, times(1)).delete(file);
+        verify(fileStorageCleaner).enqueueAfterCommit(List.of(FileFixture.DEFAULT_STORAGE_KEY));
+    }
+
+    @Test
+    @DisplayName("게시글에 연결된 이미지 파일을 한 번에 삭제 표시할 수 있다")
+    void deleteFilesOfPost_success() {
+        given(fileRepository.softDeleteAllByPostId(eq(1L), any(Instant.class))).willReturn(50);
+
+        int deleted = fileService.deleteFilesOfPost(1L);
+
+        assertThat(deleted).isEqualTo(50);
     }
 
     @Test
@@ -0,0 +1,57 @@
+package com.spring.mvc.base.application.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.file.config.FileCleanupProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.infra.image.ImageStorageService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class FileStorageCleanerTest {
+
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    private FileStorageCleaner fileStorageCleaner;
+
+    @BeforeEach
+    void setUp() {
+        FileCleanupProperties properties = new FileCleanupProperties();
+        properties.setMaxAttempts(2);
+        fileStorageCleaner = new FileStorageCleaner(imageStorageService, properties);
+    }
+
+    @Test
+    @DisplayName("대기열의 저장소 키를 지우고 비운다")
+    void flush_deletesQueuedKeys() {
+        fileStorageCleaner.enqueueAfterCommit(List.of("posts/a.jpg", "posts/b.jpg"));
+
+        fileStorageCleaner.flush();
+
+        verify(imageStorageService).deleteImage("posts/a.jpg");
+        verify(imageStorageService).deleteImage("posts/b.jpg");
+        assertThat(fileStorageCleaner.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 키는 다음 주기에 다시 시도하고 최대 횟수를 넘기면 버린다")
+    void flush_retriesFailedKeysUntilMaxAttempts() {
+        willThrow(new IllegalStateException("timeout")).given(imageStorageService).deleteImage("posts/a.jpg");
+        fileStorageCleaner.enqueueAfterCommit(List.of("posts/a.jpg"));
+
+        fileStorageCleaner.flush();
+        assertThat(fileStorageCleaner.getPendingCount()).isEqualTo(1);
+
+        fileStorageCleaner.flush();
+        assertThat(fileStorageCleaner.getPendingCount()).isZero();
+        verify(imageStorageService, times(2)).deleteImage("posts/a.jpg");
+    }
+}
@@ -18,6 +18,7 @@ import com.spring.mvc.base.application.member.service.MemberService;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.config.annotation.ControllerWebMvcTest;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,7 +57,7 @@ class MemberControllerTest {
                 null
         );
 
-        given(memberService.getMemberProfile(any())).willReturn(response);
+        given(memberService.getMemberProfile(any(), any())).willReturn(Optional.of(response));
 
         mockMvc.perform(get("/api/v1/members/{memberId}", 1L))
                 .andExpect(status().isOk())
@@ -156,7 +157,7 @@ class MemberControllerTest {
     @DisplayName("존재하지 않는 회원 조회 - 404 Not Found")
     void getMemberProfile_notFound_returns404() throws Exception {
         willThrow(new BusinessException(MemberErrorCode.USER_NOT_FOUND))
-                .given(memberService).getMemberProfile(any());
+                .given(memberService).getMemberProfile(any(), any());
 
         mockMvc.perform(get("/api/v1/members/{memberId}", 999L))
                 .andExpect(status().isNotFound())
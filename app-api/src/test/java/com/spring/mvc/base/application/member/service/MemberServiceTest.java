@@ -2,8 +2,11 @@ package com.spring.mvc.base.application.member.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.spring.mvc.base.application.member.MemberRequestFixture;
 import com.spring.mvc.base.application.member.dto.request.MemberUpdateRequest;
@@ -11,6 +14,8 @@ import com.spring.mvc.base.application.member.dto.request.PasswordUpdateRequest;
 import com.spring.mvc.base.application.member.dto.response.MemberDetailsResponse;
 import com.spring.mvc.base.application.member.dto.response.MemberUpdateResponse;
 import com.spring.mvc.base.application.member.validator.MemberValidator;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.config.annotation.UnitTest;
@@ -18,6 +23,8 @@ import com.spring.mvc.base.domain.member.MemberFixture;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.entity.MemberStatus;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +41,15 @@ class MemberServiceTest {
     @Mock
     private MemberValidator memberValidator;
 
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostDetailsCache postDetailsCache;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -65,17 +81,32 @@ class MemberServiceTest {
                 .isInstanceOf(BusinessException.class);
     }
 
+    @Test
+    @DisplayName("버전이 일치하면 회원 엔티티를 조회하지 않는다")
+    void getMemberProfile_notModified_skipsEntityQuery() {
+        given(memberRepository.findVersionByIdAndStatus(1L, MemberStatus.ACTIVE)).willReturn(Optional.of(3L));
+
+        Optional<MemberDetailsResponse> response =
+                memberService.getMemberProfile(1L, version -> version.etag().equals("m1-3"));
+
+        assertThat(response).isEmpty();
+        verify(memberRepository, never()).findByIdAndStatus(any(), any());
+    }
+
     @Test
     @DisplayName("회원 정보를 수정하면 닉네임 검증 후 저장된다")
     void updateMember_success() {
         MemberUpdateRequest request = MemberRequestFixture.updateRequest();
         given(memberRepository.findByIdAndStatus(1L, MemberStatus.ACTIVE)).willReturn(Optional.of(member));
         given(memberRepository.save(member)).willReturn(member);
+        given(postRepository.findLiveIdsByMemberId(1L)).willReturn(List.of(10L, 11L));
 
         MemberUpdateResponse response = memberService.updateMember(1L, request);
 
         assertThat(response.nickname()).isEqualTo("newNick");
         assertThat(response.profileImage()).isEqualTo("https://example.com/new.png");
+        verify(postFeedWriter).authorChanged(member);
+        verify(postDetailsCache).evictAll(List.of(10L, 11L));
     }
 
     @Test
@@ -3,11 +3,14 @@ package com.spring.mvc.base.application.post.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,19 +20,25 @@ import com.spring.mvc.base.application.member.dto.response.MemberResponse;
 import com.spring.mvc.base.application.post.PostRequestFixture;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.dto.response.PostBatchResponse;
 import com.spring.mvc.base.application.post.dto.response.PostResponse;
 import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
 import com.spring.mvc.base.application.post.service.PostLikeService;
 import com.spring.mvc.base.application.post.service.PostService;
 import com.spring.mvc.base.application.post.service.PostViewService;
+import com.spring.mvc.base.application.post.service.TrendingPostService;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.common.web.ResourceVersion;
 import com.spring.mvc.base.config.annotation.ControllerWebMvcTest;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -52,12 +61,15 @@ class PostControllerTest {
     @MockitoBean
     private PostViewService postViewService;
 
+    @MockitoBean
+    private TrendingPostService trendingPostService;
+
     @Test
     @DisplayName("게시글 생성 - 201 Created")
     void createPost_success() throws Exception {
         PostCreateRequest request = PostRequestFixture.createRequest();
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public", 0L);
 
         given(postService.createPost(any(), any())).willReturn(response);
 
@@ -75,7 +87,7 @@ class PostControllerTest {
     void updatePost_success() throws Exception {
         PostUpdateRequest request = PostRequestFixture.updateRequest();
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "수정된제목", "수정된내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "수정된제목", "수정된내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public", 0L);
 
         given(postService.updatePost(any(), any(), any())).willReturn(response);
 
@@ -100,9 +112,9 @@ class PostControllerTest {
     @DisplayName("게시글 단건 조회 - 200 OK")
     void getPost_success() throws Exception {
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 10L, 5L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 10L, 5L, 0L, false, null, null, null, null, "public", 0L);
 
-        given(postService.getPostDetails(any(), any())).willReturn(response);
+        given(postService.getPostDetails(any(), any(), any())).willReturn(Optional.of(response));
 
         mockMvc.perform(get("/api/v1/posts/{postId}", 1L))
                 .andExpect(status().isOk())
@@ -113,6 +125,23 @@ class PostControllerTest {
         verify(postViewService).incrementViewCount(any(), any());
     }
 
+    @Test
+    @DisplayName("게시글 단건 조회 - ETag가 일치하면 304 Not Modified")
+    void getPost_notModified_returns304() throws Exception {
+        given(postService.getPostDetails(any(), any(), any())).willAnswer(invocation -> {
+            Predicate<ResourceVersion> notModified = invocation.getArgument(2);
+            return notModified.test(ResourceVersion.of(null, "p1", 0L)) ? Optional.empty() : Optional.of(mock(PostResponse.class));
+        });
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"p1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"p1-0\""))
+                .andExpect(content().string(""));
+
+        verify(postViewService).incrementViewCount(any(), any());
+    }
+
     @Test
     @DisplayName("게시글 목록 조회 - 200 OK")
     void getPostPage_success() throws Exception {
@@ -130,6 +159,37 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.items[0].title").value("제목"));
     }
 
+    @Test
+    @DisplayName("게시글 일괄 조회 - 200 OK")
+    void getPostsBatch_success() throws Exception {
+        MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
+        PostResponse post = new PostResponse(2L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public", 0L);
+
+        given(postService.getPostDetailsBatch(any(), any())).willReturn(new PostBatchResponse(List.of(post), List.of(3L)));
+
+        mockMvc.perform(get("/api/v1/posts/batch")
+                        .param("ids", "2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].postId").value(2L))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(3L));
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 - 200 OK")
+    void getTrendingPosts_success() throws Exception {
+        MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
+        PostSummaryResponse summary = new PostSummaryResponse(1L, "제목", memberResponse, Instant.now(), 10L, 5L, 3L, null, null);
+        PageResponse<PostSummaryResponse> response = PageResponse.ofCursor(List.of(summary), 10, true, "next");
+
+        given(trendingPostService.getTrendingPosts(null, 10)).willReturn(response);
+
+        mockMvc.perform(get("/api/v1/posts/trending")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].postId").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
+
     @Test
     @DisplayName("게시글 좋아요 - 204 No Content")
     void likePost_success() throws Exception {
@@ -200,7 +260,7 @@ class PostControllerTest {
     @DisplayName("존재하지 않는 게시글 조회 - 404 Not Found")
     void getPost_notFound_returns404() throws Exception {
         willThrow(new BusinessException(PostErrorCode.POST_NOT_FOUND))
-                .given(postService).getPostDetails(any(), any());
+                .given(postService).getPostDetails(any(), any(), any());
 
         mockMvc.perform(get("/api/v1/posts/{postId}", 999L))
                 .andExpect(status().isNotFound())
@@ -0,0 +1,112 @@
+package com.spring.mvc.base.application.post.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.post.config.PostFeedProperties;
+import com.spring.mvc.base.application.post.dto.response.PostFeedConsistencyResponse;
+import com.spring.mvc.base.application.post.dto.response.PostFeedRebuildResponse;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+class PostFeedMaintenanceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostFeedRepository postFeedRepository;
+
+    private PostFeedMaintenance postFeedMaintenance;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        PostFeedProperties properties = new PostFeedProperties();
+        properties.setRebuildBatchSize(2);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        postFeedMaintenance = new PostFeedMaintenance(postRepository, postFeedRepository, properties, transactionTemplate);
+        member = MemberFixture.createWithId(1L);
+    }
+
+    @Test
+    @DisplayName("재구축은 게시글 ID 순으로 배치를 나눠 다시 채우고 고아 행을 지운다")
+    void rebuild_refillsInBatches() {
+        given(postRepository.findLiveIdsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(postRepository.findLiveIdsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of(3L));
+        given(postRepository.findAllWithMemberByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(PostFixture.createWithId(1L, member), PostFixture.createWithId(2L, member)));
+        given(postRepository.findAllWithMemberByIdIn(List.of(3L)))
+                .willReturn(List.of(PostFixture.createWithId(3L, member)));
+        given(postFeedRepository.deleteOrphans()).willReturn(1);
+
+        PostFeedRebuildResponse response = postFeedMaintenance.rebuild();
+
+        assertThat(response.rebuilt()).isEqualTo(3);
+        assertThat(response.removedOrphans()).isEqualTo(1);
+        verify(postFeedRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(postFeedRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(postFeedRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 누락/값 불일치/고아 행을 구분해 센다")
+    void check_reportsMissingStaleAndOrphaned() {
+        Post synced = PostFixture.createWithId(1L, member);
+        Post stale = PostFixture.createWithId(2L, member);
+        Post missing = PostFixture.createWithId(3L, member);
+        PostFeed syncedFeed = PostFeed.of(synced);
+        PostFeed staleFeed = PostFeed.of(stale);
+        stale.updatePost("바뀐 제목", null);
+
+        given(postRepository.findLiveIdsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(1L, 2L));
+        given(postRepository.findLiveIdsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of(3L));
+        given(postRepository.findAllWithMemberByIdIn(List.of(1L, 2L))).willReturn(List.of(synced, stale));
+        given(postRepository.findAllWithMemberByIdIn(List.of(3L))).willReturn(List.of(missing));
+        given(postFeedRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(syncedFeed, staleFeed));
+        given(postFeedRepository.findAllById(List.of(3L))).willReturn(List.of());
+        given(postFeedRepository.countOrphans()).willReturn(1L);
+        given(postFeedRepository.findOrphanIds(any())).willReturn(List.of(9L));
+
+        PostFeedConsistencyResponse report = postFeedMaintenance.check();
+
+        assertThat(report.consistent()).isFalse();
+        assertThat(report.checked()).isEqualTo(3);
+        assertThat(report.missingIds()).containsExactly(3L);
+        assertThat(report.staleIds()).containsExactly(2L);
+        assertThat(report.orphanedIds()).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("읽기 모델에 행이 있으면 시작 시 재구축하지 않는다")
+    void bootstrap_skipsWhenFeedExists() {
+        given(postFeedRepository.count()).willReturn(10L);
+
+        postFeedMaintenance.bootstrap();
+
+        verify(postRepository, never()).findLiveIdsAfter(eq(0L), any());
+    }
+}
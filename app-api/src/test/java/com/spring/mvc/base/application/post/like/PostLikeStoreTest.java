@@ -0,0 +1,199 @@
+package com.spring.mvc.base.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.post.config.PostLikeProperties;
+import com.spring.mvc.base.common.exception.BusinessException;
+import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.fake.FakeRedisService;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import com.spring.mvc.base.infra.redis.circuit.RedisUnavailableException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class PostLikeStoreTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostLikeWriter postLikeWriter;
+
+    @Mock
+    private RedisService unavailableRedisService;
+
+    private FakeRedisService redisService;
+    private PostLikeStore postLikeStore;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        postLikeStore = new PostLikeStore(redisService, postLikeRepository, postLikeWriter, new PostLikeProperties());
+    }
+
+    @Test
+    @DisplayName("처음 접근할 때 DB의 좋아요 회원을 적재한다")
+    void isLiked_loadsFromDatabaseOnce() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L, 3L));
+
+        assertThat(postLikeStore.isLiked(1L, 2L)).isTrue();
+        assertThat(postLikeStore.isLiked(1L, 4L)).isFalse();
+        assertThat(postLikeStore.getLikeCount(1L, 0L)).isEqualTo(2L);
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 좋아요 상태를 한 번에 조회하고 적재되지 않은 게시글만 DB에서 읽는다")
+    void getLikeStatuses_loadsOnlyMissingPosts() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L, 3L));
+        given(postLikeRepository.findMemberIdsByPostId(2L)).willReturn(List.of());
+        postLikeStore.getLikeCount(1L, 0L);
+
+        Map<Long, PostLikeStore.LikeStatus> statuses = postLikeStore.getLikeStatuses(List.of(1L, 2L), 2L, Map.of());
+
+        assertThat(statuses.get(1L)).isEqualTo(new PostLikeStore.LikeStatus(2L, true));
+        assertThat(statuses.get(2L)).isEqualTo(new PostLikeStore.LikeStatus(0L, false));
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(1L);
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(2L);
+    }
+
+    @Test
+    @DisplayName("좋아요가 없는 게시글도 한 번만 적재한다")
+    void getLikeCount_emptyPost_loadsOnce() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+
+        assertThat(postLikeStore.getLikeCount(1L, 0L)).isZero();
+        assertThat(postLikeStore.getLikeCount(1L, 0L)).isZero();
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 중복 좋아요는 한 번만 성공한다")
+    void like_duplicate_returnsFalse() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+
+        assertThat(postLikeStore.like(1L, 2L)).isTrue();
+        assertThat(postLikeStore.like(1L, 2L)).isFalse();
+        assertThat(postLikeStore.getLikeCount(1L, 0L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 상태가 아니면 취소가 실패한다")
+    void unlike_notLiked_returnsFalse() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L));
+
+        assertThat(postLikeStore.unlike(1L, 3L)).isFalse();
+        assertThat(postLikeStore.unlike(1L, 2L)).isTrue();
+        assertThat(postLikeStore.isLiked(1L, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재한 좋아요 집합에는 만료가 걸린다")
+    void load_setsExpiry() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L));
+
+        postLikeStore.isLiked(1L, 2L);
+
+        assertThat(redisService.hasExpiry("post:likers:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요/취소할 때 집합의 만료를 다시 건다")
+    void likeAndUnlike_refreshExpiry() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L));
+        postLikeStore.isLiked(1L, 2L);
+        Instant refreshed = Instant.now().plus(Duration.ofDays(6));
+
+        redisService.pipeline(batch -> batch.expire("post:likers:1", Duration.ZERO));
+        postLikeStore.like(1L, 3L);
+        assertThat(redisService.getExpiresAt("post:likers:1")).isAfter(refreshed);
+
+        redisService.pipeline(batch -> batch.expire("post:likers:1", Duration.ZERO));
+        postLikeStore.unlike(1L, 2L);
+        assertThat(redisService.getExpiresAt("post:likers:1")).isAfter(refreshed);
+    }
+
+    @Test
+    @DisplayName("만료 후 다시 적재할 때 아직 DB에 반영되지 않은 좋아요/취소를 유지한다")
+    void load_appliesPendingChanges() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L, 3L));
+        given(postLikeWriter.getPendingChanges(1L)).willReturn(Map.of(3L, false, 4L, true));
+
+        assertThat(postLikeStore.isLiked(1L, 3L)).isFalse();
+        assertThat(postLikeStore.isLiked(1L, 4L)).isTrue();
+        assertThat(postLikeStore.getLikeCount(1L, 0L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 DB의 좋아요 여부와 좋아요 수로 응답한다")
+    void redisUnavailable_fallsBackToDatabase() {
+        PostLikeStore store = new PostLikeStore(
+                unavailableRedisService, postLikeRepository, postLikeWriter, new PostLikeProperties());
+        given(unavailableRedisService.isSetMembers(anyString(), any())).willThrow(new RedisUnavailableException("open"));
+        given(unavailableRedisService.getSetSize(anyString())).willThrow(new RedisUnavailableException("open"));
+        given(postLikeRepository.existsByPostIdAndMemberId(1L, 2L)).willReturn(true);
+
+        assertThat(store.isLiked(1L, 2L)).isTrue();
+        assertThat(store.getLikeCount(1L, 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 일괄 조회도 DB 값으로 응답한다")
+    void getLikeStatuses_redisUnavailable_fallsBackToDatabase() {
+        PostLikeStore store = new PostLikeStore(
+                unavailableRedisService, postLikeRepository, postLikeWriter, new PostLikeProperties());
+        given(unavailableRedisService.pipeline(any())).willThrow(new RedisUnavailableException("open"));
+        given(postLikeRepository.findPostIdsByMemberIdAndPostIdIn(2L, List.of(1L, 2L))).willReturn(List.of(2L));
+
+        Map<Long, PostLikeStore.LikeStatus> statuses = store.getLikeStatuses(List.of(1L, 2L), 2L, Map.of(1L, 3L, 2L, 5L));
+
+        assertThat(statuses.get(1L)).isEqualTo(new PostLikeStore.LikeStatus(3L, false));
+        assertThat(statuses.get(2L)).isEqualTo(new PostLikeStore.LikeStatus(5L, true));
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 좋아요/취소는 DB에만 반영하지 않고 503으로 실패한다")
+    void likeAndUnlike_redisUnavailable_throwsUnavailable() {
+        PostLikeStore store = new PostLikeStore(
+                unavailableRedisService, postLikeRepository, postLikeWriter, new PostLikeProperties());
+        given(unavailableRedisService.addToSetIfPresent(anyString(), anyString(), any()))
+                .willThrow(new RedisUnavailableException("open"));
+        given(unavailableRedisService.removeFromSetIfPresent(anyString(), anyString(), any()))
+                .willThrow(new RedisUnavailableException("open"));
+
+        assertThatThrownBy(() -> store.like(1L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PostErrorCode.LIKE_UNAVAILABLE.getMessage());
+        assertThatThrownBy(() -> store.unlike(1L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(PostErrorCode.LIKE_UNAVAILABLE.getMessage());
+        verify(postLikeWriter, never()).getPendingChanges(any());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 좋아요 집합을 지운다")
+    void evict_deletesSet() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(2L));
+        postLikeStore.getLikeCount(1L, 0L);
+
+        postLikeStore.evict(1L);
+
+        assertThat(redisService.getSetSize("post:likers:1")).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package com.spring.mvc.base.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+class PostLikeWriterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
+    private PostLikeWriter postLikeWriter;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        postLikeWriter = new PostLikeWriter(postRepository, postLikeRepository, memberRepository, transactionTemplate, postFeedWriter);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 좋아요/취소가 반복되면 마지막 상태만 반영한다")
+    void flush_coalescesToLastState() {
+        postLikeWriter.liked(1L, 2L);
+        postLikeWriter.unliked(1L, 2L);
+        postLikeWriter.liked(1L, 3L);
+        Member member = MemberFixture.createWithId(3L);
+        given(postLikeRepository.findMemberIdsByPostIdAndMemberIdIn(eq(1L), anyCollection())).willReturn(List.of());
+        given(postRepository.getReferenceById(1L)).willReturn(PostFixture.createWithId(1L, member));
+        given(memberRepository.getReferenceById(3L)).willReturn(member);
+
+        postLikeWriter.flush();
+
+        verify(postLikeRepository).deleteByPostIdAndMemberIdIn(1L, Set.of(2L));
+        verify(postLikeRepository).saveAll(any());
+        verify(postRepository).syncLikeCount(1L);
+        verify(postFeedWriter).countersChanged(1L);
+        assertThat(postLikeWriter.getPendingPostCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 좋아요는 다시 저장하지 않는다")
+    void flush_skipsExistingRows() {
+        postLikeWriter.liked(1L, 2L);
+        given(postLikeRepository.findMemberIdsByPostIdAndMemberIdIn(eq(1L), anyCollection())).willReturn(List.of(2L));
+
+        postLikeWriter.flush();
+
+        verify(postLikeRepository, never()).saveAll(any());
+        verify(postRepository).syncLikeCount(1L);
+        verify(postLikeRepository, never()).deleteByPostIdAndMemberIdIn(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 변경을 다시 대기열에 넣는다")
+    void flush_failure_restoresChanges() {
+        postLikeWriter.liked(1L, 2L);
+        given(postLikeRepository.findMemberIdsByPostIdAndMemberIdIn(eq(1L), anyCollection()))
+                .willThrow(new IllegalStateException("db down"));
+
+        postLikeWriter.flush();
+
+        assertThat(postLikeWriter.getPendingPostCount()).isEqualTo(1);
+    }
+}
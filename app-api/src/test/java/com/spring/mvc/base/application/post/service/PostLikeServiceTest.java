@@ -2,22 +2,16 @@ package com.spring.mvc.base.application.post.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.application.post.like.PostLikeWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
 import com.spring.mvc.base.config.annotation.UnitTest;
-import com.spring.mvc.base.domain.member.MemberFixture;
-import com.spring.mvc.base.domain.member.entity.Member;
-import com.spring.mvc.base.domain.member.repository.MemberRepository;
-import com.spring.mvc.base.domain.post.PostFixture;
-import com.spring.mvc.base.domain.post.entity.Post;
-import com.spring.mvc.base.domain.post.policy.PostLikePolicy;
-import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
-import java.util.Optional;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -30,92 +24,82 @@ class PostLikeServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private PostLikeStore postLikeStore;
 
     @Mock
-    private MemberRepository memberRepository;
+    private PostLikeWriter postLikeWriter;
 
     @Mock
-    private PostLikePolicy postLikePolicy;
+    private TrendingPosts trendingPosts;
 
     @InjectMocks
     private PostLikeService postLikeService;
 
-    private Member member;
-    private Post post;
-
-    @BeforeEach
-    void setUp() {
-        member = MemberFixture.createWithId(1L);
-        post = PostFixture.createWithId(1L, member);
-    }
-
     @Test
     @DisplayName("게시글에 좋아요를 할 수 있다")
     void likePost_success() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(true);
-        given(memberRepository.getReferenceById(1L)).willReturn(member);
-        doNothing().when(postLikePolicy).validateCanLike(1L, 1L);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(true);
+        given(postLikeStore.like(1L, 1L)).willReturn(true);
 
         postLikeService.likePost(1L, 1L);
+
+        verify(postLikeWriter).liked(1L, 1L);
+        verify(trendingPosts).recordLike(1L);
     }
 
     @Test
     @DisplayName("존재하지 않는 게시글에 좋아요 시 예외가 발생한다")
     void likePost_postNotFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.empty());
-
-        assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 회원이 좋아요 시 예외가 발생한다")
-    void likePost_memberNotFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(false);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(false);
 
         assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.POST_NOT_FOUND.getMessage());
+        verify(postLikeStore, never()).like(1L, 1L);
     }
 
     @Test
     @DisplayName("이미 좋아요한 게시글에 좋아요 시 예외가 발생한다")
     void likePost_alreadyLiked() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(true);
-        doThrow(new BusinessException(PostErrorCode.ALREADY_LIKED)).when(postLikePolicy).validateCanLike(1L, 1L);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(true);
+        given(postLikeStore.like(1L, 1L)).willReturn(false);
 
         assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.ALREADY_LIKED.getMessage());
+        verify(postLikeWriter, never()).liked(1L, 1L);
     }
 
     @Test
     @DisplayName("게시글 좋아요를 취소할 수 있다")
     void unlikePost_success() {
-        given(postRepository.existsById(1L)).willReturn(true);
-        doNothing().when(postLikePolicy).validateCanUnlike(1L, 1L);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(true);
+        given(postLikeStore.unlike(1L, 1L)).willReturn(true);
 
         postLikeService.unlikePost(1L, 1L);
+
+        verify(postLikeWriter).unliked(1L, 1L);
     }
 
     @Test
     @DisplayName("존재하지 않는 게시글의 좋아요 취소 시 예외가 발생한다")
     void unlikePost_postNotFound() {
-        given(postRepository.existsById(1L)).willReturn(false);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(false);
 
         assertThatThrownBy(() -> postLikeService.unlikePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.POST_NOT_FOUND.getMessage());
     }
 
     @Test
     @DisplayName("좋아요하지 않은 게시글의 좋아요 취소 시 예외가 발생한다")
     void unlikePost_notLiked() {
-        given(postRepository.existsById(1L)).willReturn(true);
-        doThrow(new BusinessException(PostErrorCode.LIKE_NOT_FOUND)).when(postLikePolicy).validateCanUnlike(1L, 1L);
+        given(postRepository.existsByIdAndIsDeletedFalse(1L)).willReturn(true);
+        given(postLikeStore.unlike(1L, 1L)).willReturn(false);
 
         assertThatThrownBy(() -> postLikeService.unlikePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.LIKE_NOT_FOUND.getMessage());
+        verify(postLikeWriter, never()).unliked(1L, 1L);
     }
 }
@@ -3,20 +3,33 @@ package com.spring.mvc.base.application.post.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.common.cache.PageCountCache;
 import com.spring.mvc.base.application.common.dto.response.PageResponse;
 import com.spring.mvc.base.application.file.service.FileService;
 import com.spring.mvc.base.application.post.PostRequestFixture;
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
+import com.spring.mvc.base.application.post.dto.request.PostSearchRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.dto.response.PostBatchResponse;
 import com.spring.mvc.base.application.post.dto.response.PostResponse;
 import com.spring.mvc.base.application.post.dto.response.PostSummaryResponse;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.application.post.search.PostSearchIndex;
+import com.spring.mvc.base.application.post.search.PostTagBitmapIndex;
+import com.spring.mvc.base.application.post.view.PostViewCounter;
 import com.spring.mvc.base.common.exception.BusinessException;
 import com.spring.mvc.base.common.exception.code.MemberErrorCode;
 import com.spring.mvc.base.common.exception.code.PostErrorCode;
+import com.spring.mvc.base.common.web.ResourceVersion;
 import com.spring.mvc.base.config.annotation.UnitTest;
 import com.spring.mvc.base.domain.common.policy.OwnershipPolicy;
 import com.spring.mvc.base.domain.file.repository.FileRepository;
@@ -25,22 +38,31 @@ import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
 import com.spring.mvc.base.domain.post.PostFixture;
 import com.spring.mvc.base.domain.post.PostQueryDtoFixture;
+import com.spring.mvc.base.domain.post.dto.PostCursor;
 import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
 import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
 import com.spring.mvc.base.domain.post.entity.Post;
-import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import com.spring.mvc.base.infra.search.config.SearchProperties;
+import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.mockito.Spy;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @UnitTest
 class PostServiceTest {
@@ -58,7 +80,7 @@ class PostServiceTest {
     private OwnershipPolicy ownershipPolicy;
 
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private PostLikeStore postLikeStore;
 
     @Mock
     private FileService fileService;
@@ -66,6 +88,30 @@ class PostServiceTest {
     @Mock
     private PostTagService postTagService;
 
+    @Mock
+    private PostImageService postImageService;
+
+    @Mock
+    private PostDetailsCache postDetailsCache;
+
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new CacheProperties());
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostTagBitmapIndex postTagBitmapIndex;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
     @InjectMocks
     private PostService postService;
 
@@ -89,6 +135,8 @@ class PostServiceTest {
 
         assertThat(response.title()).isEqualTo(PostFixture.DEFAULT_TITLE);
         assertThat(response.content()).isEqualTo(PostFixture.DEFAULT_CONTENT);
+        verify(postImageService).createPostImages(post);
+        verify(postFeedWriter).postCreated(post);
     }
 
 
@@ -104,6 +152,9 @@ class PostServiceTest {
 
         assertThat(post.getTitle()).isEqualTo(PostFixture.UPDATED_TITLE);
         assertThat(post.getContent()).isEqualTo(PostFixture.UPDATED_CONTENT);
+        verify(postDetailsCache).evict(1L);
+        verify(postImageService).updatePostImages(post);
+        verify(postFeedWriter).postUpdated(post);
     }
 
     @Test
@@ -114,13 +165,18 @@ class PostServiceTest {
         postService.deletePost(1L, 1L);
 
         assertThat(post.isDeleted()).isTrue();
+        verify(fileService).deleteFilesOfPost(1L);
+        verify(postDetailsCache).evict(1L);
+        verify(postLikeStore).evict(1L);
+        verify(postFeedWriter).postDeleted(1L);
     }
 
     @Test
     @DisplayName("게시글 상세를 조회할 수 있다")
     void getPostDetails_success() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(false);
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.of(post));
+        given(postLikeStore.isLiked(1L, 1L)).willReturn(false);
 
         PostResponse response = postService.getPostDetails(1L, 1L);
 
@@ -128,23 +184,80 @@ class PostServiceTest {
         assertThat(response.title()).isEqualTo(PostFixture.DEFAULT_TITLE);
     }
 
+    @Test
+    @DisplayName("게시글 상세의 태그는 태그명 일괄 조회 결과로 채운다")
+    void getPostDetails_usesTagNameProjection() {
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.of(post));
+        given(postTagService.getTagNames(List.of(1L))).willReturn(Map.of(1L, List.of("java", "spring")));
+
+        PostResponse response = postService.getPostDetails(1L, null);
+
+        assertThat(response.tags()).containsExactly("java", "spring");
+        verify(postRepository, never()).findByIdWithMember(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회수에 아직 반영되지 않은 조회수를 더한다")
+    void getPostDetails_includesPendingViews() {
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.of(post));
+        given(postViewCounter.getPendingCount(1L)).willReturn(3L);
+
+        PostResponse response = postService.getPostDetails(1L, null);
+
+        assertThat(response.viewCount()).isEqualTo(post.getViewsCount() + 3L);
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시글 조회 시 예외가 발생한다")
     void getPostDetails_notFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.empty());
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> postService.getPostDetails(1L, 1L))
                 .isInstanceOf(BusinessException.class);
     }
 
+    @Test
+    @DisplayName("게시글 일괄 조회는 요청 순서를 유지하고 없는 게시글을 알려준다")
+    void getPostDetailsBatch_preservesOrderAndReportsMissing() {
+        Post second = PostFixture.createWithId(2L, member);
+        givenPostDetailsCacheMissAll();
+        given(postRepository.findAllWithMemberByIdIn(List.of(2L, 3L, 1L))).willReturn(List.of(post, second));
+        given(postTagService.getTagNames(List.of(1L, 2L))).willReturn(Map.of(2L, List.of("java")));
+        given(postLikeStore.getLikeStatuses(List.of(2L, 1L), 1L, Map.of(2L, 0L, 1L, 0L))).willReturn(Map.of(
+                1L, new PostLikeStore.LikeStatus(5L, true),
+                2L, new PostLikeStore.LikeStatus(0L, false)
+        ));
+
+        PostBatchResponse response = postService.getPostDetailsBatch(List.of(2L, 3L, 1L, 2L), 1L);
+
+        assertThat(response.items()).extracting(PostResponse::postId).containsExactly(2L, 1L);
+        assertThat(response.items().get(0).tags()).containsExactly("java");
+        assertThat(response.items().get(1).isLiked()).isTrue();
+        assertThat(response.items().get(1).likeCount()).isEqualTo(5L);
+        assertThat(response.missingIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 조회 개수가 최대치를 넘으면 예외가 발생한다")
+    void getPostDetailsBatch_tooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> postService.getPostDetailsBatch(ids, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PostErrorCode.BATCH_IDS_TOO_MANY);
+    }
+
     @Test
     @DisplayName("게시글 목록을 페이지로 조회할 수 있다")
     void getPostPage_success() {
         Pageable pageable = PageRequest.of(0, 10);
         PostSummaryQueryDto dto = PostQueryDtoFixture.create();
-        Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of(dto));
 
         PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable);
 
@@ -204,8 +317,9 @@ class PostServiceTest {
     @Test
     @DisplayName("게시글 조회 시 좋아요 여부를 확인한다 - memberId가 있을 때")
     void getPostDetails_withMemberId_checksLiked() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(true);
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.of(post));
+        given(postLikeStore.isLiked(1L, 1L)).willReturn(true);
 
         PostResponse response = postService.getPostDetails(1L, 1L);
 
@@ -215,22 +329,69 @@ class PostServiceTest {
     @Test
     @DisplayName("게시글 조회 시 좋아요 여부를 확인한다 - memberId가 null일 때")
     void getPostDetails_withoutMemberId_isLikedFalse() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
+        givenPostDetailsCacheMiss();
+        given(postRepository.findDetailById(1L)).willReturn(Optional.of(post));
 
         PostResponse response = postService.getPostDetails(1L, null);
 
         assertThat(response.isLiked()).isFalse();
     }
 
+    @Test
+    @DisplayName("캐시된 게시글 상세가 있으면 DB를 조회하지 않고 좋아요 여부만 반영한다")
+    void getPostDetails_cacheHit_skipsPostQuery() {
+        PostResponse cached = PostResponse.of(post, member, null);
+        given(postDetailsCache.get(eq(1L), any())).willReturn(cached);
+        given(postLikeStore.isLiked(1L, 1L)).willReturn(true);
+
+        PostResponse response = postService.getPostDetails(1L, 1L);
+
+        assertThat(response.postId()).isEqualTo(1L);
+        assertThat(response.isLiked()).isTrue();
+        verify(postRepository, never()).findDetailById(1L);
+    }
+
+    @Test
+    @DisplayName("작성자 정보가 바뀌면 게시글 버전이 같아도 ETag가 달라지고 Last-Modified는 보내지 않는다")
+    void getPostDetails_etagReflectsAuthorAndOmitsLastModified() {
+        List<ResourceVersion> versions = new ArrayList<>();
+        PostResponse before = PostResponse.of(post, member, null);
+        member.changeNickname("renamed");
+        PostResponse after = PostResponse.of(post, member, null);
+        given(postDetailsCache.get(eq(1L), any())).willReturn(before, after);
+
+        postService.getPostDetails(1L, null, versions::add);
+        postService.getPostDetails(1L, null, versions::add);
+
+        assertThat(versions.get(0).etag()).isNotEqualTo(versions.get(1).etag());
+        assertThat(versions).allSatisfy(version -> assertThat(version.lastModified()).isNull());
+    }
+
+    @Test
+    @DisplayName("조회수와 좋아요 수가 바뀌어도 게시글 ETag는 그대로이고 약한 ETag로 만든다")
+    void getPostDetails_etagIgnoresVolatileCounters() {
+        List<ResourceVersion> versions = new ArrayList<>();
+        PostResponse before = PostResponse.of(post, member, null);
+        PostResponse after = before.withLikeCount(99L).withPendingViews(10L);
+        given(postDetailsCache.get(eq(1L), any())).willReturn(before, after);
+
+        postService.getPostDetails(1L, null, versions::add);
+        postService.getPostDetails(1L, null, versions::add);
+
+        assertThat(versions.get(0).etag()).startsWith("W/\"").isEqualTo(versions.get(1).etag());
+        verify(postLikeStore, never()).getLikeCount(eq(1L), any(Long.class));
+        verify(postViewCounter, never()).getPendingCount(1L);
+    }
+
     @Test
     @DisplayName("태그로 게시글을 필터링하여 조회할 수 있다")
     void getPostPageByTags_success() {
         Pageable pageable = PageRequest.of(0, 10);
         List<String> tags = List.of("Java", "Spring");
         PostSummaryQueryDto dto = PostQueryDtoFixture.create();
-        Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of(dto));
 
         PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, pageable);
 
@@ -243,13 +404,197 @@ class PostServiceTest {
     void getPostPageByTags_noResults_returnsEmptyList() {
         Pageable pageable = PageRequest.of(0, 10);
         List<String> tags = List.of("NonExistentTag");
-        Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(), pageable, 0);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of());
 
         PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, pageable);
 
         assertThat(response.items()).isEmpty();
         assertThat(response.totalElements()).isZero();
     }
+
+    @Test
+    @DisplayName("OFFSET 조회 결과에 다음 페이지가 있으면 다음 커서를 함께 반환한다")
+    void getPostPage_hasNext_returnsNextCursor() {
+        Pageable pageable = PageRequest.of(0, 1);
+        PostSummaryQueryDto dto = PostQueryDtoFixture.create();
+
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(1)))
+                .willReturn(List.of(dto));
+        given(postRepository.countPosts(any(PostSearchCondition.class))).willReturn(2L);
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable);
+
+        assertThat(response.hasNext()).isTrue();
+        PostCursor nextCursor = PostCursor.decode(response.nextCursor()).orElseThrow();
+        assertThat(nextCursor.sortKey()).isEqualTo(PostCursor.SortKey.CREATED_AT);
+        assertThat(nextCursor.lastId()).isEqualTo(dto.postId());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 조회하면 COUNT 없이 다음 커서를 반환한다")
+    void getPostPageByCursor_success() {
+        String cursor = PostCursor.first(PostCursor.SortKey.ID, false)
+                .next(PostQueryDtoFixture.create(10L, "이전"))
+                .encode();
+        List<PostSummaryQueryDto> rows = List.of(
+                PostQueryDtoFixture.create(9L, "제목9"),
+                PostQueryDtoFixture.create(8L, "제목8"),
+                PostQueryDtoFixture.create(7L, "제목7")
+        );
+
+        given(postRepository.searchPostsByCursor(any(PostSearchCondition.class), any(PostCursor.class), eq(3)))
+                .willReturn(rows);
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPageByCursor(cursor, PostSearchRequest.empty(), 2);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(9L, 8L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(PostCursor.decode(response.nextCursor()).orElseThrow().lastId()).isEqualTo(8L);
+        assertThat(response.totalElements()).isEqualTo(PageResponse.UNKNOWN);
+        verify(postRepository, never()).countPosts(any());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서로 조회하면 예외가 발생한다")
+    void getPostPageByCursor_invalidCursor_throwsException() {
+        assertThatThrownBy(() -> postService.getPostPageByCursor("invalid-cursor", PostSearchRequest.empty(), 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 검색 색인의 후보 게시글로 조회 범위를 제한한다")
+    void searchPostPage_usesSearchIndex() {
+        Pageable pageable = PageRequest.of(0, 10);
+        PostSummaryQueryDto dto = PostQueryDtoFixture.create();
+
+        given(postSearchIndex.search("스프링")).willReturn(Optional.of(List.of(1L)));
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of(dto));
+
+        PageResponse<PostSummaryResponse> response = postService.searchPostPage(keywordRequest("스프링"), pageable);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(1L);
+        verify(postRepository).searchPostSummaries(
+                argThat(condition -> List.of(1L).equals(condition.postIds())), eq(pageable), eq(10));
+    }
+
+    @Test
+    @DisplayName("검색 색인을 사용할 수 없으면 키워드 LIKE 검색으로 대체한다")
+    void searchPostPage_indexUnavailable_fallsBackToKeyword() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given(postSearchIndex.search("스프링")).willReturn(Optional.empty());
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of());
+
+        postService.searchPostPage(keywordRequest("스프링"), pageable);
+
+        verify(postRepository).searchPostSummaries(
+                argThat(condition -> !condition.hasPostIds() && "스프링".equals(condition.keyword())),
+                eq(pageable), eq(10));
+    }
+
+    @Test
+    @DisplayName("relevance 정렬은 검색 색인의 관련도 순서를 따른다")
+    void searchPostPage_relevanceSort() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("relevance"));
+        List<PostSummaryQueryDto> rows = List.of(
+                PostQueryDtoFixture.create(1L, "제목1"),
+                PostQueryDtoFixture.create(2L, "제목2"),
+                PostQueryDtoFixture.create(3L, "제목3")
+        );
+
+        given(postSearchIndex.search("제목")).willReturn(Optional.of(List.of(3L, 1L, 2L)));
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), any(Pageable.class), eq(3)))
+                .willReturn(rows);
+
+        PageResponse<PostSummaryResponse> response = postService.searchPostPage(keywordRequest("제목"), pageable);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(3L, 1L);
+        assertThat(response.totalElements()).isEqualTo(3L);
+        assertThat(response.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("태그 비트맵을 사용할 수 있으면 페이지에 해당하는 게시글 ID만 DB에서 조회한다")
+    void searchPostPage_tagBitmap_fetchesOnlyPageIds() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        PostSearchRequest request = new PostSearchRequest(null, null, List.of("java", "spring"), List.of("kotlin"));
+        Roaring64Bitmap matched = Roaring64Bitmap.bitmapOf(1L, 2L, 3L);
+
+        given(postTagBitmapIndex.evaluate(any(PostSearchCondition.class))).willReturn(Optional.of(matched));
+        given(postRepository.searchPostSummaries(
+                argThat(condition -> List.of(3L, 2L).equals(condition.postIds()) && !condition.hasTagFilter()),
+                any(Pageable.class), eq(2)))
+                .willReturn(List.of(
+                        PostQueryDtoFixture.create(3L, "제목3"),
+                        PostQueryDtoFixture.create(2L, "제목2")
+                ));
+
+        PageResponse<PostSummaryResponse> response = postService.searchPostPage(request, pageable);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(3L, 2L);
+        assertThat(response.totalElements()).isEqualTo(3L);
+        assertThat(response.hasNext()).isTrue();
+        verify(postRepository, never()).countPosts(any());
+    }
+
+    @Test
+    @DisplayName("태그 비트맵을 사용할 수 없으면 DB 태그 조건으로 대체한다")
+    void searchPostPage_tagBitmapUnavailable_fallsBackToDatabase() {
+        Pageable pageable = PageRequest.of(0, 10);
+        PostSearchRequest request = new PostSearchRequest(null, null, List.of("java"), null);
+
+        given(postTagBitmapIndex.evaluate(any(PostSearchCondition.class))).willReturn(Optional.empty());
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of());
+
+        postService.searchPostPage(request, pageable);
+
+        verify(postRepository).searchPostSummaries(
+                argThat(condition -> !condition.hasPostIds() && List.of("java").equals(condition.requiredTags())),
+                eq(pageable), eq(10));
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되지 않았으면 키워드와 태그를 함께 DB 조건으로 조회한다")
+    void searchPostPage_keywordWithTags_indexNotReady_keepsKeyword() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        PostSearchRequest request = new PostSearchRequest("스프링", null, List.of("java"), null);
+
+        given(postSearchIndex.search("스프링")).willReturn(Optional.empty());
+        given(postTagBitmapIndex.evaluate(any(PostSearchCondition.class)))
+                .willReturn(Optional.of(Roaring64Bitmap.bitmapOf(1L, 2L)));
+        given(postRepository.searchPostSummaries(any(PostSearchCondition.class), eq(pageable), eq(10)))
+                .willReturn(List.of());
+
+        postService.searchPostPage(request, pageable);
+
+        verify(postRepository).searchPostSummaries(
+                argThat(condition -> !condition.hasPostIds()
+                        && "스프링".equals(condition.keyword())
+                        && List.of("java").equals(condition.requiredTags())),
+                eq(pageable), eq(10));
+    }
+
+    private PostSearchRequest keywordRequest(String keyword) {
+        return new PostSearchRequest(keyword, null, null, null);
+    }
+
+    private void givenPostDetailsCacheMissAll() {
+        given(postDetailsCache.getAll(any(), any())).willAnswer(invocation -> {
+            Function<List<Long>, Map<Long, PostResponse>> loader = invocation.getArgument(1);
+            return loader.apply(List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+        });
+    }
+
+    private void givenPostDetailsCacheMiss() {
+        given(postDetailsCache.get(eq(1L), any())).willAnswer(invocation -> {
+            Supplier<PostResponse> loader = invocation.getArgument(1);
+            return loader.get();
+        });
+    }
 }
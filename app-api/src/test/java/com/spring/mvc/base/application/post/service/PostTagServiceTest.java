@@ -1,22 +1,37 @@
 package com.spring.mvc.base.application.post.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.post.dto.response.PopularTagResponse;
+import com.spring.mvc.base.application.post.search.PostTagBitmapIndex;
+import com.spring.mvc.base.application.post.tag.TagDictionary;
+import com.spring.mvc.base.application.post.tag.TrendingTags;
+import com.spring.mvc.base.application.post.tag.TrendingWindow;
 import com.spring.mvc.base.config.annotation.UnitTest;
 import com.spring.mvc.base.domain.member.MemberFixture;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.TagFixture;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
 import com.spring.mvc.base.domain.post.entity.Post;
 import com.spring.mvc.base.domain.post.entity.PostTag;
 import com.spring.mvc.base.domain.post.entity.Tag;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
 import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.infra.counter.SpaceSavingCounter;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +44,18 @@ class PostTagServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
+    @Mock
+    private PostTagBitmapIndex postTagBitmapIndex;
+
+    @Mock
+    private TrendingTags trendingTags;
+
     @InjectMocks
     private PostTagService postTagService;
 
@@ -41,64 +68,51 @@ class PostTagServiceTest {
     }
 
     @Test
-    @DisplayName("새로운 태그로 PostTag를 생성할 수 있다")
-    void createPostTags_withNewTags() {
-        List<String> tagNames = List.of("Java", "Spring");
-        Tag javaTag = createTagWithId(1L, "java");
-        Tag springTag = createTagWithId(2L, "spring");
+    @DisplayName("태그 사전에서 받은 ID로 PostTag를 생성한다")
+    void createPostTags_withDictionaryIds() {
+        given(tagDictionary.acquire(List.of("java", "spring"))).willReturn(Map.of("java", 1L, "spring", 2L));
+        givenTagReferences(TagFixture.createWitId(1L, "java"), TagFixture.createWitId(2L, "spring"));
 
-        given(tagRepository.findByNameIn(anyList())).willReturn(Collections.emptyList());
-        given(tagRepository.saveAll(anyList())).willReturn(List.of(javaTag, springTag));
-
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<PostTag> postTags = postTagService.createPostTags(post, List.of("Java", "Spring"));
 
         assertThat(postTags).hasSize(2);
-        verify(tagRepository, times(1)).saveAll(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
-    }
-
-    @Test
-    @DisplayName("기존 태그로 PostTag를 생성할 수 있다")
-    void createPostTags_withExistingTags() {
-        List<String> tagNames = List.of("java");
-        Tag existingTag = createTagWithId(1L, "java");
-
-        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(existingTag));
-
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
-
-        assertThat(postTags).hasSize(1);
-        verify(tagRepository, times(0)).saveAll(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
+        assertThat(postTags).extracting(postTag -> postTag.getTag().getId()).containsExactly(1L, 2L);
+        assertThat(postTags).extracting(postTag -> postTag.getTag().getName()).containsExactly("java", "spring");
+        verify(tagRepository, never()).findByNameIn(anyList());
+        verify(tagRepository, never()).saveAll(anyList());
+        verify(trendingTags).record(List.of("java", "spring"));
     }
 
     @Test
     @DisplayName("태그명이 대문자여도 소문자로 정규화하여 처리한다")
     void createPostTags_normalizesTagNames() {
-        List<String> tagNames = List.of("JAVA", "Java", "java");
-        Tag javaTag = createTagWithId(1L, "java");
-
-        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag));
+        given(tagDictionary.acquire(List.of("java"))).willReturn(Map.of("java", 1L));
+        givenTagReferences(TagFixture.createWitId(1L, "java"));
 
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<PostTag> postTags = postTagService.createPostTags(post, List.of("JAVA", "Java", "java"));
 
         assertThat(postTags).hasSize(1);
-        verify(tagRepository, times(1)).findByNameIn(anyList());
+        verify(tagDictionary, times(1)).acquire(List.of("java"));
     }
 
     @Test
     @DisplayName("빈 문자열이나 공백만 있는 태그는 무시한다")
     void createPostTags_ignoresEmptyTags() {
-        List<String> tagNames = List.of("java", "", "  ", "spring");
-        Tag javaTag = createTagWithId(1L, "java");
-        Tag springTag = createTagWithId(2L, "spring");
+        given(tagDictionary.acquire(List.of("java", "spring"))).willReturn(Map.of("java", 1L, "spring", 2L));
+        givenTagReferences(TagFixture.createWitId(1L, "java"), TagFixture.createWitId(2L, "spring"));
 
-        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag, springTag));
-
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<PostTag> postTags = postTagService.createPostTags(post, List.of("java", "", "  ", "spring"));
 
         assertThat(postTags).hasSize(2);
-        verify(tagRepository, times(1)).findByNameIn(anyList());
+    }
+
+    @Test
+    @DisplayName("너무 긴 태그명은 저장 전에 거부한다")
+    void createPostTags_rejectsTooLongName() {
+        assertThatThrownBy(() -> postTagService.createPostTags(post, List.of("a".repeat(51))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(tagDictionary, never()).acquire(anyCollection());
     }
 
     @Test
@@ -109,83 +123,91 @@ class PostTagServiceTest {
 
         assertThat(nullResult).isEmpty();
         assertThat(emptyResult).isEmpty();
+        verify(tagDictionary, never()).acquire(anyCollection());
     }
 
     @Test
     @DisplayName("Post의 태그를 업데이트할 수 있다")
     void updatePostTags_success() {
-        Tag oldTag = createTagWithId(1L, "java");
-        Tag newTag = createTagWithId(2L, "spring");
-        PostTag oldPostTag = PostTag.create(post, oldTag);
-
-        post.addPostTag(oldPostTag);
-
-        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(newTag));
+        given(postTagRepository.findTagIdNamesByPostId(1L)).willReturn(List.of(new TagIdName(1L, "java")));
+        given(tagDictionary.acquire(List.of("spring"))).willReturn(Map.of("spring", 2L));
+        givenTagReferences(TagFixture.createWitId(2L, "spring"));
 
         postTagService.updatePostTags(post, List.of("spring"));
 
-        verify(tagRepository, times(1)).bulkDecrementUsageCount(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
+        verify(postTagRepository).deleteByPostIdAndTagIdIn(1L, List.of(1L));
+        verify(tagRepository).bulkDecrementUsageCount(List.of(1L));
+        verify(postTagRepository).flush();
     }
 
     @Test
     @DisplayName("동일한 태그로 업데이트하면 변경사항이 없다")
     void updatePostTags_noChange() {
-        Tag javaTag = createTagWithId(1L, "java");
-        PostTag postTag = PostTag.create(post, javaTag);
-
-        post.addPostTag(postTag);
+        given(postTagRepository.findTagIdNamesByPostId(1L)).willReturn(List.of(new TagIdName(1L, "java")));
 
         postTagService.updatePostTags(post, List.of("java"));
 
-        verify(tagRepository, times(0)).bulkDecrementUsageCount(anyList());
-        verify(tagRepository, times(0)).bulkIncrementUsageCount(anyList());
-        assertThat(post.getPostTags()).hasSize(1);
+        verify(postTagRepository, never()).deleteByPostIdAndTagIdIn(anyLong(), anyCollection());
+        verify(tagRepository, never()).bulkDecrementUsageCount(anyList());
+        verify(tagDictionary, never()).acquire(anyCollection());
     }
 
     @Test
     @DisplayName("일부 태그만 변경할 수 있다")
     void updatePostTags_partialChange() {
-        Tag javaTag = createTagWithId(1L, "java");
-        Tag springTag = createTagWithId(2L, "spring");
-        Tag kotlinTag = createTagWithId(3L, "kotlin");
-
-        post.addPostTag(PostTag.create(post, javaTag));
-        post.addPostTag(PostTag.create(post, springTag));
-
-        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(springTag, kotlinTag));
+        given(postTagRepository.findTagIdNamesByPostId(1L)).willReturn(List.of(
+                new TagIdName(1L, "java"),
+                new TagIdName(2L, "spring")
+        ));
+        given(tagDictionary.acquire(List.of("kotlin"))).willReturn(Map.of("kotlin", 3L));
+        givenTagReferences(TagFixture.createWitId(3L, "kotlin"));
 
         postTagService.updatePostTags(post, List.of("spring", "kotlin"));
 
-        verify(tagRepository, times(1)).bulkDecrementUsageCount(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
+        verify(postTagRepository).deleteByPostIdAndTagIdIn(1L, List.of(1L));
+        verify(tagRepository, times(1)).bulkDecrementUsageCount(List.of(1L));
+        verify(tagDictionary, times(1)).acquire(List.of("kotlin"));
+        verify(postTagBitmapIndex).removeTags(1L, Set.of("java"));
+        verify(postTagBitmapIndex).addTags(1L, List.of("kotlin"));
+        verify(trendingTags).record(List.of("kotlin"));
+    }
+
+    @Test
+    @DisplayName("인기 태그는 메모리 집계에서 조회하고 태그 사전의 ID를 붙인다")
+    void getPopularTags() {
+        given(trendingTags.top(TrendingWindow.DAY, 10)).willReturn(List.of(
+                new SpaceSavingCounter.Entry<>("java", 5L, 0L),
+                new SpaceSavingCounter.Entry<>("spring", 2L, 0L)
+        ));
+        given(tagDictionary.find("java")).willReturn(Optional.of(1L));
+        given(tagDictionary.find("spring")).willReturn(Optional.empty());
+
+        List<PopularTagResponse> result = postTagService.getPopularTags(TrendingWindow.DAY, 10);
+
+        assertThat(result).containsExactly(
+                new PopularTagResponse(1L, "java", 5L),
+                new PopularTagResponse(null, "spring", 2L)
+        );
+        verify(tagRepository, never()).findTopByUsageCount(10);
     }
 
     @Test
     @DisplayName("인기 태그 상위 N개를 조회할 수 있다")
     void getTopTags() {
-        Tag tag1 = createTagWithId(1L, "java");
-        Tag tag2 = createTagWithId(2L, "spring");
-        List<Tag> topTags = List.of(tag1, tag2);
+        Tag tag1 = TagFixture.createWitId(1L, "java");
+        Tag tag2 = TagFixture.createWitId(2L, "spring");
 
-        given(tagRepository.findTopByUsageCount(10)).willReturn(topTags);
+        given(tagRepository.findTopByUsageCount(10)).willReturn(List.of(tag1, tag2));
 
         List<Tag> result = postTagService.getTopTags(10);
 
-        assertThat(result).hasSize(2);
         assertThat(result).containsExactly(tag1, tag2);
         verify(tagRepository, times(1)).findTopByUsageCount(10);
     }
 
-    private Tag createTagWithId(Long id, String name) {
-        Tag tag = Tag.create(name);
-        try {
-            java.lang.reflect.Field idField = Tag.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(tag, id);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    private void givenTagReferences(Tag... tags) {
+        for (Tag tag : tags) {
+            given(tagRepository.getReferenceById(tag.getId())).willReturn(tag);
         }
-        return tag;
     }
 }
@@ -4,7 +4,11 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
 import com.spring.mvc.base.application.post.dto.ViewContext;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.application.post.trending.TrendingPosts;
+import com.spring.mvc.base.application.post.view.PostViewCounter;
 import com.spring.mvc.base.config.annotation.UnitTest;
 import com.spring.mvc.base.domain.post.policy.ViewCountPolicy;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 @UnitTest
 class PostViewServiceTest {
@@ -22,6 +27,18 @@ class PostViewServiceTest {
     @Mock
     private ViewCountPolicy viewCountPolicy;
 
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private TrendingPosts trendingPosts;
+
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
+    @Spy
+    private ViewCountProperties viewCountProperties = new ViewCountProperties();
+
     @InjectMocks
     private PostViewService postViewService;
 
@@ -37,7 +54,27 @@ class PostViewServiceTest {
 
         postViewService.incrementViewCount(1L, context);
 
+        verify(postViewCounter).increment(1L);
+        verify(postRepository, never()).incrementViewCount(1L);
+        verify(trendingPosts).recordView(1L);
+    }
+
+    @Test
+    @DisplayName("write-behind를 끄면 조회마다 DB 조회수를 바로 증가시킨다")
+    void incrementViewCount_whenWriteBehindDisabled() {
+        ViewContext context = ViewContext.builder()
+                .memberId(1L)
+                .ipAddress("127.0.0.1")
+                .userAgent("user-agent")
+                .build();
+        viewCountProperties.setWriteBehind(false);
+        given(viewCountPolicy.shouldCount(1L, context)).willReturn(true);
+
+        postViewService.incrementViewCount(1L, context);
+
         verify(postRepository).incrementViewCount(1L);
+        verify(postFeedWriter).countersChanged(1L);
+        verify(postViewCounter, never()).increment(1L);
     }
 
     @Test
@@ -53,5 +90,7 @@ class PostViewServiceTest {
         postViewService.incrementViewCount(1L, context);
 
         verify(postRepository, never()).incrementViewCount(1L);
+        verify(postViewCounter, never()).increment(1L);
+        verify(trendingPosts, never()).recordView(1L);
     }
 }
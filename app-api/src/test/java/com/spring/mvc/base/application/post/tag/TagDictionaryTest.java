@@ -0,0 +1,97 @@
+package com.spring.mvc.base.application.post.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.post.config.TagDictionaryProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.post.TagFixture;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.fake.FakeRedisService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TagDictionaryTest {
+
+    private TagRepository tagRepository;
+    private FakeRedisService redisService;
+    private TagDictionaryProperties properties;
+    private TagDictionary tagDictionary;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository = mock(TagRepository.class);
+        redisService = new FakeRedisService();
+        properties = new TagDictionaryProperties();
+        tagDictionary = new TagDictionary(tagRepository, redisService, properties);
+    }
+
+    @Test
+    @DisplayName("사전에 없는 태그는 upsert 후 ID를 조회해 채우고 다른 노드에 전파한다")
+    void acquire_loadsMissesAndPublishes() {
+        given(tagRepository.findIdNamesByNameIn(List.of("java"))).willReturn(List.of(new TagIdName(1L, "java")));
+
+        Map<String, Long> ids = tagDictionary.acquire(List.of("java"));
+
+        assertThat(ids).containsExactly(Map.entry("java", 1L));
+        assertThat(tagDictionary.find("java")).contains(1L);
+        assertThat(redisService.getPublishedMessages()).containsExactly(properties.getSyncChannel() + "|1:java");
+        verify(tagRepository).upsertIncrementUsageCount(List.of("java"));
+    }
+
+    @Test
+    @DisplayName("사전에 모두 있으면 upsert 한 번으로 끝나고 ID를 조회하지 않는다")
+    void acquire_allHits_skipsLookup() {
+        tagDictionary.put("java", 1L);
+        tagDictionary.put("spring", 2L);
+
+        Map<String, Long> ids = tagDictionary.acquire(List.of("java", "spring"));
+
+        assertThat(ids).containsOnly(Map.entry("java", 1L), Map.entry("spring", 2L));
+        verify(tagRepository).upsertIncrementUsageCount(List.of("java", "spring"));
+        verify(tagRepository, never()).findIdNamesByNameIn(List.of("java", "spring"));
+        assertThat(redisService.getPublishedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대량 등록은 태그별 사용 수를 한 번에 올리고 사전에 없는 태그만 조회한다")
+    void acquireWithCounts_upsertsOnceAndLoadsMisses() {
+        tagDictionary.put("java", 1L);
+        given(tagRepository.findIdNamesByNameIn(List.of("spring"))).willReturn(List.of(new TagIdName(2L, "spring")));
+
+        Map<String, Long> ids = tagDictionary.acquire(Map.of("java", 3L, "spring", 1L));
+
+        assertThat(ids).containsOnly(Map.entry("java", 1L), Map.entry("spring", 2L));
+        verify(tagRepository).upsertAddUsageCount(Map.of("java", 3L, "spring", 1L));
+        verify(tagRepository, never()).upsertIncrementUsageCount(anyCollection());
+    }
+
+    @Test
+    @DisplayName("기동 시 사용 수 상위 태그로 사전을 채운다")
+    void warmUp_loadsTopTags() {
+        given(tagRepository.findTopByUsageCount(properties.getWarmUpSize()))
+                .willReturn(List.of(TagFixture.createWitId(1L, "java"), TagFixture.createWitId(2L, "spring")));
+
+        tagDictionary.warmUp();
+
+        assertThat(tagDictionary.find("java")).contains(1L);
+        assertThat(tagDictionary.find("spring")).contains(2L);
+    }
+
+    @Test
+    @DisplayName("동기화 메시지는 첫 구분자 기준으로 ID와 태그명을 나눈다")
+    void parseEntry() {
+        assertThat(TagDictionary.parseEntry("3:c:d")).contains(new TagIdName(3L, "c:d"));
+        assertThat(TagDictionary.parseEntry("abc:java")).isEmpty();
+        assertThat(TagDictionary.parseEntry("3:")).isEmpty();
+    }
+}
@@ -0,0 +1,133 @@
+package com.spring.mvc.base.application.post.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.application.post.config.TrendingTagProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.post.TagFixture;
+import com.spring.mvc.base.domain.post.entity.Tag;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.fake.FakeRedisService;
+import com.spring.mvc.base.infra.counter.SpaceSavingCounter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@UnitTest
+class TrendingTagsTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private TagRepository tagRepository;
+    private FakeRedisService redisService;
+    private ObjectMapper objectMapper;
+    private TrendingTagProperties properties;
+    private AtomicLong now;
+    private TrendingTags trendingTags;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository = mock(TagRepository.class);
+        redisService = new FakeRedisService();
+        objectMapper = new ObjectMapper();
+        properties = new TrendingTagProperties();
+        now = new AtomicLong(1_000 * HOUR);
+        trendingTags = newTrendingTags();
+    }
+
+    @Test
+    @DisplayName("전체 기간은 기동 시 DB usage_count로 채우고 이후 이벤트를 더한다")
+    void all_seededFromDatabase() {
+        given(tagRepository.findTopByUsageCount(properties.getCapacity()))
+                .willReturn(List.of(tagWithUsage("java", 10L), tagWithUsage("spring", 3L)));
+        trendingTags.warmUp();
+
+        trendingTags.record(List.of("spring"));
+
+        assertThat(keys(trendingTags.top(TrendingWindow.ALL, 10))).containsExactly("java", "spring");
+        assertThat(trendingTags.top(TrendingWindow.ALL, 10).get(1).count()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("최근 24시간 구간은 하루가 지난 사용 이벤트를 제외한다")
+    void day_slidesHourly() {
+        trendingTags.record(List.of("java", "java-old"));
+        now.addAndGet(2 * HOUR);
+        trendingTags.record(List.of("java", "spring"));
+
+        assertThat(keys(trendingTags.top(TrendingWindow.DAY, 10)))
+                .containsExactlyInAnyOrder("java", "java-old", "spring");
+
+        now.addAndGet(23 * HOUR);
+
+        assertThat(keys(trendingTags.top(TrendingWindow.DAY, 10))).containsExactlyInAnyOrder("java", "spring");
+        assertThat(keys(trendingTags.top(TrendingWindow.WEEK, 10)))
+                .containsExactlyInAnyOrder("java", "java-old", "spring");
+        assertThat(trendingTags.top(TrendingWindow.WEEK, 1).getFirst())
+                .isEqualTo(new SpaceSavingCounter.Entry<>("java", 2L, 0L));
+    }
+
+    @Test
+    @DisplayName("사용 이벤트를 전파하고, 자신이 보낸 메시지는 다시 반영하지 않는다")
+    void record_publishesAndIgnoresOwnMessage() {
+        trendingTags.record(List.of("java"));
+
+        assertThat(redisService.getPublishedMessages()).hasSize(1);
+        String payload = redisService.getPublishedMessages().getFirst()
+                .substring(properties.getSyncChannel().length() + 1);
+
+        trendingTags.applyMessage(payload);
+        assertThat(trendingTags.top(TrendingWindow.DAY, 1).getFirst().count()).isEqualTo(1L);
+
+        TrendingTags otherNode = newTrendingTags();
+        otherNode.applyMessage(payload);
+        assertThat(keys(otherNode.top(TrendingWindow.DAY, 10))).containsExactly("java");
+    }
+
+    @Test
+    @DisplayName("스냅샷을 저장하면 재시작한 노드가 구간 집계를 복원한다")
+    void snapshot_restoresOnRestart() {
+        trendingTags.record(List.of("java", "spring"));
+        trendingTags.record(List.of("java"));
+        trendingTags.saveSnapshot();
+
+        TrendingTags restarted = newTrendingTags();
+        restarted.warmUp();
+
+        assertThat(restarted.top(TrendingWindow.WEEK, 10)).containsExactly(
+                new SpaceSavingCounter.Entry<>("java", 2L, 0L),
+                new SpaceSavingCounter.Entry<>("spring", 1L, 0L)
+        );
+    }
+
+    @Test
+    @DisplayName("조회 개수는 설정된 최대 개수로 제한된다")
+    void top_clampsLimit() {
+        properties.setMaxLimit(1);
+        trendingTags.record(List.of("java", "spring"));
+
+        assertThat(trendingTags.top(TrendingWindow.DAY, 10)).hasSize(1);
+        assertThat(trendingTags.top(TrendingWindow.DAY, -1)).isEmpty();
+    }
+
+    private TrendingTags newTrendingTags() {
+        return new TrendingTags(tagRepository, redisService, objectMapper, properties, now::get);
+    }
+
+    private static List<String> keys(List<SpaceSavingCounter.Entry<String>> entries) {
+        return entries.stream().map(SpaceSavingCounter.Entry::key).toList();
+    }
+
+    private static Tag tagWithUsage(String name, long usageCount) {
+        Tag tag = TagFixture.create(name);
+        ReflectionTestUtils.setField(tag, "usageCount", usageCount);
+        return tag;
+    }
+}
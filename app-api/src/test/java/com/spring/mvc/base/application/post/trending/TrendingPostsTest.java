@@ -0,0 +1,100 @@
+package com.spring.mvc.base.application.post.trending;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.post.config.TrendingPostProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import com.spring.mvc.base.infra.redis.adapter.ScoredMember;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TrendingPostsTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private FakeRedisService redisService;
+    private TrendingPostProperties properties;
+    private AtomicLong now;
+    private TrendingPosts trendingPosts;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        properties = new TrendingPostProperties();
+        now = new AtomicLong(1_000 * DAY);
+        trendingPosts = new TrendingPosts(redisService, properties, now::get);
+    }
+
+    @Test
+    @DisplayName("반감기가 지난 이벤트는 최근 이벤트보다 비중이 작다")
+    void find_recentEventsOutrankOlderOnes() {
+        trendingPosts.recordLike(1L);
+        trendingPosts.flush();
+
+        now.addAndGet(12 * HOUR);
+        trendingPosts.recordView(2L);
+        trendingPosts.recordView(2L);
+        trendingPosts.flush();
+
+        TrendingPosts.Page page = trendingPosts.find(null, 10);
+
+        assertThat(page.postIds()).containsExactly(2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각이 바뀌면 이전 키의 점수를 감쇠 가중치로 합친다")
+    void flush_rebasesPreviousLandmark() {
+        now.addAndGet(12 * HOUR);
+        trendingPosts.recordView(1L);
+        trendingPosts.flush();
+
+        now.addAndGet(12 * HOUR);
+        trendingPosts.recordView(2L);
+        trendingPosts.flush();
+
+        List<ScoredMember> members = redisService.reverseRangeByScore(
+                properties.getKeyPrefix() + now.get(), Double.POSITIVE_INFINITY, 0, 10);
+
+        assertThat(members).containsExactly(
+                new ScoredMember("2", 1.0),
+                new ScoredMember("1", 0.25)
+        );
+    }
+
+    @Test
+    @DisplayName("동점이 페이지 경계에 걸쳐도 커서로 중복/누락 없이 이어서 조회한다")
+    void find_pagesThroughTies() {
+        LongStream.rangeClosed(1, 5).forEach(trendingPosts::recordView);
+        trendingPosts.flush();
+
+        List<Long> collected = new ArrayList<>();
+        TrendingCursor cursor = null;
+        do {
+            TrendingPosts.Page page = trendingPosts.find(cursor, 2);
+            collected.addAll(page.postIds());
+            cursor = page.hasNext()
+                    ? TrendingCursor.decode(page.nextCursor().encode()).orElseThrow()
+                    : null;
+        } while (cursor != null);
+
+        assertThat(collected).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(collected).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("커서 문자열이 올바르지 않으면 빈 값을 반환한다")
+    void decode_invalidCursor() {
+        assertThat(TrendingCursor.decode("not-a-cursor")).isEmpty();
+        assertThat(TrendingCursor.decode("")).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.spring.mvc.base.application.post.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spring.mvc.base.application.post.cache.PostDetailsCache;
+import com.spring.mvc.base.application.post.feed.PostFeedWriter;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+class PostViewCounterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostFeedWriter postFeedWriter;
+
+    @Mock
+    private PostDetailsCache postDetailsCache;
+
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        postViewCounter = new PostViewCounter(postRepository, transactionTemplate, postFeedWriter, postDetailsCache);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수는 게시글별로 한 번의 UPDATE로 반영된다")
+    void flush_coalescesDeltasPerPost() {
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+
+        postViewCounter.flush();
+
+        verify(postRepository, times(1)).addViewCount(1L, 3L);
+        verify(postRepository, times(1)).addViewCount(2L, 1L);
+        verify(postFeedWriter).countersChanged(Set.of(1L, 2L));
+        verify(postDetailsCache).evictAll(Set.of(1L, 2L));
+        assertThat(postViewCounter.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("누적분이 없으면 UPDATE 하지 않는다")
+    void flush_noDeltas_doesNothing() {
+        postViewCounter.flush();
+
+        verify(postRepository, never()).addViewCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 누적분을 버퍼로 되돌린다")
+    void flush_failure_restoresDeltas() {
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        given(postRepository.addViewCount(1L, 2L)).willThrow(new IllegalStateException("db down"));
+
+        postViewCounter.flush();
+
+        assertThat(postViewCounter.getPendingCount(1L)).isEqualTo(2L);
+    }
+}
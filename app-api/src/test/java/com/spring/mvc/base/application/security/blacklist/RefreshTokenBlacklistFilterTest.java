@@ -0,0 +1,98 @@
+package com.spring.mvc.base.application.security.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.security.config.properties.TokenBlacklistProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RefreshTokenBlacklistFilterTest {
+
+    private FakeRedisService redisService;
+    private TokenBlacklistProperties properties;
+    private RefreshTokenBlacklistFilter blacklistFilter;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        properties = new TokenBlacklistProperties();
+        blacklistFilter = new RefreshTokenBlacklistFilter(redisService, properties);
+    }
+
+    @Test
+    @DisplayName("구축 전에는 모든 다이제스트를 있을 수 있음으로 판단해 Redis에서 확인하게 한다")
+    void mightContain_beforeRebuild() {
+        assertThat(blacklistFilter.isReady()).isFalse();
+        assertThat(blacklistFilter.mightContain("unknown")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구축하면 Redis의 블랙리스트 키로 필터를 채운다")
+    void rebuild_loadsDigestsFromRedis() {
+        redisService.save(RefreshTokenBlacklistFilter.KEY_PREFIX + "abc", "0", Duration.ofMinutes(1));
+
+        blacklistFilter.rebuild();
+
+        assertThat(blacklistFilter.isReady()).isTrue();
+        assertThat(blacklistFilter.mightContain("abc")).isTrue();
+        assertThat(blacklistFilter.mightContain("def")).isFalse();
+    }
+
+    @Test
+    @DisplayName("등록하면 로컬 필터에 추가하고 동기화 채널로 전파한다")
+    void addAndPublish_updatesFilterAndPublishes() {
+        blacklistFilter.rebuild();
+
+        blacklistFilter.add("abc");
+        redisService.pipeline(batch -> blacklistFilter.publish("abc", batch));
+
+        assertThat(blacklistFilter.mightContain("abc")).isTrue();
+        assertThat(redisService.getPublishedMessages()).containsExactly(properties.getSyncChannel() + "|abc");
+    }
+
+    @Test
+    @DisplayName("필터가 비활성화되면 구축하지 않고 전파하지도 않는다")
+    void disabled_skipsFilter() {
+        properties.setFilterEnabled(false);
+
+        blacklistFilter.rebuild();
+        blacklistFilter.add("abc");
+        redisService.pipeline(batch -> blacklistFilter.publish("abc", batch));
+
+        assertThat(blacklistFilter.isReady()).isFalse();
+        assertThat(blacklistFilter.mightContain("def")).isTrue();
+        assertThat(redisService.getPublishedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구축이 끝난 미러는 등록된 토큰만 블랙리스트로 판단한다")
+    void isBlacklistedLocally_completeMirror() {
+        redisService.save(RefreshTokenBlacklistFilter.KEY_PREFIX + "abc", "0", Duration.ofMinutes(1));
+        blacklistFilter.rebuild();
+        blacklistFilter.add("def");
+
+        assertThat(blacklistFilter.isBlacklistedLocally("abc")).isTrue();
+        assertThat(blacklistFilter.isBlacklistedLocally("def")).isTrue();
+        assertThat(blacklistFilter.isBlacklistedLocally("ghi")).isFalse();
+    }
+
+    @Test
+    @DisplayName("미러가 구축되지 않았거나 용량을 넘으면 모르는 토큰도 블랙리스트로 간주한다")
+    void isBlacklistedLocally_incompleteMirror() {
+        assertThat(blacklistFilter.isBlacklistedLocally("ghi")).isTrue();
+
+        properties.setExpectedInsertions(2);
+        RefreshTokenBlacklistFilter smallFilter = new RefreshTokenBlacklistFilter(redisService, properties);
+        smallFilter.rebuild();
+        smallFilter.add("a");
+        smallFilter.add("b");
+        smallFilter.add("c");
+
+        assertThat(smallFilter.isBlacklistedLocally("unknown")).isTrue();
+    }
+}
@@ -5,12 +5,15 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.security.constants.JwtConstants;
+import com.spring.mvc.base.application.security.dto.token.VerifiedToken;
 import com.spring.mvc.base.application.security.dto.user.CustomUserDetails;
 import com.spring.mvc.base.application.security.service.LoginService;
 import com.spring.mvc.base.application.security.util.JwtTokenProvider;
 import com.spring.mvc.base.config.annotation.UnitTest;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
+import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,10 +49,8 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer valid-token");
 
-        given(jwtTokenProvider.isAccessToken("valid-token")).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired("valid-token")).willReturn(false);
-        given(jwtTokenProvider.getUidFromToken("valid-token")).willReturn(1L);
-        given(jwtTokenProvider.getRoleFromToken("valid-token")).willReturn("USER");
+        given(jwtTokenProvider.verify("valid-token")).willReturn(new VerifiedToken(
+                1L, "USER", JwtConstants.TOKEN_TYPE_ACCESS, Instant.now().plusSeconds(60)));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -68,7 +69,25 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer invalid-token");
 
-        given(jwtTokenProvider.isAccessToken("invalid-token")).willThrow(new JwtException("invalid"));
+        given(jwtTokenProvider.verify("invalid-token")).willThrow(new JwtException("invalid"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로는 인증이 세팅되지 않는다")
+    void doFilterInternal_ignoresRefreshToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = mock(FilterChain.class);
+
+        request.addHeader("Authorization", "Bearer refresh-token");
+
+        given(jwtTokenProvider.verify("refresh-token")).willReturn(new VerifiedToken(
+                1L, null, JwtConstants.TOKEN_TYPE_REFRESH, Instant.now().plusSeconds(60)));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
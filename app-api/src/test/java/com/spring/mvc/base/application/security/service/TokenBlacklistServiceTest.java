@@ -1,18 +1,26 @@
 package com.spring.mvc.base.application.security.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.spring.mvc.base.application.security.blacklist.RefreshTokenBlacklistFilter;
 import com.spring.mvc.base.application.security.util.JwtTokenProvider;
 import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.infra.redis.adapter.RedisBatch;
 import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import com.spring.mvc.base.infra.redis.circuit.RedisUnavailableException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
@@ -28,24 +36,36 @@ class TokenBlacklistServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenBlacklistFilter blacklistFilter;
+
     @InjectMocks
     private TokenBlacklistService tokenBlacklistService;
 
     @Test
-    @DisplayName("토큰을 블랙리스트에 등록하면 sha256 해시 키와 TTL로 Redis에 저장한다")
+    @DisplayName("토큰을 블랙리스트에 등록하면 sha256 해시 키와 TTL로 저장하고 전파를 같은 파이프라인에 담는다")
+    @SuppressWarnings("unchecked")
     void addToBlacklist_savesHashedKeyAndTtl() {
         given(jwtTokenProvider.getExpiresIn(TOKEN)).willReturn(TTL_MILLIS);
 
         tokenBlacklistService.addToBlacklist(TOKEN);
 
+        ArgumentCaptor<Consumer<RedisBatch>> commands = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisService).pipeline(commands.capture());
+        RedisBatch batch = mock(RedisBatch.class);
+        commands.getValue().accept(batch);
+
         String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
-        verify(redisService).save(eq(expectedKey), eq("0"), eq(Duration.ofMillis(TTL_MILLIS)));
+        verify(batch).save(eq(expectedKey), eq("0"), eq(Duration.ofMillis(TTL_MILLIS)));
+        verify(blacklistFilter).add(DigestUtils.sha256Hex(TOKEN));
+        verify(blacklistFilter).publish(DigestUtils.sha256Hex(TOKEN), batch);
     }
 
     @Test
     @DisplayName("블랙리스트에 등록된 토큰은 존재함을 반환한다")
     void isBlacklisted_returnsTrueWhenPresent() {
         String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
+        given(blacklistFilter.mightContain(DigestUtils.sha256Hex(TOKEN))).willReturn(true);
         given(redisService.find(expectedKey)).willReturn(Optional.of("0"));
 
         boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
@@ -57,10 +77,36 @@ class TokenBlacklistServiceTest {
     @DisplayName("블랙리스트에 없는 토큰은 false를 반환한다")
     void isBlacklisted_returnsFalseWhenAbsent() {
         String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
+        given(blacklistFilter.mightContain(DigestUtils.sha256Hex(TOKEN))).willReturn(true);
         given(redisService.find(expectedKey)).willReturn(Optional.empty());
 
         boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
 
         assertThat(actual).isFalse();
     }
+
+    @Test
+    @DisplayName("Bloom 필터에 없는 토큰은 Redis를 조회하지 않고 false를 반환한다")
+    void isBlacklisted_skipsRedisWhenFilterMisses() {
+        given(blacklistFilter.mightContain(DigestUtils.sha256Hex(TOKEN))).willReturn(false);
+
+        boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
+
+        assertThat(actual).isFalse();
+        verify(redisService, never()).find(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 로컬 미러로 판단한다")
+    void isBlacklisted_fallsBackToLocalMirror() {
+        String digest = DigestUtils.sha256Hex(TOKEN);
+        given(blacklistFilter.mightContain(digest)).willReturn(true);
+        given(redisService.find("blacklist:refresh-token:" + digest))
+                .willThrow(new RedisUnavailableException("open"));
+        given(blacklistFilter.isBlacklistedLocally(digest)).willReturn(true);
+
+        boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
+
+        assertThat(actual).isTrue();
+    }
 }
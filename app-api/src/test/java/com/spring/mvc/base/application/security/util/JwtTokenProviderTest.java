@@ -1,10 +1,13 @@
 package com.spring.mvc.base.application.security.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.spring.mvc.base.application.security.config.properties.JwtProperties;
 import com.spring.mvc.base.application.security.constants.JwtConstants;
+import com.spring.mvc.base.application.security.dto.token.VerifiedToken;
 import com.spring.mvc.base.config.annotation.UnitTest;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -67,4 +70,42 @@ class JwtTokenProviderTest {
 
         assertThat(shortLivedProvider.isTokenExpired(token)).isTrue();
     }
+
+    @Test
+    @DisplayName("verify는 한 번의 검증으로 타입이 지정된 클레임을 반환한다")
+    void verify_returnsTypedClaims() {
+        String token = jwtTokenProvider.generateAccessToken(4L, "ADMIN");
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        assertThat(verified.memberId()).isEqualTo(4L);
+        assertThat(verified.role()).isEqualTo("ADMIN");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.isExpired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임을 재사용한다")
+    void verify_reusesCachedClaims() {
+        String token = jwtTokenProvider.generateAccessToken(5L, "USER");
+
+        VerifiedToken first = jwtTokenProvider.verify(token);
+        VerifiedToken second = jwtTokenProvider.verify(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시되지 않고 예외가 발생한다")
+    void verify_rejectsTamperedToken() {
+        String token = jwtTokenProvider.generateAccessToken(6L, "USER");
+        jwtTokenProvider.verify(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(JwtException.class);
+    }
 }
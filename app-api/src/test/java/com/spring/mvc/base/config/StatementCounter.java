@@ -0,0 +1,30 @@
+package com.spring.mvc.base.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate Statistics로 실행된 SQL 문(PreparedStatement) 수를 세는 테스트 유틸리티
+ * 테스트 프로필은 generate_statistics를 끄므로 생성 시 통계 수집을 켠다.
+ */
+public class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * 지금까지 센 값을 비우고 다시 센다
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
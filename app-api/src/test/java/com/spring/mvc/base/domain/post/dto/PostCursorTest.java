@@ -0,0 +1,43 @@
+package com.spring.mvc.base.domain.post.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.domain.post.PostQueryDtoFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+@UnitTest
+class PostCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 커서가 된다")
+    void encodeAndDecode() {
+        PostSummaryQueryDto last = PostQueryDtoFixture.create(5L, "제목|구분자 포함");
+        PostCursor cursor = PostCursor.first(PostCursor.SortKey.TITLE, true).next(last);
+
+        PostCursor decoded = PostCursor.decode(cursor.encode()).orElseThrow();
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.lastValue()).isEqualTo("제목|구분자 포함");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 디코딩되지 않는다")
+    void decode_invalid() {
+        assertThat(PostCursor.decode("not-a-cursor")).isEmpty();
+        assertThat(PostCursor.decode("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 정렬 키만 커서 정렬로 변환된다")
+    void firstPageOf() {
+        assertThat(PostCursor.firstPageOf(Sort.unsorted()))
+                .hasValue(PostCursor.first(PostCursor.SortKey.CREATED_AT, false));
+        assertThat(PostCursor.firstPageOf(Sort.by(Sort.Direction.ASC, "likeCount")))
+                .hasValue(PostCursor.first(PostCursor.SortKey.LIKE_COUNT, true));
+        assertThat(PostCursor.firstPageOf(Sort.by("updatedAt"))).isEmpty();
+        assertThat(PostCursor.firstPageOf(Sort.by("likeCount", "id"))).isEmpty();
+    }
+}
@@ -3,16 +3,14 @@ package com.spring.mvc.base.domain.post.policy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isA;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.spring.mvc.base.application.post.dto.ViewContext;
 import com.spring.mvc.base.config.annotation.UnitTest;
-import com.spring.mvc.base.infra.redis.adapter.RedisService;
-import java.time.Duration;
-import java.util.Optional;
+import com.spring.mvc.base.domain.post.policy.dedup.LocalViewDeduplicator;
+import com.spring.mvc.base.domain.post.policy.dedup.ViewDeduplicator;
+import com.spring.mvc.base.infra.redis.circuit.RedisUnavailableException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
@@ -22,51 +20,62 @@ import org.mockito.Mock;
 class ViewCountPolicyTest {
 
     @Mock
-    private RedisService redisService;
+    private ViewDeduplicator viewDeduplicator;
+
+    @Mock
+    private LocalViewDeduplicator localViewDeduplicator;
 
     @InjectMocks
     private ViewCountPolicy viewCountPolicy;
 
     @Test
-    void shouldCount_whenRedisKeyMissing_returnsTrueAndRecordsKey() {
+    void shouldCount_whenFirstView_returnsTrueWithIpAndUserAgentKey() {
         ViewContext context = ViewContext.builder()
                 .memberId(null)
                 .ipAddress("127.0.0.1")
                 .userAgent("test-agent")
                 .build();
 
-        when(redisService.find(anyString())).thenReturn(Optional.empty());
+        when(viewDeduplicator.isFirstView(eq(101L), anyString())).thenReturn(true);
 
         boolean result = viewCountPolicy.shouldCount(101L, context);
 
         assertThat(result).isTrue();
 
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(redisService).find(keyCaptor.capture());
-        String generatedKey = keyCaptor.getValue();
-
-        assertThat(generatedKey).startsWith("view-count:101:ip:127.0.0.1");
-        assertThat(generatedKey).contains(":ua:" + context.getUserAgent().hashCode());
-
-        verify(redisService).save(eq(generatedKey), eq("1"), eq(Duration.ofMinutes(10)));
+        verify(viewDeduplicator).isFirstView(eq(101L), keyCaptor.capture());
+        assertThat(keyCaptor.getValue()).isEqualTo("ip:127.0.0.1:ua:" + context.getUserAgent().hashCode());
     }
 
     @Test
-    void shouldCount_whenRedisKeyPresent_returnsFalseWithoutSaving() {
+    void shouldCount_whenAlreadyViewed_returnsFalseWithMemberKey() {
         ViewContext context = ViewContext.builder()
                 .memberId(42L)
                 .ipAddress("9.9.9.9")
                 .userAgent("different-agent")
                 .build();
 
-        String expectedKey = "view-count:202:member:42";
-        when(redisService.find(expectedKey)).thenReturn(Optional.of("1"));
+        when(viewDeduplicator.isFirstView(202L, "member:42")).thenReturn(false);
 
         boolean result = viewCountPolicy.shouldCount(202L, context);
 
         assertThat(result).isFalse();
+        verify(viewDeduplicator).isFirstView(202L, "member:42");
+    }
+
+    @Test
+    void shouldCount_whenRedisUnavailable_fallsBackToLocalDeduplicator() {
+        ViewContext context = ViewContext.builder()
+                .memberId(7L)
+                .build();
 
-        verify(redisService).find(expectedKey);
-        verify(redisService, never()).save(anyString(), anyString(), isA(Duration.class));
+        when(viewDeduplicator.isFirstView(303L, "member:7"))
+                .thenThrow(new RedisUnavailableException("open"));
+        when(localViewDeduplicator.isFirstView(303L, "member:7")).thenReturn(true);
+
+        boolean result = viewCountPolicy.shouldCount(303L, context);
+
+        assertThat(result).isTrue();
+        verify(localViewDeduplicator).isFirstView(303L, "member:7");
     }
 }
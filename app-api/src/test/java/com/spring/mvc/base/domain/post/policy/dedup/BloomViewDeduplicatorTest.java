@@ -0,0 +1,51 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BloomViewDeduplicatorTest {
+
+    private ViewCountProperties properties;
+    private BloomViewDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ViewCountProperties();
+        properties.setDedupMode(ViewCountProperties.DedupMode.BLOOM);
+        deduplicator = new BloomViewDeduplicator(new FakeRedisService(), properties);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 재조회는 중복으로 판단한다")
+    void isFirstView_duplicateViewer_returnsFalse() {
+        assertThat(deduplicator.isFirstView(1L, "member:1")).isTrue();
+        assertThat(deduplicator.isFirstView(1L, "member:1")).isFalse();
+        assertThat(deduplicator.isFirstView(2L, "member:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트 위치는 해시 함수 개수만큼 필터 크기 안에서 만들어진다")
+    void offsetsOf_withinBloomSize() {
+        assertThat(deduplicator.offsetsOf("ip:127.0.0.1"))
+                .hasSize(properties.getBloomHashFunctions())
+                .allMatch(offset -> offset >= 0 && offset < properties.getBloomBits());
+    }
+
+    @Test
+    @DisplayName("기본 크기에서 서로 다른 사용자 5천 명의 오탐률은 1% 미만이다")
+    void isFirstView_falsePositiveRate() {
+        long counted = IntStream.range(0, 5_000)
+                .filter(i -> deduplicator.isFirstView(1L, "member:" + i))
+                .count();
+
+        assertThat(counted).isGreaterThan(4_950L);
+    }
+}
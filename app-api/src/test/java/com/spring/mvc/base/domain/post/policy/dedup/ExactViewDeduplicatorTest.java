@@ -0,0 +1,40 @@
+package com.spring.mvc.base.domain.post.policy.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.post.config.ViewCountProperties;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ExactViewDeduplicatorTest {
+
+    private FakeRedisService redisService;
+    private ExactViewDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        deduplicator = new ExactViewDeduplicator(redisService, new ViewCountProperties());
+    }
+
+    @Test
+    @DisplayName("기간 안의 재조회는 처음 한 번만 센다")
+    void isFirstView_onlyOncePerViewer() {
+        assertThat(deduplicator.isFirstView(1L, "member:1")).isTrue();
+        assertThat(deduplicator.isFirstView(1L, "member:1")).isFalse();
+        assertThat(deduplicator.isFirstView(1L, "member:2")).isTrue();
+        assertThat(deduplicator.isFirstView(2L, "member:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자별 키를 게시글 단위로 기록한다")
+    void isFirstView_recordsViewerKey() {
+        deduplicator.isFirstView(1L, "member:1");
+
+        assertThat(redisService.find("view-count:1:member:1")).isPresent();
+    }
+}
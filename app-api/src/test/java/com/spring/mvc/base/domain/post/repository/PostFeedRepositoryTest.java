@@ -0,0 +1,96 @@
+package com.spring.mvc.base.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.RepositoryJpaTest;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+@RepositoryJpaTest
+@Transactional
+class PostFeedRepositoryTest {
+
+    @Autowired
+    private PostFeedRepository postFeedRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.create());
+        post = postRepository.save(PostFixture.create(member));
+        postFeedRepository.save(PostFeed.of(post));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("카운터 동기화 시 원본 게시글의 조회수/좋아요/댓글 수를 복사한다")
+    void syncCounters_copiesPostCounters() {
+        postRepository.addViewCount(post.getId(), 7);
+        postRepository.incrementLikeCount(post.getId());
+        postRepository.incrementCommentCount(post.getId());
+
+        int updated = postFeedRepository.syncCounters(List.of(post.getId()));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        PostFeed feed = postFeedRepository.findById(post.getId()).orElseThrow();
+        assertThat(feed.getViewsCount()).isEqualTo(7L);
+        assertThat(feed.getLikeCount()).isEqualTo(1L);
+        assertThat(feed.getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("작성자 정보 변경 시 해당 회원의 모든 행을 갱신한다")
+    void updateAuthor_updatesAllRowsOfMember() {
+        postFeedRepository.updateAuthor(member.getId(), "newnick", "https://example.com/profile.png");
+        entityManager.clear();
+
+        PostFeed feed = postFeedRepository.findById(post.getId()).orElseThrow();
+        assertThat(feed.getMemberNickname()).isEqualTo("newnick");
+        assertThat(feed.getMemberProfileImageUrl()).isEqualTo("https://example.com/profile.png");
+    }
+
+    @Test
+    @DisplayName("원본 게시글이 삭제된 행을 찾아 지운다")
+    void deleteOrphans_removesRowsOfDeletedPosts() {
+        Post deleted = postRepository.findById(post.getId()).orElseThrow();
+        deleted.delete();
+        Post live = postRepository.save(PostFixture.create(member, "제목2", "내용2"));
+        postFeedRepository.save(PostFeed.of(live));
+        entityManager.flush();
+
+        assertThat(postFeedRepository.countOrphans()).isEqualTo(1);
+        assertThat(postFeedRepository.findOrphanIds(PageRequest.of(0, 10))).containsExactly(post.getId());
+
+        int removed = postFeedRepository.deleteOrphans();
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(postFeedRepository.findAll())
+                .extracting(PostFeed::getId)
+                .containsExactly(live.getId());
+    }
+}
@@ -7,14 +7,21 @@ import com.spring.mvc.base.domain.member.MemberFixture;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
 import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.dto.PostCursor;
+import com.spring.mvc.base.domain.post.dto.PostSearchCondition;
+import com.spring.mvc.base.domain.post.dto.PostSummaryQueryDto;
 import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
 import com.spring.mvc.base.domain.post.entity.Series;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
 @RepositoryJpaTest
 @Transactional
@@ -29,6 +36,9 @@ class PostRepositoryTest {
     @Autowired
     private SeriesRepository seriesRepository;
 
+    @Autowired
+    private PostFeedRepository postFeedRepository;
+
     private Member member;
 
     @BeforeEach
@@ -38,6 +48,7 @@ class PostRepositoryTest {
 
     @AfterEach
     void tearDown() {
+        postFeedRepository.deleteAll();
         postRepository.deleteAll();
         seriesRepository.deleteAll();
         memberRepository.deleteAll();
@@ -264,4 +275,31 @@ class PostRepositoryTest {
         assertThat(reloaded.getSummary()).isEqualTo("새 요약");
         assertThat(reloaded.getIsDraft()).isFalse();
     }
+
+    @Test
+    @DisplayName("커서 기반 조회는 OFFSET 조회와 같은 순서로 중복 없이 이어서 조회한다")
+    void searchPostsByCursor_matchesOffsetOrder() {
+        for (int i = 0; i < 5; i++) {
+            Post post = postRepository.save(PostFixture.create(member, "제목" + i, "내용" + i));
+            postFeedRepository.save(PostFeed.of(post));
+        }
+        List<Long> offsetIds = postRepository.searchPosts(PostSearchCondition.empty(), PageRequest.of(0, 5))
+                .getContent().stream()
+                .map(PostSummaryQueryDto::postId)
+                .toList();
+
+        PostCursor cursor = PostCursor.first(PostCursor.SortKey.CREATED_AT, false);
+        List<Long> cursorIds = new ArrayList<>();
+        List<PostSummaryQueryDto> rows;
+        do {
+            rows = postRepository.searchPostsByCursor(PostSearchCondition.empty(), cursor, 2);
+            rows.forEach(row -> cursorIds.add(row.postId()));
+            if (!rows.isEmpty()) {
+                cursor = cursor.next(rows.getLast());
+            }
+        } while (rows.size() == 2);
+
+        assertThat(offsetIds).hasSize(5);
+        assertThat(cursorIds).hasSize(5).containsExactlyElementsOf(offsetIds);
+    }
 }
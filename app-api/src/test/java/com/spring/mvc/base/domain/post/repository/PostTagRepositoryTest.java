@@ -7,6 +7,7 @@ import com.spring.mvc.base.domain.member.MemberFixture;
 import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
 import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
 import com.spring.mvc.base.domain.post.entity.Post;
 import com.spring.mvc.base.domain.post.entity.PostTag;
 import com.spring.mvc.base.domain.post.entity.Tag;
@@ -91,6 +92,20 @@ class PostTagRepositoryTest {
         assertThat(postTags).isEmpty();
     }
 
+    @Test
+    @DisplayName("Post ID와 Tag ID 목록으로 PostTag를 삭제하고 남은 태그 ID/이름을 조회할 수 있다")
+    void deleteByPostIdAndTagIdIn() {
+        postTagRepository.save(PostTag.create(post, tagRepository.getReferenceById(tag1.getId())));
+        postTagRepository.save(PostTag.create(post, tagRepository.getReferenceById(tag2.getId())));
+        postTagRepository.flush();
+
+        int deleted = postTagRepository.deleteByPostIdAndTagIdIn(post.getId(), List.of(tag1.getId()));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(postTagRepository.findTagIdNamesByPostId(post.getId()))
+                .containsExactly(new TagIdName(tag2.getId(), "spring"));
+    }
+
     @Test
     //@Disabled("H2에서는 복합키 + CASCADE가 동작하지 않는다. - 테스트 불가")
     @DisplayName("Post 삭제 시 PostTag도 함께 삭제된다 (cascade + orphanRemoval)")
@@ -1,9 +1,11 @@
 package com.spring.mvc.base.domain.post.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.spring.mvc.base.config.annotation.RepositoryJpaTest;
 import com.spring.mvc.base.domain.post.TagFixture;
+import com.spring.mvc.base.domain.post.dto.TagIdName;
 import com.spring.mvc.base.domain.post.entity.Tag;
 import java.util.List;
 import java.util.Optional;
@@ -132,4 +134,30 @@ class TagRepositoryTest {
         assertThat(topTags.get(1).getName()).isEqualTo("java");
         assertThat(topTags.get(1).getUsageCount()).isEqualTo(2L);
     }
+
+    @Test
+    @DisplayName("upsert는 없는 태그를 만들고 있는 태그의 usageCount를 증가시킨다")
+    void upsertIncrementUsageCount() {
+        tagRepository.upsertIncrementUsageCount(List.of("java"));
+
+        tagRepository.upsertIncrementUsageCount(List.of("kotlin", "java"));
+        List<Tag> tags = tagRepository.findByNameIn(List.of("java", "kotlin"));
+
+        assertThat(tags).extracting(Tag::getName, Tag::getUsageCount)
+                .containsExactlyInAnyOrder(
+                        tuple("java", 2L),
+                        tuple("kotlin", 1L)
+                );
+        assertThat(tags).extracting(Tag::getId).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("태그명으로 태그 ID만 조회할 수 있다")
+    void findIdNamesByNameIn() {
+        Tag tag = tagRepository.save(TagFixture.create("java"));
+
+        List<TagIdName> found = tagRepository.findIdNamesByNameIn(List.of("java", "nonexistent"));
+
+        assertThat(found).containsExactly(new TagIdName(tag.getId(), "java"));
+    }
 }
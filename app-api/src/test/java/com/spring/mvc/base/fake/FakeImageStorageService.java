@@ -2,11 +2,15 @@ package com.spring.mvc.base.fake;
 
 import com.spring.mvc.base.infra.image.ImageSignature;
 import com.spring.mvc.base.infra.image.ImageStorageService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class FakeImageStorageService implements ImageStorageService {
 
     private static final long FIXED_TIMESTAMP = 1234567890L;
 
+    private final List<String> deletedKeys = new CopyOnWriteArrayList<>();
+
     @Override
     public ImageSignature generateUploadSignature(String type) {
         return new ImageSignature(
@@ -18,4 +22,13 @@ public class FakeImageStorageService implements ImageStorageService {
                 type.equals("profile") ? "profiles" : "posts"
         );
     }
+
+    @Override
+    public void deleteImage(String storageKey) {
+        deletedKeys.add(storageKey);
+    }
+
+    public List<String> getDeletedKeys() {
+        return List.copyOf(deletedKeys);
+    }
 }
@@ -1,16 +1,31 @@
 package com.spring.mvc.base.fake;
 
+import com.spring.mvc.base.infra.redis.adapter.RedisBatch;
 import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import com.spring.mvc.base.infra.redis.adapter.ScoredMember;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class FakeRedisService implements RedisService {
 
     private final Map<String, String> store = new ConcurrentHashMap<>();
     private final Map<String, Instant> expiry = new ConcurrentHashMap<>();
+    private final List<String> publishedMessages = new CopyOnWriteArrayList<>();
+    private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+    private final Map<String, BitSet> bitmaps = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
 
     @Override
     public void save(String key, String value, Duration ttl) {
@@ -33,10 +48,289 @@ public class FakeRedisService implements RedisService {
         return Optional.ofNullable(store.get(key));
     }
 
+    @Override
+    public Map<String, String> findAll(Collection<String> keys) {
+        Map<String, String> found = new HashMap<>();
+        keys.forEach(key -> find(key).ifPresent(value -> found.put(key, value)));
+        return found;
+    }
+
+    @Override
+    public void saveAll(Map<String, String> values, Duration ttl) {
+        values.forEach((key, value) -> save(key, value, ttl));
+    }
+
     @Override
     public void delete(String key) {
         store.remove(key);
         expiry.remove(key);
+        sets.remove(key);
+        bitmaps.remove(key);
+        sortedSets.remove(key);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        // 구독자가 없는 테스트 환경이므로 발행 이력만 기록
+        publishedMessages.add(channel + "|" + message);
+    }
+
+    @Override
+    public synchronized boolean saveIfAbsent(String key, String value, Duration ttl) {
+        if (find(key).isPresent()) {
+            return false;
+        }
+        save(key, value, ttl);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteIfValue(String key, String value) {
+        if (!find(key).map(value::equals).orElse(false)) {
+            return false;
+        }
+        delete(key);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean expireIfValue(String key, String value, Duration ttl) {
+        if (!find(key).map(value::equals).orElse(false)) {
+            return false;
+        }
+        expiry.put(key, Instant.now().plus(ttl));
+        return true;
+    }
+
+    @Override
+    public synchronized long increment(String key, long delta, Duration ttl) {
+        boolean created = find(key).isEmpty();
+        long value = incrementBy(key, delta);
+        if (created) {
+            expiry.put(key, Instant.now().plus(ttl));
+        }
+        return value;
+    }
+
+    /**
+     * 명령을 순서대로 바로 실행하고 결과를 모은다 (실제 Redis처럼 한 번에 전송하지는 않는다)
+     */
+    @Override
+    public synchronized List<Object> pipeline(Consumer<RedisBatch> commands) {
+        List<Object> results = new ArrayList<>();
+        commands.accept(new RedisBatch() {
+            @Override
+            public void save(String key, String value, Duration ttl) {
+                FakeRedisService.this.save(key, value, ttl);
+                results.add(Boolean.TRUE);
+            }
+
+            @Override
+            public void find(String key) {
+                results.add(FakeRedisService.this.find(key).orElse(null));
+            }
+
+            @Override
+            public void delete(String key) {
+                boolean existed = store.containsKey(key) || sets.containsKey(key) || bitmaps.containsKey(key)
+                        || sortedSets.containsKey(key);
+                FakeRedisService.this.delete(key);
+                results.add(existed);
+            }
+
+            @Override
+            public void saveIfAbsent(String key, String value, Duration ttl) {
+                results.add(FakeRedisService.this.saveIfAbsent(key, value, ttl));
+            }
+
+            @Override
+            public void increment(String key, long delta) {
+                results.add(incrementBy(key, delta));
+            }
+
+            @Override
+            public void expire(String key, Duration ttl) {
+                // Set/Sorted Set은 만료 시각만 기록하고 자동으로 지우지는 않는다
+                boolean exists = store.containsKey(key) || sets.containsKey(key) || sortedSets.containsKey(key);
+                if (exists) {
+                    expiry.put(key, Instant.now().plus(ttl));
+                }
+                results.add(exists);
+            }
+
+            @Override
+            public void publish(String channel, String message) {
+                FakeRedisService.this.publish(channel, message);
+                results.add(0L);
+            }
+
+            @Override
+            public void incrementScore(String key, String member, double delta) {
+                results.add(sortedSets.computeIfAbsent(key, k -> new HashMap<>()).merge(member, delta, Double::sum));
+            }
+
+            @Override
+            public void trimSortedSet(String key, long maxSize) {
+                List<ScoredMember> ranked = reverseRangeByScore(key, Double.POSITIVE_INFINITY, 0, Long.MAX_VALUE);
+                Map<String, Double> members = sortedSets.get(key);
+                long removed = 0;
+                for (int i = (int) Math.min(maxSize, ranked.size()); i < ranked.size(); i++) {
+                    members.remove(ranked.get(i).member());
+                    removed++;
+                }
+                results.add(removed);
+            }
+
+            @Override
+            public void addToSet(String key, Collection<String> members) {
+                Set<String> set = sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+                results.add(members.stream().filter(set::add).count());
+            }
+
+            @Override
+            public void isSetMember(String key, String member) {
+                results.add(sets.getOrDefault(key, Set.of()).contains(member));
+            }
+
+            @Override
+            public void getSetSize(String key) {
+                results.add(FakeRedisService.this.getSetSize(key));
+            }
+        });
+        return results;
+    }
+
+    @Override
+    public synchronized boolean addToRotatingBloomFilter(
+            String key, String previousKey, Collection<Long> offsets, Duration ttl
+    ) {
+        BitSet previous = bitmaps.get(previousKey);
+        boolean seen = previous != null
+                && offsets.stream().allMatch(offset -> previous.get(Math.toIntExact(offset)));
+
+        BitSet current = bitmaps.computeIfAbsent(key, k -> new BitSet());
+        boolean added = false;
+        for (Long offset : offsets) {
+            int index = Math.toIntExact(offset);
+            if (!current.get(index)) {
+                current.set(index);
+                added = true;
+            }
+        }
+        return !seen && added;
+    }
+
+    @Override
+    public void addToSet(String key, Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).addAll(members);
+    }
+
+    @Override
+    public synchronized long addToSetIfPresent(String key, String member, Duration ttl) {
+        Set<String> set = sets.get(key);
+        if (set == null) {
+            return -1L;
+        }
+
+        boolean added = set.add(member);
+        expiry.put(key, Instant.now().plus(ttl));
+        return added ? 1L : 0L;
+    }
+
+    @Override
+    public synchronized long removeFromSetIfPresent(String key, String member, Duration ttl) {
+        Set<String> set = sets.get(key);
+        if (set == null) {
+            return -1L;
+        }
+
+        boolean removed = set.remove(member);
+        if (set.isEmpty()) {
+            // Redis처럼 빈 집합은 키가 사라진다
+            sets.remove(key);
+            expiry.remove(key);
+        } else {
+            expiry.put(key, Instant.now().plus(ttl));
+        }
+        return removed ? 1L : 0L;
+    }
+
+    @Override
+    public Map<String, Boolean> isSetMembers(String key, Collection<String> members) {
+        Set<String> set = sets.getOrDefault(key, Set.of());
+        Map<String, Boolean> memberships = new HashMap<>();
+        members.forEach(member -> memberships.put(member, set.contains(member)));
+        return memberships;
+    }
+
+    @Override
+    public long getSetSize(String key) {
+        Set<String> set = sets.get(key);
+        return set != null ? set.size() : 0L;
+    }
+
+    @Override
+    public List<String> scanKeys(String pattern) {
+        // 테스트에서는 접두사 패턴(prefix*)만 사용한다
+        String prefix = pattern.endsWith("*") ? pattern.substring(0, pattern.length() - 1) : pattern;
+        return store.keySet().stream()
+                .filter(key -> pattern.endsWith("*") ? key.startsWith(prefix) : key.equals(prefix))
+                .filter(key -> !isExpired(key))
+                .toList();
+    }
+
+    /**
+     * Redis처럼 점수 내림차순, 같은 점수는 멤버 사전순 내림차순으로 정렬한다
+     */
+    @Override
+    public synchronized List<ScoredMember> reverseRangeByScore(String key, double maxScore, long offset, long count) {
+        return sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                .filter(entry -> entry.getValue() <= maxScore)
+                .map(entry -> new ScoredMember(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(ScoredMember::score)
+                        .thenComparing(ScoredMember::member)
+                        .reversed())
+                .skip(offset)
+                .limit(count)
+                .toList();
+    }
+
+    @Override
+    public synchronized long unionAndStore(String destKey, List<String> keys, List<Double> weights) {
+        Map<String, Double> union = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            double weight = weights.get(i);
+            sortedSets.getOrDefault(keys.get(i), Map.of())
+                    .forEach((member, score) -> union.merge(member, score * weight, Double::sum));
+        }
+
+        if (union.isEmpty()) {
+            sortedSets.remove(destKey);
+        } else {
+            sortedSets.put(destKey, union);
+        }
+        return union.size();
+    }
+
+    public List<String> getPublishedMessages() {
+        return List.copyOf(publishedMessages);
+    }
+
+    public boolean hasExpiry(String key) {
+        return expiry.containsKey(key);
+    }
+
+    public Instant getExpiresAt(String key) {
+        return expiry.get(key);
+    }
+
+    private long incrementBy(String key, long delta) {
+        long value = find(key).map(Long::parseLong).orElse(0L) + delta;
+        store.put(key, String.valueOf(value));
+        return value;
     }
 
     private boolean isExpired(String key) {
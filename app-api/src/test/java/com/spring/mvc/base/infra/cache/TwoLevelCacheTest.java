@@ -0,0 +1,130 @@
+package com.spring.mvc.base.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import com.spring.mvc.base.infra.cache.config.CacheProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TwoLevelCacheTest {
+
+    private FakeRedisService redisService;
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache<CachedValue> cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheManager = new TwoLevelCacheManager(redisService, new ObjectMapper(), cacheProperties);
+        cache = cacheManager.createCache("test", CachedValue.class, cacheProperties.getPostDetails());
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 값이 있으면 loader를 호출하지 않는다")
+    void get_localHit_doesNotLoad() {
+        cache.get(1L, this::load);
+        CachedValue value = cache.get(1L, this::load);
+
+        assertThat(value.name()).isEqualTo("value-1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getLocalStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 비어도 Redis에 값이 있으면 loader를 호출하지 않는다")
+    void get_remoteHit_afterLocalInvalidation() {
+        cache.get(1L, this::load);
+        cache.evictLocal("1");
+
+        CachedValue value = cache.get(1L, this::load);
+
+        assertThat(value.name()).isEqualTo("value-1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getRemoteHitCount()).isEqualTo(1);
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 로컬/원격 캐시에 없는 키만 한 번에 loader로 채운다")
+    void getAll_loadsOnlyMissingKeys() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.evictLocal("2");
+        loadCount.set(0);
+        List<List<Long>> loaderCalls = new ArrayList<>();
+
+        Map<Long, CachedValue> values = cache.getAll(List.of(1L, 2L, 3L, 4L), missing -> {
+            loaderCalls.add(missing);
+            return missing.stream()
+                    .filter(key -> key != 4L)
+                    .collect(Collectors.toMap(key -> key, key -> new CachedValue("loaded-" + key)));
+        });
+
+        assertThat(loaderCalls).containsExactly(List.of(3L, 4L));
+        assertThat(values).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(values.get(3L).name()).isEqualTo("loaded-3");
+        assertThat(cache.getRemoteHitCount()).isEqualTo(1);
+        assertThat(redisService.find("cache:test:3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("evict 시 로컬/원격 캐시를 모두 비우고 무효화 메시지를 발행한다")
+    void evict_clearsAllLevelsAndPublishes() {
+        cache.get(1L, this::load);
+
+        cache.evict(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(redisService.getPublishedMessages())
+                .containsExactly("cache:invalidation|test:1");
+    }
+
+    @Test
+    @DisplayName("evictAll 시 여러 키를 모든 계층에서 비우고 키마다 무효화 메시지를 발행한다")
+    void evictAll_clearsAllLevelsAndPublishesPerKey() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.evictAll(List.of(1L, 2L));
+
+        assertThat(redisService.find("cache:test:1")).isEmpty();
+        assertThat(redisService.find("cache:test:2")).isEmpty();
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(redisService.getPublishedMessages())
+                .containsExactly("cache:invalidation|test:1", "cache:invalidation|test:2");
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 해당 캐시의 로컬 값만 비운다")
+    void evictLocal_byManager_routesToCache() {
+        cache.get(1L, this::load);
+
+        cacheManager.evictLocal("test", "1");
+
+        assertThat(cache.getLocalSize()).isZero();
+        assertThat(redisService.find("cache:test:1")).isPresent();
+    }
+
+    private CachedValue load() {
+        return new CachedValue("value-" + loadCount.incrementAndGet());
+    }
+
+    record CachedValue(String name) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.spring.mvc.base.infra.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SpaceSavingCounterTest {
+
+    @Test
+    @DisplayName("용량 안에서는 정확한 빈도를 내림차순으로 반환한다")
+    void top_exactWithinCapacity() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(10);
+        counter.add("java", 3);
+        counter.add("spring", 5);
+        counter.add("jpa", 1);
+
+        assertThat(counter.top(2)).containsExactly(
+                new SpaceSavingCounter.Entry<>("spring", 5, 0),
+                new SpaceSavingCounter.Entry<>("java", 3, 0)
+        );
+        assertThat(counter.getTotal()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 작은 카운터를 새 키에 넘기고 그 값을 error로 기록한다")
+    void add_evictsMinimumWhenFull() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(2);
+        counter.add("java", 5);
+        counter.add("spring", 2);
+
+        counter.add("kotlin", 1);
+
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(counter.entries()).containsExactly(
+                new SpaceSavingCounter.Entry<>("java", 5, 0),
+                new SpaceSavingCounter.Entry<>("kotlin", 3, 2)
+        );
+    }
+
+    @Test
+    @DisplayName("전체의 1/capacity보다 자주 나온 키는 긴 스트림에서도 남는다")
+    void heavyHittersSurvive() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(20);
+        for (int i = 0; i < 10_000; i++) {
+            counter.add("tag-" + i, 1);
+            if (i % 4 == 0) {
+                counter.add("hot", 1);
+            }
+        }
+
+        List<SpaceSavingCounter.Entry<String>> top = counter.top(1);
+        assertThat(top.getFirst().key()).isEqualTo("hot");
+        assertThat(top.getFirst().count() - top.getFirst().error()).isLessThanOrEqualTo(2_500);
+        assertThat(top.getFirst().count()).isGreaterThanOrEqualTo(2_500);
+    }
+
+    @Test
+    @DisplayName("복원은 이미 추적 중인 키나 가득 찬 상태에서는 무시된다")
+    void restore_skipsExistingAndOverflow() {
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(1);
+        counter.restore("java", 10, 1);
+        counter.restore("java", 99, 0);
+        counter.restore("spring", 5, 0);
+
+        assertThat(counter.entries()).containsExactly(new SpaceSavingCounter.Entry<>("java", 10, 1));
+    }
+}
@@ -0,0 +1,135 @@
+package com.spring.mvc.base.infra.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class StripedCounterTest {
+
+    @Test
+    @DisplayName("drain은 키별 누적분을 반환하고 0으로 되돌린다")
+    void drain_returnsDeltasAndResets() {
+        StripedCounter counter = new StripedCounter();
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.add(2L, 5L);
+
+        assertThat(counter.drain()).isEqualTo(Map.of(1L, 2L, 2L, 5L));
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("꺼낼 증가분이 없는 키는 다음 drain에서 제거된다")
+    void drain_removesIdleKeys() {
+        StripedCounter counter = new StripedCounter();
+        counter.increment(1L);
+
+        counter.drain();
+        assertThat(counter.size()).isEqualTo(1);
+
+        assertThat(counter.drain()).isEmpty();
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("제거된 키에 다시 증가하면 새로 누적한다")
+    void add_afterIdleKeyRemoved_accumulatesAgain() {
+        StripedCounter counter = new StripedCounter();
+        counter.increment(1L);
+        counter.drain();
+        counter.drain();
+
+        counter.add(1L, 3L);
+
+        assertThat(counter.pending(1L)).isEqualTo(3L);
+        assertThat(counter.drain()).isEqualTo(Map.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("200명이 한 게시글을 동시에 조회해도 증가분이 유실되지 않는다")
+    void concurrentIncrements_onSingleKey_areNotLost() throws InterruptedException {
+        StripedCounter counter = new StripedCounter();
+        int viewers = 200;
+        int viewsPerViewer = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(viewers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(viewers);
+        long[] drained = new long[1];
+
+        for (int i = 0; i < viewers; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < viewsPerViewer; j++) {
+                        counter.increment(1L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            drained[0] += counter.drain().getOrDefault(1L, 0L);
+        }
+        drained[0] += counter.drain().getOrDefault(1L, 0L);
+        executor.shutdown();
+
+        assertThat(drained[0]).isEqualTo((long) viewers * viewsPerViewer);
+    }
+
+    @Test
+    @DisplayName("drain이 키를 꺼내는 동안 같은 키로 들어온 증가분도 유실되지 않는다")
+    void concurrentIncrements_whileKeysAreDrainedAndRecreated_areNotLost() throws InterruptedException {
+        // 키마다 증가가 드물어 drain 직후 제거와 새 증가가 계속 엇갈리도록 많은 키에 나눠 증가시킨다
+        StripedCounter counter = new StripedCounter();
+        int threads = 8;
+        int keys = 64;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long drained = 0;
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.increment((long) (i % keys));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        while (done.getCount() > 0) {
+            drained += sum(counter.drain());
+        }
+        done.await(10, TimeUnit.SECONDS);
+        drained += sum(counter.drain());
+        executor.shutdown();
+
+        assertThat(drained).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+    private long sum(Map<Long, Long> deltas) {
+        return deltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,143 @@
+package com.spring.mvc.base.infra.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "routing-primary";
+    private static final String REPLICA_1 = "routing-replica-1";
+    private static final String REPLICA_2 = "routing-replica-2";
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = createRoutingDataSource(h2(REPLICA_1), h2(REPLICA_2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖이나 쓰기 트랜잭션은 primary로 보낸다")
+    void writeTransaction_routesToPrimary() throws SQLException {
+        assertThat(connectedDatabase()).isEqualTo(PRIMARY);
+
+        beginTransaction(false);
+        assertThat(connectedDatabase()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본을 라운드 로빈으로 사용한다")
+    void readOnlyTransaction_roundRobinsReplicas() throws SQLException {
+        beginTransaction(true);
+
+        List<String> urls = List.of(connectedDatabase(), connectedDatabase(), connectedDatabase());
+
+        assertThat(urls).containsExactly(REPLICA_1, REPLICA_2, REPLICA_1);
+    }
+
+    @Test
+    @DisplayName("상태 확인에 실패한 복제본은 건너뛰고, 모두 실패하면 primary로 보낸다")
+    void unhealthyReplicas_fallBackToPrimary() throws SQLException {
+        routingDataSource = createRoutingDataSource(h2(REPLICA_1), unreachable());
+        routingDataSource.checkHealth();
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getHealthyReplicaCount()).isEqualTo(1);
+        assertThat(List.of(connectedDatabase(), connectedDatabase())).containsOnly(REPLICA_1);
+
+        routingDataSource = createRoutingDataSource(unreachable());
+        routingDataSource.checkHealth();
+
+        assertThat(connectedDatabase()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 수행한 회원의 읽기는 잠시 동안 primary로 보낸다")
+    void recentWriter_readsFromPrimary() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+
+        beginTransaction(false);
+        connectedDatabase();
+        beginTransaction(true);
+
+        assertThat(connectedDatabase()).isEqualTo(PRIMARY);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("2", null, List.of()));
+        assertThat(connectedDatabase()).isIn(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("캐시 채우기처럼 primary로 표시한 조회는 읽기 전용 트랜잭션이어도 primary로 보낸다")
+    void primaryReads_routeToPrimary() throws SQLException {
+        beginTransaction(true);
+
+        String forced = PrimaryReads.call(() -> {
+            try {
+                return connectedDatabase();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(forced).isEqualTo(PRIMARY);
+        assertThat(connectedDatabase()).isIn(REPLICA_1, REPLICA_2);
+    }
+
+    private ReadWriteRoutingDataSource createRoutingDataSource(DataSource... replicas) {
+        Map<String, DataSource> replicaMap = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            replicaMap.put("replica-" + i, replicas[i]);
+        }
+
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+                h2(PRIMARY), replicaMap, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private String connectedDatabase() throws SQLException {
+        try (Connection connection = routingDataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            return url.substring("jdbc:h2:mem:".length()).split(";")[0];
+        }
+    }
+
+    private DataSource h2(String database) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private DataSource unreachable() {
+        return new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+    }
+}
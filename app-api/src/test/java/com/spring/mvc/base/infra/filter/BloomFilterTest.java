@@ -0,0 +1,46 @@
+package com.spring.mvc.base.infra.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 원소는 항상 있을 수 있음으로 판단한다")
+    void mightContain_noFalseNegatives() {
+        BloomFilter filter = BloomFilter.withExpectedInsertions(1_000, 0.01);
+
+        IntStream.range(0, 1_000).forEach(i -> filter.put("token-" + i));
+
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 추가해도 오탐률이 목표치 근처에 머문다")
+    void mightContain_falsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.withExpectedInsertions(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("blacklisted-" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300L);
+        assertThat(filter.getExpectedFalsePositiveRate()).isBetween(0.0, 0.03);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 원소도 포함하지 않는다")
+    void mightContain_emptyFilter() {
+        BloomFilter filter = BloomFilter.withExpectedInsertions(100, 0.01);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+        assertThat(filter.getInsertionCount()).isZero();
+        assertThat(filter.getExpectedFalsePositiveRate()).isZero();
+    }
+}
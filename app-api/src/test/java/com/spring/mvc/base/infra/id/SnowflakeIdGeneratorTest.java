@@ -0,0 +1,121 @@
+package com.spring.mvc.base.infra.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("ID에 생성 시각과 노드 ID가 담긴다")
+    void nextId_encodesTimestampAndNode() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7L, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("노드 ID 임대 기한이 지나면 ID를 발급하지 않는다")
+    void nextId_leaseExpired_throws() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, clock::get);
+        generator.setLeaseValidUntil(NOW + 10);
+
+        generator.nextId();
+        clock.set(NOW + 10);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초의 시퀀스를 모두 쓰면 다음 밀리초를 사용해 계속 증가한다")
+    void nextId_borrowsNextMillisecondWhenSequenceExhausted() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, () -> NOW);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 200; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        assertThat(SnowflakeIdGenerator.timestampOf(previous)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("마지막 시각의 ID도 JavaScript 안전 정수(2^53 - 1)를 넘지 않는다")
+    void nextId_staysWithinJavaScriptSafeInteger() {
+        long lastMillis = SnowflakeIdGenerator.EPOCH_MILLIS + (1L << 41) - 1;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> lastMillis);
+
+        long id = 0L;
+        for (int i = 0; i < 128; i++) {
+            id = generator.nextId();
+        }
+
+        assertThat(SnowflakeIdGenerator.MAX_ID).isEqualTo((1L << 53) - 1);
+        assertThat(id).isEqualTo(SnowflakeIdGenerator.MAX_ID);
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 계속 증가한다")
+    void nextId_monotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000L);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.timestampOf(after)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 겹치지 않는다")
+    void nextId_uniqueAcrossThreads() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부한다")
+    void constructor_rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.spring.mvc.base.infra.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import com.spring.mvc.base.fake.FakeRedisService;
+import com.spring.mvc.base.infra.id.config.SnowflakeProperties;
+import com.spring.mvc.base.infra.redis.circuit.RedisUnavailableException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SnowflakeNodeIdAssignerTest {
+
+    @AfterEach
+    void tearDown() {
+        // 다른 테스트가 공유 생성기를 계속 쓸 수 있도록 기한 없는 노드 ID로 되돌린다
+        SnowflakeIdGenerator.configureNodeId(SnowflakeIdGenerator.shared().getNodeId());
+    }
+
+    @Test
+    @DisplayName("설정된 노드 ID가 있으면 그대로 사용한다")
+    void assign_usesConfiguredNodeId() {
+        SnowflakeProperties properties = new SnowflakeProperties();
+        properties.setNodeId(21);
+
+        new SnowflakeNodeIdAssigner(new FakeRedisService(), properties).assign();
+
+        assertThat(SnowflakeIdGenerator.shared().getNodeId()).isEqualTo(21L);
+    }
+
+    @Test
+    @DisplayName("노드 ID를 Redis에서 임대하고, 다른 인스턴스는 다른 ID를 임대한다")
+    void assign_leasesDistinctNodeIds() {
+        FakeRedisService redisService = new FakeRedisService();
+        SnowflakeProperties properties = new SnowflakeProperties();
+
+        SnowflakeNodeIdAssigner first = new SnowflakeNodeIdAssigner(redisService, properties);
+        SnowflakeNodeIdAssigner second = new SnowflakeNodeIdAssigner(redisService, properties);
+        first.assign();
+        second.assign();
+
+        assertThat(first.getLeasedNodeId()).isNotNull();
+        assertThat(second.getLeasedNodeId()).isNotNull().isNotEqualTo(first.getLeasedNodeId());
+        assertThat(SnowflakeIdGenerator.shared().getNodeId()).isEqualTo(second.getLeasedNodeId());
+    }
+
+    @Test
+    @DisplayName("종료 시 임대한 노드 ID를 반납한다")
+    void releaseLease_deletesOwnedKey() {
+        FakeRedisService redisService = new FakeRedisService();
+        SnowflakeNodeIdAssigner assigner = new SnowflakeNodeIdAssigner(redisService, new SnowflakeProperties());
+        assigner.assign();
+
+        assigner.releaseLease();
+
+        assertThat(redisService.find("snowflake:node:" + assigner.getLeasedNodeId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드 ID를 임대하지 못하면 호스트 이름 기반 기본값으로 진행하지 않고 시작을 중단한다")
+    void assign_failsFastWhenLeaseUnavailable() {
+        FakeRedisService redisService = new FakeRedisService();
+        SnowflakeProperties properties = new SnowflakeProperties();
+        for (int nodeId = 0; nodeId <= SnowflakeIdGenerator.MAX_NODE_ID; nodeId++) {
+            redisService.save("snowflake:node:" + nodeId, "other-instance", properties.getLeaseTtl());
+        }
+
+        assertThatThrownBy(() -> new SnowflakeNodeIdAssigner(redisService, properties).assign())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("id.snowflake.node-id");
+    }
+
+    @Test
+    @DisplayName("갱신 사이 다른 인스턴스가 가져간 임대는 덮어쓰지 않고 새 노드 ID를 임대한다")
+    void renewLease_doesNotOverwriteLeaseTakenByAnotherInstance() {
+        FakeRedisService redisService = new FakeRedisService();
+        SnowflakeProperties properties = new SnowflakeProperties();
+        SnowflakeNodeIdAssigner assigner = new SnowflakeNodeIdAssigner(redisService, properties);
+        assigner.assign();
+        Long lostNodeId = assigner.getLeasedNodeId();
+        redisService.save("snowflake:node:" + lostNodeId, "other-instance", properties.getLeaseTtl());
+
+        assigner.renewLease();
+
+        assertThat(redisService.find("snowflake:node:" + lostNodeId)).contains("other-instance");
+        assertThat(assigner.getLeasedNodeId()).isNotEqualTo(lostNodeId);
+        assertThat(SnowflakeIdGenerator.shared().getNodeId()).isEqualTo(assigner.getLeasedNodeId());
+    }
+
+    @Test
+    @DisplayName("임대 갱신에 실패한 채 임대 기간이 지나면 ID 발급을 중단한다")
+    void renewLease_failing_stopsIssuingIdsAfterLeaseTtl() throws InterruptedException {
+        FakeRedisService redisService = new FakeRedisService() {
+            @Override
+            public boolean expireIfValue(String key, String value, Duration ttl) {
+                throw new RedisUnavailableException("open");
+            }
+        };
+        SnowflakeProperties properties = new SnowflakeProperties();
+        properties.setLeaseTtl(Duration.ofMillis(100));
+        SnowflakeNodeIdAssigner assigner = new SnowflakeNodeIdAssigner(redisService, properties);
+        assigner.assign();
+        SnowflakeIdGenerator.shared().nextId();
+
+        assigner.renewLease();
+        Thread.sleep(150);
+
+        assertThatThrownBy(() -> SnowflakeIdGenerator.shared().nextId())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
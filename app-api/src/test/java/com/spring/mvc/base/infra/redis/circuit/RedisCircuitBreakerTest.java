@@ -0,0 +1,107 @@
+package com.spring.mvc.base.infra.redis.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+@UnitTest
+class RedisCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(
+                true, 3, Duration.ofMillis(100), Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 서킷이 열리고 이후 호출은 즉시 실패한다")
+    void opensAfterConsecutiveFailures() {
+        failTimes(3);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "value"))
+                .isInstanceOf(RedisUnavailableException.class);
+        assertThat(circuitBreaker.getRejectedCount()).isEqualTo(1L);
+        assertThat(circuitBreaker.getOpenCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패 횟수가 초기화된다")
+    void successResetsFailureCount() {
+        failTimes(2);
+        circuitBreaker.execute(() -> "ok");
+        failTimes(2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("느린 호출은 실패로 센다")
+    void slowCallsCountAsFailures() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.execute(() -> {
+                clock.addAndGet(Duration.ofMillis(200).toNanos());
+                return "slow";
+            });
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출이 성공할 때 서킷이 닫힌다")
+    void closesAfterSuccessfulTrialCall() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        String result = circuitBreaker.execute(() -> "recovered");
+
+        assertThat(result).isEqualTo("recovered");
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 서킷이 다시 열린다")
+    void reopensAfterFailedTrialCall() {
+        failTimes(3);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        failTimes(1);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getOpenCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 실패해도 서킷을 열지 않는다")
+    void disabledBreakerPassesThrough() {
+        RedisCircuitBreaker disabled = new RedisCircuitBreaker(
+                false, 1, Duration.ofMillis(100), Duration.ofSeconds(10), clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> disabled.execute(() -> {
+                throw new QueryTimeoutException("timeout");
+            })).isInstanceOf(QueryTimeoutException.class);
+        }
+
+        assertThat(disabled.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new QueryTimeoutException("timeout");
+            })).isInstanceOf(QueryTimeoutException.class);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.spring.mvc.base.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+@UnitTest
+class BitmapIndexTest {
+
+    private BitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BitmapIndex();
+        index.put(1L, List.of("java", "spring"));
+        index.put(2L, List.of("java", "jpa"));
+        index.put(3L, List.of("kotlin", "spring"));
+        index.put(4L, List.of());
+    }
+
+    @Test
+    @DisplayName("OR 조건은 하나라도 포함한 문서를 반환한다")
+    void evaluate_anyOf() {
+        assertThat(ids(index.evaluate(List.of("jpa", "kotlin"), List.of(), List.of())))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("AND 조건은 모두 포함한 문서만 반환한다")
+    void evaluate_allOf() {
+        assertThat(ids(index.evaluate(List.of(), List.of("java", "spring"), List.of())))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("없는 태그를 AND 조건으로 주면 결과가 비어 있다")
+    void evaluate_allOfUnknownKey_returnsEmpty() {
+        assertThat(index.evaluate(List.of(), List.of("java", "rust"), List.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("NOT 조건만 주면 태그가 없는 문서를 포함한 전체에서 제외한다")
+    void evaluate_noneOf() {
+        assertThat(ids(index.evaluate(List.of(), List.of(), List.of("java"))))
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("삭제한 문서는 결과에 포함되지 않는다")
+    void remove_excludesDocument() {
+        index.remove(1L);
+
+        assertThat(ids(index.evaluate(List.of("spring"), List.of(), List.of()))).containsExactly(3L);
+        assertThat(index.getLiveDocumentCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("키를 제거하면 해당 키로 더 이상 찾을 수 없다")
+    void removeKeys_updatesBitmap() {
+        index.removeKeys(2L, List.of("jpa"));
+
+        assertThat(index.evaluate(List.of("jpa"), List.of(), List.of()).isEmpty()).isTrue();
+        assertThat(ids(index.evaluate(List.of(), List.of(), List.of()))).contains(2L);
+    }
+
+    private List<Long> ids(Roaring64Bitmap bitmap) {
+        return Arrays.stream(bitmap.toArray()).boxed().toList();
+    }
+}
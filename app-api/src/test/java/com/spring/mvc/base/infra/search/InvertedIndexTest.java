@@ -0,0 +1,60 @@
+package com.spring.mvc.base.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.index(1L, TextTokenizer.tokenize("스프링 부트 입문"));
+        index.index(2L, TextTokenizer.tokenize("스프링 스프링 스프링 시큐리티"));
+        index.index(3L, TextTokenizer.tokenize("JPA 성능 최적화"));
+    }
+
+    @Test
+    @DisplayName("모든 질의 토큰을 포함한 문서만 반환한다")
+    void search_requiresAllTokens() {
+        assertThat(index.search(TextTokenizer.tokenize("스프링 부트"), 10))
+                .extracting(SearchHit::documentId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("등장 빈도가 높은 문서의 점수가 더 높다")
+    void search_ranksByBm25() {
+        assertThat(index.search(TextTokenizer.tokenize("스프링"), 10))
+                .extracting(SearchHit::documentId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("문서를 다시 색인하거나 삭제하면 이전 토큰으로는 찾을 수 없다")
+    void reindexAndRemove() {
+        index.index(3L, TextTokenizer.tokenize("QueryDSL 동적 쿼리"));
+        index.remove(1L);
+
+        assertThat(index.search(TextTokenizer.tokenize("jpa"), 10)).isEmpty();
+        assertThat(index.search(TextTokenizer.tokenize("부트"), 10)).isEmpty();
+        assertThat(index.search(TextTokenizer.tokenize("querydsl"), 10))
+                .extracting(SearchHit::documentId)
+                .containsExactly(3L);
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("limit 만큼 상위 문서만 반환한다")
+    void search_limit() {
+        assertThat(index.search(TextTokenizer.tokenize("스프링"), 1))
+                .extracting(SearchHit::documentId)
+                .containsExactly(2L);
+    }
+}
@@ -0,0 +1,32 @@
+package com.spring.mvc.base.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.config.annotation.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TextTokenizerTest {
+
+    @Test
+    @DisplayName("영문은 소문자 단어, 한글은 2-gram으로 분리한다")
+    void tokenize_mixedText() {
+        assertThat(TextTokenizer.tokenize("Spring 스프링부트, JPA!"))
+                .containsExactly("spring", "스프", "프링", "링부", "부트", "jpa");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 문자 종류가 바뀌는 지점에서 분리한다")
+    void tokenize_splitsOnScriptChange() {
+        assertThat(TextTokenizer.tokenize("Java를 배우자"))
+                .containsExactly("java", "를", "배우", "우자");
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 토큰이 없다")
+    void tokenize_blank() {
+        assertThat(TextTokenizer.tokenize("  ")).isEmpty();
+        assertThat(TextTokenizer.tokenize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.spring.mvc.base.integration.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.mvc.base.application.export.service.ExportService;
+import com.spring.mvc.base.application.export.writer.ExportFormat;
+import com.spring.mvc.base.config.annotation.IntegrationTest;
+import com.spring.mvc.base.domain.comment.repository.CommentRepository;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.CommentFixture;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+class ExportIntegrationTest {
+
+    private static final int POST_COUNT = 1500;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Member member;
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.create());
+        posts = postRepository.saveAll(IntStream.rangeClosed(1, POST_COUNT)
+                .mapToObj(i -> PostFixture.create(member, "제목" + i, "내용" + i))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 게시글을 NDJSON으로 내보내면 삭제되지 않은 게시글이 ID 순으로 한 줄씩 쓰인다")
+    void exportPosts_ndjson_writesLiveRowsInIdOrder() throws Exception {
+        posts.getFirst().delete();
+        postRepository.flush();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = exportService.exportPosts(ExportFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(POST_COUNT - 1);
+        assertThat(lines).hasSize(POST_COUNT - 1);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            ids.add(objectMapper.readTree(line).get("postId").asLong());
+        }
+        assertThat(ids).isSorted().doesNotContain(posts.getFirst().getId());
+
+        JsonNode last = objectMapper.readTree(lines.getLast());
+        assertThat(last.get("title").asText()).isEqualTo("제목" + POST_COUNT);
+        assertThat(last.get("memberNickname").asText()).isEqualTo(member.getNickname());
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 댓글을 CSV로 내보내면 헤더 다음에 구분자/따옴표/줄바꿈이 이스케이프된 행이 쓰인다")
+    void exportComments_csv_escapesFields() {
+        Post post = posts.getFirst();
+        commentRepository.save(CommentFixture.create(member, post, "쉼표, \"따옴표\"\n줄바꿈"));
+        commentRepository.save(CommentFixture.create(member, post, "평범한 댓글"));
+        commentRepository.flush();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = exportService.exportComments(ExportFormat.CSV, output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(2);
+        assertThat(csv).startsWith("commentId,postId,memberId,memberNickname,content,createdAt,updatedAt\r\n");
+        assertThat(csv).contains(",\"쉼표, \"\"따옴표\"\"\n줄바꿈\",");
+        assertThat(csv).contains(",평범한 댓글,");
+        assertThat(csv.split("\r\n")).hasSize(3);
+    }
+}
@@ -0,0 +1,114 @@
+package com.spring.mvc.base.integration.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.post.PostRequestFixture;
+import com.spring.mvc.base.application.post.dto.response.PostResponse;
+import com.spring.mvc.base.application.post.service.PostService;
+import com.spring.mvc.base.config.StatementCounter;
+import com.spring.mvc.base.config.annotation.IntegrationTest;
+import com.spring.mvc.base.domain.file.FileFixture;
+import com.spring.mvc.base.domain.file.entity.File;
+import com.spring.mvc.base.domain.file.entity.FileType;
+import com.spring.mvc.base.domain.file.repository.FileRepository;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.repository.PostImageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+class PostImageIntegrationTest {
+
+    private static final int IMAGE_COUNT = 50;
+    private static final String EXTERNAL_IMAGE = "![외부](https://external.example.com/cat.png)";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+    private List<File> files;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.create());
+        files = fileRepository.saveAll(IntStream.range(0, IMAGE_COUNT)
+                .mapToObj(i -> FileFixture.create(
+                        FileType.IMAGE,
+                        "image" + i + ".jpg",
+                        "posts/image-" + i + ".jpg",
+                        "https://example.com/posts/image-" + i + ".jpg",
+                        1024L,
+                        "image/jpeg"))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 이미지 50개 게시글 삭제 시 파일은 UPDATE 한 번으로 삭제 표시된다")
+    void deletePost_softDeletesLinkedFilesWithOneStatement() {
+        PostResponse created = postService.createPost(
+                PostRequestFixture.createRequest("제목", markdownOf(files) + "\n" + EXTERNAL_IMAGE), member.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postImageRepository.findFileIdsByPostId(created.postId())).hasSize(IMAGE_COUNT);
+
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        statementCounter.reset();
+        postService.deletePost(created.postId(), member.getId());
+        entityManager.flush();
+
+        // 게시글(+작성자) 조회, 파일 삭제 표시, 목록 읽기 모델 삭제, 게시글 삭제 표시 - 이미지 수와 무관
+        assertThat(statementCounter.count()).isEqualTo(4);
+        entityManager.clear();
+        assertThat(fileRepository.findAll()).allMatch(File::isDeleted);
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 게시글 본문 수정 시 빠진 이미지 연결은 지우고 추가된 이미지만 연결한다")
+    void updatePost_resyncsPostImages() {
+        List<File> before = files.subList(0, 3);
+        List<File> after = files.subList(2, 5);
+        PostResponse created = postService.createPost(
+                PostRequestFixture.createRequest("제목", markdownOf(before)), member.getId());
+
+        postService.updatePost(created.postId(),
+                PostRequestFixture.updateRequest("제목", markdownOf(after)), member.getId());
+        entityManager.flush();
+
+        assertThat(postImageRepository.findFileIdsByPostId(created.postId()))
+                .containsExactlyInAnyOrderElementsOf(after.stream().map(File::getId).toList());
+        assertThat(fileRepository.findAll()).noneMatch(File::isDeleted);
+    }
+
+    private String markdownOf(List<File> images) {
+        return images.stream()
+                .map(file -> "![" + file.getOriginalName() + "](" + file.getUrl() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
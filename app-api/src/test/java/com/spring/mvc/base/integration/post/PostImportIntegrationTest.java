@@ -0,0 +1,93 @@
+package com.spring.mvc.base.integration.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse;
+import com.spring.mvc.base.application.post.dto.response.PostImportResponse.RowError;
+import com.spring.mvc.base.application.post.service.PostImportService;
+import com.spring.mvc.base.config.annotation.IntegrationTest;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+class PostImportIntegrationTest {
+
+    // 기본 묶음 크기(500)를 넘겨 여러 트랜잭션으로 나뉘게 한다
+    private static final int VALID_ROWS = 1200;
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private PostFeedRepository postFeedRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.create());
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - NDJSON 게시글을 묶음 단위로 저장하고 잘못된 행은 줄 번호와 사유를 반환한다")
+    void importPosts_savesValidRowsAndReportsErrors() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= VALID_ROWS; i++) {
+            String tags = i % 2 == 0 ? "[\"Java\", \"import\"]" : "[\"import\"]";
+            body.append("{\"memberId\":").append(member.getId())
+                    .append(",\"post\":{\"title\":\"제목").append(i)
+                    .append("\",\"content\":\"내용").append(i)
+                    .append("\",\"tags\":").append(tags).append("}}\n");
+        }
+        body.append("{not json}\n");                                                    // 1201
+        body.append("\n");                                                              // 1202 (빈 줄은 건너뛴다)
+        body.append("{\"memberId\":").append(member.getId()).append(",\"post\":{\"content\":\"내용\"}}\n"); // 1203
+        body.append("{\"memberId\":999999,\"post\":{\"title\":\"제목\",\"content\":\"내용\"}}\n");        // 1204
+        body.append("{\"memberId\":").append(member.getId())
+                .append(",\"post\":{\"title\":\"제목\",\"content\":\"내용\",\"tags\":[\"")
+                .append("t".repeat(51)).append("\"]}}\n");                                // 1205
+
+        PostImportResponse response = postImportService.importPosts(
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.total()).isEqualTo(VALID_ROWS + 4);
+        assertThat(response.imported()).isEqualTo(VALID_ROWS);
+        assertThat(response.failed()).isEqualTo(4);
+        assertThat(response.errors())
+                .extracting(RowError::line)
+                .containsExactly(1201L, 1203L, 1204L, 1205L);
+
+        assertThat(postRepository.count()).isEqualTo(VALID_ROWS);
+        assertThat(postFeedRepository.count()).isEqualTo(VALID_ROWS);
+        assertThat(postTagRepository.count()).isEqualTo(VALID_ROWS + VALID_ROWS / 2);
+        assertThat(tagRepository.findByName("import")).hasValueSatisfying(
+                tag -> assertThat(tag.getUsageCount()).isEqualTo(VALID_ROWS));
+        assertThat(tagRepository.findByName("java")).hasValueSatisfying(
+                tag -> assertThat(tag.getUsageCount()).isEqualTo(VALID_ROWS / 2));
+    }
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.mvc.base.application.post.PostRequestFixture;
 import com.spring.mvc.base.application.post.dto.request.PostCreateRequest;
 import com.spring.mvc.base.application.post.dto.request.PostUpdateRequest;
+import com.spring.mvc.base.application.post.like.PostLikeWriter;
 import com.spring.mvc.base.config.TestCurrentUserContext;
 import com.spring.mvc.base.config.annotation.IntegrationTest;
 import com.spring.mvc.base.domain.member.MemberFixture;
@@ -19,6 +20,8 @@ import com.spring.mvc.base.domain.member.entity.Member;
 import com.spring.mvc.base.domain.member.repository.MemberRepository;
 import com.spring.mvc.base.domain.post.PostFixture;
 import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
 import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
 import com.spring.mvc.base.domain.post.repository.PostRepository;
 import java.util.Optional;
@@ -51,6 +54,12 @@ class PostIntegrationTest {
     @Autowired
     private PostLikeRepository postLikeRepository;
 
+    @Autowired
+    private PostFeedRepository postFeedRepository;
+
+    @Autowired
+    private PostLikeWriter postLikeWriter;
+
     @Autowired
     private TestCurrentUserContext currentUserContext;
 
@@ -64,7 +73,7 @@ class PostIntegrationTest {
                 "password123",
                 "tester"
         ));
-        savedPost = postRepository.save(PostFixture.create(savedMember));
+        savedPost = savePost(PostFixture.create(savedMember));
         currentUserContext.setCurrentUserId(savedMember.getId());
     }
 
@@ -147,6 +156,7 @@ class PostIntegrationTest {
     void likePost_returnsNoContent_integration() throws Exception {
         mockMvc.perform(post("/api/v1/posts/{postId}/like", savedPost.getId()))
                 .andExpect(status().isNoContent());
+        postLikeWriter.flush();
 
         Assertions.assertThat(postLikeRepository.existsByPostIdAndMemberId(savedPost.getId(), savedMember.getId())).isTrue();
     }
@@ -159,6 +169,7 @@ class PostIntegrationTest {
 
         mockMvc.perform(delete("/api/v1/posts/{postId}/like", savedPost.getId()))
                 .andExpect(status().isNoContent());
+        postLikeWriter.flush();
 
         Assertions.assertThat(postLikeRepository.existsByPostIdAndMemberId(savedPost.getId(), savedMember.getId())).isFalse();
     }
@@ -203,8 +214,8 @@ class PostIntegrationTest {
     @Test
     @DisplayName("통합 테스트 - 여러 게시글 생성 후 목록 조회 시 모두 반환한다")
     void createMultiplePosts_returnsAllInList() throws Exception {
-        postRepository.save(PostFixture.create(savedMember, "제목2", "내용2"));
-        postRepository.save(PostFixture.create(savedMember, "제목3", "내용3"));
+        savePost(PostFixture.create(savedMember, "제목2", "내용2"));
+        savePost(PostFixture.create(savedMember, "제목3", "내용3"));
 
         mockMvc.perform(get("/api/v1/posts")
                         .param("page", "0")
@@ -303,4 +314,10 @@ class PostIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false));
     }
+
+    private Post savePost(Post post) {
+        Post saved = postRepository.save(post);
+        postFeedRepository.save(PostFeed.of(saved));
+        return saved;
+    }
 }
@@ -0,0 +1,130 @@
+package com.spring.mvc.base.integration.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spring.mvc.base.application.post.like.PostLikeStore;
+import com.spring.mvc.base.config.StatementCounter;
+import com.spring.mvc.base.config.TestCurrentUserContext;
+import com.spring.mvc.base.config.annotation.IntegrationTest;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.TagFixture;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostTag;
+import com.spring.mvc.base.domain.post.entity.Series;
+import com.spring.mvc.base.domain.post.entity.Tag;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
+import com.spring.mvc.base.domain.post.repository.SeriesRepository;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 엔드포인트별 SQL 문 수 검증
+ * 좋아요 집합은 미리 적재해 두고, 영속성 컨텍스트를 비운 뒤 요청 처리 중 실행된 문만 센다.
+ */
+@IntegrationTest
+@Transactional
+class PostQueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private PostLikeStore postLikeStore;
+
+    @Autowired
+    private TestCurrentUserContext currentUserContext;
+
+    private StatementCounter statementCounter;
+    private Post seriesPost;
+    private Post plainPost;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(MemberFixture.create("counter@example.com", "password123", "counter"));
+        Series series = seriesRepository.save(Series.create(member, "시리즈", null));
+        Tag java = tagRepository.save(TagFixture.create("java"));
+        Tag spring = tagRepository.save(TagFixture.create("spring"));
+
+        seriesPost = PostFixture.create(member);
+        seriesPost.setSeries(series);
+        postRepository.save(seriesPost);
+        plainPost = postRepository.save(PostFixture.create(member));
+        postTagRepository.save(PostTag.create(seriesPost, java));
+        postTagRepository.save(PostTag.create(seriesPost, spring));
+        postTagRepository.save(PostTag.create(plainPost, java));
+
+        entityManager.flush();
+        entityManager.clear();
+        postLikeStore.getLikeCount(seriesPost.getId(), 0L);
+        postLikeStore.getLikeCount(plainPost.getId(), 0L);
+        currentUserContext.setCurrentUserId(member.getId());
+
+        statementCounter = new StatementCounter(entityManagerFactory);
+        statementCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        currentUserContext.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회는 게시글(+작성자, 시리즈) 한 번과 태그명 한 번만 조회한다")
+    void getPost_executesTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/{postId}", seriesPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tags", containsInAnyOrder("java", "spring")))
+                .andExpect(jsonPath("$.data.seriesName").value("시리즈"));
+
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 조회는 게시글 수와 관계없이 두 번만 조회한다")
+    void getPostsBatch_executesTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/batch")
+                        .param("ids", seriesPost.getId() + "," + plainPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[1].tags[0]").value("java"));
+
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,198 @@
+package com.spring.mvc.base.integration.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spring.mvc.base.application.purge.service.PurgeStatus;
+import com.spring.mvc.base.application.purge.service.PurgeTarget;
+import com.spring.mvc.base.application.purge.service.SoftDeletePurger;
+import com.spring.mvc.base.config.annotation.IntegrationTest;
+import com.spring.mvc.base.domain.comment.repository.CommentRepository;
+import com.spring.mvc.base.domain.file.FileFixture;
+import com.spring.mvc.base.domain.file.entity.File;
+import com.spring.mvc.base.domain.file.repository.FileRepository;
+import com.spring.mvc.base.domain.member.MemberFixture;
+import com.spring.mvc.base.domain.member.entity.Member;
+import com.spring.mvc.base.domain.member.repository.MemberRepository;
+import com.spring.mvc.base.domain.post.CommentFixture;
+import com.spring.mvc.base.domain.post.PostFixture;
+import com.spring.mvc.base.domain.post.entity.Post;
+import com.spring.mvc.base.domain.post.entity.PostFeed;
+import com.spring.mvc.base.domain.post.entity.PostLike;
+import com.spring.mvc.base.domain.post.entity.PostTag;
+import com.spring.mvc.base.domain.post.entity.Series;
+import com.spring.mvc.base.domain.post.entity.Tag;
+import com.spring.mvc.base.domain.post.repository.PostFeedRepository;
+import com.spring.mvc.base.domain.post.repository.PostLikeRepository;
+import com.spring.mvc.base.domain.post.repository.PostRepository;
+import com.spring.mvc.base.domain.post.repository.PostTagRepository;
+import com.spring.mvc.base.domain.post.repository.SeriesRepository;
+import com.spring.mvc.base.domain.post.repository.TagRepository;
+import com.spring.mvc.base.infra.redis.adapter.RedisService;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional
+class SoftDeletePurgeIntegrationTest {
+
+    // 기본 보관 기간(30일)보다 오래전에 삭제된 것으로 만든다
+    private static final Instant EXPIRED = Instant.now().minus(Duration.ofDays(60));
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private PostFeedRepository postFeedRepository;
+
+    @Autowired
+    private RedisService redisService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.create());
+        tag = tagRepository.save(Tag.create("java"));
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 보관 기간이 지난 삭제 게시글은 태그/좋아요/댓글과 함께 지우고 태그 사용 수를 줄인다")
+    void purge_removesExpiredPostsWithDependents() {
+        Post expired = savePostWithDependents();
+        Post recentlyDeleted = savePostWithDependents();
+        Post live = savePostWithDependents();
+        postFeedRepository.save(PostFeed.of(expired));
+        expired.delete();
+        recentlyDeleted.delete();
+        entityManager.flush();
+        setUsageCount(tag, 3);
+        backdate("post", expired.getId());
+
+        Map<PurgeTarget, Long> purged = softDeletePurger.purge();
+        entityManager.clear();
+
+        assertThat(purged).containsEntry(PurgeTarget.POST, 1L)
+                .containsEntry(PurgeTarget.POST_FEED_ORPHAN, 1L);
+        assertThat(postRepository.findAll())
+                .extracting(Post::getId)
+                .containsExactlyInAnyOrder(recentlyDeleted.getId(), live.getId());
+        assertThat(postTagRepository.findByPostIdWithTag(expired.getId())).isEmpty();
+        assertThat(postLikeRepository.countByPostId(expired.getId())).isZero();
+        assertThat(commentRepository.count()).isEqualTo(2);
+        assertThat(postFeedRepository.findById(expired.getId())).isEmpty();
+        assertThat(tagRepository.findById(tag.getId()).orElseThrow().getUsageCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 다른 인스턴스가 실행 잠금을 잡고 있으면 지우지 않는다")
+    void purge_lockHeldByAnotherInstance_skips() {
+        Post expired = savePostWithDependents();
+        expired.delete();
+        entityManager.flush();
+        backdate("post", expired.getId());
+        redisService.save("purge:lock", "other-instance", Duration.ofMinutes(1));
+
+        try {
+            assertThat(softDeletePurger.purge()).isEmpty();
+        } finally {
+            redisService.delete("purge:lock");
+        }
+
+        entityManager.clear();
+        assertThat(postRepository.findById(expired.getId())).isPresent();
+        assertThat(softDeletePurger.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("통합 테스트 - 보관 기간이 지난 삭제 시리즈는 게시글 연결을 끊고 지우며, 삭제 파일도 지운다")
+    void purge_removesExpiredSeriesAndFiles() {
+        Series series = seriesRepository.save(Series.create(member, "시리즈", "설명"));
+        Post post = postRepository.save(PostFixture.create(member));
+        post.setSeries(series);
+        File expiredFile = fileRepository.save(FileFixture.createImage());
+        File liveFile = fileRepository.save(FileFixture.createVideo());
+        series.delete();
+        expiredFile.delete();
+        entityManager.flush();
+        backdate("series", series.getId());
+        backdate("file", expiredFile.getId());
+
+        Map<PurgeTarget, Long> purged = softDeletePurger.purge();
+        entityManager.clear();
+
+        assertThat(purged).containsEntry(PurgeTarget.SERIES, 1L)
+                .containsEntry(PurgeTarget.FILE, 1L);
+        assertThat(seriesRepository.findById(series.getId())).isEmpty();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getSeries()).isNull();
+        assertThat(fileRepository.findAll())
+                .extracting(File::getId)
+                .containsExactly(liveFile.getId());
+        assertThat(softDeletePurger.getStatuses())
+                .filteredOn(status -> status.target() == PurgeTarget.FILE)
+                .singleElement()
+                .satisfies(status -> {
+                    assertThat(status.running()).isFalse();
+                    assertThat(status.purgedLastRun()).isEqualTo(1);
+                    assertThat(status.lag()).isEqualTo(Duration.ZERO);
+                })
+                .extracting(PurgeStatus::lastFinishedAt)
+                .isNotNull();
+    }
+
+    private Post savePostWithDependents() {
+        Post post = postRepository.save(PostFixture.create(member));
+        post.addPostTag(PostTag.create(post, tag));
+        postLikeRepository.save(PostLike.create(post, member));
+        commentRepository.save(CommentFixture.create(member, post));
+        return post;
+    }
+
+    private void setUsageCount(Tag tag, long usageCount) {
+        entityManager.createNativeQuery("UPDATE tag SET usage_count = :count WHERE id = :id")
+                .setParameter("count", usageCount)
+                .setParameter("id", tag.getId())
+                .executeUpdate();
+    }
+
+    private void backdate(String table, Long id) {
+        entityManager.createNativeQuery("UPDATE " + table + " SET updated_at = :updatedAt WHERE id = :id")
+                .setParameter("updatedAt", EXPIRED)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.mvc.base.integration.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spring.mvc.base.application.security.util.JwtTokenProvider;
+import com.spring.mvc.base.config.annotation.IntegrationSecurityTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+@IntegrationSecurityTest
+class AdminApiSecurityIntegrationTest {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("게시글 대량 등록 - 인증 없이 호출하면 401을 반환한다")
+    void importPosts_anonymous_returnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .contentType(NDJSON)
+                        .content(""))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("게시글 대량 등록 - 일반 회원이 호출하면 403을 반환한다")
+    void importPosts_user_returnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .header("Authorization", bearer("USER"))
+                        .contentType(NDJSON)
+                        .content(""))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("게시글 대량 등록 - 관리자는 호출할 수 있다")
+    void importPosts_admin_succeeds() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .header("Authorization", bearer("ADMIN"))
+                        .contentType(NDJSON)
+                        .content(""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(0));
+    }
+
+    @Test
+    @DisplayName("내보내기 - 인증 없이 호출하면 401을 반환한다")
+    void export_anonymous_returnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/posts"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/exports/comments"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("내보내기 - 일반 회원이 호출하면 403을 반환한다")
+    void export_user_returnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/posts")
+                        .header("Authorization", bearer("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/exports/comments")
+                        .header("Authorization", bearer("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("목록 읽기 모델 관리 - 인증 없이 호출하면 401을 반환한다")
+    void postFeed_anonymous_returnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/post-feed/rebuild"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/post-feed/consistency"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("목록 읽기 모델 관리 - 일반 회원이 호출하면 403을 반환한다")
+    void postFeed_user_returnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/post-feed/rebuild")
+                        .header("Authorization", bearer("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/post-feed/consistency")
+                        .header("Authorization", bearer("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    private String bearer(String role) {
+        return "Bearer " + jwtTokenProvider.generateAccessToken(1L, role);
+    }
+}